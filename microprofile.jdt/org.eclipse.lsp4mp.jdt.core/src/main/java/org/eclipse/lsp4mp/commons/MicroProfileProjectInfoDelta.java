@@ -0,0 +1,249 @@
+/*******************************************************************************
+* Copyright (c) 2024 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.commons;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.lsp4mp.commons.metadata.ConfigurationMetadata;
+import org.eclipse.lsp4mp.commons.metadata.ItemBase;
+import org.eclipse.lsp4mp.commons.metadata.ItemHint;
+import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
+
+/**
+ * Changes of the properties and hints of a MicroProfile project information
+ * since a base version.
+ *
+ * <p>
+ * The properties and hints are identified by their name. When a name is
+ * declared by several items (ex : the same property declared in 2 JARs), all
+ * the items of this name are sent as added or changed items.
+ * </p>
+ *
+ */
+public class MicroProfileProjectInfoDelta {
+
+	private String baseVersion;
+
+	private List<ItemMetadata> addedProperties;
+
+	private List<ItemMetadata> changedProperties;
+
+	private List<String> removedProperties;
+
+	private List<ItemHint> addedHints;
+
+	private List<ItemHint> changedHints;
+
+	private List<String> removedHints;
+
+	/**
+	 * Returns the version of the project information where the delta must be
+	 * applied.
+	 *
+	 * @return the version of the project information where the delta must be
+	 *         applied.
+	 */
+	public String getBaseVersion() {
+		return baseVersion;
+	}
+
+	/**
+	 * Set the version of the project information where the delta must be applied.
+	 *
+	 * @param baseVersion the version of the project information where the delta
+	 *                    must be applied.
+	 */
+	public void setBaseVersion(String baseVersion) {
+		this.baseVersion = baseVersion;
+	}
+
+	public List<ItemMetadata> getAddedProperties() {
+		return addedProperties;
+	}
+
+	public void setAddedProperties(List<ItemMetadata> addedProperties) {
+		this.addedProperties = addedProperties;
+	}
+
+	public List<ItemMetadata> getChangedProperties() {
+		return changedProperties;
+	}
+
+	public void setChangedProperties(List<ItemMetadata> changedProperties) {
+		this.changedProperties = changedProperties;
+	}
+
+	public List<String> getRemovedProperties() {
+		return removedProperties;
+	}
+
+	public void setRemovedProperties(List<String> removedProperties) {
+		this.removedProperties = removedProperties;
+	}
+
+	public List<ItemHint> getAddedHints() {
+		return addedHints;
+	}
+
+	public void setAddedHints(List<ItemHint> addedHints) {
+		this.addedHints = addedHints;
+	}
+
+	public List<ItemHint> getChangedHints() {
+		return changedHints;
+	}
+
+	public void setChangedHints(List<ItemHint> changedHints) {
+		this.changedHints = changedHints;
+	}
+
+	public List<String> getRemovedHints() {
+		return removedHints;
+	}
+
+	public void setRemovedHints(List<String> removedHints) {
+		this.removedHints = removedHints;
+	}
+
+	/**
+	 * Returns true if the delta has no change and false otherwise.
+	 *
+	 * @return true if the delta has no change and false otherwise.
+	 */
+	public boolean isEmpty() {
+		return isEmpty(addedProperties) && isEmpty(changedProperties) && isEmpty(removedProperties)
+				&& isEmpty(addedHints) && isEmpty(changedHints) && isEmpty(removedHints);
+	}
+
+	/**
+	 * Returns the changes between the given base and target metadata.
+	 *
+	 * @param baseVersion the version of the base metadata.
+	 * @param base        the base metadata.
+	 * @param target      the target metadata.
+	 * @return the changes between the given base and target metadata.
+	 */
+	public static MicroProfileProjectInfoDelta compute(String baseVersion, ConfigurationMetadata base,
+			ConfigurationMetadata target) {
+		MicroProfileProjectInfoDelta delta = new MicroProfileProjectInfoDelta();
+		delta.setBaseVersion(baseVersion);
+
+		List<ItemMetadata> addedProperties = new ArrayList<>();
+		List<ItemMetadata> changedProperties = new ArrayList<>();
+		List<String> removedProperties = new ArrayList<>();
+		compute(base.getProperties(), target.getProperties(), addedProperties, changedProperties, removedProperties);
+		delta.setAddedProperties(addedProperties);
+		delta.setChangedProperties(changedProperties);
+		delta.setRemovedProperties(removedProperties);
+
+		List<ItemHint> addedHints = new ArrayList<>();
+		List<ItemHint> changedHints = new ArrayList<>();
+		List<String> removedHints = new ArrayList<>();
+		compute(base.getHints(), target.getHints(), addedHints, changedHints, removedHints);
+		delta.setAddedHints(addedHints);
+		delta.setChangedHints(changedHints);
+		delta.setRemovedHints(removedHints);
+		return delta;
+	}
+
+	private static <T extends ItemBase> void compute(List<T> base, List<T> target, List<T> added, List<T> changed,
+			List<String> removed) {
+		Map<String, List<T>> baseItems = groupByName(base);
+		Map<String, List<T>> targetItems = groupByName(target);
+		for (Map.Entry<String, List<T>> entry : targetItems.entrySet()) {
+			List<T> baseItemsOfName = baseItems.get(entry.getKey());
+			if (baseItemsOfName == null) {
+				added.addAll(entry.getValue());
+			} else if (!baseItemsOfName.equals(entry.getValue())) {
+				changed.addAll(entry.getValue());
+			}
+		}
+		for (String name : baseItems.keySet()) {
+			if (!targetItems.containsKey(name)) {
+				removed.add(name);
+			}
+		}
+	}
+
+	/**
+	 * Apply the delta to the properties and hints of the given metadata.
+	 *
+	 * <p>
+	 * The changed items replace the items of the same name at the same position
+	 * and the added items are added at the end of the lists, so the order of the
+	 * items can differ from the order of the target metadata.
+	 * </p>
+	 *
+	 * @param metadata the metadata to update.
+	 */
+	public void applyTo(ConfigurationMetadata metadata) {
+		metadata.setProperties(apply(metadata.getProperties(), addedProperties, changedProperties, removedProperties));
+		metadata.setHints(apply(metadata.getHints(), addedHints, changedHints, removedHints));
+	}
+
+	private static <T extends ItemBase> List<T> apply(List<T> items, List<T> added, List<T> changed,
+			List<String> removed) {
+		Map<String, List<T>> changedItems = groupByName(changed);
+		Set<String> removedNames = removed != null ? new HashSet<>(removed) : Collections.emptySet();
+		List<T> result = new ArrayList<>(items != null ? items.size() + (added != null ? added.size() : 0) : 0);
+		if (items != null) {
+			for (T item : items) {
+				if (item == null) {
+					continue;
+				}
+				String name = item.getName();
+				if (removedNames.contains(name)) {
+					continue;
+				}
+				if (changedItems.containsKey(name)) {
+					// replace all items of the name at the position of the first one
+					List<T> changedItemsOfName = changedItems.put(name, Collections.emptyList());
+					result.addAll(changedItemsOfName);
+					continue;
+				}
+				result.add(item);
+			}
+		}
+		// changed items which were not in the list
+		for (List<T> changedItemsOfName : changedItems.values()) {
+			result.addAll(changedItemsOfName);
+		}
+		if (added != null) {
+			result.addAll(added);
+		}
+		return result;
+	}
+
+	private static <T extends ItemBase> Map<String, List<T>> groupByName(List<T> items) {
+		Map<String, List<T>> itemsByName = new LinkedHashMap<>();
+		if (items != null) {
+			for (T item : items) {
+				if (item != null) {
+					itemsByName.computeIfAbsent(item.getName(), k -> new ArrayList<>(1)).add(item);
+				}
+			}
+		}
+		return itemsByName;
+	}
+
+	private static boolean isEmpty(List<?> items) {
+		return items == null || items.isEmpty();
+	}
+}
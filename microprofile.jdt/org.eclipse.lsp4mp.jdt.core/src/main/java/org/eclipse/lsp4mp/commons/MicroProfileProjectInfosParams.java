@@ -0,0 +1,120 @@
+/*******************************************************************************
+* Copyright (c) 2024 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.commons;
+
+import java.util.List;
+
+/**
+ * MicroProfile project information parameters to get in one request the
+ * project information of several properties files (ex : the
+ * application.properties files of a multi-module workspace).
+ *
+ */
+public class MicroProfileProjectInfosParams {
+
+	private List<String> uris;
+
+	private List<MicroProfilePropertiesScope> scopes;
+
+	private DocumentFormat documentFormat;
+
+	private boolean deferredDocumentation;
+
+	public MicroProfileProjectInfosParams() {
+	}
+
+	public MicroProfileProjectInfosParams(List<String> uris) {
+		setUris(uris);
+	}
+
+	/**
+	 * Returns the uris of the properties files.
+	 *
+	 * @return the uris of the properties files.
+	 */
+	public List<String> getUris() {
+		return uris;
+	}
+
+	/**
+	 * Set the uris of the properties files.
+	 *
+	 * @param uris the uris of the properties files.
+	 */
+	public void setUris(List<String> uris) {
+		this.uris = uris;
+	}
+
+	/**
+	 * Returns the search scope to collect the MicroProfile properties.
+	 *
+	 * @return the search scope to collect the MicroProfile properties.
+	 */
+	public List<MicroProfilePropertiesScope> getScopes() {
+		return scopes;
+	}
+
+	/**
+	 * Set the search scope to collect the MicroProfile properties.
+	 *
+	 * @param scopes the search scope to collect the MicroProfile properties.
+	 */
+	public void setScopes(List<MicroProfilePropertiesScope> scopes) {
+		this.scopes = scopes;
+	}
+
+	/**
+	 * Returns the document format for description.
+	 *
+	 * @return the document format for description.
+	 */
+	public DocumentFormat getDocumentFormat() {
+		return documentFormat;
+	}
+
+	/**
+	 * Set the document format for description.
+	 *
+	 * @param documentFormat the document format for description.
+	 */
+	public void setDocumentFormat(DocumentFormat documentFormat) {
+		this.documentFormat = documentFormat;
+	}
+
+	/**
+	 * Returns true if the Javadoc of the properties must not be rendered (and the
+	 * sources of the JARs must not be discovered) while collecting the properties
+	 * and false otherwise. In this case the documentation of a property is
+	 * collected on demand with <code>microprofile/propertyDocumentation</code>.
+	 *
+	 * @return true if the Javadoc of the properties must not be rendered while
+	 *         collecting the properties and false otherwise.
+	 */
+	public boolean isDeferredDocumentation() {
+		return deferredDocumentation;
+	}
+
+	/**
+	 * Set true if the Javadoc of the properties must not be rendered (and the
+	 * sources of the JARs must not be discovered) while collecting the properties
+	 * and false otherwise.
+	 *
+	 * @param deferredDocumentation true if the Javadoc of the properties must not
+	 *                              be rendered while collecting the properties and
+	 *                              false otherwise.
+	 */
+	public void setDeferredDocumentation(boolean deferredDocumentation) {
+		this.deferredDocumentation = deferredDocumentation;
+	}
+}
@@ -0,0 +1,92 @@
+/*******************************************************************************
+* Copyright (c) 2024 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.commons;
+
+/**
+ * The server availability change event sent when a server which serves the
+ * JAX-RS endpoints becomes available or unavailable.
+ *
+ */
+public class MicroProfileServerAvailabilityChangeEvent {
+
+	private String host;
+
+	private int port;
+
+	private boolean available;
+
+	public MicroProfileServerAvailabilityChangeEvent() {
+	}
+
+	public MicroProfileServerAvailabilityChangeEvent(String host, int port, boolean available) {
+		this.host = host;
+		this.port = port;
+		this.available = available;
+	}
+
+	/**
+	 * Returns the host of the server.
+	 *
+	 * @return the host of the server.
+	 */
+	public String getHost() {
+		return host;
+	}
+
+	/**
+	 * Set the host of the server.
+	 *
+	 * @param host the host of the server.
+	 */
+	public void setHost(String host) {
+		this.host = host;
+	}
+
+	/**
+	 * Returns the port of the server.
+	 *
+	 * @return the port of the server.
+	 */
+	public int getPort() {
+		return port;
+	}
+
+	/**
+	 * Set the port of the server.
+	 *
+	 * @param port the port of the server.
+	 */
+	public void setPort(int port) {
+		this.port = port;
+	}
+
+	/**
+	 * Returns true if the server is available and false otherwise.
+	 *
+	 * @return true if the server is available and false otherwise.
+	 */
+	public boolean isAvailable() {
+		return available;
+	}
+
+	/**
+	 * Set true if the server is available and false otherwise.
+	 *
+	 * @param available true if the server is available and false otherwise.
+	 */
+	public void setAvailable(boolean available) {
+		this.available = available;
+	}
+
+}
@@ -70,7 +70,9 @@ public abstract class AbstractStaticPropertiesProvider extends AbstractPropertie
 
 	@Override
 	public final void endSearch(SearchContext context, IProgressMonitor monitor) {
-		if (isAdaptedFor(context, monitor)) {
+		// The static properties are collected once per search, with the main search
+		// context
+		if (context.getMainContext() == null && isAdaptedFor(context, monitor)) {
 			collectStaticProperties(context, monitor);
 		}
 	}
@@ -38,6 +38,16 @@ public class BaseContext {
 		cache = new HashMap<>();
 	}
 
+	/**
+	 * Creates a context with the java project and the scopes of the given context
+	 * and an empty cache.
+	 *
+	 * @param context the context to copy.
+	 */
+	protected BaseContext(BaseContext context) {
+		this(context.javaProject, context.scopes);
+	}
+
 	/**
 	 * Associates the specified value with the specified key in the cache.
 	 *
@@ -13,10 +13,17 @@
 *******************************************************************************/
 package org.eclipse.lsp4mp.jdt.core;
 
+import org.eclipse.core.runtime.Platform;
 import org.eclipse.lsp4mp.jdt.core.project.JDTMicroProfileProjectManager;
+import org.eclipse.lsp4mp.jdt.internal.core.JarPropertiesCache;
 import org.eclipse.lsp4mp.jdt.internal.core.MicroProfilePropertiesListenerManager;
 import org.eclipse.lsp4mp.jdt.internal.core.PropertiesProviderRegistry;
+import org.eclipse.lsp4mp.jdt.internal.core.PropertyDeclarationIndex;
+import org.eclipse.lsp4mp.jdt.internal.core.java.JavaASTCache;
+import org.eclipse.lsp4mp.jdt.internal.core.java.JavaFeaturesRegistry;
 import org.eclipse.lsp4mp.jdt.internal.core.java.validators.JavaASTValidatorRegistry;
+import org.eclipse.lsp4mp.jdt.internal.jaxrs.java.JaxRsEndpointIndex;
+import org.eclipse.lsp4mp.jdt.internal.jaxrs.java.ServerAvailabilityProbe;
 import org.osgi.framework.BundleActivator;
 import org.osgi.framework.BundleContext;
 
@@ -29,6 +36,8 @@ public class MicroProfileCorePlugin implements BundleActivator {
 	// The plug-in ID
 	public static final String PLUGIN_ID = "org.eclipse.lsp4mp.jdt.core";
 
+	private static final String JAR_PROPERTIES_CACHE_DIR = "jar-properties-cache";
+
 	// The shared instance
 	private static MicroProfileCorePlugin plugin;
 
@@ -37,14 +46,26 @@ public class MicroProfileCorePlugin implements BundleActivator {
 		MicroProfilePropertiesListenerManager.getInstance().initialize();
 		PropertiesProviderRegistry.getInstance().initialize();
 		JavaASTValidatorRegistry.getInstance().initialize();
+		JavaASTCache.getInstance().initialize();
+		JaxRsEndpointIndex.getInstance().initialize();
+		PropertyDeclarationIndex.getInstance().initialize();
 		JDTMicroProfileProjectManager.getInstance().initialize();
+		JarPropertiesCache.getInstance().initialize(
+				Platform.getStateLocation(context.getBundle()).append(JAR_PROPERTIES_CACHE_DIR).toFile());
 	}
 
 	public void stop(BundleContext context) throws Exception {
 		MicroProfilePropertiesListenerManager.getInstance().destroy();
+		PropertiesManager.getInstance().destroy();
 		PropertiesProviderRegistry.getInstance().destroy();
 		JavaASTValidatorRegistry.getInstance().destroy();
+		JavaFeaturesRegistry.getInstance().destroy();
+		JavaASTCache.getInstance().destroy();
+		JaxRsEndpointIndex.getInstance().destroy();
+		PropertyDeclarationIndex.getInstance().destroy();
+		ServerAvailabilityProbe.getInstance().destroy();
 		JDTMicroProfileProjectManager.getInstance().destroy();
+		JarPropertiesCache.getInstance().destroy();
 		plugin = null;
 	}
 
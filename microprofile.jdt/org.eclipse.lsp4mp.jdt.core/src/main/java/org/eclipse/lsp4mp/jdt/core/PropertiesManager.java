@@ -13,28 +13,47 @@
 *******************************************************************************/
 package org.eclipse.lsp4mp.jdt.core;
 
+import java.io.File;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.function.Predicate;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.Path;
+import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.jdt.core.IClassFile;
 import org.eclipse.jdt.core.IClasspathEntry;
+import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.IMember;
 import org.eclipse.jdt.core.IMethod;
 import org.eclipse.jdt.core.IPackageFragmentRoot;
 import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.jdt.core.Signature;
 import org.eclipse.jdt.core.compiler.CharOperation;
@@ -54,15 +73,24 @@ import org.eclipse.lsp4mp.commons.ClasspathKind;
 import org.eclipse.lsp4mp.commons.DocumentFormat;
 import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
 import org.eclipse.lsp4mp.commons.MicroProfileProjectInfoParams;
+import org.eclipse.lsp4mp.commons.MicroProfileProjectInfosParams;
 import org.eclipse.lsp4mp.commons.MicroProfilePropertiesScope;
 import org.eclipse.lsp4mp.commons.MicroProfilePropertyDefinitionParams;
 import org.eclipse.lsp4mp.commons.MicroProfilePropertyDocumentationParams;
+import org.eclipse.lsp4mp.commons.metadata.ConfigurationMetadata;
+import org.eclipse.lsp4mp.commons.metadata.ItemHint;
+import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
 import org.eclipse.lsp4mp.jdt.core.utils.IJDTUtils;
 import org.eclipse.lsp4mp.jdt.core.utils.JDTMicroProfileUtils;
+import org.eclipse.lsp4mp.jdt.core.utils.JDTTypeUtils;
 import org.eclipse.lsp4mp.jdt.internal.core.FakeJavaProject;
+import org.eclipse.lsp4mp.jdt.internal.core.JarPropertiesCache;
+import org.eclipse.lsp4mp.jdt.internal.core.ProjectInfoVersions;
 import org.eclipse.lsp4mp.jdt.internal.core.PropertiesCollector;
 import org.eclipse.lsp4mp.jdt.internal.core.PropertiesProviderRegistry;
+import org.eclipse.lsp4mp.jdt.internal.core.PropertyDeclarationIndex;
 import org.eclipse.lsp4mp.jdt.internal.core.StaticPropertyProviderRegistry;
+import org.eclipse.lsp4mp.jdt.internal.core.UnitPropertiesCollector;
 
 /**
  * MicroProfile properties manager used to:
@@ -81,12 +109,29 @@ public class PropertiesManager {
 
 	private static final Logger LOGGER = Logger.getLogger(PropertiesManager.class.getName());
 
+	private static final String PARALLEL_SCAN_PROPERTY = "org.eclipse.lsp4mp.jdt.core.parallelPropertiesScan";
+
 	public static PropertiesManager getInstance() {
 		return INSTANCE;
 	}
 
+	private boolean parallelScan;
+
+	private ForkJoinPool scanPool;
+
 	private PropertiesManager() {
+		this.parallelScan = Boolean.getBoolean(PARALLEL_SCAN_PROPERTY);
+	}
 
+	/**
+	 * Destroy the properties manager : the threads of the parallel scan are
+	 * stopped.
+	 */
+	public synchronized void destroy() {
+		if (scanPool != null) {
+			scanPool.shutdownNow();
+			scanPool = null;
+		}
 	}
 
 	public MicroProfileProjectInfo getMicroProfileProjectInfo(MicroProfileProjectInfoParams params, IJDTUtils utils,
@@ -101,21 +146,199 @@ public class PropertiesManager {
 			// The uri doesn't belong to a Java project
 			return createInfo(file.getProject(), ClasspathKind.NONE);
 		}
-		return getMicroProfileProjectInfo(file, params.getScopes(), utils, params.getDocumentFormat(), progress);
+		String projectName = file.getProject().getName();
+		IJavaProject javaProject = JavaModelManager.getJavaModelManager().getJavaModel().getJavaProject(projectName);
+		ClasspathKind classpathKind = JDTMicroProfileUtils.getClasspathKind(file, javaProject);
+		MicroProfileProjectInfo info = getMicroProfileProjectInfo(javaProject, params.getScopes(),
+				params.getCompilationUnitURIs(), classpathKind, utils, params.getDocumentFormat(),
+				params.isDeferredDocumentation(), progress);
+		if (!isVersioned(params.getScopes(), params.getCompilationUnitURIs(), classpathKind)) {
+			return info;
+		}
+		// Send only the changes since the version loaded by the client
+		return ProjectInfoVersions.getInstance().update(projectName, getVersionKey(projectName, classpathKind,
+				params.getDocumentFormat(), params.isDeferredDocumentation()), info, params.getBaseVersion());
+	}
+
+	/**
+	 * Returns true if the project information collected with the given scopes is
+	 * versioned and false otherwise. Only the project information which contains
+	 * all the properties of the sources and dependencies is versioned.
+	 */
+	private static boolean isVersioned(List<MicroProfilePropertiesScope> scopes, List<String> compilationUnitURIs,
+			ClasspathKind classpathKind) {
+		return classpathKind != ClasspathKind.NONE && compilationUnitURIs == null && scopes != null
+				&& scopes.contains(MicroProfilePropertiesScope.sources)
+				&& scopes.contains(MicroProfilePropertiesScope.dependencies);
+	}
+
+	private static String getVersionKey(String projectName, ClasspathKind classpathKind,
+			DocumentFormat documentFormat, boolean deferredDocumentation) {
+		return projectName + "#" + classpathKind + "#" + documentFormat + "#" + deferredDocumentation;
+	}
+
+	/**
+	 * Returns the MicroProfile project information of each properties file of the
+	 * given parameters, in the order of the properties file URIs.
+	 *
+	 * <p>
+	 * The properties files which belong to the same project and classpath kind
+	 * share the same project information, so each project is scanned once, and
+	 * the properties of the JARs shared by the modules of a workspace are collected
+	 * once with the JAR properties cache.
+	 * </p>
+	 *
+	 * @param params   the MicroProfile project information parameters of several
+	 *                 properties files.
+	 * @param utils    the JDT LS utilities.
+	 * @param progress the progress monitor.
+	 * @return the MicroProfile project information of each properties file.
+	 * @throws JavaModelException
+	 * @throws CoreException
+	 */
+	public List<MicroProfileProjectInfo> getMicroProfileProjectInfos(MicroProfileProjectInfosParams params,
+			IJDTUtils utils, IProgressMonitor progress) throws JavaModelException, CoreException {
+		List<String> uris = params.getUris();
+		List<MicroProfileProjectInfo> infos = new ArrayList<>(uris.size());
+		// project information by project name and classpath kind
+		Map<String, MicroProfileProjectInfo> projectInfos = new HashMap<>();
+		SubMonitor mainMonitor = SubMonitor.convert(progress,
+				"Scanning properties for " + uris.size() + " properties file(s)", uris.size());
+		try {
+			for (String uri : uris) {
+				SubMonitor subMonitor = mainMonitor.split(1);
+				IFile file = utils.findFile(uri);
+				MicroProfileProjectInfo info;
+				if (file == null || file.getProject() == null) {
+					// The uri doesn't belong to an Eclipse project
+					info = MicroProfileProjectInfo.EMPTY_PROJECT_INFO;
+				} else if (!(JavaProject.hasJavaNature(file.getProject()))) {
+					// The uri doesn't belong to a Java project
+					info = createInfo(file.getProject(), ClasspathKind.NONE);
+				} else {
+					String projectName = file.getProject().getName();
+					IJavaProject javaProject = JavaModelManager.getJavaModelManager().getJavaModel()
+							.getJavaProject(projectName);
+					ClasspathKind classpathKind = JDTMicroProfileUtils.getClasspathKind(file, javaProject);
+					String key = projectName + "#" + classpathKind;
+					info = projectInfos.get(key);
+					if (info == null) {
+						info = getMicroProfileProjectInfo(javaProject, params.getScopes(), null, classpathKind, utils,
+								params.getDocumentFormat(), params.isDeferredDocumentation(), subMonitor);
+						if (isVersioned(params.getScopes(), null, classpathKind)) {
+							info = ProjectInfoVersions.getInstance().update(projectName, getVersionKey(projectName,
+									classpathKind, params.getDocumentFormat(), params.isDeferredDocumentation()),
+									info, null);
+						}
+						projectInfos.put(key, info);
+					}
+				}
+				infos.add(info);
+				if (mainMonitor.isCanceled()) {
+					throw new OperationCanceledException();
+				}
+			}
+		} finally {
+			mainMonitor.done();
+		}
+		return infos;
 	}
 
 	public MicroProfileProjectInfo getMicroProfileProjectInfo(IFile file, List<MicroProfilePropertiesScope> scopes,
 			IJDTUtils utils, DocumentFormat documentFormat, IProgressMonitor progress)
 			throws JavaModelException, CoreException {
+		return getMicroProfileProjectInfo(file, scopes, null, utils, documentFormat, progress);
+	}
+
+	/**
+	 * Returns the MicroProfile project information of the project which hosts the
+	 * given file.
+	 *
+	 * @param file                the file (ex : application.properties).
+	 * @param scopes              the scopes.
+	 * @param compilationUnitURIs the URIs of the Java compilation units where the
+	 *                            properties must be collected when the scopes are
+	 *                            {@link MicroProfilePropertiesScope#ONLY_SOURCES}
+	 *                            and null to collect the properties from all Java
+	 *                            sources.
+	 * @param utils               the JDT LS utilities.
+	 * @param documentFormat      the document format.
+	 * @param progress            the progress monitor.
+	 * @return the MicroProfile project information.
+	 * @throws JavaModelException
+	 * @throws CoreException
+	 */
+	public MicroProfileProjectInfo getMicroProfileProjectInfo(IFile file, List<MicroProfilePropertiesScope> scopes,
+			List<String> compilationUnitURIs, IJDTUtils utils, DocumentFormat documentFormat,
+			IProgressMonitor progress) throws JavaModelException, CoreException {
 		String projectName = file.getProject().getName();
 		IJavaProject javaProject = JavaModelManager.getJavaModelManager().getJavaModel().getJavaProject(projectName);
 		ClasspathKind classpathKind = JDTMicroProfileUtils.getClasspathKind(file, javaProject);
-		return getMicroProfileProjectInfo(javaProject, scopes, classpathKind, utils, documentFormat, progress);
+		return getMicroProfileProjectInfo(javaProject, scopes, compilationUnitURIs, classpathKind, utils,
+				documentFormat, progress);
 	}
 
 	public MicroProfileProjectInfo getMicroProfileProjectInfo(IJavaProject javaProject,
 			List<MicroProfilePropertiesScope> scopes, ClasspathKind classpathKind, IJDTUtils utils,
 			DocumentFormat documentFormat, IProgressMonitor monitor) throws JavaModelException, CoreException {
+		return getMicroProfileProjectInfo(javaProject, scopes, null, classpathKind, utils, documentFormat, monitor);
+	}
+
+	/**
+	 * Returns the MicroProfile project information of the given Java project.
+	 *
+	 * @param javaProject         the Java project.
+	 * @param scopes              the scopes.
+	 * @param compilationUnitURIs the URIs of the Java compilation units where the
+	 *                            properties must be collected when the scopes are
+	 *                            {@link MicroProfilePropertiesScope#ONLY_SOURCES}
+	 *                            and null to collect the properties from all Java
+	 *                            sources.
+	 * @param classpathKind       the classpath kind.
+	 * @param utils               the JDT LS utilities.
+	 * @param documentFormat      the document format.
+	 * @param monitor             the progress monitor.
+	 * @return the MicroProfile project information.
+	 * @throws JavaModelException
+	 * @throws CoreException
+	 */
+	public MicroProfileProjectInfo getMicroProfileProjectInfo(IJavaProject javaProject,
+			List<MicroProfilePropertiesScope> scopes, List<String> compilationUnitURIs, ClasspathKind classpathKind,
+			IJDTUtils utils, DocumentFormat documentFormat, IProgressMonitor monitor)
+			throws JavaModelException, CoreException {
+		return getMicroProfileProjectInfo(javaProject, scopes, compilationUnitURIs, classpathKind, utils,
+				documentFormat, false, monitor);
+	}
+
+	/**
+	 * Returns the MicroProfile project information of the given Java project.
+	 *
+	 * @param javaProject           the Java project.
+	 * @param scopes                the scopes.
+	 * @param compilationUnitURIs   the URIs of the Java compilation units where
+	 *                              the properties must be collected when the
+	 *                              scopes are
+	 *                              {@link MicroProfilePropertiesScope#ONLY_SOURCES}
+	 *                              and null to collect the properties from all
+	 *                              Java sources.
+	 * @param classpathKind         the classpath kind.
+	 * @param utils                 the JDT LS utilities.
+	 * @param documentFormat        the document format.
+	 * @param deferredDocumentation true if the Javadoc of the properties must not
+	 *                              be rendered (and the sources of the JARs must
+	 *                              not be discovered) while collecting the
+	 *                              properties, the documentation being collected
+	 *                              on demand with
+	 *                              {@link #collectPropertyDocumentation(MicroProfilePropertyDocumentationParams, IJDTUtils, IProgressMonitor)}.
+	 * @param monitor               the progress monitor.
+	 * @return the MicroProfile project information.
+	 * @throws JavaModelException
+	 * @throws CoreException
+	 */
+	public MicroProfileProjectInfo getMicroProfileProjectInfo(IJavaProject javaProject,
+			List<MicroProfilePropertiesScope> scopes, List<String> compilationUnitURIs, ClasspathKind classpathKind,
+			IJDTUtils utils, DocumentFormat documentFormat, boolean deferredDocumentation, IProgressMonitor monitor)
+			throws JavaModelException, CoreException {
 		MicroProfileProjectInfo info = createInfo(javaProject.getProject(), classpathKind);
 		if (classpathKind == ClasspathKind.NONE) {
 			info.setProperties(Collections.emptyList());
@@ -142,8 +365,15 @@ public class PropertiesManager {
 			}
 
 			// Step2 (50%) : scan Java classes from the search classpath
-			scanJavaClasses(javaProjectForSearch, excludeTestCode, documentFormat, scopes, info, utils,
-					mainMonitor.split(50));
+			IJavaElement[] compilationUnits = getCompilationUnits(javaProject, scopes, compilationUnitURIs,
+					excludeTestCode, utils);
+			if (compilationUnits != null) {
+				// The client replaces only the properties of the types declared in the
+				// compilation units
+				info.setSourceTypes(getSourceTypes(compilationUnits));
+			}
+			scanJavaClasses(javaProjectForSearch, excludeTestCode, documentFormat, deferredDocumentation, scopes,
+					compilationUnits, info, utils, mainMonitor.split(50));
 			if (mainMonitor.isCanceled()) {
 				throw new OperationCanceledException();
 			}
@@ -194,7 +424,11 @@ public class PropertiesManager {
 	 *                             otherwise.
 	 * @param documentFormat       the document format to use to format Javadoc (in
 	 *                             Markdown for instance)
+	 * @param deferredDocumentation true if the Javadoc must not be rendered while
+	 *                             collecting the properties.
 	 * @param scopes               the scopes
+	 * @param compilationUnits     the Java compilation units to search and null to
+	 *                             search in the whole search classpath.
 	 * @param info                 the project information to update.
 	 * @param utils                the JDT LS utilities
 	 * @param mainMonitor          the main progress monitor.
@@ -202,46 +436,510 @@ public class PropertiesManager {
 	 * @throws CoreException
 	 */
 	private void scanJavaClasses(IJavaProject javaProjectForSearch, boolean excludeTestCode,
-			DocumentFormat documentFormat, List<MicroProfilePropertiesScope> scopes, MicroProfileProjectInfo info,
-			IJDTUtils utils, SubMonitor mainMonitor) throws JavaModelException, CoreException {
+			DocumentFormat documentFormat, boolean deferredDocumentation, List<MicroProfilePropertiesScope> scopes,
+			IJavaElement[] compilationUnits, MicroProfileProjectInfo info, IJDTUtils utils, SubMonitor mainMonitor)
+			throws JavaModelException, CoreException {
 		// Create JDT Java search pattern, engine and scope
 		mainMonitor.subTask("Scanning Java classes");
 		SubMonitor subMonitor = mainMonitor.setWorkRemaining(100);
 		try {
 			subMonitor.split(5); // give feedback to the user that something is happening
 
-			SearchPattern pattern = createSearchPattern();
-			SearchEngine engine = new SearchEngine();
-			IJavaSearchScope scope = createSearchScope(javaProjectForSearch, scopes, excludeTestCode, subMonitor);
+			IJavaSearchScope scope = compilationUnits != null ? SearchEngine.createJavaSearchScope(compilationUnits)
+					: createSearchScope(javaProjectForSearch, scopes, excludeTestCode, SearchScopeFilter.ALL,
+							subMonitor);
+
+			// Get from the cache the properties of the JARs which have not changed and
+			// exclude those JARs from the search
+			List<IPropertiesProvider> providers = getPropertiesProviders();
+			List<IPath> jars = new ArrayList<>();
+			Map<IPath, File> jarFiles = new HashMap<>();
+			for (IPath path : scope.enclosingProjectsAndJars()) {
+				File jar = getJarFile(path);
+				if (jar != null) {
+					jars.add(path);
+					jarFiles.put(path, jar);
+				}
+			}
+			Map<IPath, File> jarsToRecord = new HashMap<>();
+			Map<IPath, ConfigurationMetadata> cachedMetadatas = new HashMap<>();
+			JarPropertiesCache cache = JarPropertiesCache.getInstance();
+			boolean useCache = cache.isEnabled() && scopes.contains(MicroProfilePropertiesScope.dependencies);
+			if (useCache) {
+				Set<String> classpath = jarFiles.values().stream() //
+						.map(File::getPath) //
+						.collect(Collectors.toSet());
+				for (IPath path : jars) {
+					File jar = jarFiles.get(path);
+					ConfigurationMetadata cachedMetadata = cache.get(jar, classpath, documentFormat,
+							deferredDocumentation, providers);
+					if (cachedMetadata != null) {
+						cachedMetadatas.put(path, cachedMetadata);
+					} else {
+						jarsToRecord.put(path, jar);
+					}
+				}
+			}
+			if (useCache && LOGGER.isLoggable(Level.INFO)) {
+				LOGGER.info("JAR properties cache for '" + info.getProjectURI() + "' project: "
+						+ cachedMetadatas.size() + " hit(s), " + jarsToRecord.size() + " miss(es).");
+			}
 
-			// Execute the search
+			// Execute the search : the properties of the projects and of each searched JAR
+			// are collected in their own metadata, then added in the classpath order, so
+			// that the serial and the parallel search collect the same properties
 			PropertiesCollector collector = new PropertiesCollector(info, scopes);
-			SearchContext context = new SearchContext(javaProjectForSearch, collector, utils, documentFormat, scopes);
+			UnitPropertiesCollector unitCollector = new UnitPropertiesCollector(collector);
+			SearchContext context = new SearchContext(javaProjectForSearch, unitCollector, utils, documentFormat,
+					deferredDocumentation, scopes);
 			beginSearch(context, subMonitor);
-			engine.search(pattern, new SearchParticipant[] { SearchEngine.getDefaultSearchParticipant() }, scope,
+			Map<IPath, ConfigurationMetadata> searchedMetadatas;
+			if (isParallelScan() && compilationUnits == null) {
+				// Search each JAR and the projects in parallel, with their own search context
+				searchedMetadatas = searchInParallel(javaProjectForSearch, excludeTestCode, scopes, jars,
+						cachedMetadatas.keySet(), context, subMonitor.split(90));
+			} else {
+				// Search the projects and the JARs with the main search context
+				IJavaSearchScope searchScope = cachedMetadatas.isEmpty() ? scope
+						: createSearchScope(javaProjectForSearch, scopes, excludeTestCode,
+								SearchScopeFilter.excluding(cachedMetadatas.keySet()), subMonitor);
+				searchedMetadatas = search(searchScope, jars, context, unitCollector, subMonitor);
+			}
+			List<ConfigurationMetadata> metadatas = new ArrayList<>();
+			metadatas.add(getMetadata(searchedMetadatas, null));
+			Map<String, IPath> typeJars = new HashMap<>();
+			for (IPath jar : jars) {
+				ConfigurationMetadata metadata = cachedMetadatas.get(jar);
+				if (metadata == null) {
+					metadata = getMetadata(searchedMetadatas, jar);
+					if (jarsToRecord.containsKey(jar)) {
+						cache.put(jarsToRecord.get(jar),
+								getJarDependencies(javaProjectForSearch, jar, metadata, jarFiles, typeJars),
+								documentFormat, deferredDocumentation, providers, metadata);
+					}
+				}
+				metadatas.add(metadata);
+			}
+			collector.addMetadatas(metadatas);
+			endSearch(context, subMonitor);
+		} finally {
+			subMonitor.done();
+		}
+	}
+
+	/**
+	 * Returns the Java compilation units of the given URIs where the properties
+	 * must be collected and null if the properties must be collected from the
+	 * whole search classpath.
+	 *
+	 * <p>
+	 * The compilation units are used only when the scopes are
+	 * {@link MicroProfilePropertiesScope#ONLY_SOURCES}. The compilation units which
+	 * don't belong to the given Java project are ignored. When an URI cannot be
+	 * resolved to an existing compilation unit (ex : deleted or renamed Java file),
+	 * the types which were declared in this file are unknown and the properties
+	 * must be collected from the whole search classpath.
+	 * </p>
+	 *
+	 * <p>
+	 * The compilation units are searched with a search scope created with
+	 * {@link SearchEngine#createJavaSearchScope(IJavaElement[])}, which is not
+	 * split by JAR, so the parallel scan (see {@link #isParallelScan()}) is not
+	 * used for them.
+	 * </p>
+	 *
+	 * @param javaProject         the Java project.
+	 * @param scopes              the scopes.
+	 * @param compilationUnitURIs the URIs of the Java compilation units.
+	 * @param excludeTestCode     true if test must be excluded and false
+	 *                            otherwise.
+	 * @param utils               the JDT LS utilities.
+	 * @return the Java compilation units of the given URIs where the properties
+	 *         must be collected and null if the properties must be collected from
+	 *         the whole search classpath.
+	 */
+	private static IJavaElement[] getCompilationUnits(IJavaProject javaProject,
+			List<MicroProfilePropertiesScope> scopes, List<String> compilationUnitURIs, boolean excludeTestCode,
+			IJDTUtils utils) {
+		if (compilationUnitURIs == null || !MicroProfilePropertiesScope.isOnlySources(scopes)) {
+			return null;
+		}
+		List<IJavaElement> units = new ArrayList<>(compilationUnitURIs.size());
+		for (String uri : compilationUnitURIs) {
+			ICompilationUnit unit = utils.resolveCompilationUnit(uri);
+			if (unit == null || !unit.exists()) {
+				return null;
+			}
+			if (!javaProject.equals(unit.getJavaProject()) || unit.getResource() == null) {
+				continue;
+			}
+			if (excludeTestCode
+					&& JDTMicroProfileUtils.getClasspathKind(unit.getResource(), javaProject) == ClasspathKind.TEST) {
+				continue;
+			}
+			units.add(unit);
+		}
+		return units.toArray(new IJavaElement[units.size()]);
+	}
+
+	/**
+	 * Returns the names of the Java types declared in the given compilation units.
+	 *
+	 * <p>
+	 * The returned names contain the primary type of each compilation unit (even
+	 * if it is not declared anymore) and its top-level types. The nested types are
+	 * not returned, they are the types which start with one of the returned names.
+	 * </p>
+	 *
+	 * @param compilationUnits the Java compilation units.
+	 * @return the names of the Java types declared in the given compilation units.
+	 * @throws JavaModelException
+	 */
+	private static List<String> getSourceTypes(IJavaElement[] compilationUnits) throws JavaModelException {
+		Set<String> sourceTypes = new LinkedHashSet<>();
+		for (IJavaElement element : compilationUnits) {
+			ICompilationUnit unit = (ICompilationUnit) element;
+			String packageName = unit.getParent().getElementName();
+			String primaryTypeName = JavaCore.removeJavaLikeExtension(unit.getElementName());
+			sourceTypes.add(packageName.isEmpty() ? primaryTypeName : packageName + "." + primaryTypeName);
+			for (IType type : unit.getTypes()) {
+				sourceTypes.add(JDTTypeUtils.getSourceType(type));
+			}
+		}
+		return new ArrayList<>(sourceTypes);
+	}
+
+	/**
+	 * Search the properties of the given search scope and returns the properties
+	 * collected for the projects and for each JAR.
+	 *
+	 * <p>
+	 * The search matches are collected with the main search context, which is
+	 * shared by the whole search. The properties and hints of the search matches
+	 * of the projects and of each JAR are added by the given collector to their
+	 * own metadata, like with the parallel search.
+	 * </p>
+	 *
+	 * @param scope     the search scope.
+	 * @param jars      the JARs of the search scope.
+	 * @param context   the main search context.
+	 * @param collector the properties collector of the main search context.
+	 * @param monitor   the progress monitor.
+	 * @return the properties collected for each searched JAR (and with the null
+	 *         key for the projects).
+	 * @throws CoreException
+	 */
+	private Map<IPath, ConfigurationMetadata> search(IJavaSearchScope scope, List<IPath> jars,
+			SearchContext context, UnitPropertiesCollector collector, IProgressMonitor monitor)
+			throws CoreException {
+		Set<IPath> jarPaths = new HashSet<>(jars);
+		Map<IPath, ConfigurationMetadata> metadatas = new HashMap<>();
+		Map<IPath, PropertiesCollector> unitCollectors = new HashMap<>();
+		SearchEngine engine = new SearchEngine();
+		engine.search(createSearchPattern(), new SearchParticipant[] { SearchEngine.getDefaultSearchParticipant() },
+				scope, new SearchRequestor() {
+
+					@Override
+					public void acceptSearchMatch(SearchMatch match) throws CoreException {
+						// We collect only references from java code and not from JavaDoc
+
+						// --> In this case ConfigProperties will be collected :
+						// @ConfigProperties
+						// class A
+
+						// --> In this case ConfigProperties will not be collected :
+						// /* Demonstrate {@link ConfigProperties} */
+						// class A
+
+						if (!match.isInsideDocComment()) {
+							IPath unit = getJarPath(match, jarPaths);
+							collector.setUnitCollector(unitCollectors.computeIfAbsent(unit, k -> {
+								ConfigurationMetadata metadata = new ConfigurationMetadata();
+								metadatas.put(k, metadata);
+								return new PropertiesCollector(metadata, context.getScopes());
+							}));
+							try {
+								collectProperties(match, context, monitor);
+							} finally {
+								collector.setUnitCollector(null);
+							}
+						}
+					}
+				}, monitor);
+		return metadatas;
+	}
+
+	/**
+	 * Search the properties of the projects and of each given JAR in parallel.
+	 *
+	 * <p>
+	 * Each JAR (and the projects) is searched with its own search scope, pattern,
+	 * properties collector and search context on the scan pool. The search context
+	 * of a JAR is a copy of the main search context with an empty cache (see
+	 * {@link SearchContext#getMainContext()}), and the search of a JAR is begun and
+	 * ended on it like a whole search.
+	 * </p>
+	 *
+	 * @param javaProjectForSearch Java project which hosts original JARs and new
+	 *                             JARs to use for the search.
+	 * @param excludeTestCode      true if test must be excluded and false
+	 *                             otherwise.
+	 * @param scopes               the scopes
+	 * @param jars                 the JARs of the search scope.
+	 * @param excludedJars         the JARs to ignore (ex : JARs from the cache).
+	 * @param context              the main search context.
+	 * @param monitor              the progress monitor.
+	 * @return the properties collected for each searched JAR (and with the null
+	 *         key for the projects).
+	 * @throws CoreException
+	 */
+	private Map<IPath, ConfigurationMetadata> searchInParallel(IJavaProject javaProjectForSearch,
+			boolean excludeTestCode, List<MicroProfilePropertiesScope> scopes, List<IPath> jars,
+			Set<IPath> excludedJars, SearchContext context, SubMonitor monitor) throws CoreException {
+		List<IPath> units = new ArrayList<>();
+		units.add(null); // the projects (sources, class folders)
+		for (IPath jar : jars) {
+			if (!excludedJars.contains(jar)) {
+				units.add(jar);
+			}
+		}
+		SubMonitor subMonitor = monitor.setWorkRemaining(units.size());
+		// SubMonitor is not thread-safe, workers use it only to check cancellation
+		IProgressMonitor workerMonitor = new NullProgressMonitor() {
+
+			@Override
+			public boolean isCanceled() {
+				return monitor.isCanceled();
+			}
+		};
+		List<ForkJoinTask<ConfigurationMetadata>> tasks = new ArrayList<>(units.size());
+		for (IPath unit : units) {
+			SearchScopeFilter filter = unit == null ? SearchScopeFilter.ONLY_PROJECTS : SearchScopeFilter.only(unit);
+			tasks.add(getScanPool().submit(() -> searchUnit(javaProjectForSearch, excludeTestCode, scopes, filter,
+					context, workerMonitor)));
+		}
+		Map<IPath, ConfigurationMetadata> metadatas = new HashMap<>();
+		try {
+			for (int i = 0; i < units.size(); i++) {
+				metadatas.put(units.get(i), tasks.get(i).get());
+				subMonitor.split(1);
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new OperationCanceledException();
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof CoreException coreException) {
+				throw coreException;
+			}
+			if (cause instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			throw new CoreException(new Status(IStatus.ERROR, MicroProfileCorePlugin.PLUGIN_ID,
+					"Error while scanning MicroProfile properties", cause));
+		} finally {
+			for (ForkJoinTask<ConfigurationMetadata> task : tasks) {
+				task.cancel(false);
+			}
+		}
+		return metadatas;
+	}
+
+	private ConfigurationMetadata searchUnit(IJavaProject javaProjectForSearch, boolean excludeTestCode,
+			List<MicroProfilePropertiesScope> scopes, SearchScopeFilter filter, SearchContext mainContext,
+			IProgressMonitor monitor) throws CoreException {
+		if (monitor.isCanceled()) {
+			throw new OperationCanceledException();
+		}
+		ConfigurationMetadata metadata = new ConfigurationMetadata();
+		SearchContext context = new SearchContext(mainContext, new PropertiesCollector(metadata, scopes));
+		beginSearch(context, monitor);
+		try {
+			IJavaSearchScope scope = createSearchScope(javaProjectForSearch, scopes, excludeTestCode, filter,
+					monitor);
+			SearchEngine engine = new SearchEngine();
+			engine.search(createSearchPattern(),
+					new SearchParticipant[] { SearchEngine.getDefaultSearchParticipant() }, scope,
 					new SearchRequestor() {
 
 						@Override
 						public void acceptSearchMatch(SearchMatch match) throws CoreException {
 							// We collect only references from java code and not from JavaDoc
-
-							// --> In this case ConfigProperties will be collected :
-							// @ConfigProperties
-							// class A
-
-							// --> In this case ConfigProperties will not be collected :
-							// /* Demonstrate {@link ConfigProperties} */
-							// class A
-
 							if (!match.isInsideDocComment()) {
-								collectProperties(match, context, subMonitor);
+								collectProperties(match, context, monitor);
 							}
 						}
-					}, subMonitor);
-			endSearch(context, subMonitor);
+					}, monitor);
 		} finally {
-			subMonitor.done();
+			endSearch(context, monitor);
 		}
+		return metadata;
+	}
+
+	private static ConfigurationMetadata getMetadata(Map<IPath, ConfigurationMetadata> metadatas, IPath unit) {
+		ConfigurationMetadata metadata = metadatas.get(unit);
+		if (metadata == null) {
+			// No match in the projects or in the JAR
+			metadata = new ConfigurationMetadata();
+			metadata.setProperties(new ArrayList<>());
+			metadata.setHints(new ArrayList<>());
+		}
+		return metadata;
+	}
+
+	/**
+	 * Returns true if the properties of each JAR are searched in parallel and
+	 * false otherwise.
+	 *
+	 * @return true if the properties of each JAR are searched in parallel and
+	 *         false otherwise.
+	 */
+	public boolean isParallelScan() {
+		return parallelScan;
+	}
+
+	/**
+	 * Set true if the properties of each JAR must be searched in parallel and
+	 * false otherwise.
+	 *
+	 * <p>
+	 * The parallel scan requires that the properties providers don't share state
+	 * between the collect of 2 search matches other than with the search context :
+	 * the projects and each JAR are searched with their own search context, which
+	 * is begun and ended like a whole search.
+	 * </p>
+	 *
+	 * @param parallelScan true if the properties of each JAR must be searched in
+	 *                     parallel and false otherwise.
+	 */
+	public void setParallelScan(boolean parallelScan) {
+		this.parallelScan = parallelScan;
+	}
+
+	private synchronized ForkJoinPool getScanPool() {
+		if (scanPool == null) {
+			int parallelism = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+			scanPool = new ForkJoinPool(parallelism, pool -> {
+				ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+				thread.setName("LSP4MP properties scan-" + thread.getPoolIndex());
+				return thread;
+			}, null, false);
+		}
+		return scanPool;
+	}
+
+	/**
+	 * Returns the JAR file of the given path and null if the path is not a JAR.
+	 *
+	 * @param path the path of a project or a JAR returned by
+	 *             {@link IJavaSearchScope#enclosingProjectsAndJars()}.
+	 * @return the JAR file of the given path and null if the path is not a JAR.
+	 */
+	private static File getJarFile(IPath path) {
+		if (!isJarPath(path)) {
+			return null;
+		}
+		File file = path.toFile();
+		if (file.isFile()) {
+			// External JAR
+			return file;
+		}
+		// JAR which belongs to the workspace
+		IResource resource = ResourcesPlugin.getWorkspace().getRoot().findMember(path);
+		if (resource != null && resource.getLocation() != null) {
+			file = resource.getLocation().toFile();
+			return file.isFile() ? file : null;
+		}
+		return null;
+	}
+
+	/**
+	 * Returns the other JARs of the search classpath which declare the types of
+	 * the properties and of the hints collected from the given JAR.
+	 *
+	 * <p>
+	 * The properties collected from a JAR can depend on the types declared in
+	 * other JARs (ex : the values of an enum), the JAR properties cache entry of
+	 * the JAR is invalidated when those JARs change.
+	 * </p>
+	 *
+	 * @param javaProject the Java project used for the search.
+	 * @param jar         the JAR path.
+	 * @param metadata    the properties and hints collected from the JAR.
+	 * @param jarFiles    the JAR files of the search classpath.
+	 * @param typeJars    the JAR paths by type name already resolved.
+	 * @return the other JARs of the search classpath which declare the types of
+	 *         the properties and of the hints collected from the given JAR.
+	 */
+	private static Set<File> getJarDependencies(IJavaProject javaProject, IPath jar, ConfigurationMetadata metadata,
+			Map<IPath, File> jarFiles, Map<String, IPath> typeJars) {
+		Set<String> typeNames = new HashSet<>();
+		if (metadata.getProperties() != null) {
+			for (ItemMetadata property : metadata.getProperties()) {
+				addTypeNames(property.getType(), typeNames);
+			}
+		}
+		if (metadata.getHints() != null) {
+			for (ItemHint hint : metadata.getHints()) {
+				addTypeNames(hint.getSourceType(), typeNames);
+			}
+		}
+		Set<File> dependencies = new LinkedHashSet<>();
+		for (String typeName : typeNames) {
+			IPath typeJar;
+			if (typeJars.containsKey(typeName)) {
+				typeJar = typeJars.get(typeName);
+			} else {
+				typeJar = null;
+				IType type = JDTTypeUtils.findType(javaProject, typeName);
+				if (type != null) {
+					IJavaElement root = type.getAncestor(IJavaElement.PACKAGE_FRAGMENT_ROOT);
+					typeJar = root != null ? root.getPath() : null;
+				}
+				typeJars.put(typeName, typeJar);
+			}
+			if (typeJar != null && !typeJar.equals(jar) && jarFiles.containsKey(typeJar)) {
+				dependencies.add(jarFiles.get(typeJar));
+			}
+		}
+		return dependencies;
+	}
+
+	private static void addTypeNames(String type, Set<String> typeNames) {
+		if (type == null) {
+			return;
+		}
+		// ex : java.util.Map<java.lang.String,org.acme.Mode[]>
+		for (String typeName : type.split("[^\\w.$]+")) {
+			if (typeName.indexOf('.') != -1 && !typeName.startsWith("java.")) {
+				typeNames.add(typeName.replace('$', '.'));
+			}
+		}
+	}
+
+	private static boolean isJarPath(IPath path) {
+		String extension = path.getFileExtension();
+		return "jar".equalsIgnoreCase(extension) || "zip".equalsIgnoreCase(extension);
+	}
+
+	/**
+	 * Returns the path of the JAR which hosts the given Java search match and null
+	 * if the match belongs to a project.
+	 *
+	 * @param match the Java search match.
+	 * @param jars  the JARs of the search scope.
+	 * @return the path of the JAR which hosts the given Java search match and null
+	 *         if the match belongs to a project.
+	 */
+	private static IPath getJarPath(SearchMatch match, Set<IPath> jars) {
+		if (jars.isEmpty() || !(match.getElement() instanceof IJavaElement)) {
+			return null;
+		}
+		IJavaElement root = ((IJavaElement) match.getElement()).getAncestor(IJavaElement.PACKAGE_FRAGMENT_ROOT);
+		if (root != null && jars.contains(root.getPath())) {
+			return root.getPath();
+		}
+		return null;
 	}
 
 	private void beginSearch(SearchContext context, IProgressMonitor monitor) {
@@ -273,7 +971,7 @@ public class PropertiesManager {
 	}
 
 	private IJavaSearchScope createSearchScope(IJavaProject project, List<MicroProfilePropertiesScope> scopes,
-			boolean excludeTestCode, IProgressMonitor monitor) throws JavaModelException {
+			boolean excludeTestCode, SearchScopeFilter filter, IProgressMonitor monitor) throws JavaModelException {
 		int searchScope = 0;
 		for (MicroProfilePropertiesScope scope : scopes) {
 			switch (scope) {
@@ -290,7 +988,11 @@ public class PropertiesManager {
 			// classpath like Quarkus deployment JARs)
 			FakeJavaProject fakeProject = (FakeJavaProject) project;
 			return createJavaSearchScope(fakeProject, excludeTestCode, fakeProject.getElementsToSearch(scopes),
-					searchScope);
+					searchScope, filter);
+		}
+		if (filter != SearchScopeFilter.ALL) {
+			// Java Search in the project restricted to some JARs.
+			return createJavaSearchScope(null, excludeTestCode, new IJavaElement[] { project }, searchScope, filter);
 		}
 		// Standard Java Search in the project.
 		// The search scope is used to search in src, jars
@@ -376,16 +1078,18 @@ public class PropertiesManager {
 	 * This code is the same than
 	 * {@link BasicSearchEngine#createJavaSearchScope(boolean, IJavaElement[], boolean)}.
 	 * It overrides {@link JavaSearchScope#packageFragmentRoot(String, int, String)}
-	 * to search the first the package root (JAR) from the given fake project.
+	 * to search the first the package root (JAR) from the given fake project and
+	 * restricts the search to the projects and JARs accepted by the given filter.
 	 *
 	 * @param fakeProject
 	 * @param excludeTestCode
 	 * @param elements
 	 * @param includeMask
+	 * @param filter          the filter of the projects and JARs to search.
 	 * @return
 	 */
 	private static IJavaSearchScope createJavaSearchScope(IJavaProject fakeProject, boolean excludeTestCode,
-			IJavaElement[] elements, int includeMask) {
+			IJavaElement[] elements, int includeMask, SearchScopeFilter filter) {
 		HashSet<JavaProject> projectsToBeAdded = new HashSet<>(2);
 		for (int i = 0, length = elements.length; i < length; i++) {
 			IJavaElement element = elements[i];
@@ -398,21 +1102,67 @@ public class PropertiesManager {
 			@Override
 			public IPackageFragmentRoot packageFragmentRoot(String resourcePathString, int jarSeparatorIndex,
 					String jarPath) {
-				// Search at first in the fake project the package root to avoid creating a non
-				// existing IProject (because fake project doesn't exists)
-				try {
-					IPackageFragmentRoot[] roots = fakeProject.getPackageFragmentRoots();
-					for (IPackageFragmentRoot root : roots) {
-						if (resourcePathString.startsWith(root.getPath().toOSString())) {
-							return root;
+				if (fakeProject != null) {
+					// Search at first in the fake project the package root to avoid creating a non
+					// existing IProject (because fake project doesn't exists)
+					try {
+						IPackageFragmentRoot[] roots = fakeProject.getPackageFragmentRoots();
+						for (IPackageFragmentRoot root : roots) {
+							if (resourcePathString.startsWith(root.getPath().toOSString())) {
+								return root;
+							}
 						}
+					} catch (JavaModelException e) {
+						// ignore
 					}
-				} catch (JavaModelException e) {
-					// ignore
 				}
 				// Not found...
 				return super.packageFragmentRoot(resourcePathString, jarSeparatorIndex, jarPath);
 			}
+
+			@Override
+			public IPath[] enclosingProjectsAndJars() {
+				IPath[] paths = super.enclosingProjectsAndJars();
+				if (filter == SearchScopeFilter.ALL) {
+					return paths;
+				}
+				// The index of the filtered projects and JARs must not be queried
+				List<IPath> filteredPaths = new ArrayList<>(paths.length);
+				for (IPath path : paths) {
+					if (isJarPath(path) ? filter.acceptJar(path) : filter.acceptProjects()) {
+						filteredPaths.add(path);
+					}
+				}
+				return filteredPaths.toArray(new IPath[filteredPaths.size()]);
+			}
+
+			@Override
+			public boolean encloses(String resourcePathString) {
+				if (filter != SearchScopeFilter.ALL) {
+					int separatorIndex = resourcePathString.indexOf(JAR_FILE_ENTRY_SEPARATOR);
+					boolean accept = separatorIndex != -1
+							? filter.acceptJar(new Path(resourcePathString.substring(0, separatorIndex)))
+							: filter.acceptProjects();
+					if (!accept) {
+						return false;
+					}
+				}
+				return super.encloses(resourcePathString);
+			}
+
+			@Override
+			public boolean encloses(IJavaElement element) {
+				if (filter != SearchScopeFilter.ALL) {
+					IPackageFragmentRoot root = (IPackageFragmentRoot) element
+							.getAncestor(IJavaElement.PACKAGE_FRAGMENT_ROOT);
+					boolean accept = root != null && root.isArchive() ? filter.acceptJar(root.getPath())
+							: filter.acceptProjects();
+					if (!accept) {
+						return false;
+					}
+				}
+				return super.encloses(element);
+			}
 		};
 		for (int i = 0, length = elements.length; i < length; i++) {
 			IJavaElement element = elements[i];
@@ -431,6 +1181,59 @@ public class PropertiesManager {
 		return scope;
 	}
 
+	/**
+	 * Filter of the projects and JARs of a search scope.
+	 */
+	private static class SearchScopeFilter {
+
+		/**
+		 * Filter which accepts all projects and JARs.
+		 */
+		public static final SearchScopeFilter ALL = new SearchScopeFilter(true, path -> true);
+
+		/**
+		 * Filter which accepts only the projects (sources, class folders).
+		 */
+		public static final SearchScopeFilter ONLY_PROJECTS = new SearchScopeFilter(true, path -> false);
+
+		private final boolean acceptProjects;
+
+		private final Predicate<IPath> jarFilter;
+
+		private SearchScopeFilter(boolean acceptProjects, Predicate<IPath> jarFilter) {
+			this.acceptProjects = acceptProjects;
+			this.jarFilter = jarFilter;
+		}
+
+		/**
+		 * Returns a filter which accepts all projects and JARs except the given JARs.
+		 *
+		 * @param excludedJars the JARs to exclude.
+		 * @return a filter which accepts all projects and JARs except the given JARs.
+		 */
+		public static SearchScopeFilter excluding(Set<IPath> excludedJars) {
+			return new SearchScopeFilter(true, path -> !excludedJars.contains(path));
+		}
+
+		/**
+		 * Returns a filter which accepts only the given JAR.
+		 *
+		 * @param jar the JAR to accept.
+		 * @return a filter which accepts only the given JAR.
+		 */
+		public static SearchScopeFilter only(IPath jar) {
+			return new SearchScopeFilter(false, jar::equals);
+		}
+
+		public boolean acceptProjects() {
+			return acceptProjects;
+		}
+
+		public boolean acceptJar(IPath jar) {
+			return jarFilter.test(jar);
+		}
+	}
+
 	List<IPropertiesProvider> getPropertiesProviders() {
 		List<IPropertiesProvider> allProviders = new ArrayList<IPropertiesProvider>();
 		allProviders.addAll(PropertiesProviderRegistry.getInstance().getProviders());
@@ -454,13 +1257,21 @@ public class PropertiesManager {
 
 	public IMember findProperty(IJavaProject javaProject, String sourceType, String sourceField,
 			String sourceMethod, IJDTUtils utils, IProgressMonitor progress) throws JavaModelException, CoreException {
-		IMember fieldOrMethod = findDeclaredProperty(javaProject, sourceType, sourceField, sourceMethod, progress);
+		PropertyDeclarationIndex declarationIndex = PropertyDeclarationIndex.getInstance();
+		IMember fieldOrMethod = declarationIndex.getMember(javaProject, sourceType, sourceField, sourceMethod);
+		if (fieldOrMethod == null) {
+			long stamp = declarationIndex.getStamp(javaProject);
+			fieldOrMethod = findDeclaredProperty(javaProject, sourceType, sourceField, sourceMethod, progress);
+			declarationIndex.putMember(javaProject, stamp, sourceType, sourceField, sourceMethod, fieldOrMethod);
+		}
 		if (fieldOrMethod != null) {
 			IClassFile classFile = fieldOrMethod.getClassFile();
 			if (classFile != null) {
 				// Try to download source if required
-				if (utils != null) {
+				if (utils != null && !declarationIndex.isSourceDiscovered(javaProject, sourceType, sourceField,
+						sourceMethod)) {
 					utils.discoverSource(classFile, progress);
+					declarationIndex.sourceDiscovered(javaProject, sourceType, sourceField, sourceMethod);
 				}
 			}
 			return fieldOrMethod;
@@ -584,12 +1395,23 @@ public class PropertiesManager {
 		String projectName = file.getProject().getName();
 		IJavaProject javaProject = JavaModelManager.getJavaModelManager().getJavaModel().getJavaProject(projectName);
 
-		IMember member = findProperty(javaProject, params.getSourceType(), params.getSourceField(),
-				params.getSourceMethod(), utils, progress);
+		String sourceType = params.getSourceType();
+		String sourceField = params.getSourceField();
+		String sourceMethod = params.getSourceMethod();
+		DocumentFormat documentFormat = params.getDocumentFormat();
+		PropertyDeclarationIndex declarationIndex = PropertyDeclarationIndex.getInstance();
+		if (declarationIndex.hasDocumentation(javaProject, sourceType, sourceField, sourceMethod, documentFormat)) {
+			return declarationIndex.getDocumentation(javaProject, sourceType, sourceField, sourceMethod,
+					documentFormat);
+		}
+		IMember member = findProperty(javaProject, sourceType, sourceField, sourceMethod, utils, progress);
 		if (member == null) {
 			return null;
 		}
-		return utils.getJavadoc(member, params.getDocumentFormat());
+		String documentation = utils.getJavadoc(member, documentFormat);
+		declarationIndex.putDocumentation(javaProject, sourceType, sourceField, sourceMethod, member, documentFormat,
+				documentation);
+		return documentation;
 	}
 
 	private static String getMonitorTitle(IJavaProject javaProject, String sourceType, String sourceField,
@@ -17,10 +17,20 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.jdt.core.IBuffer;
 import org.eclipse.jdt.core.IClassFile;
 import org.eclipse.jdt.core.ICompilationUnit;
@@ -45,7 +55,6 @@ import org.eclipse.jdt.core.dom.MethodDeclaration;
 import org.eclipse.jdt.core.dom.NodeFinder;
 import org.eclipse.jdt.core.dom.RecordDeclaration;
 import org.eclipse.jdt.core.dom.TypeDeclaration;
-import org.eclipse.jdt.internal.core.manipulation.dom.ASTResolving;
 import org.eclipse.lsp4j.CodeAction;
 import org.eclipse.lsp4j.CodeLens;
 import org.eclipse.lsp4j.CompletionItem;
@@ -77,6 +86,7 @@ import org.eclipse.lsp4mp.jdt.core.java.hover.JavaHoverContext;
 import org.eclipse.lsp4mp.jdt.core.utils.ASTNodeUtils;
 import org.eclipse.lsp4mp.jdt.core.utils.IJDTUtils;
 import org.eclipse.lsp4mp.jdt.core.utils.JDTMicroProfileUtils;
+import org.eclipse.lsp4mp.jdt.internal.core.java.JavaASTCache;
 import org.eclipse.lsp4mp.jdt.internal.core.java.JavaFeaturesRegistry;
 import org.eclipse.lsp4mp.jdt.internal.core.java.codeaction.CodeActionHandler;
 import org.eclipse.lsp4mp.jdt.internal.core.java.codelens.JavaCodeLensDefinition;
@@ -96,14 +106,21 @@ public class PropertiesManagerForJava {
 
 	private static final PropertiesManagerForJava INSTANCE = new PropertiesManagerForJava();
 
+	private static final String PARALLEL_DIAGNOSTICS_PROPERTY = "org.eclipse.lsp4mp.jdt.core.parallelJavaDiagnostics";
+
+	private static ExecutorService diagnosticsPool;
+
 	public static PropertiesManagerForJava getInstance() {
 		return INSTANCE;
 	}
 
 	private final CodeActionHandler codeActionHandler;
 
+	private boolean parallelDiagnostics;
+
 	private PropertiesManagerForJava() {
 		this.codeActionHandler = new CodeActionHandler();
+		this.parallelDiagnostics = Boolean.getBoolean(PARALLEL_DIAGNOSTICS_PROPERTY);
 	}
 
 	/**
@@ -318,12 +335,14 @@ public class PropertiesManagerForJava {
 			return Collections.emptyList();
 		}
 		DocumentFormat documentFormat = params.getDocumentFormat();
-		List<PublishDiagnosticsParams> publishDiagnostics = new ArrayList<PublishDiagnosticsParams>();
-		for (String uri : uris) {
-			List<Diagnostic> diagnostics = new ArrayList<>();
-			PublishDiagnosticsParams publishDiagnostic = new PublishDiagnosticsParams(uri, diagnostics);
-			publishDiagnostics.add(publishDiagnostic);
-			collectDiagnostics(uri, utils, documentFormat, params.getSettings(), diagnostics, monitor);
+		List<PublishDiagnosticsParams> publishDiagnostics;
+		if (isParallelDiagnostics() && uris.size() > 1) {
+			publishDiagnostics = diagnosticsInParallel(uris, utils, documentFormat, params.getSettings(), monitor);
+		} else {
+			publishDiagnostics = new ArrayList<>();
+			for (String uri : uris) {
+				publishDiagnostics.add(collectDiagnostics(uri, utils, documentFormat, params.getSettings(), monitor));
+			}
 		}
 		if (monitor.isCanceled()) {
 			return Collections.emptyList();
@@ -331,6 +350,119 @@ public class PropertiesManagerForJava {
 		return publishDiagnostics;
 	}
 
+	/**
+	 * Collect the diagnostics of each given uri in parallel.
+	 *
+	 * @return the diagnostics of the given uris (in the same order) and an empty
+	 *         list if the monitor is canceled.
+	 */
+	private List<PublishDiagnosticsParams> diagnosticsInParallel(List<String> uris, IJDTUtils utils,
+			DocumentFormat documentFormat, MicroProfileJavaDiagnosticsSettings settings, IProgressMonitor monitor) {
+		utils.waitForLifecycleJobs(monitor);
+		// The progress monitor is not thread-safe, workers use it only to check
+		// cancellation
+		IProgressMonitor workerMonitor = new NullProgressMonitor() {
+
+			@Override
+			public boolean isCanceled() {
+				return monitor.isCanceled();
+			}
+		};
+		CompletionService<PublishDiagnosticsParams> completionService = new ExecutorCompletionService<>(
+				getDiagnosticsPool());
+		List<Future<PublishDiagnosticsParams>> futures = new ArrayList<>(uris.size());
+		try {
+			for (String uri : uris) {
+				futures.add(completionService
+						.submit(() -> collectDiagnostics(uri, utils, documentFormat, settings, workerMonitor)));
+			}
+			for (int i = 0; i < futures.size(); i++) {
+				Future<PublishDiagnosticsParams> done = null;
+				while (done == null) {
+					if (monitor.isCanceled()) {
+						return Collections.emptyList();
+					}
+					done = completionService.poll(50, TimeUnit.MILLISECONDS);
+				}
+				// throw the error of the validation as soon as possible
+				done.get();
+			}
+			List<PublishDiagnosticsParams> publishDiagnostics = new ArrayList<>(futures.size());
+			for (Future<PublishDiagnosticsParams> future : futures) {
+				publishDiagnostics.add(future.get());
+			}
+			return publishDiagnostics;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return Collections.emptyList();
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			if (cause instanceof Error error) {
+				throw error;
+			}
+			throw new RuntimeException(cause);
+		} finally {
+			for (Future<PublishDiagnosticsParams> future : futures) {
+				future.cancel(false);
+			}
+		}
+	}
+
+	/**
+	 * Returns true if the compilation units are validated in parallel and false
+	 * otherwise.
+	 *
+	 * @return true if the compilation units are validated in parallel and false
+	 *         otherwise.
+	 */
+	public boolean isParallelDiagnostics() {
+		return parallelDiagnostics;
+	}
+
+	/**
+	 * Set true if the compilation units must be validated in parallel and false
+	 * otherwise.
+	 *
+	 * <p>
+	 * The parallel diagnostics requires that the diagnostics participants don't
+	 * share state between the validation of 2 compilation units other than with
+	 * the diagnostics context.
+	 * </p>
+	 *
+	 * @param parallelDiagnostics true if the compilation units must be validated in
+	 *                            parallel and false otherwise.
+	 */
+	public void setParallelDiagnostics(boolean parallelDiagnostics) {
+		this.parallelDiagnostics = parallelDiagnostics;
+	}
+
+	private static synchronized ExecutorService getDiagnosticsPool() {
+		if (diagnosticsPool == null) {
+			int parallelism = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+			AtomicInteger threadIndex = new AtomicInteger();
+			ThreadPoolExecutor pool = new ThreadPoolExecutor(parallelism, parallelism, 60, TimeUnit.SECONDS,
+					new LinkedBlockingQueue<>(), runnable -> {
+						Thread thread = new Thread(runnable,
+								"LSP4MP Java diagnostics-" + threadIndex.getAndIncrement());
+						thread.setDaemon(true);
+						return thread;
+					});
+			pool.allowCoreThreadTimeOut(true);
+			diagnosticsPool = pool;
+		}
+		return diagnosticsPool;
+	}
+
+	private PublishDiagnosticsParams collectDiagnostics(String uri, IJDTUtils utils, DocumentFormat documentFormat,
+			MicroProfileJavaDiagnosticsSettings settings, IProgressMonitor monitor) {
+		List<Diagnostic> diagnostics = new ArrayList<>();
+		collectDiagnostics(uri, utils, documentFormat, settings, diagnostics, monitor);
+		return new PublishDiagnosticsParams(uri, diagnostics);
+	}
+
 	private void collectDiagnostics(String uri, IJDTUtils utils, DocumentFormat documentFormat,
 			MicroProfileJavaDiagnosticsSettings settings, List<Diagnostic> diagnostics, IProgressMonitor monitor) {
 		ITypeRoot typeRoot = resolveTypeRoot(uri, utils, monitor);
@@ -413,7 +545,7 @@ public class PropertiesManagerForJava {
 		if (typeRoot == null) {
 			return new JavaCursorContextResult(JavaCursorContextKind.IN_EMPTY_FILE, "");
 		}
-		CompilationUnit ast = ASTResolving.createQuickFixAST((ICompilationUnit) typeRoot, monitor);
+		CompilationUnit ast = JavaASTCache.getInstance().getAST((ICompilationUnit) typeRoot, monitor);
 
 		JavaCursorContextKind kind = getJavaCursorContextKind(params, typeRoot, ast, utils, monitor);
 		String prefix = getJavaCursorPrefix(params, typeRoot, ast, utils, monitor);
@@ -30,13 +30,38 @@ public class SearchContext extends BaseContext {
 	private final IPropertiesCollector collector;
 	private final IJDTUtils utils;
 	private final DocumentFormat documentFormat;
+	private final boolean deferredDocumentation;
+	private final SearchContext mainContext;
 
 	public SearchContext(IJavaProject javaProject, IPropertiesCollector collector, IJDTUtils utils,
 			DocumentFormat documentFormat, List<MicroProfilePropertiesScope> scopes) {
+		this(javaProject, collector, utils, documentFormat, false, scopes);
+	}
+
+	public SearchContext(IJavaProject javaProject, IPropertiesCollector collector, IJDTUtils utils,
+			DocumentFormat documentFormat, boolean deferredDocumentation, List<MicroProfilePropertiesScope> scopes) {
 		super(javaProject, scopes);
 		this.collector = collector;
 		this.utils = utils;
 		this.documentFormat = documentFormat;
+		this.deferredDocumentation = deferredDocumentation;
+		this.mainContext = null;
+	}
+
+	/**
+	 * Creates a search context which uses the given collector, the settings of the
+	 * given search context and an empty cache (ex : to search a JAR in parallel).
+	 *
+	 * @param context   the search context to copy.
+	 * @param collector the properties collector.
+	 */
+	public SearchContext(SearchContext context, IPropertiesCollector collector) {
+		super(context);
+		this.collector = collector;
+		this.utils = context.utils;
+		this.documentFormat = context.documentFormat;
+		this.deferredDocumentation = context.deferredDocumentation;
+		this.mainContext = context;
 	}
 
 	/**
@@ -65,4 +90,28 @@ public class SearchContext extends BaseContext {
 	public DocumentFormat getDocumentFormat() {
 		return documentFormat;
 	}
+
+	/**
+	 * Returns true if the providers must not render the Javadoc of the properties
+	 * and must not discover the sources of the JARs, the documentation of a
+	 * property being collected on demand, and false otherwise.
+	 *
+	 * @return true if the providers must not render the Javadoc of the properties
+	 *         and false otherwise.
+	 */
+	public boolean isDeferredDocumentation() {
+		return deferredDocumentation;
+	}
+
+	/**
+	 * Returns the main search context when this search context is used to search
+	 * only a part of the search classpath (ex : a JAR searched in parallel) and
+	 * null otherwise.
+	 *
+	 * @return the main search context when this search context is used to search
+	 *         only a part of the search classpath and null otherwise.
+	 */
+	public SearchContext getMainContext() {
+		return mainContext;
+	}
 }
@@ -13,10 +13,13 @@
 *******************************************************************************/
 package org.eclipse.lsp4mp.jdt.core.jaxrs;
 
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.ITypeRoot;
 import org.eclipse.lsp4mp.jdt.core.utils.IJDTUtils;
@@ -44,6 +47,25 @@ public interface IJaxRsInfoProvider {
 	 */
 	public Set<ITypeRoot> getAllJaxRsClasses(IJavaProject javaProject, IProgressMonitor monitor);
 
+	/**
+	 * Returns a non-null set of the given compilation units of the given project that this provider can provide JAX-RS method information for.
+	 *
+	 * <p>
+	 * This method is used to update the JAX-RS classes of a project when some compilation units change. The default implementation
+	 * collects all the JAX-RS classes of the project, providers should override it to only search in the given compilation units.
+	 * </p>
+	 *
+	 * @param javaProject the project of the compilation units
+	 * @param units the compilation units to check for JAX-RS method information
+	 * @param monitor the progress monitor
+	 * @return a non-null set of the given compilation units that this provider can provide JAX-RS method information for
+	 */
+	public default Set<ITypeRoot> getJaxRsClasses(IJavaProject javaProject, Collection<ICompilationUnit> units, IProgressMonitor monitor) {
+		Set<ITypeRoot> jaxRsClasses = new HashSet<>(getAllJaxRsClasses(javaProject, monitor));
+		jaxRsClasses.retainAll(units);
+		return jaxRsClasses;
+	}
+
 	/**
 	 * Returns a list of all the JAX-RS methods in the given type.
 	 *
@@ -32,6 +32,7 @@ import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.lsp4mp.jdt.internal.core.ConfigSourceProviderRegistry;
 import org.eclipse.lsp4mp.jdt.internal.core.FakeJavaProject;
+import org.eclipse.lsp4mp.jdt.internal.core.ProjectInfoVersions;
 
 /**
  * {@link JDTMicroProfileProject} manager.
@@ -102,6 +103,8 @@ public class JDTMicroProfileProjectManager {
 				// Remove the JDTMicroProfile project instance from the cache.
 				projects.remove(javaProject);
 			}
+			// Remove the versions of the project information sent to the client.
+			ProjectInfoVersions.getInstance().evict(project.getName());
 		}
 
 		@Override
@@ -34,12 +34,14 @@ import org.eclipse.jdt.core.IAnnotation;
 import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.ILocalVariable;
+import org.eclipse.jdt.core.IMember;
 import org.eclipse.jdt.core.IMethod;
 import org.eclipse.jdt.core.IType;
 import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.lsp4mp.jdt.core.AbstractAnnotationTypeReferencePropertiesProvider;
 import org.eclipse.lsp4mp.jdt.core.IPropertiesCollector;
 import org.eclipse.lsp4mp.jdt.core.SearchContext;
+import org.eclipse.lsp4mp.jdt.internal.core.PropertyDeclarationIndex;
 
 /**
  * Properties provider to collect MicroProfile properties from the Java fields
@@ -102,6 +104,7 @@ public class MicroProfileConfigPropertyProvider extends AbstractAnnotationTypeRe
 	private void collectProperty(IJavaElement javaElement, String name, String defaultValue,
 			IPropertiesCollector collector) throws JavaModelException {
 		IJavaProject javaProject = javaElement.getJavaProject();
+		long stamp = PropertyDeclarationIndex.getInstance().getStamp(javaProject);
 		String varTypeName = getResolvedTypeName(javaElement);
 		IType varType = findType(javaProject, varTypeName);
 		String type = getPropertyType(varType, varTypeName);
@@ -110,14 +113,18 @@ public class MicroProfileConfigPropertyProvider extends AbstractAnnotationTypeRe
 		String sourceField = null;
 		String sourceMethod = null;
 
+		IMember member = null;
+
 		String extensionName = null;
 
 		if (javaElement.getElementType() == IJavaElement.FIELD) {
 			sourceField = getSourceField(javaElement);
+			member = (IMember) javaElement;
 		} else if (javaElement.getElementType() == IJavaElement.LOCAL_VARIABLE) {
 			ILocalVariable localVariable = (ILocalVariable) javaElement;
 			IMethod method = (IMethod) localVariable.getDeclaringMember();
 			sourceMethod = getSourceMethod(method);
+			member = method;
 		}
 
 		// Enumerations
@@ -127,6 +134,11 @@ public class MicroProfileConfigPropertyProvider extends AbstractAnnotationTypeRe
 		boolean binary = isBinary(javaElement);
 		super.addItemMetadata(collector, name, type, description, sourceType, sourceField, sourceMethod, defaultValue,
 				extensionName, binary);
+		if (!binary) {
+			// index the declaration for the hover and the definition of the property
+			PropertyDeclarationIndex.getInstance().putMember(javaProject, stamp, sourceType, sourceField, sourceMethod,
+					member);
+		}
 	}
 
 }
@@ -0,0 +1,252 @@
+/*******************************************************************************
+* Copyright (c) 2024 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.jdt.internal.core;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.ITypeRoot;
+import org.eclipse.jdt.core.JavaCore;
+
+/**
+ * Base class for the indexes which store information computed for each Java
+ * project and which are updated with the Java element deltas.
+ *
+ * <p>
+ * The index of a project is removed when the project is closed, opened or
+ * removed, when its classpath changes and when a package fragment root or a
+ * package fragment is added or removed. When a compilation unit changes, the
+ * stamp of the index of its project is incremented and
+ * {@link #compilationUnitChanged(ICompilationUnit)} is called.
+ * </p>
+ *
+ * @param <T> the index of a Java project.
+ */
+public abstract class AbstractJavaProjectIndex<T extends AbstractJavaProjectIndex.ProjectIndex> {
+
+	/**
+	 * The index of a Java project.
+	 */
+	public abstract static class ProjectIndex {
+
+		// incremented each time a compilation unit changes
+		private final AtomicLong stamp;
+
+		public ProjectIndex() {
+			this.stamp = new AtomicLong();
+		}
+
+		/**
+		 * Returns the stamp of the index which is incremented each time a compilation
+		 * unit changes.
+		 *
+		 * @return the stamp of the index.
+		 */
+		public long getStamp() {
+			return stamp.get();
+		}
+
+		/**
+		 * Increment the stamp of the index and update the index when the given
+		 * compilation unit has changed.
+		 *
+		 * @param unit the primary compilation unit which has changed.
+		 */
+		public final void compilationUnitChanged(ICompilationUnit unit) {
+			stamp.incrementAndGet();
+			invalidate(unit);
+		}
+
+		/**
+		 * Remove the information computed from the given compilation unit.
+		 *
+		 * @param unit the primary compilation unit which has changed.
+		 */
+		protected abstract void invalidate(ICompilationUnit unit);
+	}
+
+	private final Map<IJavaProject, T> projects;
+
+	private IElementChangedListener listener;
+
+	protected AbstractJavaProjectIndex() {
+		this.projects = new ConcurrentHashMap<>();
+	}
+
+	/**
+	 * Initialize the index by tracking the changes of the Java model.
+	 */
+	public synchronized void initialize() {
+		if (listener != null) {
+			return;
+		}
+		listener = this::javaModelChanged;
+		JavaCore.addElementChangedListener(listener);
+	}
+
+	/**
+	 * Destroy the index.
+	 */
+	public synchronized void destroy() {
+		if (listener != null) {
+			JavaCore.removeElementChangedListener(listener);
+			listener = null;
+		}
+		clear();
+	}
+
+	/**
+	 * Returns true if the index is enabled and false otherwise.
+	 *
+	 * <p>
+	 * The index is enabled when it has been initialized (to be notified of the
+	 * Java model changes).
+	 * </p>
+	 *
+	 * @return true if the index is enabled and false otherwise.
+	 */
+	public boolean isEnabled() {
+		return listener != null;
+	}
+
+	/**
+	 * Clear the index.
+	 */
+	public void clear() {
+		projects.clear();
+	}
+
+	/**
+	 * Returns the index of the given project, created if needed.
+	 *
+	 * @param javaProject the Java project.
+	 * @return the index of the given project.
+	 */
+	protected T getProjectIndex(IJavaProject javaProject) {
+		return projects.computeIfAbsent(javaProject, p -> createProjectIndex());
+	}
+
+	/**
+	 * Returns the index of the given project and null if it doesn't exist.
+	 *
+	 * @param javaProject the Java project.
+	 * @return the index of the given project and null if it doesn't exist.
+	 */
+	protected T getExistingProjectIndex(IJavaProject javaProject) {
+		return projects.get(javaProject);
+	}
+
+	/**
+	 * Returns the indexes of all the projects.
+	 *
+	 * @return the indexes of all the projects.
+	 */
+	protected Collection<T> getProjectIndexes() {
+		return projects.values();
+	}
+
+	/**
+	 * Returns a new index for a Java project.
+	 *
+	 * @return a new index for a Java project.
+	 */
+	protected abstract T createProjectIndex();
+
+	/**
+	 * Update the indexes when the given compilation unit has changed. By default,
+	 * only the index of the project of the compilation unit is updated.
+	 *
+	 * @param unit the primary compilation unit which has changed.
+	 */
+	protected void compilationUnitChanged(ICompilationUnit unit) {
+		T index = projects.get(unit.getJavaProject());
+		if (index != null) {
+			index.compilationUnitChanged(unit);
+		}
+	}
+
+	/**
+	 * Returns the primary compilation unit of the given type root and the type root
+	 * otherwise.
+	 *
+	 * @param typeRoot the compilation unit or class file.
+	 * @return the primary compilation unit of the given type root and the type root
+	 *         otherwise.
+	 */
+	protected static ITypeRoot getKey(ITypeRoot typeRoot) {
+		if (typeRoot instanceof ICompilationUnit unit) {
+			return unit.getPrimary();
+		}
+		return typeRoot;
+	}
+
+	// ---------------- Java element deltas
+
+	private void javaModelChanged(ElementChangedEvent event) {
+		if (projects.isEmpty()) {
+			return;
+		}
+		processDelta(event.getDelta());
+	}
+
+	private void processDelta(IJavaElementDelta delta) {
+		IJavaElement element = delta.getElement();
+		switch (element.getElementType()) {
+		case IJavaElement.JAVA_MODEL:
+			processChildren(delta);
+			break;
+		case IJavaElement.JAVA_PROJECT:
+			if (delta.getKind() != IJavaElementDelta.CHANGED
+					|| (delta.getFlags() & (IJavaElementDelta.F_CLOSED | IJavaElementDelta.F_OPENED
+							| IJavaElementDelta.F_CLASSPATH_CHANGED
+							| IJavaElementDelta.F_RESOLVED_CLASSPATH_CHANGED)) != 0) {
+				projects.remove(element);
+			} else {
+				processChildren(delta);
+			}
+			break;
+		case IJavaElement.PACKAGE_FRAGMENT_ROOT:
+		case IJavaElement.PACKAGE_FRAGMENT:
+			if (delta.getKind() != IJavaElementDelta.CHANGED
+					|| (delta.getFlags() & (IJavaElementDelta.F_ADDED_TO_CLASSPATH
+							| IJavaElementDelta.F_REMOVED_FROM_CLASSPATH
+							| IJavaElementDelta.F_ARCHIVE_CONTENT_CHANGED)) != 0) {
+				// the types of the project can be found in another JAR or package
+				projects.remove(element.getJavaProject());
+			} else {
+				processChildren(delta);
+			}
+			break;
+		case IJavaElement.COMPILATION_UNIT:
+			compilationUnitChanged(((ICompilationUnit) element).getPrimary());
+			break;
+		default:
+			break;
+		}
+	}
+
+	private void processChildren(IJavaElementDelta delta) {
+		for (IJavaElementDelta child : delta.getAffectedChildren()) {
+			processDelta(child);
+		}
+	}
+}
@@ -0,0 +1,508 @@
+/*******************************************************************************
+* Copyright (c) 2024 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.jdt.internal.core;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import org.eclipse.lsp4mp.commons.DocumentFormat;
+import org.eclipse.lsp4mp.commons.metadata.ConfigurationMetadata;
+import org.eclipse.lsp4mp.jdt.core.IPropertiesProvider;
+import org.osgi.framework.Bundle;
+import org.osgi.framework.FrameworkUtil;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+
+/**
+ * Persistent cache of the MicroProfile properties and hints collected from a
+ * JAR.
+ *
+ * <p>
+ * Each entry is stored as a JSON file in the state location of the plug-in and
+ * is keyed by the JAR path, the document format used to render the Javadoc and
+ * whether the Javadoc has been rendered or deferred, so the projects which use
+ * the same JAR share the same entry. The properties collected from a JAR can
+ * depend on the types declared in other JARs (ex : the values of an enum), those
+ * JARs are stored with the entry. An entry is valid when :
+ * </p>
+ *
+ * <ul>
+ * <li>the cache format version is the same than {@link #CACHE_VERSION}.</li>
+ * <li>the properties providers used to collect the entry and the versions of
+ * their bundles and of this bundle are the same than the current ones.</li>
+ * <li>the document format and the deferred documentation flag are the same than
+ * the stored values.</li>
+ * <li>the JAR size and last modified time are the same than the stored values,
+ * or the JAR content hash is the same than the stored hash.</li>
+ * <li>the JARs which declare the types of the entry belong to the classpath and
+ * their size and last modified time are the same than the stored values.</li>
+ * </ul>
+ *
+ * <p>
+ * An entry is deleted when it is not valid anymore, and the entries which have
+ * not been read for {@link #MAX_UNUSED_DAYS} days (ex : the entries of the
+ * previous versions of an updated dependency) are deleted when the cache is
+ * initialized.
+ * </p>
+ *
+ * <p>
+ * The cache can be disabled with the
+ * <code>-Dorg.eclipse.lsp4mp.jdt.core.jarPropertiesCache=false</code> system
+ * property.
+ * </p>
+ *
+ */
+public class JarPropertiesCache {
+
+	private static final Logger LOGGER = Logger.getLogger(JarPropertiesCache.class.getName());
+
+	/**
+	 * The version of the cache format. It must be increased when the stored
+	 * structure or the way properties are collected changes.
+	 */
+	public static final int CACHE_VERSION = 3;
+
+	/**
+	 * The number of days after which an entry which has not been read is deleted.
+	 */
+	public static final int MAX_UNUSED_DAYS = 30;
+
+	private static final String ENABLED_PROPERTY = "org.eclipse.lsp4mp.jdt.core.jarPropertiesCache";
+
+	private static final String CACHE_FILE_EXTENSION = ".json";
+
+	private static final String TMP_FILE_EXTENSION = ".tmp";
+
+	private static final JarPropertiesCache INSTANCE = new JarPropertiesCache();
+
+	public static JarPropertiesCache getInstance() {
+		return INSTANCE;
+	}
+
+	/**
+	 * A cache entry for a given JAR and document format.
+	 */
+	private static class JarEntry {
+
+		private int version;
+
+		private String path;
+
+		private long size;
+
+		private long lastModified;
+
+		private String hash;
+
+		private List<JarDependency> dependencies;
+
+		private String documentFormat;
+
+		private boolean deferredDocumentation;
+
+		private String providers;
+
+		private ConfigurationMetadata metadata;
+	}
+
+	/**
+	 * A JAR which declares types used by the properties of a cache entry.
+	 */
+	private static class JarDependency {
+
+		private String path;
+
+		private long size;
+
+		private long lastModified;
+	}
+
+	private final Map<String, JarEntry> entries;
+
+	private final AtomicLong hits;
+
+	private final AtomicLong misses;
+
+	private final Gson gson;
+
+	private File cacheDir;
+
+	private boolean enabled;
+
+	private JarPropertiesCache() {
+		this.entries = new ConcurrentHashMap<>();
+		this.hits = new AtomicLong();
+		this.misses = new AtomicLong();
+		this.gson = new Gson();
+		this.enabled = !"false".equals(System.getProperty(ENABLED_PROPERTY));
+	}
+
+	/**
+	 * Initialize the cache with the given directory where cache entries are
+	 * stored and delete the entries which have not been read for
+	 * {@link #MAX_UNUSED_DAYS} days.
+	 *
+	 * @param cacheDir the cache directory.
+	 */
+	public void initialize(File cacheDir) {
+		this.cacheDir = cacheDir;
+		deleteUnusedEntries(System.currentTimeMillis() - TimeUnit.DAYS.toMillis(MAX_UNUSED_DAYS));
+	}
+
+	/**
+	 * Destroy the cache.
+	 */
+	public void destroy() {
+		this.cacheDir = null;
+		entries.clear();
+	}
+
+	/**
+	 * Returns true if the cache is enabled and false otherwise.
+	 *
+	 * @return true if the cache is enabled and false otherwise.
+	 */
+	public boolean isEnabled() {
+		return enabled && cacheDir != null;
+	}
+
+	/**
+	 * Set true if the cache is enabled and false otherwise.
+	 *
+	 * @param enabled true if the cache is enabled and false otherwise.
+	 */
+	public void setEnabled(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	/**
+	 * Returns the cached properties and hints collected from the given JAR and
+	 * null if the JAR is new or has changed since it was stored.
+	 *
+	 * @param jar                   the JAR file.
+	 * @param classpath             the paths of the JARs of the classpath.
+	 * @param documentFormat        the document format used to render Javadoc.
+	 * @param deferredDocumentation true if the Javadoc has not been rendered while
+	 *                              collecting the properties.
+	 * @param providers             the properties providers used to collect
+	 *                              properties.
+	 * @return the cached properties and hints collected from the given JAR and
+	 *         null otherwise.
+	 */
+	public ConfigurationMetadata get(File jar, Set<String> classpath, DocumentFormat documentFormat,
+			boolean deferredDocumentation, List<IPropertiesProvider> providers) {
+		ConfigurationMetadata metadata = getValidEntry(getKey(jar, documentFormat, deferredDocumentation), jar,
+				classpath, documentFormat, deferredDocumentation, providers);
+		if (metadata != null) {
+			hits.incrementAndGet();
+		} else {
+			misses.incrementAndGet();
+		}
+		return metadata;
+	}
+
+	private ConfigurationMetadata getValidEntry(String key, File jar, Set<String> classpath,
+			DocumentFormat documentFormat, boolean deferredDocumentation, List<IPropertiesProvider> providers) {
+		JarEntry entry = entries.get(key);
+		if (entry == null) {
+			entry = load(key);
+			if (entry == null) {
+				return null;
+			}
+			entries.put(key, entry);
+		}
+		if (entry.version != CACHE_VERSION || entry.metadata == null || !jar.getPath().equals(entry.path)
+				|| !getName(documentFormat).equals(entry.documentFormat)
+				|| entry.deferredDocumentation != deferredDocumentation
+				|| !getProvidersSignature(providers).equals(entry.providers)
+				|| !isValid(entry.dependencies, classpath)) {
+			evict(key);
+			return null;
+		}
+		long size = jar.length();
+		long lastModified = jar.lastModified();
+		if (entry.size == size && entry.lastModified == lastModified) {
+			return entry.metadata;
+		}
+		if (entry.size == size && entry.hash != null && entry.hash.equals(computeHash(jar))) {
+			// The JAR has been touched but its content has not changed
+			entry.lastModified = lastModified;
+			save(key, entry);
+			return entry.metadata;
+		}
+		evict(key);
+		return null;
+	}
+
+	private static boolean isValid(List<JarDependency> dependencies, Set<String> classpath) {
+		if (dependencies == null) {
+			return true;
+		}
+		for (JarDependency dependency : dependencies) {
+			if (!classpath.contains(dependency.path)) {
+				return false;
+			}
+			File jar = new File(dependency.path);
+			if (jar.length() != dependency.size || jar.lastModified() != dependency.lastModified) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Store the given properties and hints collected from the given JAR.
+	 *
+	 * @param jar                   the JAR file.
+	 * @param dependencies          the other JARs which declare the types used by
+	 *                              the properties and hints of the JAR.
+	 * @param documentFormat        the document format used to render Javadoc.
+	 * @param deferredDocumentation true if the Javadoc has not been rendered while
+	 *                              collecting the properties.
+	 * @param providers             the properties providers used to collect
+	 *                              properties.
+	 * @param metadata              the properties and hints collected from the
+	 *                              JAR.
+	 */
+	public void put(File jar, Collection<File> dependencies, DocumentFormat documentFormat,
+			boolean deferredDocumentation, List<IPropertiesProvider> providers, ConfigurationMetadata metadata) {
+		String hash = computeHash(jar);
+		if (hash == null) {
+			return;
+		}
+		JarEntry entry = new JarEntry();
+		entry.version = CACHE_VERSION;
+		entry.path = jar.getPath();
+		entry.size = jar.length();
+		entry.lastModified = jar.lastModified();
+		entry.hash = hash;
+		entry.dependencies = new ArrayList<>(dependencies.size());
+		for (File dependencyJar : dependencies) {
+			JarDependency dependency = new JarDependency();
+			dependency.path = dependencyJar.getPath();
+			dependency.size = dependencyJar.length();
+			dependency.lastModified = dependencyJar.lastModified();
+			entry.dependencies.add(dependency);
+		}
+		entry.documentFormat = getName(documentFormat);
+		entry.deferredDocumentation = deferredDocumentation;
+		entry.providers = getProvidersSignature(providers);
+		entry.metadata = metadata;
+		String key = getKey(jar, documentFormat, deferredDocumentation);
+		entries.put(key, entry);
+		save(key, entry);
+	}
+
+	/**
+	 * Clear the memory and the disk cache and reset the hit/miss counters.
+	 */
+	public void clear() {
+		entries.clear();
+		if (cacheDir != null) {
+			File[] files = cacheDir.listFiles((dir, name) -> name.endsWith(CACHE_FILE_EXTENSION));
+			if (files != null) {
+				for (File file : files) {
+					file.delete();
+				}
+			}
+		}
+		resetStatistics();
+	}
+
+	/**
+	 * Returns the number of JARs which have been found in the cache.
+	 *
+	 * @return the number of JARs which have been found in the cache.
+	 */
+	public long getHitCount() {
+		return hits.get();
+	}
+
+	/**
+	 * Returns the number of JARs which have not been found in the cache.
+	 *
+	 * @return the number of JARs which have not been found in the cache.
+	 */
+	public long getMissCount() {
+		return misses.get();
+	}
+
+	/**
+	 * Reset the hit/miss counters.
+	 */
+	public void resetStatistics() {
+		hits.set(0);
+		misses.set(0);
+	}
+
+	/**
+	 * Delete the entries which have not been read since the given time.
+	 *
+	 * @param time the time in milliseconds.
+	 */
+	private void deleteUnusedEntries(long time) {
+		File dir = cacheDir;
+		if (dir == null) {
+			return;
+		}
+		File[] files = dir.listFiles((file, name) -> name.endsWith(CACHE_FILE_EXTENSION)
+				|| name.endsWith(TMP_FILE_EXTENSION));
+		if (files == null) {
+			return;
+		}
+		int deleted = 0;
+		for (File file : files) {
+			// The last modified time of an entry file is updated when the entry is read
+			if (file.lastModified() < time && file.delete()) {
+				deleted++;
+			}
+		}
+		if (deleted > 0 && LOGGER.isLoggable(Level.INFO)) {
+			LOGGER.info("Deleted " + deleted + " unused JAR properties cache file(s).");
+		}
+	}
+
+	private JarEntry load(String key) {
+		File file = getCacheFile(key);
+		if (file == null || !file.exists()) {
+			return null;
+		}
+		try (Reader reader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8)) {
+			JarEntry entry = gson.fromJson(reader, JarEntry.class);
+			// Keep the entry when the unused entries are deleted
+			file.setLastModified(System.currentTimeMillis());
+			return entry;
+		} catch (IOException | JsonParseException e) {
+			LOGGER.log(Level.WARNING, "Error while loading JAR properties cache '" + file + "'", e);
+			file.delete();
+			return null;
+		}
+	}
+
+	private void save(String key, JarEntry entry) {
+		File file = getCacheFile(key);
+		if (file == null) {
+			return;
+		}
+		try {
+			file.getParentFile().mkdirs();
+			File tmpFile = new File(file.getParentFile(), file.getName() + TMP_FILE_EXTENSION);
+			try (Writer writer = Files.newBufferedWriter(tmpFile.toPath(), StandardCharsets.UTF_8)) {
+				gson.toJson(entry, writer);
+			}
+			Files.move(tmpFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		} catch (IOException e) {
+			LOGGER.log(Level.WARNING, "Error while saving JAR properties cache '" + file + "'", e);
+		}
+	}
+
+	private void evict(String key) {
+		entries.remove(key);
+		File file = getCacheFile(key);
+		if (file != null) {
+			file.delete();
+		}
+	}
+
+	private File getCacheFile(String key) {
+		File dir = cacheDir;
+		if (dir == null) {
+			return null;
+		}
+		return new File(dir, key + CACHE_FILE_EXTENSION);
+	}
+
+	private static String getKey(File jar, DocumentFormat documentFormat, boolean deferredDocumentation) {
+		String key = jar.getPath() + "#" + getName(documentFormat) + (deferredDocumentation ? "#deferred" : "");
+		return toHex(digest(key.getBytes(StandardCharsets.UTF_8)));
+	}
+
+	private static String getName(DocumentFormat documentFormat) {
+		return documentFormat != null ? documentFormat.name() : "";
+	}
+
+	private static String getProvidersSignature(List<IPropertiesProvider> providers) {
+		// The bundle versions are part of the signature to invalidate the entries when
+		// this plug-in or a plug-in which contributes a provider is updated
+		return getBundleSignature(JarPropertiesCache.class) + ";" + providers.stream() //
+				.map(provider -> provider.getClass().getName() + "@" + getBundleSignature(provider.getClass())) //
+				.sorted() //
+				.collect(Collectors.joining(","));
+	}
+
+	private static String getBundleSignature(Class<?> clazz) {
+		Bundle bundle = FrameworkUtil.getBundle(clazz);
+		if (bundle == null) {
+			return "";
+		}
+		return bundle.getSymbolicName() + "_" + bundle.getVersion();
+	}
+
+	private static String computeHash(File jar) {
+		try (InputStream in = Files.newInputStream(jar.toPath())) {
+			MessageDigest digest = createDigest();
+			byte[] buffer = new byte[8192];
+			int read;
+			while ((read = in.read(buffer)) != -1) {
+				digest.update(buffer, 0, read);
+			}
+			return toHex(digest.digest());
+		} catch (IOException e) {
+			LOGGER.log(Level.WARNING, "Error while computing the hash of '" + jar + "'", e);
+			return null;
+		}
+	}
+
+	private static byte[] digest(byte[] bytes) {
+		return createDigest().digest(bytes);
+	}
+
+	private static MessageDigest createDigest() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			// Every implementation of the Java platform is required to support SHA-256
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static String toHex(byte[] bytes) {
+		StringBuilder hex = new StringBuilder(bytes.length * 2);
+		for (byte b : bytes) {
+			hex.append(Character.forDigit((b >> 4) & 0xF, 16));
+			hex.append(Character.forDigit(b & 0xF, 16));
+		}
+		return hex.toString();
+	}
+}
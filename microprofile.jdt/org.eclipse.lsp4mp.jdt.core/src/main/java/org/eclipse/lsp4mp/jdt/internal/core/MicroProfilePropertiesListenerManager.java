@@ -159,6 +159,10 @@ public class MicroProfilePropertiesListenerManager {
 					event.setType(MicroProfilePropertiesScope.ONLY_SOURCES);
 					event.setProjectURIs(new HashSet<String>());
 					event.getProjectURIs().add(JDTMicroProfileUtils.getProjectURI(file.getProject()));
+					// Only the properties of the saved Java file must be collected again
+					Set<String> compilationUnitURIs = new HashSet<>();
+					compilationUnitURIs.add(file.getLocationURI().toString());
+					event.setCompilationUnitURIs(compilationUnitURIs);
 					fireAsyncEvent(event);
 				} else if (isConfigSource(file) && isFileContentChanged(delta)) {
 					MicroProfilePropertiesChangeEvent event = new MicroProfilePropertiesChangeEvent();
@@ -0,0 +1,167 @@
+/*******************************************************************************
+* Copyright (c) 2024 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.jdt.internal.core;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
+import org.eclipse.lsp4mp.commons.MicroProfileProjectInfoDelta;
+
+/**
+ * Versions of the MicroProfile project information sent to the client.
+ *
+ * <p>
+ * The last 2 versions of the project information are kept for each project
+ * (and classpath kind, document format...) to answer a request which carries
+ * one of those versions with the changes of the properties and hints since this
+ * version instead of the whole project information.
+ * </p>
+ *
+ * <p>
+ * The versions are stored only for the clients which request the changes
+ * since a version (a client without base version always gets the whole project
+ * information). They are removed when the project is closed or deleted, and
+ * only the versions of the {@link #MAX_ENTRIES} last used keys are kept.
+ * </p>
+ *
+ * <p>
+ * The versions are unique for the lifetime of the server, and are initialized
+ * with the start time to avoid reusing a version known by a client after a
+ * restart.
+ * </p>
+ *
+ */
+public class ProjectInfoVersions {
+
+	private static final ProjectInfoVersions INSTANCE = new ProjectInfoVersions();
+
+	public static ProjectInfoVersions getInstance() {
+		return INSTANCE;
+	}
+
+	/**
+	 * The maximum number of keys (project, classpath kind, document format...)
+	 * for which the versions are kept.
+	 */
+	static final int MAX_ENTRIES = 32;
+
+	private static class Versions {
+
+		private final String projectName;
+
+		private MicroProfileProjectInfo current;
+
+		private MicroProfileProjectInfo previous;
+
+		public Versions(String projectName) {
+			this.projectName = projectName;
+		}
+	}
+
+	private final AtomicLong lastVersion;
+
+	private final Map<String, Versions> versions;
+
+	ProjectInfoVersions() {
+		this(MAX_ENTRIES);
+	}
+
+	ProjectInfoVersions(int maxEntries) {
+		this.lastVersion = new AtomicLong(System.currentTimeMillis());
+		// least recently used order
+		this.versions = new LinkedHashMap<String, Versions>(16, 0.75f, true) {
+
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, Versions> eldest) {
+				return size() > maxEntries;
+			}
+		};
+	}
+
+	/**
+	 * Store the given project information collected for the given key and returns
+	 * the project information to send to the client.
+	 *
+	 * <p>
+	 * The given project information is updated with its version. When the given
+	 * base version is one of the stored versions, the returned project information
+	 * contains only the changes since this version, otherwise it is the given
+	 * project information. When there is no base version, the project information
+	 * is neither stored nor compared with the stored versions.
+	 * </p>
+	 *
+	 * @param projectName the name of the project.
+	 * @param key         the key of the project information (project name,
+	 *                    classpath kind, document format...).
+	 * @param info        the project information collected from all the sources
+	 *                    and dependencies.
+	 * @param baseVersion the version of the project information loaded by the
+	 *                    client and null otherwise.
+	 * @return the project information to send to the client.
+	 */
+	public synchronized MicroProfileProjectInfo update(String projectName, String key, MicroProfileProjectInfo info,
+			String baseVersion) {
+		if (baseVersion == null) {
+			// the client doesn't request the changes since a version
+			info.setVersion(String.valueOf(lastVersion.incrementAndGet()));
+			return info;
+		}
+		Versions projectVersions = versions.computeIfAbsent(key, k -> new Versions(projectName));
+		MicroProfileProjectInfo current = projectVersions.current;
+		MicroProfileProjectInfoDelta currentDelta = current != null
+				? MicroProfileProjectInfoDelta.compute(current.getVersion(), current, info)
+				: null;
+		if (currentDelta != null && currentDelta.isEmpty()) {
+			// the properties and hints have not changed, keep the current version
+			info.setVersion(current.getVersion());
+		} else {
+			info.setVersion(String.valueOf(lastVersion.incrementAndGet()));
+			projectVersions.previous = current;
+			projectVersions.current = info;
+		}
+
+		MicroProfileProjectInfoDelta delta = null;
+		if (currentDelta != null && baseVersion.equals(current.getVersion())) {
+			delta = currentDelta;
+		} else {
+			MicroProfileProjectInfo base = projectVersions.previous;
+			if (base != null && baseVersion.equals(base.getVersion())) {
+				delta = MicroProfileProjectInfoDelta.compute(baseVersion, base, info);
+			}
+		}
+		if (delta == null) {
+			// the version of the client is unknown
+			return info;
+		}
+		MicroProfileProjectInfo result = new MicroProfileProjectInfo();
+		result.setProjectURI(info.getProjectURI());
+		result.setClasspathKind(info.getClasspathKind());
+		result.setVersion(info.getVersion());
+		result.setDelta(delta);
+		return result;
+	}
+
+	/**
+	 * Remove the versions of the project information of the given project.
+	 *
+	 * @param projectName the name of the closed or deleted project.
+	 */
+	public synchronized void evict(String projectName) {
+		versions.values().removeIf(projectVersions -> projectName.equals(projectVersions.projectName));
+	}
+}
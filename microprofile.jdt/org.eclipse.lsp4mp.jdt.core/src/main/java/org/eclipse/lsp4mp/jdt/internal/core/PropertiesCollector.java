@@ -17,6 +17,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 
 import org.eclipse.lsp4mp.commons.MicroProfilePropertiesScope;
@@ -38,6 +39,14 @@ public class PropertiesCollector implements IPropertiesCollector {
 
 	private final Map<String, ItemHint> hintsCache;
 
+	// the positions in the configuration properties of the properties, by name,
+	// in the list order
+	private final Map<String, List<Integer>> propertyIndexes;
+
+	// number of properties replaced by a merge which must be removed from the
+	// configuration properties
+	private int removedProperties;
+
 	private final boolean onlySources;
 
 	public PropertiesCollector(ConfigurationMetadata configuration, List<MicroProfilePropertiesScope> scopes) {
@@ -45,9 +54,19 @@ public class PropertiesCollector implements IPropertiesCollector {
 		this.configuration.setProperties(new ArrayList<>());
 		this.configuration.setHints(new ArrayList<>());
 		this.hintsCache = new HashMap<>();
+		this.propertyIndexes = new HashMap<>();
 		this.onlySources = MicroProfilePropertiesScope.isOnlySources(scopes);
 	}
 
+	/**
+	 * Returns the configuration metadata updated by this collector.
+	 *
+	 * @return the configuration metadata updated by this collector.
+	 */
+	public ConfigurationMetadata getConfiguration() {
+		return configuration;
+	}
+
 	@Override
 	public ItemMetadata addItemMetadata(String name, String type, String description, String sourceType,
 			String sourceField, String sourceMethod, String defaultValue, String extensionName, boolean binary,
@@ -70,7 +89,7 @@ public class PropertiesCollector implements IPropertiesCollector {
 		property.setPhase(phase);
 		property.setRequired(defaultValue == null);
 
-		configuration.getProperties().add(property);
+		addProperty(property);
 		return property;
 	}
 
@@ -99,6 +118,7 @@ public class PropertiesCollector implements IPropertiesCollector {
 			for (ItemMetadata property : properties) {
 				merge(property, mergingStrategy);
 			}
+			removeReplacedProperties();
 		}
 		List<ItemHint> hints = metadata.getHints();
 		if (hints != null) {
@@ -108,6 +128,78 @@ public class PropertiesCollector implements IPropertiesCollector {
 		}
 	}
 
+	/**
+	 * Add the given properties and hints, collected in the projects and in each
+	 * JAR of a search (or stored in the JAR properties cache), in the given order.
+	 *
+	 * <p>
+	 * A property which has been already collected with the same name and source
+	 * is ignored (ex : a property which is added once per JAR by a provider), and
+	 * the values of a hint are merged with the values of the existing hint.
+	 * </p>
+	 *
+	 * @param metadatas the properties and hints of the projects and of each JAR.
+	 */
+	public void addMetadatas(List<ConfigurationMetadata> metadatas) {
+		for (ConfigurationMetadata metadata : metadatas) {
+			List<ItemMetadata> properties = metadata.getProperties();
+			if (properties != null) {
+				for (ItemMetadata property : properties) {
+					if (!hasProperty(property)) {
+						merge(property, MergingStrategy.FORCE);
+					}
+				}
+			}
+			List<ItemHint> hints = metadata.getHints();
+			if (hints != null) {
+				for (ItemHint hint : hints) {
+					mergeItemHint(hint);
+				}
+			}
+		}
+	}
+
+	private boolean hasProperty(ItemMetadata property) {
+		List<Integer> indexes = propertyIndexes.get(property.getName());
+		if (indexes == null) {
+			return false;
+		}
+		List<ItemMetadata> properties = configuration.getProperties();
+		for (Integer index : indexes) {
+			ItemMetadata existingProperty = properties.get(index);
+			if (Objects.equals(existingProperty.getSourceType(), property.getSourceType())
+					&& Objects.equals(existingProperty.getSourceField(), property.getSourceField())
+					&& Objects.equals(existingProperty.getSourceMethod(), property.getSourceMethod())) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private void mergeItemHint(ItemHint hint) {
+		ItemHint existingHint = getExistingItemHint(hint.getName());
+		if (existingHint == null) {
+			existingHint = new ItemHint();
+			existingHint.setName(hint.getName());
+			existingHint.setDescription(hint.getDescription());
+			existingHint.setSourceType(hint.getSourceType());
+			existingHint.setSource(hint.getSource());
+			if (hint.getProviders() != null) {
+				existingHint.setProviders(new ArrayList<>(hint.getProviders()));
+			}
+			existingHint.setValues(new ArrayList<>());
+			addItemHint(existingHint);
+		}
+		if (hint.getValues() != null) {
+			for (ValueHint value : hint.getValues()) {
+				if (existingHint.getValues().stream()
+						.noneMatch(existingValue -> Objects.equals(existingValue.getValue(), value.getValue()))) {
+					existingHint.getValues().add(value);
+				}
+			}
+		}
+	}
+
 	// --------------- Properties merge
 
 	private void merge(ItemMetadata property, MergingStrategy mergingStrategy) {
@@ -130,28 +222,52 @@ public class PropertiesCollector implements IPropertiesCollector {
 	}
 
 	private void mergeWithIgnoreIfExists(ItemMetadata property) {
-		Optional<ItemMetadata> configProperty = getExistingProperty(property);
-		if (configProperty.isPresent()) {
+		if (propertyIndexes.containsKey(property.getName())) {
 			return;
 		}
 		addProperty(property);
 	}
 
-	private Optional<ItemMetadata> getExistingProperty(ItemMetadata property) {
-		List<ItemMetadata> configProperties = configuration.getProperties();
-		return configProperties.stream().filter(cp -> cp.getName().equals(property.getName())).findFirst();
-	}
-
 	private void mergeWithReplace(ItemMetadata property) {
-		Optional<ItemMetadata> configProperty = getExistingProperty(property);
-		if (configProperty.isPresent()) {
-			configuration.getProperties().remove(configProperty.get());
+		List<Integer> indexes = propertyIndexes.get(property.getName());
+		if (indexes != null) {
+			// The first existing property is removed at the end of the merge to avoid
+			// shifting the configuration properties for each replaced property.
+			int index = indexes.remove(0);
+			if (indexes.isEmpty()) {
+				propertyIndexes.remove(property.getName());
+			}
+			configuration.getProperties().set(index, null);
+			removedProperties++;
 		}
 		addProperty(property);
 	}
 
 	private void addProperty(ItemMetadata property) {
-		configuration.getProperties().add(property);
+		List<ItemMetadata> properties = configuration.getProperties();
+		indexProperty(property, properties.size());
+		properties.add(property);
+	}
+
+	private void indexProperty(ItemMetadata property, int index) {
+		propertyIndexes.computeIfAbsent(property.getName(), name -> new ArrayList<>(1)).add(index);
+	}
+
+	/**
+	 * Remove the properties replaced by the merge from the configuration
+	 * properties and update the positions of the remaining properties.
+	 */
+	private void removeReplacedProperties() {
+		if (removedProperties == 0) {
+			return;
+		}
+		List<ItemMetadata> properties = configuration.getProperties();
+		properties.removeIf(Objects::isNull);
+		removedProperties = 0;
+		propertyIndexes.clear();
+		for (int i = 0; i < properties.size(); i++) {
+			indexProperty(properties.get(i), i);
+		}
 	}
 
 	// --------------- ItemHint merge
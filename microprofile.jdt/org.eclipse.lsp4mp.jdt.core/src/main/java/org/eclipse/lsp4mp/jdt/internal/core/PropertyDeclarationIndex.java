@@ -0,0 +1,321 @@
+/*******************************************************************************
+* Copyright (c) 2024 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.jdt.internal.core;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IMember;
+import org.eclipse.jdt.core.ITypeRoot;
+import org.eclipse.lsp4mp.commons.DocumentFormat;
+
+/**
+ * Index of the Java declarations of the MicroProfile properties.
+ *
+ * <p>
+ * For each Java project, the index maps the <code>sourceType</code>,
+ * <code>sourceField</code> and <code>sourceMethod</code> of a property to the
+ * {@link IMember} which declares the property and to the documentation of the
+ * member rendered in each {@link DocumentFormat}. It avoids finding the types
+ * and members with the JDT model each time a property is hovered or its
+ * definition is searched.
+ * </p>
+ *
+ * <p>
+ * The index is filled when the properties of the Java sources are collected and
+ * each time a declaration is found. It is updated with the Java element
+ * deltas : the declarations of a changed compilation unit are removed and the
+ * index of a project is removed when its classpath changes.
+ * </p>
+ *
+ */
+public class PropertyDeclarationIndex extends AbstractJavaProjectIndex<PropertyDeclarationIndex.ProjectDeclarations> {
+
+	private static final PropertyDeclarationIndex INSTANCE = new PropertyDeclarationIndex();
+
+	public static PropertyDeclarationIndex getInstance() {
+		return INSTANCE;
+	}
+
+	/**
+	 * The source of a property.
+	 */
+	private static class DeclarationKey {
+
+		private final String sourceType;
+
+		private final String sourceField;
+
+		private final String sourceMethod;
+
+		public DeclarationKey(String sourceType, String sourceField, String sourceMethod) {
+			this.sourceType = sourceType;
+			this.sourceField = sourceField;
+			this.sourceMethod = sourceMethod;
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(sourceType, sourceField, sourceMethod);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof DeclarationKey other)) {
+				return false;
+			}
+			return Objects.equals(sourceType, other.sourceType) && Objects.equals(sourceField, other.sourceField)
+					&& Objects.equals(sourceMethod, other.sourceMethod);
+		}
+	}
+
+	/**
+	 * The Java declaration of a property.
+	 */
+	private static class Declaration {
+
+		private final IMember member;
+
+		// the compilation unit or class file which declares the member
+		private final ITypeRoot typeRoot;
+
+		// the rendered documentation by format, a null value means that the member
+		// has no documentation
+		private final Map<DocumentFormat, String> documentation;
+
+		private volatile boolean sourceDiscovered;
+
+		public Declaration(IMember member) {
+			this.member = member;
+			this.typeRoot = getKey(member.getTypeRoot());
+			this.documentation = new EnumMap<>(DocumentFormat.class);
+		}
+	}
+
+	/**
+	 * The declarations of a Java project.
+	 */
+	static class ProjectDeclarations extends AbstractJavaProjectIndex.ProjectIndex {
+
+		private final Map<DeclarationKey, Declaration> declarations;
+
+		public ProjectDeclarations() {
+			this.declarations = new ConcurrentHashMap<>();
+		}
+
+		@Override
+		protected void invalidate(ICompilationUnit unit) {
+			declarations.values().removeIf(declaration -> unit.equals(declaration.typeRoot));
+		}
+	}
+
+	private PropertyDeclarationIndex() {
+	}
+
+	@Override
+	protected ProjectDeclarations createProjectIndex() {
+		return new ProjectDeclarations();
+	}
+
+	@Override
+	protected void compilationUnitChanged(ICompilationUnit unit) {
+		// the compilation unit can declare properties used by the other projects
+		for (ProjectDeclarations index : getProjectIndexes()) {
+			index.compilationUnitChanged(unit);
+		}
+	}
+
+	/**
+	 * Returns the stamp of the given project which must be given to
+	 * {@link #putMember(IJavaProject, long, String, String, String, IMember)} to
+	 * ignore a member found before a change of the project.
+	 *
+	 * @param javaProject the Java project.
+	 * @return the stamp of the given project.
+	 */
+	public long getStamp(IJavaProject javaProject) {
+		return isEnabled() ? getProjectIndex(javaProject).getStamp() : 0;
+	}
+
+	/**
+	 * Returns the indexed member which declares the given property source and null
+	 * if it is not indexed.
+	 *
+	 * @param javaProject  the Java project.
+	 * @param sourceType   the source type (class or interface).
+	 * @param sourceField  the source field and null otherwise.
+	 * @param sourceMethod the source method and null otherwise.
+	 * @return the indexed member which declares the given property source and null
+	 *         if it is not indexed.
+	 */
+	public IMember getMember(IJavaProject javaProject, String sourceType, String sourceField, String sourceMethod) {
+		Declaration declaration = getDeclaration(javaProject, sourceType, sourceField, sourceMethod);
+		return declaration != null ? declaration.member : null;
+	}
+
+	/**
+	 * Index the member which declares the given property source.
+	 *
+	 * @param javaProject  the Java project.
+	 * @param stamp        the stamp of the project (see
+	 *                     {@link #getStamp(IJavaProject)}) before the member has
+	 *                     been found.
+	 * @param sourceType   the source type (class or interface).
+	 * @param sourceField  the source field and null otherwise.
+	 * @param sourceMethod the source method and null otherwise.
+	 * @param member       the member which declares the property.
+	 */
+	public void putMember(IJavaProject javaProject, long stamp, String sourceType, String sourceField,
+			String sourceMethod, IMember member) {
+		if (!isEnabled() || member == null || sourceType == null || javaProject instanceof FakeJavaProject) {
+			return;
+		}
+		ProjectDeclarations index = getProjectIndex(javaProject);
+		DeclarationKey key = new DeclarationKey(sourceType, sourceField, sourceMethod);
+		Declaration existing = index.declarations.get(key);
+		if (existing != null && existing.member.equals(member)) {
+			// keep the rendered documentation
+			return;
+		}
+		index.declarations.put(key, new Declaration(member));
+		if (stamp != index.getStamp()) {
+			// a compilation unit has changed while the member was searched
+			index.declarations.remove(key);
+		}
+	}
+
+	/**
+	 * Returns true if the sources of the member which declares the given property
+	 * source have been discovered and false otherwise.
+	 *
+	 * @param javaProject  the Java project.
+	 * @param sourceType   the source type (class or interface).
+	 * @param sourceField  the source field and null otherwise.
+	 * @param sourceMethod the source method and null otherwise.
+	 * @return true if the sources of the member which declares the given property
+	 *         source have been discovered and false otherwise.
+	 */
+	public boolean isSourceDiscovered(IJavaProject javaProject, String sourceType, String sourceField,
+			String sourceMethod) {
+		Declaration declaration = getDeclaration(javaProject, sourceType, sourceField, sourceMethod);
+		return declaration != null && declaration.sourceDiscovered;
+	}
+
+	/**
+	 * Mark the sources of the member which declares the given property source as
+	 * discovered.
+	 *
+	 * @param javaProject  the Java project.
+	 * @param sourceType   the source type (class or interface).
+	 * @param sourceField  the source field and null otherwise.
+	 * @param sourceMethod the source method and null otherwise.
+	 */
+	public void sourceDiscovered(IJavaProject javaProject, String sourceType, String sourceField,
+			String sourceMethod) {
+		Declaration declaration = getDeclaration(javaProject, sourceType, sourceField, sourceMethod);
+		if (declaration != null) {
+			declaration.sourceDiscovered = true;
+		}
+	}
+
+	/**
+	 * Returns true if the documentation of the given property source is indexed
+	 * for the given format and false otherwise.
+	 *
+	 * @param javaProject    the Java project.
+	 * @param sourceType     the source type (class or interface).
+	 * @param sourceField    the source field and null otherwise.
+	 * @param sourceMethod   the source method and null otherwise.
+	 * @param documentFormat the documentation format.
+	 * @return true if the documentation of the given property source is indexed
+	 *         for the given format and false otherwise.
+	 */
+	public boolean hasDocumentation(IJavaProject javaProject, String sourceType, String sourceField,
+			String sourceMethod, DocumentFormat documentFormat) {
+		Declaration declaration = getDeclaration(javaProject, sourceType, sourceField, sourceMethod);
+		if (declaration == null) {
+			return false;
+		}
+		synchronized (declaration.documentation) {
+			return declaration.documentation.containsKey(documentFormat);
+		}
+	}
+
+	/**
+	 * Returns the indexed documentation of the given property source in the given
+	 * format and null if the member has no documentation or if the documentation
+	 * is not indexed.
+	 *
+	 * @param javaProject    the Java project.
+	 * @param sourceType     the source type (class or interface).
+	 * @param sourceField    the source field and null otherwise.
+	 * @param sourceMethod   the source method and null otherwise.
+	 * @param documentFormat the documentation format.
+	 * @return the indexed documentation of the given property source in the given
+	 *         format and null otherwise.
+	 */
+	public String getDocumentation(IJavaProject javaProject, String sourceType, String sourceField,
+			String sourceMethod, DocumentFormat documentFormat) {
+		Declaration declaration = getDeclaration(javaProject, sourceType, sourceField, sourceMethod);
+		if (declaration == null) {
+			return null;
+		}
+		synchronized (declaration.documentation) {
+			return declaration.documentation.get(documentFormat);
+		}
+	}
+
+	/**
+	 * Index the documentation of the given member.
+	 *
+	 * @param javaProject    the Java project.
+	 * @param sourceType     the source type (class or interface).
+	 * @param sourceField    the source field and null otherwise.
+	 * @param sourceMethod   the source method and null otherwise.
+	 * @param member         the member which has been documented.
+	 * @param documentFormat the documentation format.
+	 * @param documentation  the rendered documentation and null if the member has
+	 *                       no documentation.
+	 */
+	public void putDocumentation(IJavaProject javaProject, String sourceType, String sourceField,
+			String sourceMethod, IMember member, DocumentFormat documentFormat, String documentation) {
+		Declaration declaration = getDeclaration(javaProject, sourceType, sourceField, sourceMethod);
+		if (declaration == null || !declaration.member.equals(member)) {
+			// the declaration has changed since the documentation has been rendered
+			return;
+		}
+		synchronized (declaration.documentation) {
+			declaration.documentation.put(documentFormat, documentation);
+		}
+	}
+
+	private Declaration getDeclaration(IJavaProject javaProject, String sourceType, String sourceField,
+			String sourceMethod) {
+		if (!isEnabled() || sourceType == null) {
+			return null;
+		}
+		ProjectDeclarations index = getExistingProjectIndex(javaProject);
+		if (index == null) {
+			return null;
+		}
+		return index.declarations.get(new DeclarationKey(sourceType, sourceField, sourceMethod));
+	}
+}
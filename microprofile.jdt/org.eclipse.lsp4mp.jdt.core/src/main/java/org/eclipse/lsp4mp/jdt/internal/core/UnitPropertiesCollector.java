@@ -0,0 +1,80 @@
+/*******************************************************************************
+* Copyright (c) 2024 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.jdt.internal.core;
+
+import org.eclipse.lsp4mp.commons.metadata.ConfigurationMetadata;
+import org.eclipse.lsp4mp.commons.metadata.ItemHint;
+import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
+import org.eclipse.lsp4mp.jdt.core.IPropertiesCollector;
+
+/**
+ * Properties collector of a search context shared by the whole search, which
+ * adds the properties and hints of the current search unit (the projects or a
+ * JAR) to the collector of this unit.
+ *
+ * <p>
+ * When there is no current unit (ex : in
+ * {@link org.eclipse.lsp4mp.jdt.core.IPropertiesProvider#endSearch(org.eclipse.lsp4mp.jdt.core.SearchContext, org.eclipse.core.runtime.IProgressMonitor)}),
+ * the properties and hints are added to the main collector.
+ * </p>
+ *
+ * @see JarPropertiesCache
+ */
+public class UnitPropertiesCollector implements IPropertiesCollector {
+
+	private final IPropertiesCollector mainCollector;
+
+	private IPropertiesCollector unitCollector;
+
+	public UnitPropertiesCollector(IPropertiesCollector mainCollector) {
+		this.mainCollector = mainCollector;
+	}
+
+	/**
+	 * Set the collector of the current search unit.
+	 *
+	 * @param unitCollector the collector of the current search unit and null to
+	 *                      use the main collector.
+	 */
+	public void setUnitCollector(IPropertiesCollector unitCollector) {
+		this.unitCollector = unitCollector;
+	}
+
+	private IPropertiesCollector getCollector() {
+		return unitCollector != null ? unitCollector : mainCollector;
+	}
+
+	@Override
+	public ItemMetadata addItemMetadata(String name, String type, String description, String sourceType,
+			String sourceField, String sourceMethod, String defaultValue, String extensionName, boolean binary,
+			int phase) {
+		return getCollector().addItemMetadata(name, type, description, sourceType, sourceField, sourceMethod,
+				defaultValue, extensionName, binary, phase);
+	}
+
+	@Override
+	public boolean hasItemHint(String hint) {
+		return getCollector().hasItemHint(hint);
+	}
+
+	@Override
+	public ItemHint getItemHint(String hint) {
+		return getCollector().getItemHint(hint);
+	}
+
+	@Override
+	public void merge(ConfigurationMetadata metadata, MergingStrategy mergingStrategy) {
+		getCollector().merge(metadata, mergingStrategy);
+	}
+}
@@ -0,0 +1,395 @@
+/*******************************************************************************
+* Copyright (c) 2024 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.jdt.internal.core.java;
+
+import java.lang.ref.SoftReference;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.jdt.core.BufferChangedEvent;
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.IBuffer;
+import org.eclipse.jdt.core.IBufferChangedListener;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.internal.core.manipulation.dom.ASTResolving;
+
+/**
+ * Cache of the resolved AST of the Java compilation units shared by the Java
+ * diagnostics, code lens, hover and definition.
+ *
+ * <p>
+ * An AST is reused while :
+ * </p>
+ *
+ * <ul>
+ * <li>the buffer of the compilation unit has not changed.</li>
+ * <li>the compilation unit has not changed in the Java model. A change of the
+ * structure of a compilation unit (ex : a method is added) or of a classpath
+ * invalidates all the AST, because their bindings can depend on it.</li>
+ * <li>the modification stamp of the Java file is the same.</li>
+ * </ul>
+ *
+ * <p>
+ * A resolved AST keeps its bindings and can be large, so the cache keeps the
+ * AST of the last used compilation units (5 by default) with soft references
+ * (they are released when the memory is low), and an AST is removed as soon as
+ * it is out of date. The size can be configured with the
+ * <code>-Dorg.eclipse.lsp4mp.jdt.core.astCacheSize=n</code> system property
+ * and the cache is disabled with a size of 0.
+ * </p>
+ *
+ */
+public class JavaASTCache {
+
+	private static final Logger LOGGER = Logger.getLogger(JavaASTCache.class.getName());
+
+	private static final String MAX_SIZE_PROPERTY = "org.eclipse.lsp4mp.jdt.core.astCacheSize";
+
+	private static final int DEFAULT_MAX_SIZE = 5;
+
+	private static final JavaASTCache INSTANCE = new JavaASTCache();
+
+	public static JavaASTCache getInstance() {
+		return INSTANCE;
+	}
+
+	/**
+	 * A cached AST which tracks the changes of the buffer of its compilation unit.
+	 */
+	private class ASTEntry implements IBufferChangedListener {
+
+		private final ICompilationUnit unit;
+
+		private final IBuffer buffer;
+
+		private final long resourceStamp;
+
+		private volatile SoftReference<CompilationUnit> ast;
+
+		private volatile boolean invalid;
+
+		public ASTEntry(ICompilationUnit unit, IBuffer buffer, long resourceStamp) {
+			this.unit = unit;
+			this.buffer = buffer;
+			this.resourceStamp = resourceStamp;
+			buffer.addBufferChangedListener(this);
+		}
+
+		@Override
+		public void bufferChanged(BufferChangedEvent event) {
+			// the buffer content has changed or the buffer is closed
+			invalidate(this);
+		}
+
+		public CompilationUnit getAST(IBuffer buffer, long resourceStamp) {
+			if (invalid || this.buffer != buffer || this.resourceStamp != resourceStamp) {
+				return null;
+			}
+			SoftReference<CompilationUnit> ast = this.ast;
+			return ast != null ? ast.get() : null;
+		}
+
+		public void dispose() {
+			invalid = true;
+			buffer.removeBufferChangedListener(this);
+		}
+	}
+
+	private final Map<ICompilationUnit, ASTEntry> entries;
+
+	private final AtomicLong hits;
+
+	private final AtomicLong misses;
+
+	private final AtomicLong parseTime;
+
+	private int maxSize;
+
+	private IElementChangedListener listener;
+
+	private JavaASTCache() {
+		this.entries = new LinkedHashMap<ICompilationUnit, ASTEntry>(16, 0.75f, true) {
+
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<ICompilationUnit, ASTEntry> eldest) {
+				if (size() > maxSize) {
+					eldest.getValue().dispose();
+					return true;
+				}
+				return false;
+			}
+		};
+		this.hits = new AtomicLong();
+		this.misses = new AtomicLong();
+		this.parseTime = new AtomicLong();
+		this.maxSize = Integer.getInteger(MAX_SIZE_PROPERTY, DEFAULT_MAX_SIZE);
+	}
+
+	/**
+	 * Initialize the cache by tracking the changes of the Java model.
+	 */
+	public synchronized void initialize() {
+		if (listener != null) {
+			return;
+		}
+		listener = this::javaModelChanged;
+		JavaCore.addElementChangedListener(listener);
+	}
+
+	/**
+	 * Destroy the cache.
+	 */
+	public synchronized void destroy() {
+		if (listener != null) {
+			JavaCore.removeElementChangedListener(listener);
+			listener = null;
+		}
+		clear();
+	}
+
+	private void javaModelChanged(ElementChangedEvent event) {
+		if (isStructuralChange(event.getDelta())) {
+			// the bindings of all the AST can be impacted
+			invalidateAll();
+		}
+	}
+
+	/**
+	 * Invalidates the AST of the compilation units whose content has changed and
+	 * returns true if the given delta contains a change which can impact the
+	 * bindings of the other compilation units and false otherwise.
+	 */
+	private boolean isStructuralChange(IJavaElementDelta delta) {
+		IJavaElement element = delta.getElement();
+		switch (element.getElementType()) {
+		case IJavaElement.JAVA_MODEL:
+		case IJavaElement.JAVA_PROJECT:
+		case IJavaElement.PACKAGE_FRAGMENT_ROOT:
+		case IJavaElement.PACKAGE_FRAGMENT:
+			if (delta.getKind() != IJavaElementDelta.CHANGED
+					|| (delta.getFlags() & ~(IJavaElementDelta.F_CHILDREN | IJavaElementDelta.F_CONTENT)) != 0) {
+				// ex : classpath changed, project closed, package removed
+				return true;
+			}
+			boolean structuralChange = false;
+			for (IJavaElementDelta child : delta.getAffectedChildren()) {
+				structuralChange |= isStructuralChange(child);
+			}
+			return structuralChange;
+		case IJavaElement.COMPILATION_UNIT:
+			invalidate((ICompilationUnit) element);
+			// the content of the compilation unit has changed without changing its
+			// structure (ex : the body of a method has been updated)
+			return delta.getKind() != IJavaElementDelta.CHANGED
+					|| (delta.getFlags() & IJavaElementDelta.F_CHILDREN) != 0;
+		default:
+			// ex : class file of a JAR
+			return true;
+		}
+	}
+
+	/**
+	 * Returns the resolved AST of the given compilation unit from the cache or
+	 * creates it if the cached AST is out of date.
+	 *
+	 * @param unit    the compilation unit.
+	 * @param monitor the progress monitor.
+	 * @return the resolved AST of the given compilation unit.
+	 */
+	public CompilationUnit getAST(ICompilationUnit unit, IProgressMonitor monitor) {
+		IBuffer buffer = isEnabled() ? getBuffer(unit) : null;
+		if (buffer == null) {
+			return createAST(unit, monitor);
+		}
+		long resourceStamp = getResourceStamp(unit);
+		ASTEntry entry;
+		synchronized (entries) {
+			entry = entries.get(unit);
+			if (entry != null) {
+				CompilationUnit ast = entry.getAST(buffer, resourceStamp);
+				if (ast != null) {
+					hits.incrementAndGet();
+					return ast;
+				}
+				entries.remove(unit);
+				entry.dispose();
+			}
+			// Track the changes of the buffer and of the Java model before creating the
+			// AST to ignore an AST created from an old content.
+			entry = new ASTEntry(unit, buffer, resourceStamp);
+			entries.put(unit, entry);
+		}
+		CompilationUnit ast = createAST(unit, monitor);
+		if (ast != null) {
+			entry.ast = new SoftReference<>(ast);
+		}
+		if (entry.getAST(getBuffer(unit), getResourceStamp(unit)) == null) {
+			invalidate(entry);
+		}
+		return ast;
+	}
+
+	private CompilationUnit createAST(ICompilationUnit unit, IProgressMonitor monitor) {
+		misses.incrementAndGet();
+		long start = System.nanoTime();
+		CompilationUnit ast = ASTResolving.createQuickFixAST(unit, monitor);
+		long time = System.nanoTime() - start;
+		parseTime.addAndGet(time);
+		if (LOGGER.isLoggable(Level.FINE)) {
+			LOGGER.fine("AST of '" + unit.getElementName() + "' created in " + TimeUnit.NANOSECONDS.toMillis(time)
+					+ "ms.");
+		}
+		return ast;
+	}
+
+	private void invalidate(ICompilationUnit unit) {
+		synchronized (entries) {
+			ASTEntry entry = entries.remove(unit);
+			if (entry != null) {
+				entry.dispose();
+			}
+		}
+	}
+
+	private void invalidate(ASTEntry entry) {
+		synchronized (entries) {
+			if (entries.get(entry.unit) == entry) {
+				entries.remove(entry.unit);
+			}
+			entry.dispose();
+		}
+	}
+
+	private void invalidateAll() {
+		synchronized (entries) {
+			entries.values().forEach(ASTEntry::dispose);
+			entries.clear();
+		}
+	}
+
+	private static IBuffer getBuffer(ICompilationUnit unit) {
+		try {
+			IBuffer buffer = unit.getBuffer();
+			return buffer != null && !buffer.isClosed() ? buffer : null;
+		} catch (JavaModelException e) {
+			// the compilation unit doesn't exist, its AST is not cached
+			LOGGER.log(Level.FINE, "Cannot get the buffer of '" + unit.getElementName() + "'.", e);
+			return null;
+		}
+	}
+
+	private static long getResourceStamp(ICompilationUnit unit) {
+		IResource resource = unit.getResource();
+		return resource != null ? resource.getModificationStamp() : IResource.NULL_STAMP;
+	}
+
+	/**
+	 * Returns true if the cache is enabled and false otherwise.
+	 *
+	 * <p>
+	 * The cache is enabled when it has been initialized (to be notified of the
+	 * Java model changes) and its size is greater than 0.
+	 * </p>
+	 *
+	 * @return true if the cache is enabled and false otherwise.
+	 */
+	public boolean isEnabled() {
+		return listener != null && maxSize > 0;
+	}
+
+	/**
+	 * Set the maximum number of cached AST.
+	 *
+	 * @param maxSize the maximum number of cached AST (0 disables the cache).
+	 */
+	public void setMaxSize(int maxSize) {
+		synchronized (entries) {
+			this.maxSize = maxSize;
+			Iterator<ASTEntry> iterator = entries.values().iterator();
+			while (entries.size() > maxSize) {
+				iterator.next().dispose();
+				iterator.remove();
+			}
+		}
+	}
+
+	/**
+	 * Returns the number of cached AST.
+	 *
+	 * @return the number of cached AST.
+	 */
+	public int size() {
+		synchronized (entries) {
+			return entries.size();
+		}
+	}
+
+	/**
+	 * Clear the cache and reset the statistics.
+	 */
+	public void clear() {
+		invalidateAll();
+		resetStatistics();
+	}
+	/**
+	 * Returns the number of AST which have been found in the cache.
+	 *
+	 * @return the number of AST which have been found in the cache.
+	 */
+	public long getHitCount() {
+		return hits.get();
+	}
+
+	/**
+	 * Returns the number of AST which have been created.
+	 *
+	 * @return the number of AST which have been created.
+	 */
+	public long getMissCount() {
+		return misses.get();
+	}
+
+	/**
+	 * Returns the total time in milliseconds spent to create the AST.
+	 *
+	 * @return the total time in milliseconds spent to create the AST.
+	 */
+	public long getParseTime() {
+		return TimeUnit.NANOSECONDS.toMillis(parseTime.get());
+	}
+
+	/**
+	 * Reset the hit/miss counters and the parse time.
+	 */
+	public void resetStatistics() {
+		hits.set(0);
+		misses.set(0);
+		parseTime.set(0);
+	}
+}
@@ -14,14 +14,17 @@
 package org.eclipse.lsp4mp.jdt.internal.core.java;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
-import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IConfigurationElement;
+import org.eclipse.core.runtime.IExtensionDelta;
 import org.eclipse.core.runtime.IExtensionRegistry;
+import org.eclipse.core.runtime.IRegistryChangeEvent;
+import org.eclipse.core.runtime.IRegistryChangeListener;
 import org.eclipse.core.runtime.Platform;
 import org.eclipse.lsp4mp.jdt.core.MicroProfileCorePlugin;
 import org.eclipse.lsp4mp.jdt.core.jaxrs.IJaxRsInfoProvider;
@@ -38,8 +41,15 @@ import org.eclipse.lsp4mp.jdt.internal.jaxrs.java.DefaultJaxRsInfoProvider;
  * Registry to hold the extension point
  * "org.eclipse.lsp4mp.jdt.core.javaFeaturesParticipants".
  *
+ * <p>
+ * The definitions are loaded once in an immutable snapshot which is read
+ * without lock by the Java features (hover, completion, diagnostics...). When
+ * the extension point changes, a new snapshot is loaded and replaces the
+ * previous one.
+ * </p>
+ *
  */
-public class JavaFeaturesRegistry {
+public class JavaFeaturesRegistry implements IRegistryChangeListener {
 
 	private static final String EXTENSION_JAVA_FEATURE_PARTICIPANTS = "javaFeatureParticipants";
 	private static final String CODEACTION_ELT = "codeAction";
@@ -55,38 +65,91 @@ public class JavaFeaturesRegistry {
 
 	private static final JavaFeaturesRegistry INSTANCE = new JavaFeaturesRegistry();
 
-	private final List<JavaCodeActionDefinition> javaCodeActionDefinitions;
+	/**
+	 * Immutable snapshot of the Java feature definitions.
+	 */
+	private static class JavaFeatureDefinitions {
+
+		private final List<JavaCodeActionDefinition> javaCodeActionDefinitions;
+
+		private final List<JavaCodeLensDefinition> javaCodeLensDefinitions;
 
-	private final List<JavaCodeLensDefinition> javaCodeLensDefinitions;
+		private final List<JavaCompletionDefinition> javaCompletionDefinitions;
 
-	private final List<JavaCompletionDefinition> javaCompletionDefinitions;
+		private final List<JavaDefinitionDefinition> javaDefinitionDefinitions;
 
-	private final List<JavaDefinitionDefinition> javaDefinitionDefinitions;
+		private final List<JavaDiagnosticsDefinition> javaDiagnosticsDefinitions;
 
-	private final List<JavaDiagnosticsDefinition> javaDiagnosticsDefinitions;
+		private final List<JavaHoverDefinition> javaHoverDefinitions;
 
-	private final List<JavaHoverDefinition> javaHoverDefinitions;
+		private final List<JavaWorkspaceSymbolsDefinition> javaWorkspaceSymbolsDefinitions;
 
-	private final List<JavaWorkspaceSymbolsDefinition> javaWorkspaceSymbolsDefinitions;
+		private final List<IJaxRsInfoProvider> jaxRsInfoProviders;
+
+		public JavaFeatureDefinitions(IConfigurationElement[] cf) {
+			List<JavaCodeActionDefinition> codeActions = new ArrayList<>();
+			List<JavaCodeLensDefinition> codeLenses = new ArrayList<>();
+			List<JavaCompletionDefinition> completions = new ArrayList<>();
+			List<JavaDefinitionDefinition> definitions = new ArrayList<>();
+			List<JavaDiagnosticsDefinition> diagnostics = new ArrayList<>();
+			List<JavaHoverDefinition> hovers = new ArrayList<>();
+			List<JavaWorkspaceSymbolsDefinition> workspaceSymbols = new ArrayList<>();
+			List<IJaxRsInfoProvider> jaxRsProviders = new ArrayList<>();
+			for (IConfigurationElement ce : cf) {
+				try {
+					switch (ce.getName()) {
+					case CODEACTION_ELT:
+						codeActions.add(new JavaCodeActionDefinition(ce));
+						break;
+					case CODELENS_ELT:
+						codeLenses.add(new JavaCodeLensDefinition(ce));
+						break;
+					case COMPLETION_ELT:
+						completions.add(new JavaCompletionDefinition(ce));
+						break;
+					case DIAGNOSTICS_ELT:
+						diagnostics.add(new JavaDiagnosticsDefinition(ce));
+						break;
+					case DEFINITION_ELT:
+						definitions.add(new JavaDefinitionDefinition(ce));
+						break;
+					case HOVER_ELT:
+						hovers.add(new JavaHoverDefinition(ce));
+						break;
+					case WORKSPACE_SYMBOLS_ELT:
+						workspaceSymbols.add(new JavaWorkspaceSymbolsDefinition(ce));
+						break;
+					case JAXRS_ELT:
+						jaxRsProviders.add(new JaxRsInfoDefinition(ce));
+						break;
+					default:
+					}
+				} catch (Throwable t) {
+					LOGGER.log(Level.SEVERE, "Error while collecting java features extension contributions", t);
+				}
+			}
+			jaxRsProviders.add(new DefaultJaxRsInfoProvider());
+			this.javaCodeActionDefinitions = Collections.unmodifiableList(codeActions);
+			this.javaCodeLensDefinitions = Collections.unmodifiableList(codeLenses);
+			this.javaCompletionDefinitions = Collections.unmodifiableList(completions);
+			this.javaDefinitionDefinitions = Collections.unmodifiableList(definitions);
+			this.javaDiagnosticsDefinitions = Collections.unmodifiableList(diagnostics);
+			this.javaHoverDefinitions = Collections.unmodifiableList(hovers);
+			this.javaWorkspaceSymbolsDefinitions = Collections.unmodifiableList(workspaceSymbols);
+			this.jaxRsInfoProviders = Collections.unmodifiableList(jaxRsProviders);
+		}
+	}
 
-	private final List<IJaxRsInfoProvider> jaxRsInfoProviders;
+	private volatile JavaFeatureDefinitions definitions;
 
-	private boolean javaFeatureDefinitionsLoaded;
+	private boolean registryListenerIntialized;
 
 	public static JavaFeaturesRegistry getInstance() {
 		return INSTANCE;
 	}
 
 	public JavaFeaturesRegistry() {
-		javaFeatureDefinitionsLoaded = false;
-		javaCodeActionDefinitions = new ArrayList<>();
-		javaCodeLensDefinitions = new ArrayList<>();
-		javaCompletionDefinitions = new ArrayList<>();
-		javaDefinitionDefinitions = new ArrayList<>();
-		javaDiagnosticsDefinitions = new ArrayList<>();
-		javaHoverDefinitions = new ArrayList<>();
-		javaWorkspaceSymbolsDefinitions = new ArrayList<>();
-		jaxRsInfoProviders = new ArrayList<>();
+		registryListenerIntialized = false;
 	}
 
 	/**
@@ -95,9 +158,8 @@ public class JavaFeaturesRegistry {
 	 * @return a list of code action definition.
 	 */
 	public List<JavaCodeActionDefinition> getJavaCodeActionDefinitions(String codeActionKind) {
-		loadJavaFeatureDefinitions();
-		return javaCodeActionDefinitions.stream().filter(definition -> codeActionKind.startsWith(definition.getKind()))
-				.collect(Collectors.toList());
+		return getDefinitions().javaCodeActionDefinitions.stream()
+				.filter(definition -> codeActionKind.startsWith(definition.getKind())).collect(Collectors.toList());
 	}
 
 	/**
@@ -106,8 +168,7 @@ public class JavaFeaturesRegistry {
 	 * @return a list of codeLens definition.
 	 */
 	public List<JavaCodeLensDefinition> getJavaCodeLensDefinitions() {
-		loadJavaFeatureDefinitions();
-		return javaCodeLensDefinitions;
+		return getDefinitions().javaCodeLensDefinitions;
 	}
 
 	/**
@@ -116,8 +177,7 @@ public class JavaFeaturesRegistry {
 	 * @return a list of completion definition
 	 */
 	public List<JavaCompletionDefinition> getJavaCompletionDefinitions() {
-		loadJavaFeatureDefinitions();
-		return javaCompletionDefinitions;
+		return getDefinitions().javaCompletionDefinitions;
 	}
 
 	/**
@@ -126,8 +186,7 @@ public class JavaFeaturesRegistry {
 	 * @return a list of definition definition.
 	 */
 	public List<JavaDefinitionDefinition> getJavaDefinitionDefinitions() {
-		loadJavaFeatureDefinitions();
-		return javaDefinitionDefinitions;
+		return getDefinitions().javaDefinitionDefinitions;
 	}
 
 	/**
@@ -136,8 +195,7 @@ public class JavaFeaturesRegistry {
 	 * @return a list of diagnostics definition.
 	 */
 	public List<JavaDiagnosticsDefinition> getJavaDiagnosticsDefinitions() {
-		loadJavaFeatureDefinitions();
-		return javaDiagnosticsDefinitions;
+		return getDefinitions().javaDiagnosticsDefinitions;
 	}
 
 	/**
@@ -146,8 +204,7 @@ public class JavaFeaturesRegistry {
 	 * @return a list of hover definition.
 	 */
 	public List<JavaHoverDefinition> getJavaHoverDefinitions() {
-		loadJavaFeatureDefinitions();
-		return javaHoverDefinitions;
+		return getDefinitions().javaHoverDefinitions;
 	}
 
 	/**
@@ -156,8 +213,7 @@ public class JavaFeaturesRegistry {
 	 * @return a list of workspace symbols definition
 	 */
 	public List<JavaWorkspaceSymbolsDefinition> getJavaWorkspaceSymbolsDefinitions() {
-		loadJavaFeatureDefinitions();
-		return javaWorkspaceSymbolsDefinitions;
+		return getDefinitions().javaWorkspaceSymbolsDefinitions;
 	}
 
 	/**
@@ -166,95 +222,61 @@ public class JavaFeaturesRegistry {
 	 * @return a list of JAX-RS info providers
 	 */
 	public List<IJaxRsInfoProvider> getJaxRsInfoProviders() {
-		loadJavaFeatureDefinitions();
-		return jaxRsInfoProviders;
+		return getDefinitions().jaxRsInfoProviders;
 	}
 
-	private synchronized void loadJavaFeatureDefinitions() {
-		if (javaFeatureDefinitionsLoaded)
-			return;
+	private JavaFeatureDefinitions getDefinitions() {
+		// Read the snapshot without lock once it is loaded
+		JavaFeatureDefinitions result = definitions;
+		if (result != null) {
+			return result;
+		}
+		return loadJavaFeatureDefinitions();
+	}
 
-		// Immediately set the flag, as to ensure that this method is never
-		// called twice
-		javaFeatureDefinitionsLoaded = true;
+	private synchronized JavaFeatureDefinitions loadJavaFeatureDefinitions() {
+		if (definitions != null) {
+			return definitions;
+		}
+		definitions = createJavaFeatureDefinitions();
+		addRegistryListenerIfNeeded();
+		return definitions;
+	}
 
+	private static JavaFeatureDefinitions createJavaFeatureDefinitions() {
 		IExtensionRegistry registry = Platform.getExtensionRegistry();
 		IConfigurationElement[] cf = registry.getConfigurationElementsFor(MicroProfileCorePlugin.PLUGIN_ID,
 				EXTENSION_JAVA_FEATURE_PARTICIPANTS);
-		addJavaFeatureDefinition(cf);
-		jaxRsInfoProviders.add(new DefaultJaxRsInfoProvider());
+		return new JavaFeatureDefinitions(cf);
 	}
 
-	private void addJavaFeatureDefinition(IConfigurationElement[] cf) {
-		for (IConfigurationElement ce : cf) {
-			try {
-				createAndAddDefinition(ce);
-			} catch (Throwable t) {
-				LOGGER.log(Level.SEVERE, "Error while collecting java features extension contributions", t);
+	@Override
+	public void registryChanged(IRegistryChangeEvent event) {
+		IExtensionDelta[] deltas = event.getExtensionDeltas(MicroProfileCorePlugin.PLUGIN_ID,
+				EXTENSION_JAVA_FEATURE_PARTICIPANTS);
+		if (deltas != null && deltas.length > 0) {
+			synchronized (this) {
+				// Replace the snapshot, the requests in progress keep the previous one
+				definitions = createJavaFeatureDefinitions();
 			}
 		}
 	}
 
-	private void createAndAddDefinition(IConfigurationElement ce) throws CoreException {
-		switch (ce.getName()) {
-		case CODEACTION_ELT: {
-			JavaCodeActionDefinition definition = new JavaCodeActionDefinition(ce);
-			synchronized (javaCodeActionDefinitions) {
-				javaCodeActionDefinitions.add(definition);
-			}
-			break;
-		}
-		case CODELENS_ELT: {
-			JavaCodeLensDefinition definition = new JavaCodeLensDefinition(ce);
-			synchronized (javaCodeLensDefinitions) {
-				javaCodeLensDefinitions.add(definition);
-			}
-			break;
-		}
-		case COMPLETION_ELT: {
-			JavaCompletionDefinition definition = new JavaCompletionDefinition(ce);
-			synchronized (javaCompletionDefinitions) {
-				javaCompletionDefinitions.add(definition);
-			}
-			break;
-		}
-		case DIAGNOSTICS_ELT: {
-			JavaDiagnosticsDefinition definition = new JavaDiagnosticsDefinition(ce);
-			synchronized (javaDiagnosticsDefinitions) {
-				javaDiagnosticsDefinitions.add(definition);
-			}
-			break;
-		}
-		case DEFINITION_ELT: {
-			JavaDefinitionDefinition definition = new JavaDefinitionDefinition(ce);
-			synchronized (javaDefinitionDefinitions) {
-				javaDefinitionDefinitions.add(definition);
-			}
-			break;
-		}
-		case HOVER_ELT: {
-			JavaHoverDefinition definition = new JavaHoverDefinition(ce);
-			synchronized (javaHoverDefinitions) {
-				javaHoverDefinitions.add(definition);
-			}
-			break;
-		}
-		case WORKSPACE_SYMBOLS_ELT: {
-			JavaWorkspaceSymbolsDefinition definition = new JavaWorkspaceSymbolsDefinition(ce);
-			synchronized (javaWorkspaceSymbolsDefinitions) {
-				javaWorkspaceSymbolsDefinitions.add(definition);
-			}
-			break;
-		}
-		case JAXRS_ELT : {
-			JaxRsInfoDefinition definition = new JaxRsInfoDefinition(ce);
-			synchronized (jaxRsInfoProviders) {
-				jaxRsInfoProviders.add(definition);
-			}
-			break;
-		}
-		default:
+	private void addRegistryListenerIfNeeded() {
+		if (registryListenerIntialized)
+			return;
+
+		IExtensionRegistry registry = Platform.getExtensionRegistry();
+		registry.addRegistryChangeListener(this, MicroProfileCorePlugin.PLUGIN_ID);
+		registryListenerIntialized = true;
+	}
+
+	public synchronized void destroy() {
+		if (registryListenerIntialized) {
+			Platform.getExtensionRegistry().removeRegistryChangeListener(this);
+			registryListenerIntialized = false;
 		}
+		definitions = null;
 	}
 
 }
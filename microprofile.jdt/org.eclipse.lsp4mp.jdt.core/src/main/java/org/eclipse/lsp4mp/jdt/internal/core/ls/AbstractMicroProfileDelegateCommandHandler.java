@@ -22,6 +22,8 @@ import org.eclipse.jdt.ls.core.internal.IDelegateCommandHandler;
 import org.eclipse.jdt.ls.core.internal.JavaLanguageServerPlugin;
 import org.eclipse.lsp4mp.jdt.core.IMicroProfilePropertiesChangedListener;
 import org.eclipse.lsp4mp.jdt.internal.core.MicroProfilePropertiesListenerManager;
+import org.eclipse.lsp4mp.jdt.internal.jaxrs.java.ServerAvailabilityProbe;
+import org.eclipse.lsp4mp.jdt.internal.jaxrs.java.ServerAvailabilityProbe.IServerAvailabilityListener;
 
 /**
  * Abstract class for MicroProfile JDT LS command handler
@@ -38,6 +40,8 @@ public abstract class AbstractMicroProfileDelegateCommandHandler implements IDel
 	 */
 	private static final String MICROPROFILE_PROPERTIES_CHANGED_COMMAND = "microprofile/propertiesChanged";
 
+	private static final String MICROPROFILE_SERVER_AVAILABILITY_CHANGED_COMMAND = "microprofile/serverAvailabilityChanged";
+
 	private static final IMicroProfilePropertiesChangedListener LISTENER = (event) -> {
 		try {
 			// Execute client command with a timeout of 5 seconds to avoid blocking jobs.
@@ -48,6 +52,17 @@ public abstract class AbstractMicroProfileDelegateCommandHandler implements IDel
 		}
 	};
 
+	private static final IServerAvailabilityListener SERVER_AVAILABILITY_LISTENER = (event) -> {
+		try {
+			// Execute client command with a timeout of 5 seconds to avoid blocking jobs.
+			JavaLanguageServerPlugin.getInstance().getClientConnection().executeClientCommand(
+					Duration.of(5, ChronoUnit.SECONDS), MICROPROFILE_SERVER_AVAILABILITY_CHANGED_COMMAND, event);
+		} catch (Exception e) {
+			LOGGER.log(Level.SEVERE,
+					"Error while sending 'microprofile/serverAvailabilityChanged' event to the client", e);
+		}
+	};
+
 	private static boolean initialized;
 
 	public AbstractMicroProfileDelegateCommandHandler() {
@@ -55,7 +70,8 @@ public abstract class AbstractMicroProfileDelegateCommandHandler implements IDel
 	}
 
 	/**
-	 * Add MicroProfile properties changed listener if needed.
+	 * Add MicroProfile properties changed and server availability listeners if
+	 * needed.
 	 */
 	private static synchronized void initialize() {
 		if (initialized) {
@@ -64,6 +80,9 @@ public abstract class AbstractMicroProfileDelegateCommandHandler implements IDel
 		// Add a classpath changed listener to execute client command
 		// "microprofile/propertiesChanged"
 		MicroProfilePropertiesListenerManager.getInstance().addMicroProfilePropertiesChangedListener(LISTENER);
+		// Add a server availability listener to execute client command
+		// "microprofile/serverAvailabilityChanged"
+		ServerAvailabilityProbe.getInstance().addServerAvailabilityListener(SERVER_AVAILABILITY_LISTENER);
 		initialized = true;
 	}
 }
@@ -13,8 +13,10 @@
 *******************************************************************************/
 package org.eclipse.lsp4mp.jdt.internal.core.ls;
 
+import static org.eclipse.lsp4mp.jdt.internal.core.ls.ArgumentUtils.getBoolean;
 import static org.eclipse.lsp4mp.jdt.internal.core.ls.ArgumentUtils.getFirst;
 import static org.eclipse.lsp4mp.jdt.internal.core.ls.ArgumentUtils.getString;
+import static org.eclipse.lsp4mp.jdt.internal.core.ls.ArgumentUtils.getStringList;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -30,6 +32,7 @@ import org.eclipse.lsp4j.Location;
 import org.eclipse.lsp4mp.commons.DocumentFormat;
 import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
 import org.eclipse.lsp4mp.commons.MicroProfileProjectInfoParams;
+import org.eclipse.lsp4mp.commons.MicroProfileProjectInfosParams;
 import org.eclipse.lsp4mp.commons.MicroProfilePropertiesScope;
 import org.eclipse.lsp4mp.commons.MicroProfilePropertyDefinitionParams;
 import org.eclipse.lsp4mp.commons.MicroProfilePropertyDocumentationParams;
@@ -47,6 +50,8 @@ public class MicroProfileDelegateCommandHandler extends AbstractMicroProfileDele
 
 	private static final String PROJECT_INFO_COMMAND_ID = "microprofile/projectInfo";
 
+	private static final String PROJECT_INFOS_COMMAND_ID = "microprofile/projectInfos";
+
 	private static final String PROPERTY_DEFINITION_COMMAND_ID = "microprofile/propertyDefinition";
 
 	private static final String PROPERTY_DOCUMENTATION_COMMAND_ID = "microprofile/propertyDocumentation";
@@ -56,6 +61,8 @@ public class MicroProfileDelegateCommandHandler extends AbstractMicroProfileDele
 		switch (commandId) {
 		case PROJECT_INFO_COMMAND_ID:
 			return getMicroProfileProjectInfo(arguments, commandId, progress);
+		case PROJECT_INFOS_COMMAND_ID:
+			return getMicroProfileProjectInfos(arguments, commandId, progress);
 		case PROPERTY_DEFINITION_COMMAND_ID:
 			return findDeclaredProperty(arguments, commandId, progress);
 		case PROPERTY_DOCUMENTATION_COMMAND_ID:
@@ -89,27 +96,79 @@ public class MicroProfileDelegateCommandHandler extends AbstractMicroProfileDele
 					"Command '%s' must be called with required MicroProfileProjectInfoParams.uri (application.properties URI)!",
 					commandId));
 		}
+		MicroProfileProjectInfoParams params = new MicroProfileProjectInfoParams(applicationPropertiesUri);
+		params.setScopes(getScopes(obj));
+		params.setDocumentFormat(getDocumentFormat(obj));
+		params.setCompilationUnitURIs(getStringList(obj, "compilationUnitURIs"));
+		params.setDeferredDocumentation(getBoolean(obj, "deferredDocumentation"));
+		params.setBaseVersion(getString(obj, "baseVersion"));
+
+		// Execute the getMicroProfileProjectInfo in a Job to benefit with progress
+		// monitor
+		final MicroProfileProjectInfo[] projectInfo = new MicroProfileProjectInfo[1];
+		joinCollectorJob(Job.create("MicroProfile properties collector", monitor -> {
+			projectInfo[0] = PropertiesManager.getInstance().getMicroProfileProjectInfo(params,
+					JDTUtilsLSImpl.getInstance(), monitor);
+		}));
+		return projectInfo[0];
+	}
+
+	/**
+	 * Returns the MicroProfile project information of several properties files.
+	 *
+	 * @param arguments
+	 * @param commandId
+	 * @param progress
+	 * @return
+	 * @throws Exception
+	 */
+	private static List<MicroProfileProjectInfo> getMicroProfileProjectInfos(List<Object> arguments,
+			String commandId, IProgressMonitor progress) throws Exception {
+		Map<String, Object> obj = getFirst(arguments);
+		if (obj == null) {
+			throw new UnsupportedOperationException(String.format(
+					"Command '%s' must be called with one MicroProfileProjectInfosParams argument!", commandId));
+		}
+		List<String> uris = getStringList(obj, "uris");
+		if (uris == null) {
+			throw new UnsupportedOperationException(String.format(
+					"Command '%s' must be called with required MicroProfileProjectInfosParams.uris (properties file URIs)!",
+					commandId));
+		}
+		MicroProfileProjectInfosParams params = new MicroProfileProjectInfosParams(uris);
+		params.setScopes(getScopes(obj));
+		params.setDocumentFormat(getDocumentFormat(obj));
+		params.setDeferredDocumentation(getBoolean(obj, "deferredDocumentation"));
+
+		// Execute the getMicroProfileProjectInfos in a Job to benefit with progress
+		// monitor
+		final List<MicroProfileProjectInfo> projectInfos = new ArrayList<>();
+		joinCollectorJob(Job.create("MicroProfile properties collector", monitor -> {
+			projectInfos.addAll(PropertiesManager.getInstance().getMicroProfileProjectInfos(params,
+					JDTUtilsLSImpl.getInstance(), monitor));
+		}));
+		return projectInfos;
+	}
+
+	private static List<MicroProfilePropertiesScope> getScopes(Map<String, Object> obj) {
 		List<Number> scopesIndex = (List<Number>) obj.get("scopes");
 		List<MicroProfilePropertiesScope> scopes = new ArrayList<>();
 		for (Number scopeIndex : scopesIndex) {
 			scopes.add(MicroProfilePropertiesScope.forValue(scopeIndex.intValue()));
 		}
+		return scopes;
+	}
+
+	private static DocumentFormat getDocumentFormat(Map<String, Object> obj) {
 		DocumentFormat documentFormat = DocumentFormat.PlainText;
 		Number documentFormatIndex = (Number) obj.get("documentFormat");
 		if (documentFormatIndex != null) {
 			documentFormat = DocumentFormat.forValue(documentFormatIndex.intValue());
 		}
-		MicroProfileProjectInfoParams params = new MicroProfileProjectInfoParams(applicationPropertiesUri);
-		params.setScopes(scopes);
-		params.setDocumentFormat(documentFormat);
+		return documentFormat;
+	}
 
-		// Execute the getMicroProfileProjectInfo in a Job to benefit with progress
-		// monitor
-		final MicroProfileProjectInfo[] projectInfo = new MicroProfileProjectInfo[1];
-		Job job = Job.create("MicroProfile properties collector", monitor -> {
-			projectInfo[0] = PropertiesManager.getInstance().getMicroProfileProjectInfo(params,
-					JDTUtilsLSImpl.getInstance(), monitor);
-		});
+	private static void joinCollectorJob(Job job) throws Exception {
 		job.schedule();
 		try {
 			job.join();
@@ -125,8 +184,6 @@ public class MicroProfileDelegateCommandHandler extends AbstractMicroProfileDele
 				throw new Exception(jobException);
 			}
 		}
-
-		return projectInfo[0];
 	}
 
 	private static Location findDeclaredProperty(List<Object> arguments, String commandId, IProgressMonitor progress)
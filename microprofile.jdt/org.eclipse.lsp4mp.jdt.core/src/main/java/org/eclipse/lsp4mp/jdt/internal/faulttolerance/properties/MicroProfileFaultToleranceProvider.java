@@ -86,8 +86,8 @@ public class MicroProfileFaultToleranceProvider extends AbstractAnnotationTypeRe
 
 		private final List<AnnotationParameter> parameters;
 
-		public AnnotationInfo(IType annotation, IJDTUtils utils, DocumentFormat documentFormat)
-				throws JavaModelException {
+		public AnnotationInfo(IType annotation, IJDTUtils utils, DocumentFormat documentFormat,
+				boolean deferredDocumentation) throws JavaModelException {
 			this.name = annotation.getFullyQualifiedName();
 			this.simpleName = annotation.getElementName();
 			this.parameters = new ArrayList<>();
@@ -103,8 +103,8 @@ public class MicroProfileFaultToleranceProvider extends AbstractAnnotationTypeRe
 					IType returnType = findType(method.getJavaProject(), methodResultTypeName);
 					String type = getPropertyType(returnType, methodResultTypeName);
 
-					// description
-					String description = utils.getJavadoc(method, documentFormat);
+					// description (collected on demand when the documentation is deferred)
+					String description = deferredDocumentation ? null : utils.getJavadoc(method, documentFormat);
 
 					// Method source
 					String sourceType = getSourceType(method);
@@ -196,17 +196,20 @@ public class MicroProfileFaultToleranceProvider extends AbstractAnnotationTypeRe
 
 		private final DocumentFormat documentFormat;
 
+		private final boolean deferredDocumentation;
+
 		private final Map<String, AnnotationInfo> cache;
 
 		private final Set<String> processedAnnotations;
 
 		public MicroProfileFaultToleranceContext(IJavaProject javaProject, IJDTUtils utils,
-				DocumentFormat documentFormat) {
+				DocumentFormat documentFormat, boolean deferredDocumentation) {
 			this.cache = new HashMap<>();
 			this.processedAnnotations = new HashSet<>();
 			this.javaProject = javaProject;
 			this.utils = utils;
 			this.documentFormat = documentFormat;
+			this.deferredDocumentation = deferredDocumentation;
 		}
 
 		public AnnotationInfo getAnnotationInfo(String annotation, IProgressMonitor monitor) throws JavaModelException {
@@ -226,7 +229,7 @@ public class MicroProfileFaultToleranceProvider extends AbstractAnnotationTypeRe
 			// Download sources of MicroProfile Fault Tolerance to retrieve the proper
 			// Javadoc
 			IClassFile classFile = annotation.getClassFile();
-			if (classFile != null) {
+			if (classFile != null && !deferredDocumentation) {
 				try {
 					utils.discoverSource(classFile, monitor);
 				} catch (CoreException e) {
@@ -234,7 +237,7 @@ public class MicroProfileFaultToleranceProvider extends AbstractAnnotationTypeRe
 							"Error while downloading sources for MicroProfile Fault Tolerance dependency", e);
 				}
 			}
-			AnnotationInfo info = new AnnotationInfo(annotation, utils, documentFormat);
+			AnnotationInfo info = new AnnotationInfo(annotation, utils, documentFormat, deferredDocumentation);
 			cache.put(info.getName(), info);
 			return info;
 		}
@@ -411,7 +414,7 @@ public class MicroProfileFaultToleranceProvider extends AbstractAnnotationTypeRe
 				.get(MICROPROFILE_FAULT_TOLERANCE_CONTEXT_KEY);
 		if (mpftContext == null) {
 			mpftContext = new MicroProfileFaultToleranceContext(context.getJavaProject(), context.getUtils(),
-					context.getDocumentFormat());
+					context.getDocumentFormat(), context.isDeferredDocumentation());
 			context.put(MICROPROFILE_FAULT_TOLERANCE_CONTEXT_KEY, mpftContext);
 		}
 		return mpftContext;
@@ -89,13 +89,26 @@ public class DefaultJaxRsInfoProvider implements IJaxRsInfoProvider {
 
 	@Override
 	public Set<ITypeRoot> getAllJaxRsClasses(IJavaProject javaProject, IProgressMonitor monitor) {
+		return getJaxRsClasses(javaProject, new IJavaElement[] { javaProject }, monitor);
+	}
+
+	@Override
+	public Set<ITypeRoot> getJaxRsClasses(IJavaProject javaProject, Collection<ICompilationUnit> units,
+			IProgressMonitor monitor) {
+		if (units.isEmpty()) {
+			return Collections.emptySet();
+		}
+		return getJaxRsClasses(javaProject, units.toArray(new IJavaElement[units.size()]), monitor);
+	}
+
+	private static Set<ITypeRoot> getJaxRsClasses(IJavaProject javaProject, IJavaElement[] elements,
+			IProgressMonitor monitor) {
 		if (monitor.isCanceled()) {
 			return Collections.emptySet();
 		}
 		Set<ITypeRoot> jaxRsClasses = new HashSet<>();
 		SearchEngine engine = new SearchEngine();
-		IJavaSearchScope scope = BasicSearchEngine.createJavaSearchScope(true, new IJavaElement[] { javaProject },
-				IJavaSearchScope.SOURCES);
+		IJavaSearchScope scope = BasicSearchEngine.createJavaSearchScope(true, elements, IJavaSearchScope.SOURCES);
 
 		try {
 			engine.search(SEARCH_PATTERN, new SearchParticipant[] { SearchEngine.getDefaultSearchParticipant() }, scope,
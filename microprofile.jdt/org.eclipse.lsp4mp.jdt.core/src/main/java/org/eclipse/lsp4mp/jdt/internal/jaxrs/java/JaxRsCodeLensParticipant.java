@@ -13,9 +13,6 @@
 *******************************************************************************/
 package org.eclipse.lsp4mp.jdt.internal.jaxrs.java;
 
-import java.io.IOException;
-import java.net.InetSocketAddress;
-import java.net.Socket;
 import java.util.Collections;
 import java.util.List;
 import java.util.logging.Level;
@@ -37,11 +34,9 @@ import org.eclipse.lsp4mp.commons.MicroProfileJavaCodeLensParams;
 import org.eclipse.lsp4mp.jdt.core.java.codelens.IJavaCodeLensParticipant;
 import org.eclipse.lsp4mp.jdt.core.java.codelens.JavaCodeLensContext;
 import org.eclipse.lsp4mp.jdt.core.jaxrs.HttpMethod;
-import org.eclipse.lsp4mp.jdt.core.jaxrs.IJaxRsInfoProvider;
 import org.eclipse.lsp4mp.jdt.core.jaxrs.JaxRsContext;
 import org.eclipse.lsp4mp.jdt.core.jaxrs.JaxRsMethodInfo;
 import org.eclipse.lsp4mp.jdt.core.utils.IJDTUtils;
-import org.eclipse.lsp4mp.jdt.internal.core.java.JavaFeaturesRegistry;
 
 /**
  *
@@ -56,8 +51,6 @@ public class JaxRsCodeLensParticipant implements IJavaCodeLensParticipant {
 
 	private static final String LOCALHOST = "localhost";
 
-	private static final int PING_TIMEOUT = 2000;
-
 	@Override
 	public boolean isAdaptedForCodeLens(JavaCodeLensContext context, IProgressMonitor monitor) throws CoreException {
 		MicroProfileJavaCodeLensParams params = context.getParams();
@@ -67,7 +60,7 @@ public class JaxRsCodeLensParticipant implements IJavaCodeLensParticipant {
 
 		ITypeRoot typeRoot = context.getTypeRoot();
 		// if some jaxrs info provider can provide jaxrs method info for this class, provide lens
-		return getProviderForType(typeRoot, monitor) != null;
+		return JaxRsEndpointIndex.getInstance().getProviderForType(typeRoot, monitor) != null;
 	}
 
 	@Override
@@ -81,16 +74,14 @@ public class JaxRsCodeLensParticipant implements IJavaCodeLensParticipant {
 		JaxRsContext jaxrsContext = JaxRsContext.getJaxRsContext(context);
 		IJDTUtils utils = context.getUtils();
 
-		if (context.getParams().isCheckServerAvailable()
-				&& !isServerAvailable(LOCALHOST, jaxrsContext.getServerPort(), PING_TIMEOUT)) {
+		// Read the last known state of the server, the server is probed in background
+		if (context.getParams().isCheckServerAvailable() && !ServerAvailabilityProbe.getInstance()
+				.isServerAvailable(LOCALHOST, jaxrsContext.getServerPort())) {
 			return Collections.emptyList();
 		}
 
-		IJaxRsInfoProvider provider = getProviderForType(typeRoot, monitor);
-		if (provider == null) {
-			return Collections.emptyList();
-		}
-		List<JaxRsMethodInfo> infos = provider.getJaxRsMethodInfo(typeRoot, jaxrsContext, utils, monitor);
+		List<JaxRsMethodInfo> infos = JaxRsEndpointIndex.getInstance().getJaxRsMethodInfo(typeRoot, jaxrsContext,
+				utils, monitor);
 
 		MicroProfileJavaCodeLensParams params = context.getParams();
 		return infos.stream() //
@@ -106,35 +97,6 @@ public class JaxRsCodeLensParticipant implements IJavaCodeLensParticipant {
 				.collect(Collectors.toList());
 	}
 
-	private static boolean isServerAvailable(String host, int port, int timeout) {
-		try (Socket socket = new Socket()) {
-			socket.connect(new InetSocketAddress(host, port), timeout);
-			return true;
-		} catch (IOException e) {
-			return false;
-		}
-	}
-
-	/**
-	 * Returns the provider that can provide JAX-RS method info for the given class,
-	 * or null if no provider can provide info.
-	 *
-	 * @param typeRoot the class to collect JAX-RS method info for
-	 * @param monitor the progress monitor
-	 * @return the provider that can provide JAX-RS method info for the given class,
-	 *         or null if no provider can provide info
-	 */
-	private static IJaxRsInfoProvider getProviderForType(ITypeRoot typeRoot, IProgressMonitor monitor) {
-		for (IJaxRsInfoProvider provider : JavaFeaturesRegistry.getInstance().getJaxRsInfoProviders()) {
-			if (provider.canProvideJaxRsMethodInfoForClass(typeRoot, monitor)) {
-				return provider;
-			}
-		}
-		LOGGER.severe("Attempted to collect JAX-RS info for " + typeRoot.getElementName()
-				+ ", but no participant was suitable, despite the fact that an earlier check found a suitable participant");
-		return null;
-	}
-
 	/**
 	 * Returns a code lens for the given JAX-RS method information.
 	 *
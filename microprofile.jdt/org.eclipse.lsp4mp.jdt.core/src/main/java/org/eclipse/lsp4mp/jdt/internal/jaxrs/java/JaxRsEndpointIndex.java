@@ -0,0 +1,356 @@
+/*******************************************************************************
+* Copyright (c) 2024 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.jdt.internal.jaxrs.java;
+
+import static org.eclipse.lsp4mp.jdt.core.jaxrs.JaxRsConstants.JAKARTA_WS_RS_APPLICATIONPATH_ANNOTATION;
+import static org.eclipse.lsp4mp.jdt.core.jaxrs.JaxRsConstants.JAVAX_WS_RS_APPLICATIONPATH_ANNOTATION;
+import static org.eclipse.lsp4mp.jdt.core.jaxrs.JaxRsUtils.getJaxRsApplicationPathValue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.ITypeRoot;
+import org.eclipse.jdt.core.search.IJavaSearchConstants;
+import org.eclipse.jdt.core.search.IJavaSearchScope;
+import org.eclipse.jdt.core.search.SearchEngine;
+import org.eclipse.jdt.core.search.SearchMatch;
+import org.eclipse.jdt.core.search.SearchParticipant;
+import org.eclipse.jdt.core.search.SearchPattern;
+import org.eclipse.jdt.core.search.SearchRequestor;
+import org.eclipse.lsp4mp.jdt.core.jaxrs.IJaxRsInfoProvider;
+import org.eclipse.lsp4mp.jdt.core.jaxrs.JaxRsContext;
+import org.eclipse.lsp4mp.jdt.core.jaxrs.JaxRsMethodInfo;
+import org.eclipse.lsp4mp.jdt.core.utils.IJDTUtils;
+import org.eclipse.lsp4mp.jdt.internal.core.AbstractJavaProjectIndex;
+import org.eclipse.lsp4mp.jdt.internal.core.java.JavaFeaturesRegistry;
+
+/**
+ * Index of the JAX-RS endpoints of the Java projects shared by the JAX-RS code
+ * lens and workspace symbols.
+ *
+ * <p>
+ * For each Java project, the index stores :
+ * </p>
+ *
+ * <ul>
+ * <li>the value of the <code>@ApplicationPath</code> annotation.</li>
+ * <li>the JAX-RS resource classes.</li>
+ * <li>the {@link JaxRsMethodInfo} of each JAX-RS resource class.</li>
+ * </ul>
+ *
+ * <p>
+ * The index is loaded with a search the first time a project is used and it is
+ * updated with the Java element deltas : only the changed compilation units are
+ * searched again. The index of a project is removed when its classpath
+ * changes.
+ * </p>
+ *
+ */
+public class JaxRsEndpointIndex extends AbstractJavaProjectIndex<JaxRsEndpointIndex.ProjectEndpoints> {
+
+	private static final Logger LOGGER = Logger.getLogger(JaxRsEndpointIndex.class.getName());
+
+	private static final SearchPattern APPLICATION_PATH_SEARCH_PATTERN = SearchPattern.createOrPattern(
+			SearchPattern.createPattern(JAVAX_WS_RS_APPLICATIONPATH_ANNOTATION, IJavaSearchConstants.ANNOTATION_TYPE,
+					IJavaSearchConstants.ANNOTATION_TYPE_REFERENCE, SearchPattern.R_EXACT_MATCH),
+			SearchPattern.createPattern(JAKARTA_WS_RS_APPLICATIONPATH_ANNOTATION, IJavaSearchConstants.ANNOTATION_TYPE,
+					IJavaSearchConstants.ANNOTATION_TYPE_REFERENCE, SearchPattern.R_EXACT_MATCH));
+
+	private static final JaxRsEndpointIndex INSTANCE = new JaxRsEndpointIndex();
+
+	public static JaxRsEndpointIndex getInstance() {
+		return INSTANCE;
+	}
+
+	/**
+	 * JAX-RS method information of a JAX-RS class computed with a base URL.
+	 */
+	private static class MethodInfos {
+
+		private final String baseURL;
+
+		private final List<JaxRsMethodInfo> infos;
+
+		public MethodInfos(String baseURL, List<JaxRsMethodInfo> infos) {
+			this.baseURL = baseURL;
+			this.infos = infos;
+		}
+	}
+
+	/**
+	 * JAX-RS endpoints of a Java project.
+	 */
+	static class ProjectEndpoints extends AbstractJavaProjectIndex.ProjectIndex {
+
+		// the compilation units changed since the last update of the application
+		// paths
+		private final Set<ICompilationUnit> changedApplicationPathUnits;
+
+		// the compilation units changed since the last update of the JAX-RS classes
+		private final Set<ICompilationUnit> changedJaxRsUnits;
+
+		private final Map<ITypeRoot, MethodInfos> methodInfos;
+
+		// the @ApplicationPath values by compilation unit and null if they are not
+		// loaded
+		private Map<ITypeRoot, String> applicationPaths;
+
+		// the JAX-RS classes and null if they are not loaded
+		private Set<ITypeRoot> jaxRsTypes;
+
+		public ProjectEndpoints() {
+			this.changedApplicationPathUnits = ConcurrentHashMap.newKeySet();
+			this.changedJaxRsUnits = ConcurrentHashMap.newKeySet();
+			this.methodInfos = new ConcurrentHashMap<>();
+		}
+
+		@Override
+		protected void invalidate(ICompilationUnit unit) {
+			changedApplicationPathUnits.add(unit);
+			changedJaxRsUnits.add(unit);
+			methodInfos.remove(unit);
+		}
+	}
+
+	private JaxRsEndpointIndex() {
+	}
+
+	@Override
+	protected ProjectEndpoints createProjectIndex() {
+		return new ProjectEndpoints();
+	}
+
+	/**
+	 * Returns the value of the <code>@ApplicationPath</code> annotation of the
+	 * given project and null if not found.
+	 *
+	 * @param javaProject the Java project.
+	 * @param monitor     the progress monitor.
+	 * @return the value of the <code>@ApplicationPath</code> annotation of the
+	 *         given project and null if not found.
+	 * @throws CoreException
+	 */
+	public String getApplicationPath(IJavaProject javaProject, IProgressMonitor monitor) throws CoreException {
+		if (!isEnabled()) {
+			return getLastValue(searchApplicationPaths(javaProject, monitor));
+		}
+		ProjectEndpoints index = getProjectIndex(javaProject);
+		synchronized (index) {
+			if (index.applicationPaths == null) {
+				index.changedApplicationPathUnits.clear();
+				index.applicationPaths = searchApplicationPaths(javaProject, monitor);
+			} else if (!index.changedApplicationPathUnits.isEmpty()) {
+				List<ICompilationUnit> units = new ArrayList<>(index.changedApplicationPathUnits);
+				index.changedApplicationPathUnits.removeAll(units);
+				for (ICompilationUnit unit : units) {
+					index.applicationPaths.remove(unit);
+					String applicationPath = getApplicationPath(unit);
+					if (applicationPath != null) {
+						index.applicationPaths.put(unit, applicationPath);
+					}
+				}
+			}
+			return getLastValue(index.applicationPaths);
+		}
+	}
+
+	/**
+	 * Returns the JAX-RS classes of the given project.
+	 *
+	 * @param javaProject the Java project.
+	 * @param monitor     the progress monitor.
+	 * @return the JAX-RS classes of the given project and null if the monitor is
+	 *         canceled.
+	 */
+	public Set<ITypeRoot> getJaxRsTypes(IJavaProject javaProject, IProgressMonitor monitor) {
+		if (!isEnabled()) {
+			return searchJaxRsTypes(javaProject, monitor);
+		}
+		ProjectEndpoints index = getProjectIndex(javaProject);
+		synchronized (index) {
+			if (index.jaxRsTypes == null) {
+				index.changedJaxRsUnits.clear();
+				Set<ITypeRoot> jaxRsTypes = searchJaxRsTypes(javaProject, monitor);
+				if (jaxRsTypes == null) {
+					return null;
+				}
+				index.jaxRsTypes = jaxRsTypes;
+			} else if (!index.changedJaxRsUnits.isEmpty()) {
+				List<ICompilationUnit> units = new ArrayList<>(index.changedJaxRsUnits);
+				Set<ITypeRoot> jaxRsTypes = new LinkedHashSet<>();
+				List<ICompilationUnit> existingUnits = new ArrayList<>();
+				for (ICompilationUnit unit : units) {
+					if (unit.exists()) {
+						existingUnits.add(unit);
+					}
+				}
+				if (!existingUnits.isEmpty()) {
+					for (IJaxRsInfoProvider provider : JavaFeaturesRegistry.getInstance().getJaxRsInfoProviders()) {
+						jaxRsTypes.addAll(provider.getJaxRsClasses(javaProject, existingUnits, monitor));
+						if (monitor.isCanceled()) {
+							return null;
+						}
+					}
+				}
+				index.changedJaxRsUnits.removeAll(units);
+				index.jaxRsTypes.removeAll(units);
+				index.jaxRsTypes.addAll(jaxRsTypes);
+			}
+			return Collections.unmodifiableSet(new LinkedHashSet<>(index.jaxRsTypes));
+		}
+	}
+
+	/**
+	 * Returns the JAX-RS method information of the given JAX-RS class.
+	 *
+	 * @param typeRoot     the JAX-RS class.
+	 * @param jaxrsContext the JAX-RS context.
+	 * @param utils        the JDT utilities.
+	 * @param monitor      the progress monitor.
+	 * @return the JAX-RS method information of the given JAX-RS class and an empty
+	 *         list if no provider can provide information for the class.
+	 */
+	public List<JaxRsMethodInfo> getJaxRsMethodInfo(ITypeRoot typeRoot, JaxRsContext jaxrsContext, IJDTUtils utils,
+			IProgressMonitor monitor) {
+		IJaxRsInfoProvider provider = getProviderForType(typeRoot, monitor);
+		if (provider == null) {
+			return Collections.emptyList();
+		}
+		if (!isEnabled()) {
+			return provider.getJaxRsMethodInfo(typeRoot, jaxrsContext, utils, monitor);
+		}
+		ITypeRoot key = getKey(typeRoot);
+		// the base URL loads the application path
+		String baseURL = jaxrsContext.getLocalBaseURL();
+		ProjectEndpoints index = getProjectIndex(typeRoot.getJavaProject());
+		MethodInfos methodInfos = index.methodInfos.get(key);
+		if (methodInfos != null && methodInfos.baseURL.equals(baseURL)) {
+			return methodInfos.infos;
+		}
+		long stamp = index.getStamp();
+		List<JaxRsMethodInfo> infos = Collections
+				.unmodifiableList(provider.getJaxRsMethodInfo(typeRoot, jaxrsContext, utils, monitor));
+		if (!monitor.isCanceled() && stamp == index.getStamp()) {
+			index.methodInfos.put(key, new MethodInfos(baseURL, infos));
+		}
+		return infos;
+	}
+
+	/**
+	 * Returns the provider that can provide JAX-RS method info for the given class,
+	 * or null if no provider can provide info.
+	 *
+	 * @param typeRoot the class to collect JAX-RS method info for
+	 * @param monitor  the progress monitor
+	 * @return the provider that can provide JAX-RS method info for the given class,
+	 *         or null if no provider can provide info
+	 */
+	public IJaxRsInfoProvider getProviderForType(ITypeRoot typeRoot, IProgressMonitor monitor) {
+		for (IJaxRsInfoProvider provider : JavaFeaturesRegistry.getInstance().getJaxRsInfoProviders()) {
+			if (provider.canProvideJaxRsMethodInfoForClass(typeRoot, monitor)) {
+				return provider;
+			}
+		}
+		LOGGER.severe("Attempted to collect JAX-RS info for " + typeRoot.getElementName()
+				+ ", but no participant was suitable, despite the fact that an earlier check found a suitable participant");
+		return null;
+	}
+
+	private static String getLastValue(Map<ITypeRoot, String> applicationPaths) {
+		// like the search, the last found value is used
+		String applicationPath = null;
+		for (String value : applicationPaths.values()) {
+			applicationPath = value;
+		}
+		return applicationPath;
+	}
+
+	private static Set<ITypeRoot> searchJaxRsTypes(IJavaProject javaProject, IProgressMonitor monitor) {
+		Set<ITypeRoot> jaxRsTypes = new LinkedHashSet<>();
+		for (IJaxRsInfoProvider provider : JavaFeaturesRegistry.getInstance().getJaxRsInfoProviders()) {
+			jaxRsTypes.addAll(provider.getAllJaxRsClasses(javaProject, monitor));
+			if (monitor.isCanceled()) {
+				return null;
+			}
+		}
+		return jaxRsTypes;
+	}
+
+	/**
+	 * Use the java search engine to search the java project for the location and
+	 * value of the @ApplicationPath annotation.
+	 *
+	 * @param javaProject the Java project
+	 * @param monitor     the progress monitor
+	 * @return the values of the @ApplicationPath annotation by compilation unit.
+	 * @throws CoreException
+	 */
+	private static Map<ITypeRoot, String> searchApplicationPaths(IJavaProject javaProject, IProgressMonitor monitor)
+			throws CoreException {
+		Map<ITypeRoot, String> applicationPaths = new LinkedHashMap<>();
+		SearchEngine engine = new SearchEngine();
+		engine.search(APPLICATION_PATH_SEARCH_PATTERN, new SearchParticipant[] {
+				SearchEngine.getDefaultSearchParticipant()
+		}, SearchEngine.createJavaSearchScope(new IJavaProject[] {
+				javaProject
+		}, IJavaSearchScope.SOURCES), new SearchRequestor() {
+
+			@Override
+			public void acceptSearchMatch(SearchMatch match) throws CoreException {
+				Object o = match.getElement();
+				if (o instanceof IType type) {
+					String applicationPathValue = getJaxRsApplicationPathValue(type);
+					if (applicationPathValue != null) {
+						ITypeRoot typeRoot = getKey(type.getTypeRoot());
+						applicationPaths.remove(typeRoot);
+						applicationPaths.put(typeRoot, applicationPathValue);
+					}
+				}
+			}
+		}, monitor);
+		return applicationPaths;
+	}
+
+	private static String getApplicationPath(ICompilationUnit unit) {
+		if (!unit.exists()) {
+			return null;
+		}
+		try {
+			String applicationPath = null;
+			for (IType type : unit.getAllTypes()) {
+				String value = getJaxRsApplicationPathValue(type);
+				if (value != null) {
+					applicationPath = value;
+				}
+			}
+			return applicationPath;
+		} catch (CoreException e) {
+			LOGGER.log(Level.WARNING, "Error while getting @ApplicationPath of '" + unit.getElementName() + "'.", e);
+			return null;
+		}
+	}
+}
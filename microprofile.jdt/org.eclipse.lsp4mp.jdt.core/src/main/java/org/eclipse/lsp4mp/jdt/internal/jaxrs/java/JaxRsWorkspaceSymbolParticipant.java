@@ -16,7 +16,6 @@ package org.eclipse.lsp4mp.jdt.internal.jaxrs.java;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.logging.Level;
@@ -32,11 +31,9 @@ import org.eclipse.lsp4j.Range;
 import org.eclipse.lsp4j.SymbolInformation;
 import org.eclipse.lsp4j.SymbolKind;
 import org.eclipse.lsp4mp.jdt.core.java.symbols.IJavaWorkspaceSymbolsParticipant;
-import org.eclipse.lsp4mp.jdt.core.jaxrs.IJaxRsInfoProvider;
 import org.eclipse.lsp4mp.jdt.core.jaxrs.JaxRsContext;
 import org.eclipse.lsp4mp.jdt.core.jaxrs.JaxRsMethodInfo;
 import org.eclipse.lsp4mp.jdt.core.utils.IJDTUtils;
-import org.eclipse.lsp4mp.jdt.internal.core.java.JavaFeaturesRegistry;
 
 /**
  * Collects workspace symbols for JAX-RS REST endpoints.
@@ -52,16 +49,14 @@ public class JaxRsWorkspaceSymbolParticipant implements IJavaWorkspaceSymbolsPar
 		}
 
 		JaxRsContext jaxrsContext = new JaxRsContext(project);
-		Set<ITypeRoot> jaxrsTypes = getAllJaxRsTypes(project, monitor);
+		JaxRsEndpointIndex index = JaxRsEndpointIndex.getInstance();
+		Set<ITypeRoot> jaxrsTypes = index.getJaxRsTypes(project, monitor);
 		if (monitor.isCanceled()) {
 			return;
 		}
 		List<JaxRsMethodInfo> methodsInfo = new ArrayList<>();
 		for (ITypeRoot typeRoot : jaxrsTypes) {
-			IJaxRsInfoProvider provider = getProviderForType(typeRoot, monitor);
-			if (provider != null) {
-				methodsInfo.addAll(provider.getJaxRsMethodInfo(typeRoot, jaxrsContext, utils, monitor));
-			}
+			methodsInfo.addAll(index.getJaxRsMethodInfo(typeRoot, jaxrsContext, utils, monitor));
 			if (monitor.isCanceled()) {
 				return;
 			}
@@ -76,37 +71,6 @@ public class JaxRsWorkspaceSymbolParticipant implements IJavaWorkspaceSymbolsPar
 		});
 	}
 
-	/**
-	 * Returns the provider that can provide JAX-RS method info for the given class,
-	 * or null if no provider can provide info.
-	 *
-	 * @param typeRoot the class to collect JAX-RS method info for
-	 * @param monitor the progress monitor
-	 * @return the provider that can provide JAX-RS method info for the given class,
-	 *         or null if no provider can provide info
-	 */
-	private static IJaxRsInfoProvider getProviderForType(ITypeRoot typeRoot, IProgressMonitor monitor) {
-		for (IJaxRsInfoProvider provider : JavaFeaturesRegistry.getInstance().getJaxRsInfoProviders()) {
-			if (provider.canProvideJaxRsMethodInfoForClass(typeRoot, monitor)) {
-				return provider;
-			}
-		}
-		LOGGER.severe("Attempted to collect JAX-RS info for " + typeRoot.getElementName()
-				+ ", but no participant was suitable, despite the fact that an earlier check found a suitable participant");
-		return null;
-	}
-
-	private static Set<ITypeRoot> getAllJaxRsTypes(IJavaProject javaProject, IProgressMonitor monitor) {
-		Set<ITypeRoot> jaxrsTypes = new HashSet<>();
-		for (IJaxRsInfoProvider provider : JavaFeaturesRegistry.getInstance().getJaxRsInfoProviders()) {
-			jaxrsTypes.addAll(provider.getAllJaxRsClasses(javaProject, monitor));
-			if (monitor.isCanceled()) {
-				return null;
-			}
-		}
-		return jaxrsTypes;
-	}
-
 	private static SymbolInformation createSymbol(JaxRsMethodInfo methodInfo, IJDTUtils utils) throws JavaModelException, MalformedURLException {
 		ISourceRange sourceRange = methodInfo.getJavaMethod().getNameRange();
 		Range r = utils.toRange(methodInfo.getJavaMethod().getOpenable(), sourceRange.getOffset(), sourceRange.getLength());
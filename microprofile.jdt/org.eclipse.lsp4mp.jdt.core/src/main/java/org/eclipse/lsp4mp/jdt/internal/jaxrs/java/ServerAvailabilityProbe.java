@@ -0,0 +1,334 @@
+/*******************************************************************************
+* Copyright (c) 2024 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.jdt.internal.jaxrs.java;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.eclipse.lsp4mp.commons.MicroProfileServerAvailabilityChangeEvent;
+
+/**
+ * Tracks the availability of the servers which serve the JAX-RS endpoints.
+ *
+ * <p>
+ * {@link #isServerAvailable(String, int)} never blocks : it returns the last
+ * known state of the server (unavailable when the server has never been
+ * probed) and schedules a probe when this state is older than the time to live.
+ * The probes are done in a background thread with non-blocking connects and
+ * the listeners are notified when the state of a server changes, in order to
+ * refresh the code lenses.
+ * </p>
+ *
+ */
+public class ServerAvailabilityProbe {
+
+	private static final Logger LOGGER = Logger.getLogger(ServerAvailabilityProbe.class.getName());
+
+	private static final String TIME_TO_LIVE_PROPERTY = "org.eclipse.lsp4mp.jdt.core.serverAvailabilityTimeToLive";
+
+	private static final long DEFAULT_TIME_TO_LIVE = 3000;
+
+	private static final long CONNECT_TIMEOUT = 2000;
+
+	private static final ServerAvailabilityProbe INSTANCE = new ServerAvailabilityProbe();
+
+	public static ServerAvailabilityProbe getInstance() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Server availability listener.
+	 */
+	public interface IServerAvailabilityListener {
+
+		/**
+		 * Notify that a server becomes available or unavailable.
+		 *
+		 * @param event the server availability change event.
+		 */
+		void serverAvailabilityChanged(MicroProfileServerAvailabilityChangeEvent event);
+	}
+
+	private static class ServerState {
+
+		private final String host;
+
+		private final int port;
+
+		private final AtomicBoolean probing;
+
+		private volatile boolean available;
+
+		private volatile long checkedAt;
+
+		private volatile boolean checked;
+
+		public ServerState(String host, int port) {
+			this.host = host;
+			this.port = port;
+			this.probing = new AtomicBoolean();
+		}
+
+		public boolean isStale(long timeToLive) {
+			return !checked || System.nanoTime() - checkedAt > TimeUnit.MILLISECONDS.toNanos(timeToLive);
+		}
+	}
+
+	private static class Probe {
+
+		private final ServerState state;
+
+		private final long deadline;
+
+		public Probe(ServerState state, long deadline) {
+			this.state = state;
+			this.deadline = deadline;
+		}
+	}
+
+	private final Map<String, ServerState> states;
+
+	private final Queue<ServerState> pendingProbes;
+
+	private final List<IServerAvailabilityListener> listeners;
+
+	private long timeToLive;
+
+	private Selector selector;
+
+	public ServerAvailabilityProbe() {
+		this.states = new ConcurrentHashMap<>();
+		this.pendingProbes = new ConcurrentLinkedQueue<>();
+		this.listeners = new CopyOnWriteArrayList<>();
+		this.timeToLive = Long.getLong(TIME_TO_LIVE_PROPERTY, DEFAULT_TIME_TO_LIVE);
+	}
+
+	/**
+	 * Returns true if the last probe of the server with the given host and port
+	 * succeeded and false otherwise. A probe is scheduled if the state of the
+	 * server is unknown or too old.
+	 *
+	 * @param host the host of the server.
+	 * @param port the port of the server.
+	 * @return true if the last probe of the server with the given host and port
+	 *         succeeded and false otherwise.
+	 */
+	public boolean isServerAvailable(String host, int port) {
+		ServerState state = states.computeIfAbsent(host + ":" + port, k -> new ServerState(host, port));
+		if (state.isStale(timeToLive) && state.probing.compareAndSet(false, true)) {
+			schedule(state);
+		}
+		return state.available;
+	}
+
+	/**
+	 * Add the given server availability listener.
+	 *
+	 * @param listener the listener to add.
+	 */
+	public void addServerAvailabilityListener(IServerAvailabilityListener listener) {
+		listeners.add(listener);
+	}
+
+	/**
+	 * Remove the given server availability listener.
+	 *
+	 * @param listener the listener to remove.
+	 */
+	public void removeServerAvailabilityListener(IServerAvailabilityListener listener) {
+		listeners.remove(listener);
+	}
+
+	/**
+	 * Returns the time (in milliseconds) while the state of a server is used
+	 * without probing the server again.
+	 *
+	 * @return the time (in milliseconds) while the state of a server is used
+	 *         without probing the server again.
+	 */
+	public long getTimeToLive() {
+		return timeToLive;
+	}
+
+	/**
+	 * Set the time (in milliseconds) while the state of a server is used without
+	 * probing the server again.
+	 *
+	 * @param timeToLive the time (in milliseconds) while the state of a server is
+	 *                   used without probing the server again.
+	 */
+	public void setTimeToLive(long timeToLive) {
+		this.timeToLive = timeToLive;
+	}
+
+	/**
+	 * Stop the probes and forget the state of the servers.
+	 */
+	public synchronized void destroy() {
+		if (selector != null) {
+			try {
+				selector.close();
+			} catch (IOException e) {
+				LOGGER.log(Level.WARNING, "Error while closing the server availability selector", e);
+			}
+			selector = null;
+		}
+		pendingProbes.clear();
+		states.clear();
+	}
+
+	private synchronized void schedule(ServerState state) {
+		try {
+			if (selector == null) {
+				selector = Selector.open();
+				Selector probeSelector = selector;
+				Thread thread = new Thread(() -> run(probeSelector), "LSP4MP server availability probe");
+				thread.setDaemon(true);
+				thread.start();
+			}
+			pendingProbes.add(state);
+			selector.wakeup();
+		} catch (IOException e) {
+			LOGGER.log(Level.WARNING, "Error while opening the server availability selector", e);
+			state.probing.set(false);
+		}
+	}
+
+	private void run(Selector selector) {
+		try {
+			while (selector.isOpen()) {
+				registerPendingProbes(selector);
+				selector.select(getSelectTimeout(selector));
+				Iterator<SelectionKey> selectedKeys = selector.selectedKeys().iterator();
+				while (selectedKeys.hasNext()) {
+					SelectionKey key = selectedKeys.next();
+					selectedKeys.remove();
+					Probe probe = (Probe) key.attachment();
+					SocketChannel channel = (SocketChannel) key.channel();
+					boolean available;
+					try {
+						available = channel.finishConnect();
+					} catch (IOException e) {
+						// Connection refused, etc : the server is not available, it is an expected
+						// result of the probe
+						LOGGER.log(Level.FINE, "Server '" + probe.state.host + ":" + probe.state.port
+								+ "' is not available", e);
+						available = false;
+					}
+					done(probe.state, available, channel);
+				}
+				// The servers which don't answer before the timeout are unavailable
+				long now = System.nanoTime();
+				for (SelectionKey key : selector.keys()) {
+					Probe probe = (Probe) key.attachment();
+					if (key.isValid() && now - probe.deadline >= 0) {
+						done(probe.state, false, (SocketChannel) key.channel());
+					}
+				}
+			}
+		} catch (ClosedSelectorException e) {
+			// The probe has been destroyed while probing, it is not an error
+			LOGGER.log(Level.FINE, "Server availability selector closed", e);
+		} catch (IOException e) {
+			LOGGER.log(Level.WARNING, "Error while probing the servers availability", e);
+		}
+	}
+
+	private void registerPendingProbes(Selector selector) {
+		ServerState state = null;
+		while ((state = pendingProbes.poll()) != null) {
+			SocketChannel channel = null;
+			try {
+				channel = SocketChannel.open();
+				channel.configureBlocking(false);
+				if (channel.connect(new InetSocketAddress(state.host, state.port))) {
+					done(state, true, channel);
+				} else {
+					channel.register(selector, SelectionKey.OP_CONNECT,
+							new Probe(state, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(CONNECT_TIMEOUT)));
+				}
+			} catch (ClosedSelectorException e) {
+				throw e;
+			} catch (Exception e) {
+				// Connection refused, unresolved host, etc : the server is not available, it
+				// is an expected result of the probe
+				LOGGER.log(Level.FINE, "Server '" + state.host + ":" + state.port + "' is not available", e);
+				done(state, false, channel);
+			}
+		}
+	}
+
+	private static long getSelectTimeout(Selector selector) {
+		long deadline = Long.MAX_VALUE;
+		for (SelectionKey key : selector.keys()) {
+			Probe probe = (Probe) key.attachment();
+			if (deadline == Long.MAX_VALUE || probe.deadline - deadline < 0) {
+				deadline = probe.deadline;
+			}
+		}
+		if (deadline == Long.MAX_VALUE) {
+			// no pending probe, wait for a new probe
+			return 0;
+		}
+		return Math.max(1, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime()));
+	}
+
+	private void done(ServerState state, boolean available, SocketChannel channel) {
+		if (channel != null) {
+			try {
+				channel.close();
+			} catch (IOException e) {
+				// The channel is not used anymore, an error while closing it doesn't change
+				// the availability of the server
+				LOGGER.log(Level.FINE, "Error while closing the server availability channel", e);
+			}
+		}
+		boolean oldAvailable = state.available;
+		state.available = available;
+		state.checkedAt = System.nanoTime();
+		state.checked = true;
+		state.probing.set(false);
+		if (oldAvailable != available && !listeners.isEmpty()) {
+			MicroProfileServerAvailabilityChangeEvent event = new MicroProfileServerAvailabilityChangeEvent(
+					state.host, state.port, available);
+			// Notify the listeners outside the probe thread to avoid delaying the other
+			// probes
+			CompletableFuture.runAsync(() -> {
+				for (IServerAvailabilityListener listener : listeners) {
+					try {
+						listener.serverAvailabilityChanged(event);
+					} catch (Exception e) {
+						LOGGER.log(Level.WARNING, "Error while notifying the server availability change", e);
+					}
+				}
+			});
+		}
+	}
+}
@@ -0,0 +1,190 @@
+/*******************************************************************************
+* Copyright (c) 2024 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.jdt.core;
+
+import static org.eclipse.lsp4mp.jdt.core.MicroProfileAssert.assertHintsDuplicate;
+import static org.eclipse.lsp4mp.jdt.core.MicroProfileAssert.assertPropertiesDuplicate;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.lsp4mp.commons.ClasspathKind;
+import org.eclipse.lsp4mp.commons.DocumentFormat;
+import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
+import org.eclipse.lsp4mp.commons.MicroProfilePropertiesScope;
+import org.eclipse.lsp4mp.commons.metadata.ConfigurationMetadata;
+import org.eclipse.lsp4mp.commons.metadata.ItemHint;
+import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
+import org.eclipse.lsp4mp.jdt.internal.core.JarPropertiesCache;
+import org.eclipse.lsp4mp.jdt.internal.core.PropertiesProviderRegistry;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test collection of MicroProfile properties with the {@link JarPropertiesCache}
+ * : a warm scan must use the cache and collect the same properties than a cold
+ * scan.
+ *
+ */
+public class PropertiesManagerCacheTest extends BasePropertiesManagerTest {
+
+	private static final Logger LOGGER = Logger.getLogger(PropertiesManagerCacheTest.class.getSimpleName());
+
+	private boolean oldEnabled;
+
+	@Before
+	public void enableCache() {
+		JarPropertiesCache cache = JarPropertiesCache.getInstance();
+		oldEnabled = cache.isEnabled();
+		cache.setEnabled(true);
+		cache.clear();
+	}
+
+	@After
+	public void restoreCache() {
+		JarPropertiesCache cache = JarPropertiesCache.getInstance();
+		cache.clear();
+		cache.setEnabled(oldEnabled);
+	}
+
+	@Test
+	public void coldAndWarmScan() throws Exception {
+		JarPropertiesCache cache = JarPropertiesCache.getInstance();
+		IJavaProject javaProject = loadMavenProject(MicroProfileMavenProjectName.hibernate_orm_resteasy);
+
+		// Cold scan : all JARs are searched
+		long start = System.currentTimeMillis();
+		MicroProfileProjectInfo coldInfo = getMicroProfileProjectInfo(javaProject);
+		long coldTime = System.currentTimeMillis() - start;
+		Assert.assertEquals(0, cache.getHitCount());
+		long jarCount = cache.getMissCount();
+		Assert.assertTrue("JARs should be searched on cold scan", jarCount > 0);
+
+		// Warm scan : all JARs come from the cache
+		cache.resetStatistics();
+		start = System.currentTimeMillis();
+		MicroProfileProjectInfo warmInfo = getMicroProfileProjectInfo(javaProject);
+		long warmTime = System.currentTimeMillis() - start;
+		Assert.assertEquals(jarCount, cache.getHitCount());
+		Assert.assertEquals(0, cache.getMissCount());
+
+		LOGGER.info("Properties scan of '" + javaProject.getElementName() + "' with " + jarCount + " JARs: cold="
+				+ coldTime + "ms, warm=" + warmTime + "ms");
+
+		Assert.assertEquals(getPropertyNames(coldInfo.getProperties()), getPropertyNames(warmInfo.getProperties()));
+		Assert.assertEquals(getHintNames(coldInfo.getHints()), getHintNames(warmInfo.getHints()));
+		assertPropertiesDuplicate(warmInfo);
+		assertHintsDuplicate(warmInfo);
+	}
+
+	@Test
+	public void cacheDisabled() throws Exception {
+		JarPropertiesCache cache = JarPropertiesCache.getInstance();
+		cache.setEnabled(false);
+		IJavaProject javaProject = loadMavenProject(MicroProfileMavenProjectName.hibernate_orm_resteasy);
+
+		getMicroProfileProjectInfo(javaProject);
+		getMicroProfileProjectInfo(javaProject);
+		Assert.assertEquals(0, cache.getHitCount());
+		Assert.assertEquals(0, cache.getMissCount());
+	}
+
+	@Test
+	public void entryKeyedByJar() throws Exception {
+		JarPropertiesCache cache = JarPropertiesCache.getInstance();
+		List<IPropertiesProvider> providers = PropertiesProviderRegistry.getInstance().getProviders();
+		File jar = File.createTempFile("lsp4mp-cache", ".jar");
+		File otherJar = File.createTempFile("lsp4mp-cache-other", ".jar");
+		try {
+			Files.write(jar.toPath(), new byte[] { 1, 2, 3 });
+			Set<String> classpath = new HashSet<>(Arrays.asList(jar.getPath(), otherJar.getPath()));
+			cache.put(jar, Collections.emptyList(), DocumentFormat.Markdown, false, providers,
+					new ConfigurationMetadata());
+			Assert.assertNotNull(cache.get(jar, classpath, DocumentFormat.Markdown, false, providers));
+
+			// the document format and the deferred documentation flag are part of the key
+			Assert.assertNull(cache.get(jar, classpath, DocumentFormat.PlainText, false, providers));
+			Assert.assertNull(cache.get(jar, classpath, DocumentFormat.Markdown, true, providers));
+
+			// an other JAR of the classpath is updated, or the classpath is not the same
+			// (ex : another project)
+			Files.write(otherJar.toPath(), new byte[] { 4, 5 });
+			Assert.assertNotNull(cache.get(jar, classpath, DocumentFormat.Markdown, false, providers));
+			Assert.assertNotNull(cache.get(jar, Collections.singleton(jar.getPath()), DocumentFormat.Markdown,
+					false, providers));
+		} finally {
+			jar.delete();
+			otherJar.delete();
+		}
+	}
+
+	@Test
+	public void entryInvalidatedByDependency() throws Exception {
+		JarPropertiesCache cache = JarPropertiesCache.getInstance();
+		List<IPropertiesProvider> providers = PropertiesProviderRegistry.getInstance().getProviders();
+		File jar = File.createTempFile("lsp4mp-cache", ".jar");
+		File dependencyJar = File.createTempFile("lsp4mp-cache-dependency", ".jar");
+		try {
+			Files.write(jar.toPath(), new byte[] { 1, 2, 3 });
+			Set<String> classpath = new HashSet<>(Arrays.asList(jar.getPath(), dependencyJar.getPath()));
+			cache.put(jar, Collections.singletonList(dependencyJar), DocumentFormat.Markdown, false, providers,
+					new ConfigurationMetadata());
+			Assert.assertNotNull(cache.get(jar, classpath, DocumentFormat.Markdown, false, providers));
+
+			// the JAR which declares the types of the properties is not in the classpath
+			Assert.assertNull(cache.get(jar, Collections.singleton(jar.getPath()), DocumentFormat.Markdown, false,
+					providers));
+
+			// the JAR which declares the types of the properties is updated
+			cache.put(jar, Collections.singletonList(dependencyJar), DocumentFormat.Markdown, false, providers,
+					new ConfigurationMetadata());
+			Files.write(dependencyJar.toPath(), new byte[] { 4, 5 });
+			Assert.assertNull(cache.get(jar, classpath, DocumentFormat.Markdown, false, providers));
+		} finally {
+			jar.delete();
+			dependencyJar.delete();
+		}
+	}
+
+	private static MicroProfileProjectInfo getMicroProfileProjectInfo(IJavaProject javaProject) throws Exception {
+		return PropertiesManager.getInstance().getMicroProfileProjectInfo(javaProject,
+				MicroProfilePropertiesScope.SOURCES_AND_DEPENDENCIES, ClasspathKind.SRC, JDT_UTILS,
+				DocumentFormat.Markdown, new NullProgressMonitor());
+	}
+
+	private static List<String> getPropertyNames(List<ItemMetadata> properties) {
+		return properties.stream().map(ItemMetadata::getName).sorted().collect(Collectors.toList());
+	}
+
+	private static List<String> getHintNames(List<ItemHint> hints) {
+		return hints.stream() //
+				.map(hint -> hint.getName() + "=" + hint.getValues().stream() //
+						.map(value -> value.getValue()) //
+						.sorted() //
+						.collect(Collectors.joining(","))) //
+				.sorted() //
+				.collect(Collectors.toList());
+	}
+}
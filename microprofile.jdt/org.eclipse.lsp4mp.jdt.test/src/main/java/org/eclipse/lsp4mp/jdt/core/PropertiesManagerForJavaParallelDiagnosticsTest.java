@@ -0,0 +1,98 @@
+/*******************************************************************************
+* Copyright (c) 2024 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.jdt.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.eclipse.core.resources.IFolder;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.Path;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.lsp4j.PublishDiagnosticsParams;
+import org.eclipse.lsp4mp.commons.DocumentFormat;
+import org.eclipse.lsp4mp.commons.MicroProfileJavaDiagnosticsParams;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test Java diagnostics with the parallel diagnostics : it must collect the
+ * same diagnostics than the serial diagnostics.
+ *
+ */
+public class PropertiesManagerForJavaParallelDiagnosticsTest extends BasePropertiesManagerTest {
+
+	private boolean oldParallelDiagnostics;
+
+	@Before
+	public void saveParallelDiagnostics() {
+		oldParallelDiagnostics = PropertiesManagerForJava.getInstance().isParallelDiagnostics();
+	}
+
+	@After
+	public void restoreParallelDiagnostics() {
+		PropertiesManagerForJava.getInstance().setParallelDiagnostics(oldParallelDiagnostics);
+	}
+
+	@Test
+	public void parallelAndSerialDiagnostics() throws Exception {
+		IJavaProject javaProject = loadMavenProject(MicroProfileMavenProjectName.rest_client_quickstart);
+		IFolder folder = javaProject.getProject().getFolder(new Path("src/main/java/org/acme/restclient"));
+		List<String> uris = new ArrayList<>();
+		for (IResource member : folder.members()) {
+			uris.add(member.getLocation().toFile().toURI().toString());
+		}
+		MicroProfileJavaDiagnosticsParams params = new MicroProfileJavaDiagnosticsParams();
+		params.setUris(uris);
+		params.setDocumentFormat(DocumentFormat.Markdown);
+
+		PropertiesManagerForJava.getInstance().setParallelDiagnostics(false);
+		List<PublishDiagnosticsParams> serialDiagnostics = PropertiesManagerForJava.getInstance()
+				.diagnostics(params, JDT_UTILS, new NullProgressMonitor());
+
+		PropertiesManagerForJava.getInstance().setParallelDiagnostics(true);
+		List<PublishDiagnosticsParams> parallelDiagnostics = PropertiesManagerForJava.getInstance()
+				.diagnostics(params, JDT_UTILS, new NullProgressMonitor());
+
+		Assert.assertEquals(uris.size(), serialDiagnostics.size());
+		Assert.assertEquals(serialDiagnostics, parallelDiagnostics);
+		// the diagnostics are returned in the order of the uris
+		Assert.assertEquals(uris, parallelDiagnostics.stream() //
+				.map(PublishDiagnosticsParams::getUri) //
+				.collect(Collectors.toList()));
+	}
+
+	@Test
+	public void cancelParallelDiagnostics() throws Exception {
+		IJavaProject javaProject = loadMavenProject(MicroProfileMavenProjectName.rest_client_quickstart);
+		IFolder folder = javaProject.getProject().getFolder(new Path("src/main/java/org/acme/restclient"));
+		List<String> uris = new ArrayList<>();
+		for (IResource member : folder.members()) {
+			uris.add(member.getLocation().toFile().toURI().toString());
+		}
+		MicroProfileJavaDiagnosticsParams params = new MicroProfileJavaDiagnosticsParams();
+		params.setUris(uris);
+		params.setDocumentFormat(DocumentFormat.Markdown);
+
+		PropertiesManagerForJava.getInstance().setParallelDiagnostics(true);
+		NullProgressMonitor monitor = new NullProgressMonitor();
+		monitor.setCanceled(true);
+		Assert.assertTrue(
+				PropertiesManagerForJava.getInstance().diagnostics(params, JDT_UTILS, monitor).isEmpty());
+	}
+}
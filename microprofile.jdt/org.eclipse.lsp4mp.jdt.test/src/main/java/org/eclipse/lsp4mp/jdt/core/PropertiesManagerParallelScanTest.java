@@ -0,0 +1,142 @@
+/*******************************************************************************
+* Copyright (c) 2024 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.jdt.core;
+
+import static org.eclipse.lsp4mp.jdt.core.MicroProfileAssert.assertHintsDuplicate;
+import static org.eclipse.lsp4mp.jdt.core.MicroProfileAssert.assertPropertiesDuplicate;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.lsp4mp.commons.ClasspathKind;
+import org.eclipse.lsp4mp.commons.DocumentFormat;
+import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
+import org.eclipse.lsp4mp.commons.MicroProfilePropertiesScope;
+import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
+import org.eclipse.lsp4mp.jdt.internal.core.JarPropertiesCache;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test collection of MicroProfile properties with the parallel scan : it must
+ * collect the same properties and hints than the serial scan.
+ *
+ */
+public class PropertiesManagerParallelScanTest extends BasePropertiesManagerTest {
+
+	private static final Logger LOGGER = Logger.getLogger(PropertiesManagerParallelScanTest.class.getSimpleName());
+
+	private boolean oldParallelScan;
+
+	private boolean oldCacheEnabled;
+
+	@Before
+	public void disableCache() {
+		oldParallelScan = PropertiesManager.getInstance().isParallelScan();
+		oldCacheEnabled = JarPropertiesCache.getInstance().isEnabled();
+		JarPropertiesCache.getInstance().setEnabled(false);
+	}
+
+	@After
+	public void restore() {
+		PropertiesManager.getInstance().setParallelScan(oldParallelScan);
+		JarPropertiesCache.getInstance().setEnabled(oldCacheEnabled);
+	}
+
+	@Test
+	public void parallelAndSerialScan() throws Exception {
+		IJavaProject javaProject = loadMavenProject(MicroProfileMavenProjectName.hibernate_orm_resteasy);
+
+		PropertiesManager.getInstance().setParallelScan(false);
+		long start = System.currentTimeMillis();
+		MicroProfileProjectInfo serialInfo = getMicroProfileProjectInfo(javaProject);
+		long serialTime = System.currentTimeMillis() - start;
+
+		PropertiesManager.getInstance().setParallelScan(true);
+		start = System.currentTimeMillis();
+		MicroProfileProjectInfo parallelInfo = getMicroProfileProjectInfo(javaProject);
+		long parallelTime = System.currentTimeMillis() - start;
+
+		LOGGER.info("Properties scan of '" + javaProject.getElementName() + "': serial=" + serialTime
+				+ "ms, parallel=" + parallelTime + "ms");
+
+		Assert.assertEquals(getPropertyKeys(serialInfo), getPropertyKeys(parallelInfo));
+		Assert.assertEquals(getHintKeys(serialInfo), getHintKeys(parallelInfo));
+		assertPropertiesDuplicate(parallelInfo);
+		assertHintsDuplicate(parallelInfo);
+	}
+
+	@Test
+	public void sameProjectInfoWithSerialAndParallelScan() throws Exception {
+		// The rest client provider adds the '/mp-rest/*' properties once per search
+		// context (once per search with the serial scan, once per JAR with the
+		// parallel scan) and the hint values of the rest client classes
+		assertSameProjectInfo(loadMavenProject(MicroProfileMavenProjectName.rest_client_quickstart));
+		assertSameProjectInfo(loadMavenProject(MicroProfileMavenProjectName.microprofile_fault_tolerance));
+		assertSameProjectInfo(loadMavenProject(MicroProfileMavenProjectName.hibernate_orm_resteasy));
+	}
+
+	private static void assertSameProjectInfo(IJavaProject javaProject) throws Exception {
+		PropertiesManager.getInstance().setParallelScan(false);
+		MicroProfileProjectInfo serialInfo = getMicroProfileProjectInfo(javaProject);
+		PropertiesManager.getInstance().setParallelScan(true);
+		MicroProfileProjectInfo parallelInfo = getMicroProfileProjectInfo(javaProject);
+
+		// The serial scan shares the search context between the JARs, so a property
+		// added once per search can be collected in another JAR than with the
+		// parallel scan
+		Assert.assertEquals(sortProperties(serialInfo), sortProperties(parallelInfo));
+		Assert.assertEquals(serialInfo.getHints(), parallelInfo.getHints());
+	}
+
+	private static List<ItemMetadata> sortProperties(MicroProfileProjectInfo info) {
+		return info.getProperties().stream() //
+				.sorted(Comparator.comparing(PropertiesManagerParallelScanTest::getPropertyKey)) //
+				.collect(Collectors.toList());
+	}
+
+	private static MicroProfileProjectInfo getMicroProfileProjectInfo(IJavaProject javaProject) throws Exception {
+		return PropertiesManager.getInstance().getMicroProfileProjectInfo(javaProject,
+				MicroProfilePropertiesScope.SOURCES_AND_DEPENDENCIES, ClasspathKind.SRC, JDT_UTILS,
+				DocumentFormat.Markdown, new NullProgressMonitor());
+	}
+
+	private static List<String> getPropertyKeys(MicroProfileProjectInfo info) {
+		return info.getProperties().stream() //
+				.map(PropertiesManagerParallelScanTest::getPropertyKey) //
+				.sorted() //
+				.collect(Collectors.toList());
+	}
+
+	private static String getPropertyKey(ItemMetadata property) {
+		return property.getName() + "#" + property.getSourceType() + "#" + property.getSourceField() + "#"
+				+ property.getSourceMethod();
+	}
+
+	private static List<String> getHintKeys(MicroProfileProjectInfo info) {
+		return info.getHints().stream() //
+				.map(hint -> hint.getName() + "=" + hint.getValues().stream() //
+						.map(value -> value.getValue()) //
+						.sorted() //
+						.collect(Collectors.joining(","))) //
+				.sorted() //
+				.collect(Collectors.toList());
+	}
+}
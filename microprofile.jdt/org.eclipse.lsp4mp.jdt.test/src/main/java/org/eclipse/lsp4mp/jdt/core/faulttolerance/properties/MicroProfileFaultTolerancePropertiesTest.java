@@ -21,9 +21,14 @@ import static org.eclipse.lsp4mp.jdt.core.MicroProfileAssert.h;
 import static org.eclipse.lsp4mp.jdt.core.MicroProfileAssert.p;
 import static org.eclipse.lsp4mp.jdt.core.MicroProfileAssert.vh;
 
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.lsp4mp.commons.ClasspathKind;
+import org.eclipse.lsp4mp.commons.DocumentFormat;
 import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
 import org.eclipse.lsp4mp.commons.MicroProfilePropertiesScope;
 import org.eclipse.lsp4mp.jdt.core.BasePropertiesManagerTest;
+import org.eclipse.lsp4mp.jdt.core.PropertiesManager;
 import org.eclipse.lsp4mp.jdt.internal.faulttolerance.MicroProfileFaultToleranceConstants;
 import org.junit.Test;
 
@@ -110,4 +115,35 @@ public class MicroProfileFaultTolerancePropertiesTest extends BasePropertiesMana
 		assertHintsDuplicate(infoFromClasspath);
 	}
 
+	@Test
+	public void microprofileFaultTolerancePropertiesWithDeferredDocumentation() throws Exception {
+		IJavaProject javaProject = loadMavenProject(MicroProfileMavenProjectName.microprofile_fault_tolerance);
+		MicroProfileProjectInfo infoFromClasspath = PropertiesManager.getInstance().getMicroProfileProjectInfo(
+				javaProject, MicroProfilePropertiesScope.SOURCES_AND_DEPENDENCIES, null, ClasspathKind.SRC, JDT_UTILS,
+				DocumentFormat.Markdown, true, new NullProgressMonitor());
+
+		// The Javadoc of the annotation parameters is not rendered, it is collected on
+		// demand with the source type and method
+		assertProperties(infoFromClasspath,
+
+				p(null, "org.acme.MyClient/Retry/maxRetries", "int", null, false, "org.acme.MyClient", null, null, 0,
+						"3"),
+
+				p(null, "org.acme.MyClient/serviceA/Retry/delay", "long", null, false, "org.acme.MyClient", null,
+						"serviceA()V", 0, "0"),
+
+				p(null, "Asynchronous/enabled", "boolean", "Enabling the policy", false,
+						"org.eclipse.microprofile.faulttolerance.Asynchronous", null, null, 0, "true"),
+
+				p(null, "Bulkhead/value", "int", null, false, "org.eclipse.microprofile.faulttolerance.Bulkhead", null,
+						"value()I", 0, "10"),
+
+				p(null, "MP_Fault_Tolerance_NonFallback_Enabled", "boolean",
+						MicroProfileFaultToleranceConstants.MP_FAULT_TOLERANCE_NONFALLBACK_ENABLED_DESCRIPTION, false,
+						null, null, null, 0, "false")
+
+		);
+
+		assertPropertiesDuplicate(infoFromClasspath);
+	}
 }
@@ -0,0 +1,106 @@
+/*******************************************************************************
+* Copyright (c) 2024 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.jdt.core.jaxrs.java;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.ITypeRoot;
+import org.eclipse.lsp4mp.jdt.core.BasePropertiesManagerTest;
+import org.eclipse.lsp4mp.jdt.core.jaxrs.JaxRsContext;
+import org.eclipse.lsp4mp.jdt.core.jaxrs.JaxRsMethodInfo;
+import org.eclipse.lsp4mp.jdt.internal.jaxrs.java.JaxRsEndpointIndex;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test for {@link JaxRsEndpointIndex} : the index must be updated when Java
+ * files are added or changed.
+ *
+ */
+public class JaxRsEndpointIndexTest extends BasePropertiesManagerTest {
+
+	@Before
+	public void clearIndex() {
+		JaxRsEndpointIndex.getInstance().clear();
+	}
+
+	@Test
+	public void updateIndex() throws Exception {
+		IJavaProject javaProject = loadMavenProject(MicroProfileMavenProjectName.microprofile_applicationpath);
+		JaxRsEndpointIndex index = JaxRsEndpointIndex.getInstance();
+		Assert.assertTrue(index.isEnabled());
+
+		Assert.assertEquals(1, getJaxRsTypeNames(javaProject, index).size());
+		Assert.assertEquals(getJaxRsTypeNames(javaProject, index), getJaxRsTypeNames(javaProject, index));
+
+		// Update the @ApplicationPath
+		Assert.assertEquals("/api", index.getApplicationPath(javaProject, new NullProgressMonitor()));
+		saveFile("org/acme/MyApplication.java", "package org.acme;\r\n" + //
+				"import javax.ws.rs.ApplicationPath;\r\n" + //
+				"import javax.ws.rs.core.Application;\r\n" + //
+				"@ApplicationPath(\"/ipa\")\r\n" + //
+				"public class MyApplication extends Application {}\r\n", javaProject, true);
+		Assert.assertEquals("/ipa", index.getApplicationPath(javaProject, new NullProgressMonitor()));
+
+		// Add a JAX-RS resource
+		saveFile("org/acme/OtherResource.java", "package org.acme;\r\n" + //
+				"import javax.ws.rs.GET;\r\n" + //
+				"import javax.ws.rs.Path;\r\n" + //
+				"@Path(\"/other\")\r\n" + //
+				"public class OtherResource {\r\n" + //
+				"  @GET\r\n" + //
+				"  public String get() { return \"\"; }\r\n" + //
+				"}\r\n", javaProject, true);
+		Set<String> names = getJaxRsTypeNames(javaProject, index);
+		Assert.assertEquals(2, names.size());
+		Assert.assertTrue(names.contains("OtherResource.java"));
+
+		ITypeRoot otherResource = index.getJaxRsTypes(javaProject, new NullProgressMonitor()).stream() //
+				.filter(typeRoot -> "OtherResource.java".equals(typeRoot.getElementName())) //
+				.findFirst().get();
+		List<JaxRsMethodInfo> infos = index.getJaxRsMethodInfo(otherResource, new JaxRsContext(javaProject),
+				JDT_UTILS, new NullProgressMonitor());
+		Assert.assertEquals(1, infos.size());
+		Assert.assertEquals("http://localhost:8080/ipa/other", infos.get(0).getUrl());
+		Assert.assertSame(infos, index.getJaxRsMethodInfo(otherResource, new JaxRsContext(javaProject), JDT_UTILS,
+				new NullProgressMonitor()));
+
+		// Update the JAX-RS resource
+		saveFile("org/acme/OtherResource.java", "package org.acme;\r\n" + //
+				"import javax.ws.rs.GET;\r\n" + //
+				"import javax.ws.rs.POST;\r\n" + //
+				"import javax.ws.rs.Path;\r\n" + //
+				"@Path(\"/other\")\r\n" + //
+				"public class OtherResource {\r\n" + //
+				"  @GET\r\n" + //
+				"  public String get() { return \"\"; }\r\n" + //
+				"  @POST\r\n" + //
+				"  public void post() { }\r\n" + //
+				"}\r\n", javaProject, true);
+		infos = index.getJaxRsMethodInfo(otherResource, new JaxRsContext(javaProject), JDT_UTILS,
+				new NullProgressMonitor());
+		Assert.assertEquals(2, infos.size());
+	}
+
+	private static Set<String> getJaxRsTypeNames(IJavaProject javaProject, JaxRsEndpointIndex index) {
+		return index.getJaxRsTypes(javaProject, new NullProgressMonitor()).stream() //
+				.map(ITypeRoot::getElementName) //
+				.collect(Collectors.toSet());
+	}
+}
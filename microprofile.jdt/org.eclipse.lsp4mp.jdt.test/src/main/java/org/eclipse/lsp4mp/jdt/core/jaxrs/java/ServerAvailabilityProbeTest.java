@@ -0,0 +1,80 @@
+/*******************************************************************************
+* Copyright (c) 2024 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.jdt.core.jaxrs.java;
+
+import java.net.ServerSocket;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.lsp4mp.commons.MicroProfileServerAvailabilityChangeEvent;
+import org.eclipse.lsp4mp.jdt.internal.jaxrs.java.ServerAvailabilityProbe;
+import org.eclipse.lsp4mp.jdt.internal.jaxrs.java.ServerAvailabilityProbe.IServerAvailabilityListener;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test for {@link ServerAvailabilityProbe} : the state of the server is read
+ * without blocking and the listeners are notified when the state changes.
+ *
+ */
+public class ServerAvailabilityProbeTest {
+
+	private ServerAvailabilityProbe probe;
+
+	private BlockingQueue<MicroProfileServerAvailabilityChangeEvent> events;
+
+	@Before
+	public void createProbe() {
+		probe = new ServerAvailabilityProbe();
+		probe.setTimeToLive(0);
+		events = new LinkedBlockingQueue<>();
+		IServerAvailabilityListener listener = events::add;
+		probe.addServerAvailabilityListener(listener);
+	}
+
+	@After
+	public void destroyProbe() {
+		probe.destroy();
+	}
+
+	@Test
+	public void serverAvailabilityChanged() throws Exception {
+		int port;
+		try (ServerSocket server = new ServerSocket(0)) {
+			port = server.getLocalPort();
+			// The server has never been probed
+			Assert.assertFalse(probe.isServerAvailable("localhost", port));
+
+			MicroProfileServerAvailabilityChangeEvent event = events.poll(10, TimeUnit.SECONDS);
+			Assert.assertNotNull(event);
+			Assert.assertEquals(port, event.getPort());
+			Assert.assertTrue(event.isAvailable());
+			Assert.assertTrue(probe.isServerAvailable("localhost", port));
+		}
+
+		// Stop the server
+		MicroProfileServerAvailabilityChangeEvent event = null;
+		long end = System.currentTimeMillis() + 10000;
+		while (event == null && System.currentTimeMillis() < end) {
+			probe.isServerAvailable("localhost", port);
+			event = events.poll(100, TimeUnit.MILLISECONDS);
+		}
+		Assert.assertNotNull(event);
+		Assert.assertFalse(event.isAvailable());
+		Assert.assertFalse(probe.isServerAvailable("localhost", port));
+	}
+}
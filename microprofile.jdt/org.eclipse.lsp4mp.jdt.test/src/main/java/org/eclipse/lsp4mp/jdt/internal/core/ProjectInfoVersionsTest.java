@@ -0,0 +1,160 @@
+/*******************************************************************************
+* Copyright (c) 2024 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.jdt.internal.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
+import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
+import org.junit.Test;
+
+/**
+ * Test for {@link ProjectInfoVersions}.
+ *
+ */
+public class ProjectInfoVersionsTest {
+
+	private static final String KEY = "project#SRC#Markdown#false";
+
+	private static final String PROJECT = "project";
+
+	private static final String UNKNOWN_VERSION = "0";
+
+	@Test
+	public void fullProjectInfoWithoutBaseVersion() {
+		ProjectInfoVersions versions = new ProjectInfoVersions();
+		MicroProfileProjectInfo info = createInfo("a");
+		assertSame(info, versions.update(PROJECT, KEY, info, null));
+		assertNotNull(info.getVersion());
+
+		// the project information is not stored without base version
+		MicroProfileProjectInfo result = versions.update(PROJECT, KEY, createInfo("a", "b"), info.getVersion());
+		assertNull(result.getDelta());
+		assertEquals(2, result.getProperties().size());
+	}
+
+	@Test
+	public void sameVersionWhenUnchanged() {
+		ProjectInfoVersions versions = new ProjectInfoVersions();
+		MicroProfileProjectInfo info = createInfo("a");
+		versions.update(PROJECT, KEY, info, UNKNOWN_VERSION);
+
+		// the properties have not changed, the version is the same
+		MicroProfileProjectInfo sameInfo = createInfo("a");
+		versions.update(PROJECT, KEY, sameInfo, UNKNOWN_VERSION);
+		assertEquals(info.getVersion(), sameInfo.getVersion());
+
+		MicroProfileProjectInfo newInfo = createInfo("a", "b");
+		versions.update(PROJECT, KEY, newInfo, UNKNOWN_VERSION);
+		assertNotEquals(info.getVersion(), newInfo.getVersion());
+	}
+
+	@Test
+	public void deltaSinceBaseVersion() {
+		ProjectInfoVersions versions = new ProjectInfoVersions();
+		MicroProfileProjectInfo v1 = createInfo("a", "b");
+		versions.update(PROJECT, KEY, v1, UNKNOWN_VERSION);
+
+		// a dependency is added
+		MicroProfileProjectInfo result = versions.update(PROJECT, KEY, createInfo("a", "b", "c"), v1.getVersion());
+		assertNull(result.getProperties());
+		assertNotNull(result.getDelta());
+		assertEquals(v1.getVersion(), result.getDelta().getBaseVersion());
+		assertEquals(Arrays.asList("c"), getNames(result.getDelta().getAddedProperties()));
+		String v2 = result.getVersion();
+
+		// an other properties file of the project is loaded with the previous version
+		result = versions.update(PROJECT, KEY, createInfo("a", "b", "c"), v1.getVersion());
+		assertEquals(v2, result.getVersion());
+		assertEquals(Arrays.asList("c"), getNames(result.getDelta().getAddedProperties()));
+
+		// nothing changed since the version 2
+		result = versions.update(PROJECT, KEY, createInfo("a", "b", "c"), v2);
+		assertTrue(result.getDelta().isEmpty());
+
+		// a dependency is removed
+		result = versions.update(PROJECT, KEY, createInfo("a", "c"), v2);
+		assertEquals(Arrays.asList("b"), result.getDelta().getRemovedProperties());
+
+		// the version 1 is not kept anymore
+		result = versions.update(PROJECT, KEY, createInfo("a", "c"), v1.getVersion());
+		assertNull(result.getDelta());
+		assertEquals(2, result.getProperties().size());
+
+		// the versions are kept by key
+		result = versions.update("other", "other#SRC#Markdown#false", createInfo("a", "c"), v2);
+		assertNull(result.getDelta());
+	}
+
+	@Test
+	public void versionsEvictedWithProject() {
+		ProjectInfoVersions versions = new ProjectInfoVersions();
+		MicroProfileProjectInfo info = createInfo("a");
+		versions.update(PROJECT, KEY, info, UNKNOWN_VERSION);
+		MicroProfileProjectInfo otherInfo = createInfo("a");
+		versions.update("other", "other#SRC#Markdown#false", otherInfo, UNKNOWN_VERSION);
+
+		versions.evict(PROJECT);
+		assertNull(versions.update(PROJECT, KEY, createInfo("a", "b"), info.getVersion()).getDelta());
+		assertNotNull(versions.update("other", "other#SRC#Markdown#false", createInfo("a", "b"),
+				otherInfo.getVersion()).getDelta());
+	}
+
+	@Test
+	public void leastRecentlyUsedVersionsEvicted() {
+		ProjectInfoVersions versions = new ProjectInfoVersions(2);
+		MicroProfileProjectInfo info1 = createInfo("a");
+		versions.update("p1", "p1#SRC", info1, UNKNOWN_VERSION);
+		MicroProfileProjectInfo info2 = createInfo("a");
+		versions.update("p2", "p2#SRC", info2, UNKNOWN_VERSION);
+		// p1 is used again, p2 is the least recently used
+		versions.update("p1", "p1#SRC", createInfo("a"), info1.getVersion());
+		versions.update("p3", "p3#SRC", createInfo("a"), UNKNOWN_VERSION);
+
+		assertNotNull(versions.update("p1", "p1#SRC", createInfo("a"), info1.getVersion()).getDelta());
+		assertNull(versions.update("p2", "p2#SRC", createInfo("a"), info2.getVersion()).getDelta());
+	}
+
+	private static MicroProfileProjectInfo createInfo(String... names) {
+		MicroProfileProjectInfo info = new MicroProfileProjectInfo();
+		info.setProjectURI("project");
+		List<ItemMetadata> properties = new ArrayList<>();
+		for (String name : names) {
+			ItemMetadata property = new ItemMetadata();
+			property.setName(name);
+			property.setType("java.lang.String");
+			properties.add(property);
+		}
+		info.setProperties(properties);
+		info.setHints(new ArrayList<>());
+		return info;
+	}
+
+	private static List<String> getNames(List<ItemMetadata> properties) {
+		List<String> names = new ArrayList<>();
+		for (ItemMetadata property : properties) {
+			names.add(property.getName());
+		}
+		return names;
+	}
+}
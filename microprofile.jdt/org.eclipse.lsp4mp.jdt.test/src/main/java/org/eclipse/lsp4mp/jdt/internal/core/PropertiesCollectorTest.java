@@ -19,6 +19,7 @@ import static org.junit.Assert.assertNull;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.logging.Logger;
 
 import org.eclipse.lsp4mp.commons.MicroProfilePropertiesScope;
 import org.eclipse.lsp4mp.commons.metadata.ConfigurationMetadata;
@@ -36,6 +37,8 @@ import org.junit.Test;
  */
 public class PropertiesCollectorTest {
 
+	private static final Logger LOGGER = Logger.getLogger(PropertiesCollectorTest.class.getName());
+
 	// ------------ Test with properties merge
 
 	@Test
@@ -105,6 +108,78 @@ public class PropertiesCollectorTest {
 		assertNull(configuration.getProperties().get(0).getDescription());
 	}
 
+	@Test
+	public void mergeWithReplaceKeepsOrder() {
+		ConfigurationMetadata configuration = new ConfigurationMetadata();
+		PropertiesCollector collector = new PropertiesCollector(configuration,
+				MicroProfilePropertiesScope.SOURCES_AND_DEPENDENCIES);
+		collector.addItemMetadata("a", "java.lang.String", "a [1]", null, null, null, null, null, false, 0);
+		collector.addItemMetadata("b", "java.lang.String", "b [1]", null, null, null, null, null, false, 0);
+		collector.addItemMetadata("a", "java.lang.String", "a [2]", null, null, null, null, null, false, 0);
+		collector.addItemMetadata("c", "java.lang.String", "c [1]", null, null, null, null, null, false, 0);
+
+		// the first 'a' property is removed and the new 'a' property is added at the
+		// end
+		collector.merge(createMetadata("a", "a [3]", "b", "b [2]"), MergingStrategy.REPLACE);
+		assertDescriptions(configuration, "a [2]", "c [1]", "a [3]", "b [2]");
+
+		collector.merge(createMetadata("a", "a [4]", "d", "d [1]"), MergingStrategy.REPLACE);
+		assertDescriptions(configuration, "c [1]", "a [3]", "b [2]", "a [4]", "d [1]");
+
+		collector.merge(createMetadata("d", "d [2]", "e", "e [1]"), MergingStrategy.IGNORE_IF_EXISTS);
+		assertDescriptions(configuration, "c [1]", "a [3]", "b [2]", "a [4]", "d [1]", "e [1]");
+	}
+
+	@Test
+	public void mergeBenchmark() {
+		int size = 50000;
+		ConfigurationMetadata staticMetadata = new ConfigurationMetadata();
+		staticMetadata.setProperties(new ArrayList<>());
+		for (int i = 0; i < size; i++) {
+			ItemMetadata property = new ItemMetadata();
+			// half of the static properties are already collected
+			property.setName("static.property" + (i + size / 2));
+			property.setSource(true);
+			staticMetadata.getProperties().add(property);
+		}
+
+		for (MergingStrategy mergingStrategy : Arrays.asList(MergingStrategy.IGNORE_IF_EXISTS,
+				MergingStrategy.REPLACE)) {
+			ConfigurationMetadata configuration = new ConfigurationMetadata();
+			PropertiesCollector collector = new PropertiesCollector(configuration,
+					MicroProfilePropertiesScope.SOURCES_AND_DEPENDENCIES);
+			for (int i = 0; i < size; i++) {
+				collector.addItemMetadata("static.property" + i, "java.lang.String", null, null, null, null, null,
+						null, false, 0);
+			}
+			long start = System.nanoTime();
+			collector.merge(staticMetadata, mergingStrategy);
+			long time = System.nanoTime() - start;
+			assertEquals(size + size / 2, configuration.getProperties().size());
+			LOGGER.info("Merge of " + size + " static properties in a collector with " + size + " properties with "
+					+ mergingStrategy + " : " + time / 1000000 + "ms");
+		}
+	}
+
+	private static ConfigurationMetadata createMetadata(String... namesAndDescriptions) {
+		ConfigurationMetadata metadata = new ConfigurationMetadata();
+		metadata.setProperties(new ArrayList<>());
+		for (int i = 0; i < namesAndDescriptions.length; i += 2) {
+			ItemMetadata property = new ItemMetadata();
+			property.setName(namesAndDescriptions[i]);
+			property.setDescription(namesAndDescriptions[i + 1]);
+			metadata.getProperties().add(property);
+		}
+		return metadata;
+	}
+
+	private static void assertDescriptions(ConfigurationMetadata configuration, String... expected) {
+		assertEquals(expected.length, configuration.getProperties().size());
+		for (int i = 0; i < expected.length; i++) {
+			assertEquals(expected[i], configuration.getProperties().get(i).getDescription());
+		}
+	}
+
 	private static ConfigurationMetadata createToMerge() {
 		ConfigurationMetadata toMerge = new ConfigurationMetadata();
 		toMerge.setProperties(new ArrayList<>());
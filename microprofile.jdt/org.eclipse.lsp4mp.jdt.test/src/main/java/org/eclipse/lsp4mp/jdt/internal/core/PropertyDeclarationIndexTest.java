@@ -0,0 +1,101 @@
+/*******************************************************************************
+* Copyright (c) 2024 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.jdt.internal.core;
+
+import static org.eclipse.lsp4mp.jdt.core.MicroProfileForJavaAssert.fixURI;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.Path;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IMember;
+import org.eclipse.lsp4mp.commons.ClasspathKind;
+import org.eclipse.lsp4mp.commons.DocumentFormat;
+import org.eclipse.lsp4mp.commons.MicroProfilePropertiesScope;
+import org.eclipse.lsp4mp.commons.MicroProfilePropertyDocumentationParams;
+import org.eclipse.lsp4mp.jdt.core.BasePropertiesManagerTest;
+import org.eclipse.lsp4mp.jdt.core.PropertiesManager;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test for {@link PropertyDeclarationIndex} : the declarations must be indexed
+ * by the properties scan and removed when the Java files change.
+ *
+ */
+public class PropertyDeclarationIndexTest extends BasePropertiesManagerTest {
+
+	private static final String SOURCE_TYPE = "org.acme.config.GreetingResource";
+
+	@Before
+	public void clearIndex() {
+		PropertyDeclarationIndex.getInstance().clear();
+	}
+
+	@Test
+	public void updateIndex() throws Exception {
+		PropertyDeclarationIndex index = PropertyDeclarationIndex.getInstance();
+		Assert.assertTrue(index.isEnabled());
+
+		// the scan of the properties indexes the declarations of the Java sources
+		IJavaProject javaProject = loadMavenProject(MicroProfileMavenProjectName.config_hover);
+		PropertiesManager.getInstance().getMicroProfileProjectInfo(javaProject,
+				MicroProfilePropertiesScope.SOURCES_AND_DEPENDENCIES, ClasspathKind.SRC, JDT_UTILS,
+				DocumentFormat.Markdown, new NullProgressMonitor());
+		IMember number = index.getMember(javaProject, SOURCE_TYPE, "number", null);
+		Assert.assertNotNull(number);
+		Assert.assertSame(number, PropertiesManager.getInstance().findProperty(javaProject, SOURCE_TYPE, "number",
+				null, JDT_UTILS, new NullProgressMonitor()));
+
+		// the documentation is rendered once
+		MicroProfilePropertyDocumentationParams params = createDocParams(javaProject, "number");
+		Assert.assertEquals("The `number` of the greeting.",
+				PropertiesManager.getInstance().collectPropertyDocumentation(params, JDT_UTILS, null));
+		Assert.assertTrue(index.hasDocumentation(javaProject, SOURCE_TYPE, "number", null, DocumentFormat.Markdown));
+		Assert.assertFalse(index.hasDocumentation(javaProject, SOURCE_TYPE, "number", null, DocumentFormat.PlainText));
+
+		// a property without documentation
+		params = createDocParams(javaProject, "suffix");
+		Assert.assertNull(PropertiesManager.getInstance().collectPropertyDocumentation(params, JDT_UTILS, null));
+		Assert.assertTrue(index.hasDocumentation(javaProject, SOURCE_TYPE, "suffix", null, DocumentFormat.Markdown));
+
+		// Update the documentation of the property
+		saveFile("org/acme/config/GreetingResource.java", "package org.acme.config;\r\n" + //
+				"import org.eclipse.microprofile.config.inject.ConfigProperty;\r\n" + //
+				"public class GreetingResource {\r\n" + //
+				"    /**\r\n" + //
+				"     * The updated <code>number</code>.\r\n" + //
+				"     */\r\n" + //
+				"    @ConfigProperty(name = \"greeting.number\", defaultValue=\"0\")\r\n" + //
+				"    int number;\r\n" + //
+				"}\r\n", javaProject, true);
+		Assert.assertNull(index.getMember(javaProject, SOURCE_TYPE, "number", null));
+		params = createDocParams(javaProject, "number");
+		Assert.assertEquals("The updated `number`.",
+				PropertiesManager.getInstance().collectPropertyDocumentation(params, JDT_UTILS, null));
+	}
+
+	private static MicroProfilePropertyDocumentationParams createDocParams(IJavaProject javaProject,
+			String sourceField) {
+		IFile propertiesFile = javaProject.getProject()
+				.getFile(new Path("src/main/resources/META-INF/microprofile-config.properties"));
+		MicroProfilePropertyDocumentationParams params = new MicroProfilePropertyDocumentationParams();
+		params.setUri(fixURI(propertiesFile.getLocation().toFile().toURI()));
+		params.setSourceType(SOURCE_TYPE);
+		params.setSourceField(sourceField);
+		params.setDocumentFormat(DocumentFormat.Markdown);
+		return params;
+	}
+}
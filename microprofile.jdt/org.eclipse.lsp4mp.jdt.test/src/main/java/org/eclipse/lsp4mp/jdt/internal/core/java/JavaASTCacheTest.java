@@ -0,0 +1,131 @@
+/*******************************************************************************
+* Copyright (c) 2024 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.jdt.internal.core.java;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.Path;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.lsp4mp.jdt.core.BasePropertiesManagerTest;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test for {@link JavaASTCache}.
+ *
+ */
+public class JavaASTCacheTest extends BasePropertiesManagerTest {
+
+	@Before
+	public void clearCache() {
+		JavaASTCache.getInstance().clear();
+	}
+
+	@After
+	public void restoreCache() {
+		JavaASTCache.getInstance().clear();
+	}
+
+	@Test
+	public void reuseAST() throws Exception {
+		JavaASTCache cache = JavaASTCache.getInstance();
+		Assert.assertTrue(cache.isEnabled());
+		IJavaProject javaProject = loadMavenProject(MicroProfileMavenProjectName.config_hover);
+		IFile javaFile = javaProject.getProject()
+				.getFile(new Path("src/main/java/org/acme/config/GreetingResource.java"));
+		ICompilationUnit unit = JavaCore.createCompilationUnitFrom(javaFile);
+
+		CompilationUnit ast = cache.getAST(unit, new NullProgressMonitor());
+		Assert.assertNotNull(ast);
+		Assert.assertSame(ast, cache.getAST(unit, new NullProgressMonitor()));
+		Assert.assertEquals(1, cache.getHitCount());
+		Assert.assertEquals(1, cache.getMissCount());
+
+		// Update the buffer of the compilation unit -> the AST must be created again
+		ICompilationUnit workingCopy = unit.getWorkingCopy(new NullProgressMonitor());
+		try {
+			CompilationUnit workingCopyAST = cache.getAST(workingCopy, new NullProgressMonitor());
+			Assert.assertSame(workingCopyAST, cache.getAST(workingCopy, new NullProgressMonitor()));
+			workingCopy.getBuffer().append("\n// a comment");
+			CompilationUnit updatedAST = cache.getAST(workingCopy, new NullProgressMonitor());
+			Assert.assertNotSame(workingCopyAST, updatedAST);
+			Assert.assertTrue(updatedAST.toString().length() > 0);
+			Assert.assertEquals(3, cache.getMissCount());
+		} finally {
+			workingCopy.discardWorkingCopy();
+		}
+	}
+
+	@Test
+	public void evictAST() throws Exception {
+		JavaASTCache cache = JavaASTCache.getInstance();
+		IJavaProject javaProject = loadMavenProject(MicroProfileMavenProjectName.config_hover);
+		ICompilationUnit greeting = JavaCore.createCompilationUnitFrom(javaProject.getProject()
+				.getFile(new Path("src/main/java/org/acme/config/GreetingResource.java")));
+		ICompilationUnit myEnum = JavaCore.createCompilationUnitFrom(
+				javaProject.getProject().getFile(new Path("src/main/java/org/acme/config/MyEnum.java")));
+		cache.setMaxSize(1);
+		try {
+			cache.getAST(greeting, new NullProgressMonitor());
+			cache.getAST(myEnum, new NullProgressMonitor());
+			// GreetingResource AST has been evicted
+			cache.getAST(greeting, new NullProgressMonitor());
+			Assert.assertEquals(0, cache.getHitCount());
+			Assert.assertEquals(3, cache.getMissCount());
+		} finally {
+			cache.setMaxSize(5);
+		}
+	}
+
+	@Test
+	public void invalidateChangedCompilationUnit() throws Exception {
+		JavaASTCache cache = JavaASTCache.getInstance();
+		IJavaProject javaProject = loadMavenProject(MicroProfileMavenProjectName.config_hover);
+		ICompilationUnit greeting = JavaCore.createCompilationUnitFrom(javaProject.getProject()
+				.getFile(new Path("src/main/java/org/acme/config/GreetingResource.java")));
+		ICompilationUnit myEnum = JavaCore.createCompilationUnitFrom(
+				javaProject.getProject().getFile(new Path("src/main/java/org/acme/config/MyEnum.java")));
+		ICompilationUnit workingCopy = greeting.getWorkingCopy(new NullProgressMonitor());
+		try {
+			cache.getAST(workingCopy, new NullProgressMonitor());
+			CompilationUnit myEnumAST = cache.getAST(myEnum, new NullProgressMonitor());
+			Assert.assertEquals(2, cache.size());
+
+			// Update the body of a method -> only the AST of the updated compilation unit
+			// is removed
+			String content = workingCopy.getBuffer().getContents();
+			workingCopy.getBuffer().replace(content.indexOf("\"world\""), "\"world\"".length(), "\"you\"");
+			workingCopy.reconcile(ICompilationUnit.NO_AST, false, null, new NullProgressMonitor());
+			Assert.assertEquals(1, cache.size());
+			Assert.assertSame(myEnumAST, cache.getAST(myEnum, new NullProgressMonitor()));
+
+			// Add a method -> the bindings of the other AST can be impacted, all the AST
+			// are removed
+			cache.getAST(workingCopy, new NullProgressMonitor());
+			Assert.assertEquals(2, cache.size());
+			content = workingCopy.getBuffer().getContents();
+			workingCopy.getBuffer().replace(content.lastIndexOf('}'), 0, "public void bye() {}\n");
+			workingCopy.reconcile(ICompilationUnit.NO_AST, false, null, new NullProgressMonitor());
+			Assert.assertEquals(0, cache.size());
+			Assert.assertNotSame(myEnumAST, cache.getAST(myEnum, new NullProgressMonitor()));
+		} finally {
+			workingCopy.discardWorkingCopy();
+		}
+	}
+}
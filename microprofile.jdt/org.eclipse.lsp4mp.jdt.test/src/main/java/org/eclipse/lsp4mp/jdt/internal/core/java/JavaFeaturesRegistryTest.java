@@ -0,0 +1,130 @@
+/*******************************************************************************
+* Copyright (c) 2024 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.jdt.internal.core.java;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import org.eclipse.core.runtime.IExtensionDelta;
+import org.eclipse.core.runtime.IRegistryChangeEvent;
+import org.eclipse.lsp4mp.jdt.core.jaxrs.IJaxRsInfoProvider;
+import org.eclipse.lsp4mp.jdt.internal.core.java.hover.JavaHoverDefinition;
+import org.eclipse.lsp4mp.jdt.internal.jaxrs.java.DefaultJaxRsInfoProvider;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test for {@link JavaFeaturesRegistry}.
+ *
+ */
+public class JavaFeaturesRegistryTest {
+
+	private static final Logger LOGGER = Logger.getLogger(JavaFeaturesRegistryTest.class.getName());
+
+	@Test
+	public void definitionsSnapshot() {
+		JavaFeaturesRegistry registry = new JavaFeaturesRegistry();
+		try {
+			List<JavaHoverDefinition> hovers = registry.getJavaHoverDefinitions();
+			Assert.assertFalse(hovers.isEmpty());
+			Assert.assertSame(hovers, registry.getJavaHoverDefinitions());
+			List<IJaxRsInfoProvider> providers = registry.getJaxRsInfoProviders();
+			Assert.assertTrue(providers.get(providers.size() - 1) instanceof DefaultJaxRsInfoProvider);
+
+			// the snapshot is replaced when the extension point changes
+			registry.registryChanged(createRegistryChangeEvent());
+			List<JavaHoverDefinition> newHovers = registry.getJavaHoverDefinitions();
+			Assert.assertNotSame(hovers, newHovers);
+			Assert.assertEquals(hovers.size(), newHovers.size());
+		} finally {
+			registry.destroy();
+		}
+	}
+
+	@Test
+	public void destroyClearsDefinitions() {
+		JavaFeaturesRegistry registry = new JavaFeaturesRegistry();
+		try {
+			List<JavaHoverDefinition> hovers = registry.getJavaHoverDefinitions();
+			registry.destroy();
+			// the definitions are loaded again after a destroy
+			List<JavaHoverDefinition> newHovers = registry.getJavaHoverDefinitions();
+			Assert.assertNotSame(hovers, newHovers);
+			Assert.assertEquals(hovers.size(), newHovers.size());
+		} finally {
+			registry.destroy();
+		}
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void definitionsAreImmutable() {
+		JavaFeaturesRegistry registry = new JavaFeaturesRegistry();
+		try {
+			registry.getJavaDiagnosticsDefinitions().clear();
+		} finally {
+			registry.destroy();
+		}
+	}
+
+	@Test
+	public void concurrentFeatureRequestsBenchmark() throws Exception {
+		JavaFeaturesRegistry registry = JavaFeaturesRegistry.getInstance();
+		int threadCount = 8;
+		int requestCount = 100000;
+		ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+		try {
+			long start = System.nanoTime();
+			List<Future<Integer>> results = new ArrayList<>();
+			for (int i = 0; i < threadCount; i++) {
+				results.add(executor.submit(() -> {
+					// simulate the hover, completion, codeLens and diagnostics requests
+					int count = 0;
+					for (int j = 0; j < requestCount; j++) {
+						count += registry.getJavaHoverDefinitions().size();
+						count += registry.getJavaCompletionDefinitions().size();
+						count += registry.getJavaCodeLensDefinitions().size();
+						count += registry.getJavaDiagnosticsDefinitions().size();
+						count += registry.getJaxRsInfoProviders().size();
+					}
+					return count;
+				}));
+			}
+			int expected = results.get(0).get();
+			for (Future<Integer> result : results) {
+				Assert.assertEquals(expected, result.get().intValue());
+			}
+			long time = System.nanoTime() - start;
+			LOGGER.info(threadCount + " threads x " + requestCount + " feature requests : "
+					+ TimeUnit.NANOSECONDS.toMillis(time) + "ms");
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private static IRegistryChangeEvent createRegistryChangeEvent() {
+		return (IRegistryChangeEvent) Proxy.newProxyInstance(JavaFeaturesRegistryTest.class.getClassLoader(),
+				new Class<?>[] { IRegistryChangeEvent.class }, (proxy, method, args) -> {
+					if ("getExtensionDeltas".equals(method.getName())) {
+						return new IExtensionDelta[1];
+					}
+					return null;
+				});
+	}
+}
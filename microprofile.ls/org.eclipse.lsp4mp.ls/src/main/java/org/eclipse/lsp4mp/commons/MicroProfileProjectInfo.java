@@ -14,6 +14,7 @@
 package org.eclipse.lsp4mp.commons;
 
 import java.util.Collections;
+import java.util.List;
 
 import org.eclipse.lsp4mp.commons.metadata.ConfigurationMetadata;
 
@@ -38,6 +39,12 @@ public class MicroProfileProjectInfo extends ConfigurationMetadata {
 
 	private ClasspathKind classpathKind;
 
+	private String version;
+
+	private MicroProfileProjectInfoDelta delta;
+
+	private List<String> sourceTypes;
+
 	/**
 	 * Returns the project URI.
 	 *
@@ -74,4 +81,78 @@ public class MicroProfileProjectInfo extends ConfigurationMetadata {
 		this.classpathKind = classpathKind;
 	}
 
+	/**
+	 * Returns the version of the properties and hints and null if the project
+	 * information is not versioned.
+	 *
+	 * @return the version of the properties and hints and null if the project
+	 *         information is not versioned.
+	 */
+	public String getVersion() {
+		return version;
+	}
+
+	/**
+	 * Set the version of the properties and hints.
+	 *
+	 * @param version the version of the properties and hints.
+	 */
+	public void setVersion(String version) {
+		this.version = version;
+	}
+
+	/**
+	 * Returns the changes of the properties and hints since the base version of
+	 * the request and null if the project information contains all the properties
+	 * and hints.
+	 *
+	 * @return the changes of the properties and hints since the base version of
+	 *         the request and null if the project information contains all the
+	 *         properties and hints.
+	 */
+	public MicroProfileProjectInfoDelta getDelta() {
+		return delta;
+	}
+
+	/**
+	 * Set the changes of the properties and hints since the base version of the
+	 * request.
+	 *
+	 * @param delta the changes of the properties and hints since the base version
+	 *              of the request.
+	 */
+	public void setDelta(MicroProfileProjectInfoDelta delta) {
+		this.delta = delta;
+	}
+
+	/**
+	 * Returns the names of the Java types declared in the compilation units where
+	 * the properties and hints have been collected (see
+	 * {@link MicroProfileProjectInfoParams#getCompilationUnitURIs()}) and null if
+	 * they have been collected from all the Java sources.
+	 *
+	 * <p>
+	 * The nested types are not returned, they are the types which start with one
+	 * of the returned names.
+	 * </p>
+	 *
+	 * @return the names of the Java types declared in the compilation units where
+	 *         the properties and hints have been collected and null if they have
+	 *         been collected from all the Java sources.
+	 */
+	public List<String> getSourceTypes() {
+		return sourceTypes;
+	}
+
+	/**
+	 * Set the names of the Java types declared in the compilation units where the
+	 * properties and hints have been collected.
+	 *
+	 * @param sourceTypes the names of the Java types declared in the compilation
+	 *                    units where the properties and hints have been collected.
+	 */
+	public void setSourceTypes(List<String> sourceTypes) {
+		this.sourceTypes = sourceTypes;
+	}
+
 }
@@ -29,6 +29,12 @@ public class MicroProfileProjectInfoParams {
 
 	private DocumentFormat documentFormat;
 
+	private List<String> compilationUnitURIs;
+
+	private boolean deferredDocumentation;
+
+	private String baseVersion;
+
 	public MicroProfileProjectInfoParams() {
 	}
 
@@ -89,4 +95,79 @@ public class MicroProfileProjectInfoParams {
 	public DocumentFormat getDocumentFormat() {
 		return documentFormat;
 	}
+
+	/**
+	 * Returns the URIs of the Java compilation units where the properties must be
+	 * collected when the scopes are
+	 * {@link MicroProfilePropertiesScope#ONLY_SOURCES} and null to collect the
+	 * properties from all Java sources.
+	 *
+	 * @return the URIs of the Java compilation units where the properties must be
+	 *         collected and null to collect the properties from all Java sources.
+	 */
+	public List<String> getCompilationUnitURIs() {
+		return compilationUnitURIs;
+	}
+
+	/**
+	 * Set the URIs of the Java compilation units where the properties must be
+	 * collected when the scopes are
+	 * {@link MicroProfilePropertiesScope#ONLY_SOURCES}.
+	 *
+	 * @param compilationUnitURIs the URIs of the Java compilation units where the
+	 *                            properties must be collected.
+	 */
+	public void setCompilationUnitURIs(List<String> compilationUnitURIs) {
+		this.compilationUnitURIs = compilationUnitURIs;
+	}
+
+	/**
+	 * Returns true if the Javadoc of the properties must not be rendered (and the
+	 * sources of the JARs must not be discovered) while collecting the properties
+	 * and false otherwise. In this case the documentation of a property is
+	 * collected on demand with <code>microprofile/propertyDocumentation</code>.
+	 *
+	 * @return true if the Javadoc of the properties must not be rendered while
+	 *         collecting the properties and false otherwise.
+	 */
+	public boolean isDeferredDocumentation() {
+		return deferredDocumentation;
+	}
+
+	/**
+	 * Set true if the Javadoc of the properties must not be rendered (and the
+	 * sources of the JARs must not be discovered) while collecting the properties
+	 * and false otherwise.
+	 *
+	 * @param deferredDocumentation true if the Javadoc of the properties must not
+	 *                              be rendered while collecting the properties and
+	 *                              false otherwise.
+	 */
+	public void setDeferredDocumentation(boolean deferredDocumentation) {
+		this.deferredDocumentation = deferredDocumentation;
+	}
+
+	/**
+	 * Returns the version of the MicroProfile project information already loaded
+	 * by the client and null otherwise. When the version is known by the server,
+	 * the server answers with the changes since this version (see
+	 * {@link MicroProfileProjectInfo#getDelta()}).
+	 *
+	 * @return the version of the MicroProfile project information already loaded
+	 *         by the client and null otherwise.
+	 */
+	public String getBaseVersion() {
+		return baseVersion;
+	}
+
+	/**
+	 * Set the version of the MicroProfile project information already loaded by
+	 * the client.
+	 *
+	 * @param baseVersion the version of the MicroProfile project information
+	 *                    already loaded by the client.
+	 */
+	public void setBaseVersion(String baseVersion) {
+		this.baseVersion = baseVersion;
+	}
 }
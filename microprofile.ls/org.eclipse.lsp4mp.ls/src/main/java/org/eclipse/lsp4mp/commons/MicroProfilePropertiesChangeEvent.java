@@ -28,6 +28,8 @@ public class MicroProfilePropertiesChangeEvent {
 
 	private Set<String> projectURIs;
 
+	private Set<String> compilationUnitURIs;
+
 	/**
 	 * Returns the search scope to collect the MicroProfile properties.
 	 *
@@ -64,4 +66,24 @@ public class MicroProfilePropertiesChangeEvent {
 		this.projectURIs = projectURIs;
 	}
 
+	/**
+	 * Returns the URIs of the changed Java compilation units and null if the
+	 * change is not scoped to some compilation units.
+	 *
+	 * @return the URIs of the changed Java compilation units and null if the
+	 *         change is not scoped to some compilation units.
+	 */
+	public Set<String> getCompilationUnitURIs() {
+		return compilationUnitURIs;
+	}
+
+	/**
+	 * Set the URIs of the changed Java compilation units.
+	 *
+	 * @param compilationUnitURIs the URIs of the changed Java compilation units.
+	 */
+	public void setCompilationUnitURIs(Set<String> compilationUnitURIs) {
+		this.compilationUnitURIs = compilationUnitURIs;
+	}
+
 }
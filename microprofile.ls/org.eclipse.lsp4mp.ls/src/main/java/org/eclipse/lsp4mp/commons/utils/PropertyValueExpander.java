@@ -47,13 +47,12 @@ public class PropertyValueExpander {
 	private static final Logger LOGGER = Logger.getLogger(PropertyValueExpander.class.getName());
 	private static final long REFERENCE_UPPER_BOUND = 1_000_000;
 
-	private final PropertyGraph propertyGraph;
+	private PropertyGraph propertyGraph;
 	private final IConfigSourcePropertiesProvider properties;
 	private final Map<String, ResolvedPropertyValueInformation> resolved;
 
 	public PropertyValueExpander(IConfigSourcePropertiesProvider properties) {
 		this.properties = properties;
-		this.propertyGraph = new PropertyGraph(properties);
 		this.resolved = new HashMap<>();
 	}
 
@@ -66,7 +65,7 @@ public class PropertyValueExpander {
 	 *         value can't be expanded.
 	 */
 	public String getValue(String key) {
-		if (propertyGraph.isAcyclic()) {
+		if (isAcyclic()) {
 			ResolvedPropertyValueInformation info = getResolvedValue(key);
 			return info == null ? null : info.getValue();
 		}
@@ -84,7 +83,44 @@ public class PropertyValueExpander {
 	 *         property.
 	 */
 	public List<String> getIndependentProperties(String property) {
-		return propertyGraph.getIndependentProperties(property);
+		return getPropertyGraph().getIndependentProperties(property);
+	}
+
+	/**
+	 * Returns true if the references between the properties don't have a cycle and
+	 * false otherwise.
+	 *
+	 * @return true if the references between the properties don't have a cycle and
+	 *         false otherwise.
+	 */
+	protected boolean isAcyclic() {
+		return getPropertyGraph().isAcyclic();
+	}
+
+	/**
+	 * Remove the expanded value of the given key, when the value of the key or of
+	 * a property that it references has changed.
+	 *
+	 * @param key the key of the expanded value to remove.
+	 */
+	protected void invalidate(String key) {
+		resolved.remove(key);
+	}
+
+	/**
+	 * Returns the keys of the properties whose expanded value is kept.
+	 *
+	 * @return the keys of the properties whose expanded value is kept.
+	 */
+	protected Set<String> getResolvedKeys() {
+		return new HashSet<>(resolved.keySet());
+	}
+
+	private PropertyGraph getPropertyGraph() {
+		if (propertyGraph == null) {
+			propertyGraph = new PropertyGraph(properties);
+		}
+		return propertyGraph;
 	}
 
 	private ResolvedPropertyValueInformation getResolvedValue(String key) {
@@ -14,8 +14,11 @@
 package org.eclipse.lsp4mp.extensions;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import java.util.ServiceLoader;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Function;
@@ -23,11 +26,16 @@ import java.util.stream.Collectors;
 
 import org.eclipse.lsp4j.jsonrpc.CancelChecker;
 import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
+import org.eclipse.lsp4mp.commons.MicroProfileProjectInfoDelta;
+import org.eclipse.lsp4mp.commons.metadata.ConfigurationMetadata;
 import org.eclipse.lsp4mp.commons.metadata.ItemBase;
 import org.eclipse.lsp4mp.commons.metadata.ItemHint;
 import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
 import org.eclipse.lsp4mp.commons.metadata.ValueHint;
 import org.eclipse.lsp4mp.model.PropertiesModel;
+import org.eclipse.lsp4mp.utils.JSONSchemaUtils;
+import org.eclipse.lsp4mp.utils.MetadataPool;
+import org.eclipse.lsp4mp.utils.PropertiesIndex;
 
 /**
  * Extended MicroProfile Project Information.
@@ -67,22 +75,66 @@ public class ExtendedMicroProfileProjectInfo extends MicroProfileProjectInfo {
 
 	private boolean reloadFromSource;
 
+	private volatile boolean reloadFromClasspath;
+
+	// The properties and hints of the version loaded from the server, where the
+	// changes of the next version are applied.
+	private ConfigurationMetadata versionedInfo;
+
+	// URIs of the Java compilation units changed since the last update and null
+	// when all Java sources must be reloaded.
+	private Set<String> changedCompilationUnitURIs;
+
 	private List<ItemMetadata> dynamicProperties;
 
 	private final Function<String, ItemHint> getHint = hint -> getHint(hint);
 
-	private final List<ItemMetadataProvider> providers;
+	private List<ItemMetadataProvider> providers;
 
 	private boolean updating;
 
+	private volatile int propertiesVersion;
+
+	private volatile PropertiesIndex propertiesIndex;
+
+	private volatile JsonSchema jsonSchema;
+
+	/**
+	 * JSON Schema generated for a given version of the properties.
+	 */
+	private static class JsonSchema {
+
+		private final int version;
+
+		private final int size;
+
+		private final String schema;
+
+		public JsonSchema(int version, int size, String schema) {
+			this.version = version;
+			this.size = size;
+			this.schema = schema;
+		}
+	}
+
 	public ExtendedMicroProfileProjectInfo(MicroProfileProjectInfo delegate) {
 		super.setProjectURI(delegate.getProjectURI());
+		super.setVersion(delegate.getVersion());
+		// Share the properties and strings of the JARs with the other projects
+		MetadataPool pool = MetadataPool.getInstance();
+		List<ItemHint> hints = delegate.getHints() != null ? pool.internHints(delegate.getHints())
+				: new ArrayList<>();
+		List<ItemMetadata> staticProperties = delegate.getProperties() != null
+				? pool.internProperties(delegate.getProperties())
+				: new ArrayList<>();
+		if (delegate.getVersion() != null) {
+			versionedInfo = new ConfigurationMetadata();
+			versionedInfo.setProperties(new ArrayList<>(staticProperties));
+			versionedInfo.setHints(new ArrayList<>(hints));
+		}
 		// Update hints
-		super.setHints(
-				new CopyOnWriteArrayList<>(delegate.getHints() != null ? delegate.getHints() : new ArrayList<>()));
+		super.setHints(new CopyOnWriteArrayList<>(hints));
 		// Get dynamic and static properties from delegate project info
-		List<ItemMetadata> staticProperties = delegate.getProperties() != null ? delegate.getProperties()
-				: new ArrayList<>();
 		List<ItemMetadata> dynamicProperties = computeDynamicProperties(staticProperties);
 		staticProperties.removeAll(dynamicProperties);
 		expandProperties(staticProperties, dynamicProperties, getHint);
@@ -93,20 +145,127 @@ public class ExtendedMicroProfileProjectInfo extends MicroProfileProjectInfo {
 		this.reloadFromSource = false;
 
 		// Initialize custom item metadata provider
-		providers = new ArrayList<>();
+		providers = createProviders();
+	}
+
+	private List<ItemMetadataProvider> createProviders() {
+		List<ItemMetadataProvider> providers = new ArrayList<>();
 		ServiceLoader<ItemMetadataProviderFactory> factories = ServiceLoader.load(ItemMetadataProviderFactory.class);
 		for (ItemMetadataProviderFactory factory : factories) {
 			providers.add(factory.create(this));
 		}
+		return providers;
 	}
 
 	/**
 	 * Clear the cache only for MicroProfile properties coming from java sources.
 	 */
 	public void clearPropertiesFromSource() {
+		clearPropertiesFromSource(null);
+	}
+
+	/**
+	 * Clear the cache only for MicroProfile properties coming from the given java
+	 * compilation units.
+	 *
+	 * @param compilationUnitURIs the URIs of the changed Java compilation units and
+	 *                            null to clear the properties coming from all java
+	 *                            sources.
+	 */
+	public synchronized void clearPropertiesFromSource(Collection<String> compilationUnitURIs) {
+		if (compilationUnitURIs == null) {
+			changedCompilationUnitURIs = null;
+		} else if (!reloadFromSource) {
+			changedCompilationUnitURIs = new HashSet<>(compilationUnitURIs);
+		} else if (changedCompilationUnitURIs != null) {
+			changedCompilationUnitURIs.addAll(compilationUnitURIs);
+		}
 		setReloadFromSource(true);
 	}
 
+	/**
+	 * Returns the URIs of the Java compilation units changed since the last update
+	 * and null if the properties of all java sources must be reloaded.
+	 *
+	 * @return the URIs of the Java compilation units changed since the last update
+	 *         and null if the properties of all java sources must be reloaded.
+	 */
+	public synchronized List<String> getChangedCompilationUnitURIs() {
+		return changedCompilationUnitURIs != null ? new ArrayList<>(changedCompilationUnitURIs) : null;
+	}
+
+	/**
+	 * Mark the properties to be reloaded from the classpath with the changes since
+	 * the current version.
+	 */
+	public void clearPropertiesFromClasspath() {
+		reloadFromClasspath = true;
+	}
+
+	/**
+	 * Returns true if the classpath has changed since the properties have been
+	 * loaded and false otherwise.
+	 *
+	 * @return true if the classpath has changed since the properties have been
+	 *         loaded and false otherwise.
+	 */
+	public boolean isReloadFromClasspath() {
+		return reloadFromClasspath;
+	}
+
+	/**
+	 * Apply the changes of the properties and hints of the given project
+	 * information to this project information.
+	 *
+	 * <p>
+	 * The changes are applied to the properties and hints of the current version
+	 * and the properties expanded with the hints and the dynamic properties are
+	 * updated in place. The properties of the Java sources are replaced with the
+	 * properties of the new version, which are collected from all the Java
+	 * sources, and the custom item metadata providers are created again like for
+	 * a new project information.
+	 * </p>
+	 *
+	 * @param info the project information which contains the changes since the
+	 *             current version.
+	 * @return true if the changes have been applied and false if the changes don't
+	 *         apply to the current version.
+	 */
+	public synchronized boolean applyDelta(MicroProfileProjectInfo info) {
+		MicroProfileProjectInfoDelta delta = info.getDelta();
+		if (delta == null || versionedInfo == null || getVersion() == null
+				|| !getVersion().equals(delta.getBaseVersion())) {
+			return false;
+		}
+		ConfigurationMetadata newVersionedInfo = new ConfigurationMetadata();
+		newVersionedInfo.setProperties(versionedInfo.getProperties());
+		newVersionedInfo.setHints(versionedInfo.getHints());
+		MetadataPool pool = MetadataPool.getInstance();
+		delta.setAddedProperties(pool.internProperties(delta.getAddedProperties()));
+		delta.setChangedProperties(pool.internProperties(delta.getChangedProperties()));
+		delta.setAddedHints(pool.internHints(delta.getAddedHints()));
+		delta.setChangedHints(pool.internHints(delta.getChangedHints()));
+		delta.applyTo(newVersionedInfo);
+
+		List<ItemMetadata> staticProperties = new ArrayList<>(newVersionedInfo.getProperties());
+		List<ItemMetadata> dynamicProperties = computeDynamicProperties(staticProperties);
+		staticProperties.removeAll(dynamicProperties);
+		expandProperties(staticProperties, dynamicProperties, hint -> newVersionedInfo.getHint(hint));
+
+		versionedInfo = newVersionedInfo;
+		super.setHints(new CopyOnWriteArrayList<>(newVersionedInfo.getHints()));
+		this.setDynamicProperties(new CopyOnWriteArrayList<ItemMetadata>(dynamicProperties));
+		this.setProperties(new CopyOnWriteArrayList<>(staticProperties));
+		super.setVersion(info.getVersion());
+		// The custom item metadata providers collect their properties (ex : the
+		// binary connector properties) from the new properties and hints.
+		providers = createProviders();
+		changedCompilationUnitURIs = null;
+		setReloadFromSource(false);
+		reloadFromClasspath = false;
+		return true;
+	}
+
 	private static List<ItemMetadata> computeDynamicProperties(List<ItemMetadata> properties) {
 		return properties.stream().filter(p -> p != null && p.getName().contains("${")).collect(Collectors.toList());
 	}
@@ -119,9 +278,13 @@ public class ExtendedMicroProfileProjectInfo extends MicroProfileProjectInfo {
 	 */
 	public synchronized void updateSourcesProperties(List<ItemMetadata> propertiesFromJavaSource,
 			List<ItemHint> hintsFromJavaSource) {
+		MetadataPool pool = MetadataPool.getInstance();
+		propertiesFromJavaSource = pool.internProperties(propertiesFromJavaSource);
+		hintsFromJavaSource = pool.internHints(hintsFromJavaSource);
 		// remove old hints from Java sources
 		if (hintsFromJavaSource != null) {
 			updateListFromPropertiesSources(getHints(), hintsFromJavaSource);
+			invalidatePropertiesIndex();
 		}
 		// remove old properties from Java sources
 		if (propertiesFromJavaSource != null) {
@@ -136,12 +299,233 @@ public class ExtendedMicroProfileProjectInfo extends MicroProfileProjectInfo {
 			expandProperties(staticProperties, getDynamicProperties(), getHint);
 			updateListFromPropertiesSources(getProperties(), staticProperties);
 			updateListFromPropertiesSources(getDynamicProperties(), dynamicProperties);
+			invalidatePropertiesIndex();
 		}
 		// Update custom properties
 		updateCustomProperties(null);
+		changedCompilationUnitURIs = null;
 		setReloadFromSource(false);
 	}
 
+	/**
+	 * Update the new MicroProfile properties in the cache coming from the given
+	 * Java compilation units.
+	 *
+	 * <p>
+	 * Only the properties and hint values whose source type is declared in one of
+	 * the given compilation units are replaced. When it is not possible to know
+	 * which properties must be replaced (ex : the enum of a hint has changed but
+	 * the new properties doesn't contain this hint), nothing is updated, the
+	 * properties of all Java sources are marked to be reloaded and false is
+	 * returned.
+	 * </p>
+	 *
+	 * @param propertiesFromJavaSource properties collected from the given
+	 *                                 compilation units.
+	 * @param hintsFromJavaSource      hints collected from the given compilation
+	 *                                 units.
+	 * @param compilationUnitURIs      the URIs of the Java compilation units where
+	 *                                 the properties must be collected and null to
+	 *                                 collect them from all java sources.
+	 * @param sourceTypes              the names of the Java types declared in the
+	 *                                 compilation units where the properties have
+	 *                                 been collected (see
+	 *                                 {@link MicroProfileProjectInfo#getSourceTypes()})
+	 *                                 and null if they have been collected from
+	 *                                 all java sources.
+	 * @return true if the properties have been updated and false if the properties
+	 *         of all java sources must be reloaded.
+	 */
+	public synchronized boolean updateSourcesProperties(List<ItemMetadata> propertiesFromJavaSource,
+			List<ItemHint> hintsFromJavaSource, Collection<String> compilationUnitURIs,
+			Collection<String> sourceTypes) {
+		if (compilationUnitURIs == null || sourceTypes == null) {
+			updateSourcesProperties(propertiesFromJavaSource, hintsFromJavaSource);
+			return true;
+		}
+		MetadataPool pool = MetadataPool.getInstance();
+		if (!updateCompilationUnitsProperties(
+				propertiesFromJavaSource != null ? pool.internProperties(propertiesFromJavaSource) : new ArrayList<>(),
+				hintsFromJavaSource != null ? pool.internHints(hintsFromJavaSource) : new ArrayList<>(),
+				new SourceTypeMatcher(sourceTypes))) {
+			clearPropertiesFromSource(null);
+			return false;
+		}
+		invalidatePropertiesIndex();
+		// Update custom properties
+		updateCustomProperties(null);
+		if (changedCompilationUnitURIs != null) {
+			changedCompilationUnitURIs.removeAll(compilationUnitURIs);
+			setReloadFromSource(!changedCompilationUnitURIs.isEmpty());
+		}
+		return true;
+	}
+
+	private boolean updateCompilationUnitsProperties(List<ItemMetadata> propertiesFromJavaSource,
+			List<ItemHint> hintsFromJavaSource, SourceTypeMatcher matcher) {
+		// Check that the new properties and hints come only from the compilation units
+		for (ItemMetadata property : propertiesFromJavaSource) {
+			if (property.getSourceType() != null && !matcher.matches(property.getSourceType())) {
+				return false;
+			}
+		}
+		for (ItemHint newHint : hintsFromJavaSource) {
+			if (!isTypeHint(newHint) && !areValuesFrom(newHint, matcher)) {
+				return false;
+			}
+		}
+
+		// Compute the new hints
+		List<ItemHint> hints = new ArrayList<>(getHints());
+		for (int i = 0; i < hints.size(); i++) {
+			ItemHint hint = hints.get(i);
+			if (hint == null || indexOf(hintsFromJavaSource, hint.getName()) != -1) {
+				continue;
+			}
+			if (isTypeHint(hint)) {
+				if (!hint.isBinary() && matcher.matches(hint.getSourceType())) {
+					// the type (ex : enum) of the hint has changed but the hint has not been
+					// collected
+					return false;
+				}
+			} else if (hint.getValues() != null
+					&& hint.getValues().stream().anyMatch(v -> matcher.matches(v.getSourceType()))) {
+				hints.set(i, mergeHint(hint, null, matcher));
+			}
+		}
+		for (ItemHint newHint : hintsFromJavaSource) {
+			int index = indexOf(hints, newHint.getName());
+			if (index == -1) {
+				hints.add(newHint);
+			} else if (isTypeHint(newHint)) {
+				hints.set(index, newHint);
+			} else {
+				ItemHint hint = hints.get(index);
+				if (!hint.isBinary() && !areValuesFrom(hint, null)) {
+					// the values which must be replaced cannot be known
+					return false;
+				}
+				hints.set(index, mergeHint(hint, newHint, matcher));
+			}
+		}
+		setHints(new CopyOnWriteArrayList<>(hints));
+
+		// Remove old properties from the compilation units and the properties
+		// expanded with the old hints
+		getDynamicProperties().removeIf(p -> !p.isBinary() && matcher.matches(p.getSourceType()));
+		getProperties().removeIf(p -> p instanceof ComputedItemMetadata
+				|| (!p.isBinary() && matcher.matches(p.getSourceType())));
+
+		// Add the new properties, the properties without source type (ex :
+		// '${mp.register.rest.client.class}/mp-rest/url') are shared by several
+		// compilation units and are added only if they don't exist.
+		List<ItemMetadata> newStaticProperties = new ArrayList<>();
+		List<ItemMetadata> newDynamicProperties = new ArrayList<>();
+		for (ItemMetadata property : propertiesFromJavaSource) {
+			boolean dynamic = property.getName().contains("${");
+			List<ItemMetadata> properties = dynamic ? getDynamicProperties() : getProperties();
+			if (property.getSourceType() != null || indexOf(properties, property.getName()) == -1) {
+				(dynamic ? newDynamicProperties : newStaticProperties).add(property);
+			}
+		}
+		getDynamicProperties().addAll(newDynamicProperties);
+		expandProperties(newStaticProperties, getDynamicProperties(), getHint);
+		getProperties().addAll(newStaticProperties);
+		return true;
+	}
+
+	/**
+	 * Returns true if the given hint is built from a Java type (ex : the values of
+	 * an enum) and false otherwise.
+	 */
+	private static boolean isTypeHint(ItemHint hint) {
+		return hint.getSourceType() != null && hint.getSourceType().equals(hint.getName());
+	}
+
+	/**
+	 * Returns true if all values of the given hint have a source type which matches
+	 * the given matcher (or any source type if matcher is null) and false
+	 * otherwise.
+	 */
+	private static boolean areValuesFrom(ItemHint hint, SourceTypeMatcher matcher) {
+		if (hint.getValues() == null) {
+			return true;
+		}
+		return hint.getValues().stream().allMatch(v -> v.getSourceType() != null //
+				&& (matcher == null || matcher.matches(v.getSourceType())));
+	}
+
+	/**
+	 * Returns a copy of the given hint where the values coming from the compilation
+	 * units are replaced with the values of the given new hint.
+	 */
+	private static ItemHint mergeHint(ItemHint hint, ItemHint newHint, SourceTypeMatcher matcher) {
+		ItemHint merged = new ItemHint();
+		merged.setName(hint.getName());
+		merged.setDescription(hint.getDescription());
+		merged.setSourceType(hint.getSourceType());
+		merged.setSource(hint.getSource());
+		merged.setProviders(hint.getProviders());
+		List<ValueHint> values = new ArrayList<>();
+		if (hint.getValues() != null) {
+			hint.getValues().stream() //
+					.filter(v -> !matcher.matches(v.getSourceType())) //
+					.forEach(values::add);
+		}
+		if (newHint != null && newHint.getValues() != null) {
+			values.addAll(newHint.getValues());
+			if (!newHint.isBinary()) {
+				merged.setSource(Boolean.TRUE);
+			}
+		}
+		merged.setValues(values);
+		return merged;
+	}
+
+	private static int indexOf(List<? extends ItemBase> items, String name) {
+		for (int i = 0; i < items.size(); i++) {
+			ItemBase item = items.get(i);
+			if (item != null && name.equals(item.getName())) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Matcher of the source types (ex : 'org.acme.Config' or
+	 * 'org.acme.Config.Nested') declared in Java compilation units.
+	 *
+	 * <p>
+	 * The types declared in the compilation units are resolved by the JDT side
+	 * (see {@link MicroProfileProjectInfo#getSourceTypes()}), a source type
+	 * matches if it is one of those types or one of their nested types.
+	 * </p>
+	 */
+	private static class SourceTypeMatcher {
+
+		private final Set<String> typeNames;
+
+		public SourceTypeMatcher(Collection<String> sourceTypes) {
+			this.typeNames = new HashSet<>(sourceTypes);
+		}
+
+		public boolean matches(String sourceType) {
+			if (sourceType == null) {
+				return false;
+			}
+			String typeName = sourceType.replace('$', '.');
+			int index = typeName.indexOf('.');
+			while (index != -1) {
+				if (typeNames.contains(typeName.substring(0, index))) {
+					return true;
+				}
+				index = typeName.indexOf('.', index + 1);
+			}
+			return typeNames.contains(typeName);
+		}
+	}
+
 	private static <T extends ItemBase> void updateListFromPropertiesSources(List<T> allProperties,
 			List<T> propertiesFromJavaSources) {
 		List<? extends ItemBase> oldPropertiesFromJavaSources = allProperties.stream().filter(h -> {
@@ -167,6 +551,73 @@ public class ExtendedMicroProfileProjectInfo extends MicroProfileProjectInfo {
 		}
 	}
 
+	@Override
+	public void setProperties(List<ItemMetadata> properties) {
+		super.setProperties(properties);
+		invalidatePropertiesIndex();
+	}
+
+	/**
+	 * Returns the index of the properties used to find a property by its name.
+	 *
+	 * <p>
+	 * The index is built on demand and rebuilt when the properties list has been
+	 * updated.
+	 * </p>
+	 *
+	 * @return the index of the properties used to find a property by its name.
+	 */
+	public PropertiesIndex getPropertiesIndex() {
+		PropertiesIndex index = propertiesIndex;
+		int version = propertiesVersion;
+		List<ItemMetadata> properties = getProperties();
+		if (index == null || index.getVersion() != version || index.size() != properties.size()) {
+			index = new PropertiesIndex(properties, version);
+			propertiesIndex = index;
+		}
+		return index;
+	}
+
+	/**
+	 * Returns the lenient JSON Schema of the properties used to support YAML.
+	 *
+	 * <p>
+	 * The JSON Schema is generated on demand and generated again when the
+	 * properties list has been updated.
+	 * </p>
+	 *
+	 * @return the lenient JSON Schema of the properties used to support YAML.
+	 */
+	public String getJsonSchema() {
+		JsonSchema schema = jsonSchema;
+		int version = propertiesVersion;
+		int size = getProperties().size();
+		if (schema == null || schema.version != version || schema.size != size) {
+			schema = new JsonSchema(version, size, JSONSchemaUtils.toJSONSchema(this, true));
+			jsonSchema = schema;
+		}
+		return schema.schema;
+	}
+
+	/**
+	 * Returns the version of the properties which is incremented each time the
+	 * properties list is updated.
+	 *
+	 * @return the version of the properties which is incremented each time the
+	 *         properties list is updated.
+	 */
+	public int getPropertiesVersion() {
+		return propertiesVersion;
+	}
+
+	/**
+	 * Invalidate the index of the properties. This method must be called when the
+	 * properties list is updated.
+	 */
+	public void invalidatePropertiesIndex() {
+		propertiesVersion++;
+	}
+
 	public boolean isReloadFromSource() {
 		return reloadFromSource;
 	}
@@ -222,6 +673,7 @@ public class ExtendedMicroProfileProjectInfo extends MicroProfileProjectInfo {
 						if (newProperties != null) {
 							getProperties().addAll(newProperties);
 						}
+						invalidatePropertiesIndex();
 					}
 				}
 			}
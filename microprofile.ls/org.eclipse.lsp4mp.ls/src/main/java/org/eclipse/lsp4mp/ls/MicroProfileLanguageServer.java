@@ -22,6 +22,7 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import org.eclipse.lsp4j.InitializeParams;
@@ -38,6 +39,7 @@ import org.eclipse.lsp4mp.commons.MicroProfileJavaFileInfoParams;
 import org.eclipse.lsp4mp.commons.MicroProfileJavaProjectLabelsParams;
 import org.eclipse.lsp4mp.commons.MicroProfileProjectInfoParams;
 import org.eclipse.lsp4mp.commons.MicroProfilePropertiesChangeEvent;
+import org.eclipse.lsp4mp.commons.MicroProfileServerAvailabilityChangeEvent;
 import org.eclipse.lsp4mp.commons.ProjectLabelInfoEntry;
 import org.eclipse.lsp4mp.ls.api.MicroProfileJavaFileInfoProvider;
 import org.eclipse.lsp4mp.ls.api.MicroProfileJavaProjectLabelsProvider;
@@ -124,6 +126,13 @@ public class MicroProfileLanguageServer implements LanguageServer, ProcessLangua
 	@Override
 	public void initialized(InitializedParams params) {
 		capabilityManager.initializeCapabilities();
+		// load the project information of the properties files before the first
+		// completion or hover
+		textDocumentService.prefetchProjectInfos() //
+				.exceptionally(ex -> {
+					LOGGER.log(Level.WARNING, "Error while prefetching MicroProfile project information", ex);
+					return null;
+				});
 	}
 
 	/**
@@ -227,6 +236,13 @@ public class MicroProfileLanguageServer implements LanguageServer, ProcessLangua
 		textDocumentService.propertiesChanged(event);
 	}
 
+	@Override
+	public void serverAvailabilityChanged(MicroProfileServerAvailabilityChangeEvent event) {
+		if (capabilityManager.getClientCapabilities().isCodeLensRefreshSupported()) {
+			getLanguageClient().refreshCodeLenses();
+		}
+	}
+
 	@Override
 	public CompletableFuture<JsonSchemaForProjectInfo> getJsonSchemaForProjectInfo(
 			MicroProfileProjectInfoParams params) {
@@ -78,10 +78,12 @@ public class MicroProfileTextDocumentService implements TextDocumentService {
 	private final PropertiesFileTextDocumentService applicationPropertiesTextDocumentService;
 	private final JavaFileTextDocumentService javaTextDocumentService;
 	private final SharedSettings sharedSettings;
+	private final JavaTextDocuments javaTextDocuments;
 
 	public MicroProfileTextDocumentService(MicroProfileLanguageServer microprofileLanguageServer, SharedSettings sharedSettings, JavaTextDocuments javaTextDocuments) {
 		textDocumentServicesMap = new HashMap<>();
 		this.sharedSettings = sharedSettings;
+		this.javaTextDocuments = javaTextDocuments;
 		applicationPropertiesTextDocumentService = new PropertiesFileTextDocumentService(microprofileLanguageServer,
 				sharedSettings);
 		javaTextDocumentService = new JavaFileTextDocumentService(microprofileLanguageServer,
@@ -316,4 +318,16 @@ public class MicroProfileTextDocumentService implements TextDocumentService {
 		return applicationPropertiesTextDocumentService.getJsonSchemaForProjectInfo(params);
 	}
 
+	/**
+	 * Prefetch the MicroProfile project information of the properties files of
+	 * the MicroProfile projects of the workspace.
+	 *
+	 * @return the future which is completed when the project information are
+	 *         loaded.
+	 */
+	public CompletableFuture<Void> prefetchProjectInfos() {
+		return javaTextDocuments.getWorkspaceProjects() //
+				.thenCompose(applicationPropertiesTextDocumentService::prefetchProjectInfos);
+	}
+
 }
\ No newline at end of file
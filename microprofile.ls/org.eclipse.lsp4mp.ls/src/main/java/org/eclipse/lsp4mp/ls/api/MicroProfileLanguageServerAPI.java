@@ -20,6 +20,7 @@ import org.eclipse.lsp4j.jsonrpc.services.JsonRequest;
 import org.eclipse.lsp4j.services.LanguageServer;
 import org.eclipse.lsp4mp.commons.MicroProfileProjectInfoParams;
 import org.eclipse.lsp4mp.commons.MicroProfilePropertiesChangeEvent;
+import org.eclipse.lsp4mp.commons.MicroProfileServerAvailabilityChangeEvent;
 
 /**
  * MicroProfile language server API.
@@ -75,6 +76,16 @@ public interface MicroProfileLanguageServerAPI extends LanguageServer {
 	@JsonNotification("microprofile/propertiesChanged")
 	void propertiesChanged(MicroProfilePropertiesChangeEvent event);
 
+	/**
+	 * Notification for a server which serves the JAX-RS endpoints and which
+	 * becomes available or unavailable. The code lenses of the JAX-RS endpoints
+	 * depend on this availability and must be refreshed.
+	 *
+	 * @param event the server availability change event.
+	 */
+	@JsonNotification("microprofile/serverAvailabilityChanged")
+	void serverAvailabilityChanged(MicroProfileServerAvailabilityChangeEvent event);
+
 	/**
 	 * Returns the Json Schema for the MicroProfile properties of the given
 	 * application.yaml URI.
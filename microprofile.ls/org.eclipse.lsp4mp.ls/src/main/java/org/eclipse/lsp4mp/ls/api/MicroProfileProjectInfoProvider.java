@@ -13,11 +13,14 @@
 *******************************************************************************/
 package org.eclipse.lsp4mp.ls.api;
 
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
 
 import org.eclipse.lsp4j.jsonrpc.services.JsonRequest;
 import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
 import org.eclipse.lsp4mp.commons.MicroProfileProjectInfoParams;
+import org.eclipse.lsp4mp.commons.MicroProfileProjectInfosParams;
 
 /**
  * MicroProfile project information provider.
@@ -38,4 +41,34 @@ public interface MicroProfileProjectInfoProvider {
 	@JsonRequest("microprofile/projectInfo")
 	CompletableFuture<MicroProfileProjectInfo> getProjectInfo(MicroProfileProjectInfoParams params);
 
+	/**
+	 * Returns the MicroProfile project information of each properties file of
+	 * the given <code>params</code>, in the order of the properties file URIs.
+	 *
+	 * <p>
+	 * The default implementation requests the project information of each
+	 * properties file with {@link #getProjectInfo(MicroProfileProjectInfoParams)}.
+	 * </p>
+	 *
+	 * @param params the MicroProfile project information parameters of several
+	 *               properties files.
+	 * @return the MicroProfile project information of each properties file of the
+	 *         given <code>params</code>.
+	 */
+	@JsonRequest("microprofile/projectInfos")
+	default CompletableFuture<List<MicroProfileProjectInfo>> getProjectInfos(MicroProfileProjectInfosParams params) {
+		List<CompletableFuture<MicroProfileProjectInfo>> futures = params.getUris().stream() //
+				.map(uri -> {
+					MicroProfileProjectInfoParams projectInfoParams = new MicroProfileProjectInfoParams(uri);
+					projectInfoParams.setScopes(params.getScopes());
+					projectInfoParams.setDocumentFormat(params.getDocumentFormat());
+					return getProjectInfo(projectInfoParams);
+				}) //
+				.collect(Collectors.toList());
+		return CompletableFuture.allOf(futures.toArray(new CompletableFuture[futures.size()])) //
+				.thenApply(v -> futures.stream() //
+						.map(CompletableFuture::join) //
+						.collect(Collectors.toList()));
+	}
+
 }
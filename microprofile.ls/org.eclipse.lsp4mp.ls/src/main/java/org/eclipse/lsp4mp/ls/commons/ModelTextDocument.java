@@ -13,10 +13,15 @@
 *******************************************************************************/
 package org.eclipse.lsp4mp.ls.commons;
 
+import java.util.List;
 import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.function.BiFunction;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import org.eclipse.lsp4j.TextDocumentContentChangeEvent;
 import org.eclipse.lsp4j.TextDocumentItem;
 import org.eclipse.lsp4j.jsonrpc.CancelChecker;
 
@@ -31,18 +36,88 @@ public class ModelTextDocument<T> extends TextDocument {
 
 	private static final Logger LOGGER = Logger.getLogger(ModelTextDocument.class.getName());
 
+	/**
+	 * Function which updates a previous model with the changes of the text
+	 * document instead of parsing the whole text.
+	 *
+	 * @param <T> the model type (ex : DOM Document)
+	 */
+	@FunctionalInterface
+	public interface ModelUpdater<T> {
+
+		/**
+		 * Returns the model of the current text of the given document by updating
+		 * the given previous model.
+		 *
+		 * @param previousModel the model of the text before the changes.
+		 * @param document      the text document.
+		 * @param change        the changed region of the text.
+		 * @param cancelChecker the cancel checker.
+		 * @return the model of the current text of the given document.
+		 */
+		T update(T previousModel, TextDocument document, TextChangeRegion change, CancelChecker cancelChecker);
+	}
+
+	/**
+	 * The parse of the model of a given version of the text document.
+	 *
+	 * @param <T> the model type (ex : DOM Document)
+	 */
+	private static class ModelParse<T> {
+
+		private final int version;
+
+		private final CompletableFuture<T> result;
+
+		public ModelParse(int version) {
+			this.version = version;
+			this.result = new CompletableFuture<>();
+		}
+	}
+
 	private final BiFunction<TextDocument, CancelChecker, T> parse;
 
+	private final ModelUpdater<T> updater;
+
+	private final Object changeLock = new Object();
+
 	private T model;
 
+	// the last parsed model and the changes of the text done since this model has
+	// been parsed, used to update the model incrementally.
+	private T previousModel;
+
+	private TextChangeRegion change;
+
+	private int changeStamp;
+
+	// true while the previous model is updated with the changes
+	private boolean updating;
+
+	// the parse of the last version of the text document, shared by the readers of
+	// this version
+	private ModelParse<T> parsing;
+
 	public ModelTextDocument(TextDocumentItem document, BiFunction<TextDocument, CancelChecker, T> parse) {
+		this(document, parse, null);
+	}
+
+	public ModelTextDocument(TextDocumentItem document, BiFunction<TextDocument, CancelChecker, T> parse,
+			ModelUpdater<T> updater) {
 		super(document);
 		this.parse = parse;
+		this.updater = updater;
 	}
 
 	public ModelTextDocument(String text, String uri, BiFunction<TextDocument, CancelChecker, T> parse) {
+		this(text, uri, parse, null);
+	}
+
+	public ModelTextDocument(String text, String uri, BiFunction<TextDocument, CancelChecker, T> parse,
+			ModelUpdater<T> updater) {
 		super(text, uri);
 		this.parse = parse;
+		this.updater = updater;
 	}
 
 	public T getExistingModel() {
@@ -59,23 +134,117 @@ public class ModelTextDocument<T> extends TextDocument {
 	/**
 	 * Return the existing parsed model synchronized with last version of the text
 	 * document or parse the model.
-	 * 
+	 *
+	 * <p>
+	 * The readers of the same version share the same parse. A reader of a newer
+	 * version doesn't wait for the parse of an old version, which is stopped by
+	 * its {@link TextDocumentVersionChecker}.
+	 * </p>
+	 *
 	 * @return the existing parsed model synchronized with last version of the text
 	 *         document or parse the model.
 	 */
-	private synchronized T getSynchronizedModel() {
-		if (model != null) {
-			return model;
+	private T getSynchronizedModel() {
+		ModelParse<T> modelParse;
+		boolean owner = false;
+		synchronized (changeLock) {
+			T current = model;
+			if (current != null) {
+				return current;
+			}
+			int version = getVersion();
+			modelParse = parsing;
+			if (modelParse == null || modelParse.version != version) {
+				modelParse = new ModelParse<>(version);
+				parsing = modelParse;
+				owner = true;
+			}
 		}
-		int version = super.getVersion();
+		if (!owner) {
+			// the model of this version is parsing, wait for the result
+			try {
+				return modelParse.result.join();
+			} catch (CompletionException e) {
+				Throwable cause = e.getCause();
+				throw cause instanceof RuntimeException ? (RuntimeException) cause : e;
+			}
+		}
+		try {
+			T result = parseModel(modelParse.version);
+			modelParse.result.complete(result);
+			return result;
+		} catch (RuntimeException e) {
+			modelParse.result.completeExceptionally(e);
+			throw e;
+		} finally {
+			synchronized (changeLock) {
+				if (parsing == modelParse) {
+					parsing = null;
+				}
+			}
+		}
+	}
+
+	private T parseModel(int version) {
 		long start = System.currentTimeMillis();
 		try {
 			LOGGER.fine("Start parsing of model with version '" + version);
 			// Stop of parse process can be done when completable future is canceled or when
 			// version of document changes
 			CancelChecker cancelChecker = new TextDocumentVersionChecker(this, version);
-			// parse the model
-			model = parse.apply(this, cancelChecker);
+			T previous = null;
+			TextChangeRegion textChange = null;
+			int stamp;
+			synchronized (changeLock) {
+				if (!updating && previousModel != null && change != null) {
+					// only one parse can update the previous model, the parse of a newer
+					// version parses the whole text while an old version is updating
+					previous = previousModel;
+					textChange = change;
+					updating = true;
+				}
+				stamp = changeStamp;
+			}
+			T result = null;
+			boolean consumed = false;
+			try {
+				if (previous != null) {
+					// update the previous model with the changes
+					try {
+						result = updater.update(previous, this, textChange, cancelChecker);
+					} catch (CancellationException e) {
+						throw e;
+					} catch (RuntimeException e) {
+						LOGGER.log(Level.WARNING, "Error while updating model with version '" + version + "'", e);
+					}
+				}
+				if (result == null) {
+					// parse the model
+					result = parse.apply(this, cancelChecker);
+				}
+				consumed = true;
+			} finally {
+				if (previous != null) {
+					synchronized (changeLock) {
+						updating = false;
+						if (consumed && previousModel == previous) {
+							// the previous model has been consumed by the update, when the update is
+							// stopped the previous model can be updated by the next parse
+							previousModel = null;
+							change = null;
+						}
+					}
+				}
+			}
+			synchronized (changeLock) {
+				if (changeStamp != stamp || getVersion() != version) {
+					// the text has changed during the parse, the model is out of date
+					changeStamp++;
+					return result;
+				}
+				model = result;
+			}
+			return result;
 		} catch (CancellationException e) {
 			LOGGER.fine("Stop parsing parsing of model with version '" + version + "' in "
 					+ (System.currentTimeMillis() - start) + "ms");
@@ -84,14 +253,42 @@ public class ModelTextDocument<T> extends TextDocument {
 			LOGGER.fine("End parse of model with version '" + version + "' in " + (System.currentTimeMillis() - start)
 					+ "ms");
 		}
-		return model;
+	}
+
+	@Override
+	public void update(List<TextDocumentContentChangeEvent> changes) {
+		super.update(changes);
+		if (isIncremental() && !changes.isEmpty()) {
+			// text changed, mark the model as dirty
+			cancelModel();
+		}
+	}
+
+	@Override
+	protected void aboutToChange(int offset, int length, String text, int textLength) {
+		if (updater == null) {
+			return;
+		}
+		synchronized (changeLock) {
+			if (change == null) {
+				T current = model;
+				if (current == null) {
+					// the model has never been parsed
+					return;
+				}
+				previousModel = current;
+				change = new TextChangeRegion(textLength);
+			}
+			change.add(offset, length, textLength);
+			changeStamp++;
+		}
 	}
 
 	@Override
 	public void setText(String text) {
 		super.setText(text);
-		// text changed, mark the model as dirty
-		cancelModel();
+		// the whole text has been replaced, the model cannot be updated
+		clearChanges();
 	}
 
 	@Override
@@ -105,6 +302,30 @@ public class ModelTextDocument<T> extends TextDocument {
 	 * Mark the model as dirty
 	 */
 	private void cancelModel() {
+		T current = model;
+		if (current != null && updater != null) {
+			synchronized (changeLock) {
+				if (change == null) {
+					// keep the current model to update it with the next changes
+					previousModel = current;
+					change = new TextChangeRegion(getText().length());
+					changeStamp++;
+				}
+			}
+		}
+		model = null;
+	}
+
+	private void clearChanges() {
+		if (changeLock == null) {
+			// called by the constructor of TextDocument
+			return;
+		}
+		synchronized (changeLock) {
+			previousModel = null;
+			change = null;
+			changeStamp++;
+		}
 		model = null;
 	}
 
@@ -34,13 +34,30 @@ public class ModelTextDocuments<T> extends TextDocuments<ModelTextDocument<T>> {
 
 	private final BiFunction<TextDocument, CancelChecker, T> parse;
 
+	private final ModelTextDocument.ModelUpdater<T> updater;
+
 	public ModelTextDocuments(BiFunction<TextDocument, CancelChecker, T> parse) {
+		this(parse, null);
+	}
+
+	/**
+	 * Create the cache of {@link ModelTextDocument} with the given parse function
+	 * and the given updater used to update the model of a document with the
+	 * incremental changes.
+	 *
+	 * @param parse   the function which parses the whole text of a document.
+	 * @param updater the function which updates the previous model of a document
+	 *                with the changed region and null otherwise.
+	 */
+	public ModelTextDocuments(BiFunction<TextDocument, CancelChecker, T> parse,
+			ModelTextDocument.ModelUpdater<T> updater) {
 		this.parse = parse;
+		this.updater = updater;
 	}
 
 	@Override
 	public ModelTextDocument<T> createDocument(TextDocumentItem document) {
-		ModelTextDocument<T> doc = new ModelTextDocument<T>(document, parse);
+		ModelTextDocument<T> doc = new ModelTextDocument<T>(document, parse, updater);
 		doc.setIncremental(isIncremental());
 		return doc;
 	}
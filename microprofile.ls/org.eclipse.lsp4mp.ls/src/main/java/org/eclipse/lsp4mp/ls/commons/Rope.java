@@ -0,0 +1,239 @@
+/*******************************************************************************
+* Copyright (c) 2024 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.ls.commons;
+
+/**
+ * Immutable text stored as a height-balanced tree of text chunks.
+ *
+ * <p>
+ * A replace creates a new rope which shares the unchanged chunks with this rope
+ * in O(log n) and the whole text is materialized as {@link String} only when
+ * {@link #toString()} is called (the result is cached).
+ * </p>
+ *
+ */
+public final class Rope {
+
+	private static final int MAX_LEAF_LENGTH = 1024;
+
+	private static final Rope EMPTY = new Rope("");
+
+	// text of a leaf and null for a concatenation
+	private final String leaf;
+
+	private final Rope left;
+
+	private final Rope right;
+
+	private final int length;
+
+	private final int height;
+
+	private volatile String text;
+
+	private Rope(String leaf) {
+		this.leaf = leaf;
+		this.left = null;
+		this.right = null;
+		this.length = leaf.length();
+		this.height = 0;
+		this.text = leaf;
+	}
+
+	private Rope(Rope left, Rope right) {
+		this.leaf = null;
+		this.left = left;
+		this.right = right;
+		this.length = left.length + right.length;
+		this.height = Math.max(left.height, right.height) + 1;
+	}
+
+	/**
+	 * Returns the rope of the given text.
+	 *
+	 * @param text the text.
+	 * @return the rope of the given text.
+	 */
+	public static Rope of(String text) {
+		if (text == null || text.isEmpty()) {
+			return EMPTY;
+		}
+		Rope rope = of(text, 0, text.length());
+		rope.text = text;
+		return rope;
+	}
+
+	private static Rope of(String text, int start, int end) {
+		if (end - start <= MAX_LEAF_LENGTH) {
+			return new Rope(text.substring(start, end));
+		}
+		int middle = (start + end) >>> 1;
+		return new Rope(of(text, start, middle), of(text, middle, end));
+	}
+
+	/**
+	 * Returns the length of the text.
+	 *
+	 * @return the length of the text.
+	 */
+	public int length() {
+		return length;
+	}
+
+	/**
+	 * Returns a rope where the text at the given offset and length is replaced
+	 * with the given text.
+	 *
+	 * <p>
+	 * Like {@link StringBuilder#replace(int, int, String)}, the replaced text ends
+	 * at the end of the text if the given length is too long.
+	 * </p>
+	 *
+	 * @param offset the start offset of the replaced text.
+	 * @param length the length of the replaced text.
+	 * @param text   the new text.
+	 * @return a rope where the text at the given offset and length is replaced
+	 *         with the given text.
+	 */
+	public Rope replace(int offset, int length, String text) {
+		if (offset < 0 || offset > this.length || length < 0) {
+			throw new IndexOutOfBoundsException(
+					"offset: " + offset + ", length: " + length + ", text length: " + this.length);
+		}
+		int end = Math.min(offset + length, this.length);
+		return join(join(prefix(this, offset), of(text)), suffix(this, end));
+	}
+
+	int getHeight() {
+		return height;
+	}
+
+	/**
+	 * Returns the text of the rope.
+	 *
+	 * @return the text of the rope.
+	 */
+	@Override
+	public String toString() {
+		String result = text;
+		if (result == null) {
+			char[] chars = new char[length];
+			fill(chars, 0);
+			result = new String(chars);
+			text = result;
+		}
+		return result;
+	}
+
+	private void fill(char[] chars, int offset) {
+		if (leaf != null) {
+			leaf.getChars(0, leaf.length(), chars, offset);
+			return;
+		}
+		String cached = text;
+		if (cached != null) {
+			cached.getChars(0, cached.length(), chars, offset);
+			return;
+		}
+		left.fill(chars, offset);
+		right.fill(chars, offset + left.length);
+	}
+
+	/**
+	 * Returns the rope of the text from 0 to the given end offset (exclusive).
+	 */
+	private static Rope prefix(Rope rope, int end) {
+		if (end == 0) {
+			return EMPTY;
+		}
+		if (end == rope.length) {
+			return rope;
+		}
+		if (rope.leaf != null) {
+			return new Rope(rope.leaf.substring(0, end));
+		}
+		if (end <= rope.left.length) {
+			return prefix(rope.left, end);
+		}
+		return join(rope.left, prefix(rope.right, end - rope.left.length));
+	}
+
+	/**
+	 * Returns the rope of the text from the given start offset (inclusive) to the
+	 * end.
+	 */
+	private static Rope suffix(Rope rope, int start) {
+		if (start == 0) {
+			return rope;
+		}
+		if (start == rope.length) {
+			return EMPTY;
+		}
+		if (rope.leaf != null) {
+			return new Rope(rope.leaf.substring(start));
+		}
+		if (start >= rope.left.length) {
+			return suffix(rope.right, start - rope.left.length);
+		}
+		return join(suffix(rope.left, start), rope.right);
+	}
+
+	/**
+	 * Returns the concatenation of the given ropes by keeping the tree balanced
+	 * and by merging small adjacent leaves.
+	 */
+	private static Rope join(Rope left, Rope right) {
+		if (left.length == 0) {
+			return right;
+		}
+		if (right.length == 0) {
+			return left;
+		}
+		if (left.leaf != null && right.leaf != null) {
+			if (left.length + right.length <= MAX_LEAF_LENGTH) {
+				return new Rope(left.leaf + right.leaf);
+			}
+			return new Rope(left, right);
+		}
+		if (left.height > right.height + 1 || (right.leaf != null && right.length < MAX_LEAF_LENGTH)) {
+			// join the right rope with the right branch of the left rope
+			return balance(left.left, join(left.right, right));
+		}
+		if (right.height > left.height + 1 || (left.leaf != null && left.length < MAX_LEAF_LENGTH)) {
+			// join the left rope with the left branch of the right rope
+			return balance(join(left, right.left), right.right);
+		}
+		return new Rope(left, right);
+	}
+
+	/**
+	 * Returns the concatenation of the given balanced ropes whose heights differ
+	 * by at most 2.
+	 */
+	private static Rope balance(Rope left, Rope right) {
+		if (left.height > right.height + 1) {
+			if (left.left.height >= left.right.height) {
+				return new Rope(left.left, new Rope(left.right, right));
+			}
+			return new Rope(new Rope(left.left, left.right.left), new Rope(left.right.right, right));
+		}
+		if (right.height > left.height + 1) {
+			if (right.right.height >= right.left.height) {
+				return new Rope(new Rope(left, right.left), right.right);
+			}
+			return new Rope(new Rope(left, right.left.left), new Rope(right.left.right, right.right));
+		}
+		return new Rope(left, right);
+	}
+}
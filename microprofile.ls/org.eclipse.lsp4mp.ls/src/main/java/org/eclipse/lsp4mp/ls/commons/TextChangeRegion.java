@@ -0,0 +1,99 @@
+/*******************************************************************************
+* Copyright (c) 2024 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.ls.commons;
+
+/**
+ * The region of a text which has been changed by one or several text document
+ * changes.
+ *
+ * <p>
+ * The region is stored with the length of the text which has not changed at the
+ * beginning and at the end of the text.
+ * </p>
+ *
+ */
+public class TextChangeRegion {
+
+	private final int previousLength;
+
+	private int unchangedPrefix;
+
+	private int unchangedSuffix;
+
+	private boolean changed;
+
+	/**
+	 * Create a text change region without changes.
+	 *
+	 * @param previousLength the length of the text before the changes.
+	 */
+	public TextChangeRegion(int previousLength) {
+		this.previousLength = previousLength;
+		this.unchangedPrefix = previousLength;
+		this.unchangedSuffix = previousLength;
+	}
+
+	/**
+	 * Add the given change.
+	 *
+	 * @param offset     the start offset of the change.
+	 * @param length     the length of the replaced text.
+	 * @param textLength the length of the whole text before the change.
+	 */
+	public void add(int offset, int length, int textLength) {
+		unchangedPrefix = Math.min(unchangedPrefix, offset);
+		unchangedSuffix = Math.min(unchangedSuffix, textLength - (offset + length));
+		changed = true;
+	}
+
+	/**
+	 * Returns the length of the text before the changes.
+	 *
+	 * @return the length of the text before the changes.
+	 */
+	public int getPreviousLength() {
+		return previousLength;
+	}
+
+	/**
+	 * Returns the length of the text which has not changed at the beginning of the
+	 * text.
+	 *
+	 * @return the length of the text which has not changed at the beginning of the
+	 *         text.
+	 */
+	public int getUnchangedPrefix() {
+		return unchangedPrefix;
+	}
+
+	/**
+	 * Returns the length of the text which has not changed at the end of the
+	 * text.
+	 *
+	 * @return the length of the text which has not changed at the end of the
+	 *         text.
+	 */
+	public int getUnchangedSuffix() {
+		return unchangedSuffix;
+	}
+
+	/**
+	 * Returns true if some changes have been added and false otherwise.
+	 *
+	 * @return true if some changes have been added and false otherwise.
+	 */
+	public boolean hasChanges() {
+		return changed;
+	}
+}
@@ -38,6 +38,10 @@ public class TextDocument extends TextDocumentItem {
 
 	private ILineTracker lineTracker;
 
+	// the text of the document in incremental mode, updated without copying the
+	// whole text and null when the text is stored as String.
+	private volatile Rope rope;
+
 	private boolean incremental;
 
 	public TextDocument(TextDocumentItem document) {
@@ -62,6 +66,31 @@ public class TextDocument extends TextDocumentItem {
 		return incremental;
 	}
 
+	/**
+	 * Returns the lock which serializes the changes of the text of the document.
+	 *
+	 * @return the lock which serializes the changes of the text of the document.
+	 */
+	Object getChangeLock() {
+		return lock;
+	}
+
+	@Override
+	public String getText() {
+		Rope rope = this.rope;
+		if (rope != null) {
+			// materialize the text (the rope caches it)
+			return rope.toString();
+		}
+		return super.getText();
+	}
+
+	@Override
+	public void setText(String text) {
+		super.setText(text);
+		rope = null;
+	}
+
 	public Position positionAt(int position) throws BadLocationException {
 		ILineTracker lineTracker = getLineTracker();
 		return lineTracker.getPositionAt(position);
@@ -82,7 +111,7 @@ public class TextDocument extends TextDocumentItem {
 	public String lineText(int lineNumber) throws BadLocationException {
 		ILineTracker lineTracker = getLineTracker();
 		Line line = lineTracker.getLineInformation(lineNumber);
-		String text = super.getText();
+		String text = getText();
 		return text.substring(line.offset, line.offset + line.length);
 	}
 
@@ -105,7 +134,7 @@ public class TextDocument extends TextDocumentItem {
 			Position pos = positionAt(textOffset);
 			ILineTracker lineTracker = getLineTracker();
 			Line line = lineTracker.getLineInformation(pos.getLine());
-			String text = super.getText();
+			String text = getText();
 			String lineText = text.substring(line.offset, textOffset);
 			int position = lineText.length();
 			Matcher m = wordDefinition.matcher(lineText);
@@ -139,10 +168,23 @@ public class TextDocument extends TextDocumentItem {
 			return lineTracker;
 		}
 		ILineTracker lineTracker = isIncremental() ? new TreeLineTracker(new ListLineTracker()) : new ListLineTracker();
-		lineTracker.set(super.getText());
+		lineTracker.set(getText());
 		return lineTracker;
 	}
 
+	/**
+	 * Called in incremental mode before a change is applied to the text of the
+	 * document.
+	 *
+	 * @param offset     the start offset of the change.
+	 * @param length     the length of the replaced text.
+	 * @param text       the new text.
+	 * @param textLength the length of the whole text before the change.
+	 */
+	protected void aboutToChange(int offset, int length, String text, int textLength) {
+		// Do nothing
+	}
+
 	/**
 	 * Update text of the document by using the changes and according the
 	 * incremental support.
@@ -159,7 +201,7 @@ public class TextDocument extends TextDocumentItem {
 				long start = System.currentTimeMillis();
 				synchronized (lock) {
 					// Initialize buffer and line tracker from the current text document
-					StringBuilder buffer = new StringBuilder(getText());
+					Rope buffer = rope != null ? rope : Rope.of(getText());
 
 					// Loop for each changes and update the buffer
 					for (int i = 0; i < changes.size(); i++) {
@@ -177,11 +219,13 @@ public class TextDocument extends TextDocumentItem {
 						}
 						String text = changeEvent.getText();
 						int startOffset = offsetAt(range.getStart());
-						buffer.replace(startOffset, startOffset + length, text);
+						aboutToChange(startOffset, length, text, buffer.length());
+						buffer = buffer.replace(startOffset, length, text);
 						lineTracker.replace(startOffset, length, text);
 					}
-					// Update the new text content from the updated buffer
-					setText(buffer.toString());
+					// Update the new text content from the updated buffer, the text is
+					// materialized only when it is requested
+					rope = buffer;
 				}
 				LOGGER.fine("Text document content updated in " + (System.currentTimeMillis() - start) + "ms");
 			} catch (BadLocationException e) {
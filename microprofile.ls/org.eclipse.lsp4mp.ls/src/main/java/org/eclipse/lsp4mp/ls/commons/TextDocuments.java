@@ -14,8 +14,9 @@
 package org.eclipse.lsp4mp.ls.commons;
 
 import java.util.Collection;
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.lsp4j.DidChangeTextDocumentParams;
 import org.eclipse.lsp4j.DidCloseTextDocumentParams;
@@ -24,7 +25,15 @@ import org.eclipse.lsp4j.TextDocumentIdentifier;
 import org.eclipse.lsp4j.TextDocumentItem;
 
 /**
- * A manager for simple text documents
+ * A manager for simple text documents.
+ *
+ * <p>
+ * The documents are read without lock, and the changes are serialized per
+ * document : a long change of a document doesn't block the requests and the
+ * changes of the other documents. The requests which use a document while it
+ * is changing are stopped by the version of the document (see
+ * {@link TextDocumentVersionChecker}).
+ * </p>
  */
 public class TextDocuments<T extends TextDocument> {
 
@@ -33,7 +42,7 @@ public class TextDocuments<T extends TextDocument> {
 	private boolean incremental = true; // default on
 
 	public TextDocuments() {
-		documents = new HashMap<>();
+		documents = new ConcurrentHashMap<>();
 	}
 
 	/**
@@ -43,9 +52,11 @@ public class TextDocuments<T extends TextDocument> {
 	 */
 	public void setIncremental(boolean incremental) {
 		this.incremental = incremental;
-		synchronized (documents) {
-			documents.values().forEach(document -> document.setIncremental(incremental));
-		}
+		documents.values().forEach(document -> {
+			synchronized (document.getChangeLock()) {
+				document.setIncremental(incremental);
+			}
+		});
 	}
 
 	/**
@@ -67,9 +78,7 @@ public class TextDocuments<T extends TextDocument> {
 	 * @return the text document or `undefined`.
 	 */
 	public T get(String uri) {
-		synchronized (documents) {
-			return documents.get(uri);
-		}
+		return documents.get(uri);
 	}
 
 	public T createDocument(TextDocumentItem document) {
@@ -79,34 +88,26 @@ public class TextDocuments<T extends TextDocument> {
 	}
 
 	public T onDidChangeTextDocument(DidChangeTextDocumentParams params) {
-		synchronized (documents) {
-			T document = getDocument(params.getTextDocument());
-			if (document != null) {
+		T document = getDocument(params.getTextDocument());
+		if (document != null) {
+			synchronized (document.getChangeLock()) {
 				document.setVersion(params.getTextDocument().getVersion());
 				document.update(params.getContentChanges());
-				return document;
 			}
+			return document;
 		}
 		return null;
 	}
 
 	public T onDidOpenTextDocument(DidOpenTextDocumentParams params) {
 		TextDocumentItem item = params.getTextDocument();
-		synchronized (documents) {
-			T document = createDocument(item);
-			documents.put(document.getUri(), document);
-			return document;
-		}
+		T document = createDocument(item);
+		documents.put(document.getUri(), document);
+		return document;
 	}
 
 	public T onDidCloseTextDocument(DidCloseTextDocumentParams params) {
-		synchronized (documents) {
-			T document = getDocument(params.getTextDocument());
-			if (document != null) {
-				documents.remove(params.getTextDocument().getUri());
-			}
-			return document;
-		}
+		return documents.remove(params.getTextDocument().getUri());
 	}
 
 	private T getDocument(TextDocumentIdentifier identifier) {
@@ -114,14 +115,14 @@ public class TextDocuments<T extends TextDocument> {
 	}
 
 	/**
-	 * Returns the all opened documents.
+	 * Returns the all opened documents. The returned collection is a view of the
+	 * opened documents which never throws
+	 * {@link java.util.ConcurrentModificationException}.
 	 *
 	 * @return the all opened documents.
 	 */
 	public Collection<T> all() {
-		synchronized (documents) {
-			return documents.values();
-		}
+		return Collections.unmodifiableCollection(documents.values());
 	}
 
 }
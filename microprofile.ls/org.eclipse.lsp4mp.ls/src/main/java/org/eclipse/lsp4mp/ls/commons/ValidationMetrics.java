@@ -0,0 +1,99 @@
+/*******************************************************************************
+* Copyright (c) 2024 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.ls.commons;
+
+/**
+ * The measured timings of the validation of a document by a
+ * {@link ValidatorDelayer}.
+ *
+ */
+public class ValidationMetrics {
+
+	private final String uri;
+
+	private final int validationCount;
+
+	private final long averageValidationTime;
+
+	private final long averageChangeInterval;
+
+	private final long delay;
+
+	public ValidationMetrics(String uri, int validationCount, long averageValidationTime, long averageChangeInterval,
+			long delay) {
+		this.uri = uri;
+		this.validationCount = validationCount;
+		this.averageValidationTime = averageValidationTime;
+		this.averageChangeInterval = averageChangeInterval;
+		this.delay = delay;
+	}
+
+	/**
+	 * Returns the document URI.
+	 *
+	 * @return the document URI.
+	 */
+	public String getUri() {
+		return uri;
+	}
+
+	/**
+	 * Returns the number of completed validations of the document.
+	 *
+	 * @return the number of completed validations of the document.
+	 */
+	public int getValidationCount() {
+		return validationCount;
+	}
+
+	/**
+	 * Returns the moving average (in milliseconds) of the validation time of the
+	 * document and -1 if the document has never been validated.
+	 *
+	 * @return the moving average (in milliseconds) of the validation time of the
+	 *         document and -1 if the document has never been validated.
+	 */
+	public long getAverageValidationTime() {
+		return averageValidationTime;
+	}
+
+	/**
+	 * Returns the moving average (in milliseconds) of the time between two changes
+	 * of the document while typing and -1 if it is unknown.
+	 *
+	 * @return the moving average (in milliseconds) of the time between two changes
+	 *         of the document while typing and -1 if it is unknown.
+	 */
+	public long getAverageChangeInterval() {
+		return averageChangeInterval;
+	}
+
+	/**
+	 * Returns the delay (in milliseconds) used for the next validation of the
+	 * document.
+	 *
+	 * @return the delay (in milliseconds) used for the next validation of the
+	 *         document.
+	 */
+	public long getDelay() {
+		return delay;
+	}
+
+	@Override
+	public String toString() {
+		return "ValidationMetrics [uri=" + uri + ", validationCount=" + validationCount + ", averageValidationTime="
+				+ averageValidationTime + "ms, averageChangeInterval=" + averageChangeInterval + "ms, delay=" + delay
+				+ "ms]";
+	}
+}
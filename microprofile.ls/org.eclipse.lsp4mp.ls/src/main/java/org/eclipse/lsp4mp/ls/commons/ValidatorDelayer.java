@@ -13,40 +13,184 @@
 *******************************************************************************/
 package org.eclipse.lsp4mp.ls.commons;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.Executors;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
-import java.util.function.Consumer;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.eclipse.lsp4j.jsonrpc.CancelChecker;
 
 /**
  * Validate a given document with delay.
  *
+ * <p>
+ * The validator receives a {@link CancelChecker} bound to the version of the
+ * document which has been scheduled : when a newer version of the document
+ * arrives while the validation is running, the validation is stopped at the
+ * next {@link CancelChecker#checkCanceled()} instead of publishing stale
+ * diagnostics.
+ * </p>
+ *
+ * <p>
+ * The delay is adapted for each document with the moving averages of the
+ * validation time and of the time between two changes while typing : a small
+ * document is validated almost immediately when the user stops typing and a
+ * huge document waits longer. The validations of all the delayers are
+ * scheduled in a shared scheduler and the number of concurrent validations is
+ * limited : a validation which doesn't get a permit is rescheduled instead of
+ * blocking a thread of the scheduler, and the permit is released as soon as the
+ * validator returns, the asynchronous part of the validation (ex : a request to
+ * the Java language server) only updates the statistics of the document.
+ * </p>
+ *
  * @param <T>
  */
 public class ValidatorDelayer<T extends TextDocument> {
 
+	private static final Logger LOGGER = Logger.getLogger(ValidatorDelayer.class.getName());
+
+	/**
+	 * The delay used for the first validation of a document, when the validation
+	 * time of the document is unknown.
+	 */
 	public static final long DEFAULT_VALIDATION_DELAY_MS = 500;
 
+	public static final long MIN_VALIDATION_DELAY_MS = 50;
+
+	public static final long MAX_VALIDATION_DELAY_MS = 3000;
+
+	private static final int MAX_CONCURRENT_VALIDATIONS = Math.max(2,
+			Runtime.getRuntime().availableProcessors() / 2);
+
+	/**
+	 * The time after which an asynchronous validation which is not completed is
+	 * ignored.
+	 */
+	public static final long VALIDATION_TIMEOUT_MS = 30000;
+
+	// weight of the last measure in the moving averages
+	private static final double AVERAGE_WEIGHT = 0.3;
+
+	private static final Semaphore VALIDATION_PERMITS = new Semaphore(MAX_CONCURRENT_VALIDATIONS);
+
+	private static ScheduledExecutorService sharedExecutorService;
+
+	/**
+	 * Validator of a document.
+	 *
+	 * @param <T> the document type.
+	 */
+	@FunctionalInterface
+	public interface Validator<T> {
+
+		/**
+		 * Validate the given document.
+		 *
+		 * @param document      the document to validate.
+		 * @param cancelChecker the cancel checker bound to the validated version of
+		 *                      the document.
+		 * @return the future of the validation when the validation is done
+		 *         asynchronously and null otherwise.
+		 */
+		CompletableFuture<?> validate(T document, CancelChecker cancelChecker);
+	}
+
+	private static class PendingValidation {
+
+		private Future<?> future;
+	}
+
+	/**
+	 * The statistics of the changes and the validations of a document.
+	 */
+	private static class DocumentStatistics {
+
+		private long lastChangeTime;
+
+		// moving averages in milliseconds, negative when unknown
+		private double changeInterval = -1;
+
+		private double validationTime = -1;
+
+		private int validationCount;
+
+		public synchronized void changed() {
+			long now = System.nanoTime();
+			if (lastChangeTime != 0) {
+				double interval = (now - lastChangeTime) / 1_000_000d;
+				if (interval <= MAX_VALIDATION_DELAY_MS) {
+					// ignore the pauses, only the changes while typing are measured
+					changeInterval = average(changeInterval, interval);
+				}
+			}
+			lastChangeTime = now;
+		}
+
+		public synchronized void validated(double time) {
+			validationTime = average(validationTime, time);
+			validationCount++;
+		}
+
+		public synchronized long getDelay(long initialDelay) {
+			if (validationTime < 0) {
+				return initialDelay;
+			}
+			// wait for a pause in the typing, and longer than the validation time to
+			// avoid validating continuously a huge document
+			double delay = Math.max(validationTime * 2, changeInterval * 1.5);
+			return Math.min(MAX_VALIDATION_DELAY_MS, Math.max(MIN_VALIDATION_DELAY_MS, (long) delay));
+		}
+
+		public synchronized ValidationMetrics getMetrics(String uri, long initialDelay) {
+			return new ValidationMetrics(uri, validationCount, Math.round(validationTime), Math.round(changeInterval),
+					getDelay(initialDelay));
+		}
+
+		private static double average(double average, double value) {
+			return average < 0 ? value : AVERAGE_WEIGHT * value + (1 - AVERAGE_WEIGHT) * average;
+		}
+	}
+
 	private final ScheduledExecutorService executorService;
 
-	private final Consumer<T> validator;
+	private final Validator<T> validator;
 
-	private final Map<String, Future<?>> pendingValidationRequests;
+	private final Map<String, PendingValidation> pendingValidationRequests;
+
+	private final Map<String, DocumentStatistics> statistics;
 
 	private final long validationDelayMs;
 
-	public ValidatorDelayer(Consumer<T> validator) {
-		this(Executors.newScheduledThreadPool(2), validator, DEFAULT_VALIDATION_DELAY_MS);
+	public ValidatorDelayer(Validator<T> validator) {
+		this(getSharedExecutorService(), validator, DEFAULT_VALIDATION_DELAY_MS);
 	}
 
-	public ValidatorDelayer(ScheduledExecutorService executorService, Consumer<T> validator,
+	/**
+	 * Create a validator delayer.
+	 *
+	 * @param executorService   the executor service used to schedule the
+	 *                          validations.
+	 * @param validator         the validator.
+	 * @param validationDelayMs the delay used for the first validation of a
+	 *                          document.
+	 */
+	public ValidatorDelayer(ScheduledExecutorService executorService, Validator<T> validator,
 			long validationDelayMs) {
 		this.executorService = executorService;
 		this.validator = validator;
 		this.pendingValidationRequests = new HashMap<>();
+		this.statistics = new ConcurrentHashMap<>();
 		this.validationDelayMs = validationDelayMs;
 	}
 
@@ -59,31 +203,92 @@ public class ValidatorDelayer<T extends TextDocument> {
 	 */
 	public void validateWithDelay(T document) {
 		String uri = document.getUri();
-		cleanPendingValidation(uri);
+		DocumentStatistics documentStatistics = statistics.computeIfAbsent(uri, k -> new DocumentStatistics());
+		documentStatistics.changed();
+		long delay = documentStatistics.getDelay(validationDelayMs);
 		int version = document.getVersion();
-		Future<?> request = executorService.schedule(() -> {
-			synchronized (pendingValidationRequests) {
-				pendingValidationRequests.remove(uri);
-			}
-			if (version == document.getVersion()) {
-				validator.accept(document);
-			}
-		}, validationDelayMs, TimeUnit.MILLISECONDS);
+		PendingValidation request = new PendingValidation();
 		synchronized (pendingValidationRequests) {
+			cleanPendingValidation(uri);
 			pendingValidationRequests.put(uri, request);
+			request.future = executorService.schedule(() -> {
+				validate(document, version, request, documentStatistics);
+			}, delay, TimeUnit.MILLISECONDS);
+		}
+	}
+
+	private void validate(T document, int version, PendingValidation request, DocumentStatistics documentStatistics) {
+		if (version != document.getVersion()) {
+			return;
+		}
+		synchronized (pendingValidationRequests) {
+			if (pendingValidationRequests.get(document.getUri()) != request) {
+				// the validation has been cancelled
+				return;
+			}
+			if (!VALIDATION_PERMITS.tryAcquire()) {
+				// too many validations are running, try again later without blocking a
+				// thread of the scheduler
+				request.future = executorService.schedule(() -> {
+					validate(document, version, request, documentStatistics);
+				}, MIN_VALIDATION_DELAY_MS, TimeUnit.MILLISECONDS);
+				return;
+			}
+			pendingValidationRequests.remove(document.getUri());
+		}
+		long start = System.nanoTime();
+		CompletableFuture<?> result;
+		try {
+			result = validator.validate(document, new TextDocumentVersionChecker(document, version));
+		} finally {
+			VALIDATION_PERMITS.release();
+		}
+		if (result == null) {
+			validated(document, start, documentStatistics);
+			return;
+		}
+		AtomicBoolean done = new AtomicBoolean();
+		Future<?> timeout = executorService.schedule(() -> {
+			if (done.compareAndSet(false, true)) {
+				LOGGER.warning("The validation of '" + document.getUri() + "' has not been completed after "
+						+ VALIDATION_TIMEOUT_MS + "ms");
+			}
+		}, VALIDATION_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+		result.whenComplete((r, e) -> {
+			timeout.cancel(false);
+			if (e == null && done.compareAndSet(false, true)) {
+				validated(document, start, documentStatistics);
+			}
+		});
+	}
+
+	private void validated(T document, long start, DocumentStatistics documentStatistics) {
+		documentStatistics.validated((System.nanoTime() - start) / 1_000_000d);
+		if (LOGGER.isLoggable(Level.FINE)) {
+			LOGGER.fine(documentStatistics.getMetrics(document.getUri(), validationDelayMs).toString());
 		}
 	}
 
 	public void cleanPendingValidation(String uri) {
 		synchronized (pendingValidationRequests) {
-			Future<?> request = pendingValidationRequests.get(uri);
+			PendingValidation request = pendingValidationRequests.remove(uri);
 			if (request != null) {
-				request.cancel(true);
-				pendingValidationRequests.remove(uri);
+				request.future.cancel(true);
 			}
 		}
 	}
 
+	/**
+	 * Stop the pending validation of the given closed document and forget its
+	 * statistics.
+	 *
+	 * @param uri the uri of the closed document.
+	 */
+	public void closeDocument(String uri) {
+		cleanPendingValidation(uri);
+		statistics.remove(uri);
+	}
+
 	/**
 	 * Returns true if the document has a revalidation pending and false otherwise.
 	 *
@@ -95,4 +300,50 @@ public class ValidatorDelayer<T extends TextDocument> {
 			return pendingValidationRequests.containsKey(uri);
 		}
 	}
+
+	/**
+	 * Returns the validation metrics of the given document and null if the
+	 * document has never been changed.
+	 *
+	 * @param uri the document uri.
+	 * @return the validation metrics of the given document and null if the
+	 *         document has never been changed.
+	 */
+	public ValidationMetrics getMetrics(String uri) {
+		DocumentStatistics documentStatistics = statistics.get(uri);
+		return documentStatistics != null ? documentStatistics.getMetrics(uri, validationDelayMs) : null;
+	}
+
+	/**
+	 * Returns the validation metrics of all the changed documents.
+	 *
+	 * @return the validation metrics of all the changed documents.
+	 */
+	public Collection<ValidationMetrics> getMetrics() {
+		Collection<ValidationMetrics> metrics = new ArrayList<>();
+		statistics.forEach((uri, documentStatistics) -> {
+			metrics.add(documentStatistics.getMetrics(uri, validationDelayMs));
+		});
+		return metrics;
+	}
+
+	/**
+	 * Returns the scheduler shared by the validator delayers.
+	 *
+	 * @return the scheduler shared by the validator delayers.
+	 */
+	private static synchronized ScheduledExecutorService getSharedExecutorService() {
+		if (sharedExecutorService == null) {
+			AtomicInteger count = new AtomicInteger();
+			ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(MAX_CONCURRENT_VALIDATIONS, r -> {
+				Thread thread = new Thread(r, "LSP4MP validation " + count.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			});
+			// remove the cancelled validations from the queue
+			executor.setRemoveOnCancelPolicy(true);
+			sharedExecutorService = executor;
+		}
+		return sharedExecutorService;
+	}
 }
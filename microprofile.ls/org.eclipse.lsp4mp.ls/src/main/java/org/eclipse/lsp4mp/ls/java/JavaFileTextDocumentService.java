@@ -97,8 +97,9 @@ public class JavaFileTextDocumentService extends AbstractTextDocumentService {
 		super(microprofileLanguageServer, sharedSettings);
 		this.propertiesModelProvider = propertiesModelProvider;
 		this.documents = javaTextDocuments;
-		this.validatorDelayer = new ValidatorDelayer<>((javaTextDocument) -> {
-			triggerValidationFor(javaTextDocument);
+		this.validatorDelayer = new ValidatorDelayer<>((javaTextDocument, cancelChecker) -> {
+			cancelChecker.checkCanceled();
+			return triggerValidationFor(javaTextDocument);
 		});
 	}
 
@@ -118,7 +119,7 @@ public class JavaFileTextDocumentService extends AbstractTextDocumentService {
 	public void didClose(DidCloseTextDocumentParams params) {
 		documents.onDidCloseTextDocument(params);
 		String uri = params.getTextDocument().getUri();
-		validatorDelayer.cleanPendingValidation(uri);
+		validatorDelayer.closeDocument(uri);
 		microprofileLanguageServer.getLanguageClient()
 				.publishDiagnostics(new PublishDiagnosticsParams(uri, new ArrayList<Diagnostic>()));
 	}
@@ -340,12 +341,12 @@ public class JavaFileTextDocumentService extends AbstractTextDocumentService {
 	 * Validate the given opened Java file.
 	 *
 	 * @param document                  the opened Java file.
+	 * @return the future of the validation.
 	 */
-	private void triggerValidationFor(JavaTextDocument document) {
-		document.executeIfInMicroProfileProject((projectinfo, cancelChecker) -> {
+	private CompletableFuture<Void> triggerValidationFor(JavaTextDocument document) {
+		return document.executeIfInMicroProfileProject((projectinfo, cancelChecker) -> {
 			String uri = document.getUri();
-			triggerValidationFor(Arrays.asList(uri));
-			return null;
+			return triggerValidationFor(Arrays.asList(uri));
 		}, null, true);
 	}
 
@@ -362,32 +363,56 @@ public class JavaFileTextDocumentService extends AbstractTextDocumentService {
 	}
 
 	/**
-	 * Validate all given Java files uris.
+	 * Validate all given Java files uris. Each Java file is validated with its own
+	 * request, so that its diagnostics are published as soon as they are
+	 * collected. The diagnostics of a Java file are not published if the Java
+	 * file has been changed or closed during the validation.
 	 *
 	 * @param uris Java files uris to validate.
+	 * @return the future of the validation.
 	 */
-	private void triggerValidationFor(List<String> uris) {
+	private CompletableFuture<Void> triggerValidationFor(List<String> uris) {
 		if (uris.isEmpty()) {
-			return;
+			return CompletableFuture.completedFuture(null);
 		}
 		List<String> excludedUnassignedProperties = sharedSettings.getValidationSettings().getUnassigned()
 				.getExcluded();
-		MicroProfileJavaDiagnosticsParams javaParams = new MicroProfileJavaDiagnosticsParams(uris,
-				new MicroProfileJavaDiagnosticsSettings(excludedUnassignedProperties));
 		boolean markdownSupported = sharedSettings.getHoverSettings().isContentFormatSupported(MarkupKind.MARKDOWN);
-		if (markdownSupported) {
-			javaParams.setDocumentFormat(DocumentFormat.Markdown);
+		List<CompletableFuture<Void>> futures = new ArrayList<>(uris.size());
+		for (String uri : uris) {
+			JavaTextDocument document = documents.get(uri);
+			if (document == null) {
+				continue;
+			}
+			// the validated version of the Java file
+			int version = document.getVersion();
+			MicroProfileJavaDiagnosticsParams javaParams = new MicroProfileJavaDiagnosticsParams(
+					Collections.singletonList(uri),
+					new MicroProfileJavaDiagnosticsSettings(excludedUnassignedProperties));
+			if (markdownSupported) {
+				javaParams.setDocumentFormat(DocumentFormat.Markdown);
+			}
+			futures.add(microprofileLanguageServer.getLanguageClient().getJavaDiagnostics(javaParams) //
+					.thenAccept(diagnostics -> {
+						if (diagnostics == null) {
+							return;
+						}
+						for (PublishDiagnosticsParams diagnostic : diagnostics) {
+							if (isStale(diagnostic.getUri(), version)) {
+								// a newer version of the Java file will be validated
+								continue;
+							}
+							microprofileLanguageServer.getLanguageClient().publishDiagnostics(diagnostic);
+						}
+					}));
 		}
-		microprofileLanguageServer.getLanguageClient().getJavaDiagnostics(javaParams) //
-				.thenApply(diagnostics -> {
-					if (diagnostics == null) {
-						return null;
-					}
-					for (PublishDiagnosticsParams diagnostic : diagnostics) {
-						microprofileLanguageServer.getLanguageClient().publishDiagnostics(diagnostic);
-					}
-					return null;
-				});
+		return CompletableFuture.allOf(futures.toArray(new CompletableFuture[futures.size()]));
+	}
+
+	private boolean isStale(String uri, int version) {
+		JavaTextDocument document = documents.get(uri);
+		// the Java file has been closed or changed
+		return document == null || document.getVersion() != version;
 	}
 
 	public void propertiesChanged(MicroProfilePropertiesChangeEvent event) {
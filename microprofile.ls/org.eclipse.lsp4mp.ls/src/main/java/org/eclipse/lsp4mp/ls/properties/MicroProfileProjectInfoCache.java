@@ -13,6 +13,7 @@
 *******************************************************************************/
 package org.eclipse.lsp4mp.ls.properties;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -20,12 +21,15 @@ import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
+import org.eclipse.lsp4mp.commons.DocumentFormat;
 import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
 import org.eclipse.lsp4mp.commons.MicroProfileProjectInfoParams;
+import org.eclipse.lsp4mp.commons.MicroProfileProjectInfosParams;
 import org.eclipse.lsp4mp.commons.MicroProfilePropertiesChangeEvent;
 import org.eclipse.lsp4mp.commons.MicroProfilePropertiesScope;
 import org.eclipse.lsp4mp.extensions.ExtendedMicroProfileProjectInfo;
@@ -73,6 +77,7 @@ class MicroProfileProjectInfoCache {
 		if (projectInfo == null || projectInfo.isCancelled() || projectInfo.isCompletedExceptionally()) {
 			// not found in the cache, load the project info from the JDT LS Extension
 			params.setScopes(MicroProfilePropertiesScope.SOURCES_AND_DEPENDENCIES);
+			params.setCompilationUnitURIs(null);
 			CompletableFuture<MicroProfileProjectInfo> future = provider.getProjectInfo(params). //
 					thenApply(info -> new ExtendedMicroProfileProjectInfo(info));
 			// cache the future.
@@ -84,22 +89,51 @@ class MicroProfileProjectInfoCache {
 		}
 
 		ExtendedMicroProfileProjectInfo wrapper = getProjectInfoWrapper(projectInfo);
+		if (wrapper.isReloadFromClasspath()) {
+			// The classpath changed, get the changes of the MicroProfile properties since
+			// the version of the cached project info.
+			params.setScopes(MicroProfilePropertiesScope.SOURCES_AND_DEPENDENCIES);
+			params.setCompilationUnitURIs(null);
+			params.setBaseVersion(wrapper.getVersion());
+			CompletableFuture<MicroProfileProjectInfo> future = provider.getProjectInfo(params). //
+					thenCompose(info -> {
+						if (info.getDelta() == null) {
+							return CompletableFuture.completedFuture(new ExtendedMicroProfileProjectInfo(info));
+						}
+						if (wrapper.applyDelta(info)) {
+							return CompletableFuture.completedFuture(wrapper);
+						}
+						// The changes cannot be applied, get the full project info.
+						params.setBaseVersion(null);
+						return provider.getProjectInfo(params). //
+								thenApply(fullInfo -> new ExtendedMicroProfileProjectInfo(fullInfo));
+					});
+			// cache the future.
+			cache.put(params.getUri(), future);
+			return future;
+		}
 		if (wrapper.isReloadFromSource()) {
 			// There are some java sources changed, get the MicroProfile properties from
-			// java
-			// sources.
+			// the changed java compilation units (or from all java sources).
+			List<String> compilationUnitURIs = wrapper.getChangedCompilationUnitURIs();
 			params.setScopes(MicroProfilePropertiesScope.ONLY_SOURCES);
+			params.setCompilationUnitURIs(compilationUnitURIs);
 			return provider.getProjectInfo(params). //
 					exceptionally(ex -> {
 						LOGGER.log(Level.WARNING, String.format(
 								"Error while getting MicroProfileProjectInfo (sources) for '%s'", params.getUri()), ex);
 						return MicroProfileProjectInfo.EMPTY_PROJECT_INFO;
 					}). //
-					thenApply(info ->
+					thenCompose(info ->
 					// then update the cache with the new properties
 					{
-						wrapper.updateSourcesProperties(info.getProperties(), info.getHints());
-						return wrapper;
+						if (wrapper.updateSourcesProperties(info.getProperties(), info.getHints(),
+								compilationUnitURIs, info.getSourceTypes())) {
+							return CompletableFuture.completedFuture(wrapper);
+						}
+						// The properties of the compilation units cannot be updated, get the
+						// MicroProfile properties from all java sources.
+						return getProjectInfoFromCache(params);
 					});
 		}
 
@@ -107,6 +141,100 @@ class MicroProfileProjectInfoCache {
 		return projectInfo;
 	}
 
+	/**
+	 * Load in one request the MicroProfile project information of the given
+	 * application.properties URIs which are not in the cache.
+	 *
+	 * <p>
+	 * When the batched request fails (ex : the client doesn't support it), the
+	 * project information of each application.properties is loaded with a
+	 * separate request.
+	 * </p>
+	 *
+	 * @param uris                  the application.properties URIs.
+	 * @param documentFormat        the document format.
+	 * @param deferredDocumentation true if the Javadoc of the properties must be
+	 *                              collected on demand and false otherwise.
+	 * @param loaded                called with the application.properties URI
+	 *                              each time a project information is loaded.
+	 * @return the future which is completed when all the project information are
+	 *         loaded.
+	 */
+	public CompletableFuture<Void> prefetchProjectInfos(Collection<String> uris, DocumentFormat documentFormat,
+			boolean deferredDocumentation, Consumer<String> loaded) {
+		List<String> urisToLoad = new ArrayList<>();
+		List<CompletableFuture<MicroProfileProjectInfo>> futures = new ArrayList<>();
+		for (String uri : uris) {
+			CompletableFuture<MicroProfileProjectInfo> existing = cache.get(uri);
+			if (existing != null && !existing.isCancelled() && !existing.isCompletedExceptionally()) {
+				// already loaded or loading
+				continue;
+			}
+			// the future is completed with the result of the batched request
+			CompletableFuture<MicroProfileProjectInfo> future = new CompletableFuture<>();
+			if (existing == null ? cache.putIfAbsent(uri, future) != null : !cache.replace(uri, existing, future)) {
+				// loaded in the same time by a request
+				continue;
+			}
+			urisToLoad.add(uri);
+			futures.add(future);
+		}
+		if (urisToLoad.isEmpty()) {
+			return CompletableFuture.completedFuture(null);
+		}
+		List<CompletableFuture<MicroProfileProjectInfo>> loadedFutures = new ArrayList<>(futures.size());
+		for (int i = 0; i < urisToLoad.size(); i++) {
+			String uri = urisToLoad.get(i);
+			loadedFutures.add(futures.get(i).whenComplete((info, ex) -> {
+				if (ex != null) {
+					LOGGER.log(Level.WARNING,
+							String.format("Error while prefetching MicroProfileProjectInfo for '%s'", uri), ex);
+				}
+				loaded.accept(uri);
+			}));
+		}
+		// load the project information of all the application.properties in one request
+		MicroProfileProjectInfosParams params = new MicroProfileProjectInfosParams(urisToLoad);
+		params.setScopes(MicroProfilePropertiesScope.SOURCES_AND_DEPENDENCIES);
+		params.setDocumentFormat(documentFormat);
+		params.setDeferredDocumentation(deferredDocumentation);
+		provider.getProjectInfos(params).whenComplete((infos, ex) -> {
+			if (ex != null) {
+				LOGGER.log(Level.INFO, "Batched MicroProfileProjectInfo request failed, loading each project info", ex);
+			}
+			for (int i = 0; i < urisToLoad.size(); i++) {
+				CompletableFuture<MicroProfileProjectInfo> future = futures.get(i);
+				if (ex == null && infos != null && i < infos.size()) {
+					future.complete(new ExtendedMicroProfileProjectInfo(infos.get(i)));
+				} else {
+					loadProjectInfo(urisToLoad.get(i), documentFormat, deferredDocumentation, future);
+				}
+			}
+		});
+		return CompletableFuture.allOf(loadedFutures.toArray(new CompletableFuture[loadedFutures.size()])) //
+				.exceptionally(ex -> null);
+	}
+
+	/**
+	 * Load the MicroProfile project information of the given
+	 * application.properties URI with a separate request and complete the given
+	 * future with it.
+	 */
+	private void loadProjectInfo(String uri, DocumentFormat documentFormat, boolean deferredDocumentation,
+			CompletableFuture<MicroProfileProjectInfo> future) {
+		MicroProfileProjectInfoParams params = new MicroProfileProjectInfoParams(uri);
+		params.setScopes(MicroProfilePropertiesScope.SOURCES_AND_DEPENDENCIES);
+		params.setDocumentFormat(documentFormat);
+		params.setDeferredDocumentation(deferredDocumentation);
+		provider.getProjectInfo(params).whenComplete((info, ex) -> {
+			if (ex != null) {
+				future.completeExceptionally(ex);
+			} else {
+				future.complete(new ExtendedMicroProfileProjectInfo(info));
+			}
+		});
+	}
+
 	private static ExtendedMicroProfileProjectInfo getProjectInfoWrapper(
 			CompletableFuture<MicroProfileProjectInfo> future) {
 		return future != null ? (ExtendedMicroProfileProjectInfo) future.getNow(null) : null;
@@ -123,7 +251,7 @@ class MicroProfileProjectInfoCache {
 		if (changedOnlyInSources) {
 			// Some Java sources files has been saved, evict the cache for item metadata
 			// (properties) computed from Java source files only.
-			return javaSourceChanged(event.getProjectURIs());
+			return javaSourceChanged(event.getProjectURIs(), event.getCompilationUnitURIs());
 		}
 		// Classpath changed (ex : add, remove maven/gradle dependencies) evict the full
 		// cache.
@@ -132,16 +260,24 @@ class MicroProfileProjectInfoCache {
 
 	private Collection<String> classpathChanged(Set<String> projectURIs) {
 		List<String> applicationPropertiesURIs = getApplicationPropertiesURIs(projectURIs);
-		applicationPropertiesURIs.forEach(cache::remove);
+		for (String uri : applicationPropertiesURIs) {
+			ExtendedMicroProfileProjectInfo info = getProjectInfoWrapper(cache.get(uri));
+			if (info != null && info.getVersion() != null) {
+				// keep the versioned project info to load only the changes since its version
+				info.clearPropertiesFromClasspath();
+			} else {
+				cache.remove(uri);
+			}
+		}
 		return applicationPropertiesURIs;
 	}
 
-	private Collection<String> javaSourceChanged(Set<String> projectURIs) {
+	private Collection<String> javaSourceChanged(Set<String> projectURIs, Set<String> compilationUnitURIs) {
 		List<String> applicationPropertiesURIs = getApplicationPropertiesURIs(projectURIs);
 		for (String uri : applicationPropertiesURIs) {
 			ExtendedMicroProfileProjectInfo info = getProjectInfoWrapper(cache.get(uri));
 			if (info != null) {
-				info.clearPropertiesFromSource();
+				info.clearPropertiesFromSource(compilationUnitURIs);
 			}
 		}
 		return applicationPropertiesURIs;
@@ -0,0 +1,227 @@
+/*******************************************************************************
+* Copyright (c) 2024 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.ls.properties;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.eclipse.lsp4j.ProgressParams;
+import org.eclipse.lsp4j.WorkDoneProgressBegin;
+import org.eclipse.lsp4j.WorkDoneProgressCreateParams;
+import org.eclipse.lsp4j.WorkDoneProgressEnd;
+import org.eclipse.lsp4j.WorkDoneProgressNotification;
+import org.eclipse.lsp4j.WorkDoneProgressReport;
+import org.eclipse.lsp4j.jsonrpc.messages.Either;
+import org.eclipse.lsp4j.services.LanguageClient;
+import org.eclipse.lsp4mp.commons.DocumentFormat;
+import org.eclipse.lsp4mp.commons.ProjectLabelInfoEntry;
+
+/**
+ * Prefetch at startup the MicroProfile project information of the properties
+ * files of the MicroProfile projects of the workspace, to avoid empty
+ * completion and hover on the first interactions with a properties file.
+ *
+ * <p>
+ * The properties files are discovered in the resources folder of the projects
+ * returned by <code>microprofile/java/projectLabels</code> and the project
+ * information of all those files are loaded with one
+ * <code>microprofile/projectInfos</code> request. The warm-up is reported with
+ * a work done progress when the client supports it.
+ * </p>
+ *
+ */
+class MicroProfileProjectInfoPrefetcher {
+
+	private static final Logger LOGGER = Logger.getLogger(MicroProfileProjectInfoPrefetcher.class.getName());
+
+	private static final String MICROPROFILE_PROJECT_LABEL = "microprofile";
+
+	private static final String RESOURCES_FOLDER = "src/main/resources";
+
+	private static final String META_INF_FOLDER = RESOURCES_FOLDER + "/META-INF";
+
+	private static final String APPLICATION_PROPERTIES_GLOB = "application{,-*}.properties";
+
+	private static final String MICROPROFILE_CONFIG_PROPERTIES_GLOB = "microprofile-config{,-*}.properties";
+
+	private static final String PROGRESS_TITLE = "Loading MicroProfile properties";
+
+	private final MicroProfileProjectInfoCache cache;
+
+	private final LanguageClient languageClient;
+
+	public MicroProfileProjectInfoPrefetcher(MicroProfileProjectInfoCache cache, LanguageClient languageClient) {
+		this.cache = cache;
+		this.languageClient = languageClient;
+	}
+
+	/**
+	 * Prefetch the project information of the properties files of the given
+	 * projects.
+	 *
+	 * @param projects                the projects of the workspace.
+	 * @param documentFormat          the document format.
+	 * @param deferredDocumentation   true if the Javadoc of the properties must be
+	 *                                collected on demand and false otherwise.
+	 * @param workDoneProgressSupport true if the client supports work done
+	 *                                progress and false otherwise.
+	 * @return the future which is completed when the project information are
+	 *         loaded.
+	 */
+	public CompletableFuture<Void> prefetch(Collection<ProjectLabelInfoEntry> projects, DocumentFormat documentFormat,
+			boolean deferredDocumentation, boolean workDoneProgressSupport) {
+		List<String> uris = findPropertiesFileURIs(projects);
+		if (uris.isEmpty()) {
+			return CompletableFuture.completedFuture(null);
+		}
+		LOGGER.info("Prefetching MicroProfile project information for " + uris.size() + " properties file(s).");
+		long start = System.currentTimeMillis();
+		Progress progress = workDoneProgressSupport ? new Progress(uris.size()) : null;
+		if (progress != null) {
+			progress.begin();
+		}
+		return cache.prefetchProjectInfos(uris, documentFormat, deferredDocumentation, uri -> {
+			if (progress != null) {
+				progress.loaded(uri);
+			}
+		}).whenComplete((result, ex) -> {
+			if (progress != null) {
+				progress.end();
+			}
+			LOGGER.info("End prefetching MicroProfile project information in "
+					+ (System.currentTimeMillis() - start) + "ms.");
+		});
+	}
+
+	/**
+	 * Returns the URIs of the properties files of the given MicroProfile projects.
+	 *
+	 * @param projects the projects of the workspace.
+	 * @return the URIs of the properties files of the given MicroProfile projects.
+	 */
+	static List<String> findPropertiesFileURIs(Collection<ProjectLabelInfoEntry> projects) {
+		if (projects == null) {
+			return Collections.emptyList();
+		}
+		Set<String> uris = new LinkedHashSet<>();
+		for (ProjectLabelInfoEntry project : projects) {
+			if (project == null || !project.hasLabel(MICROPROFILE_PROJECT_LABEL)) {
+				continue;
+			}
+			Path projectDir = getProjectDir(project.getUri());
+			if (projectDir != null) {
+				collectFiles(projectDir.resolve(RESOURCES_FOLDER), APPLICATION_PROPERTIES_GLOB, uris);
+				collectFiles(projectDir.resolve(META_INF_FOLDER), MICROPROFILE_CONFIG_PROPERTIES_GLOB, uris);
+			}
+		}
+		return new ArrayList<>(uris);
+	}
+
+	private static Path getProjectDir(String projectURI) {
+		if (projectURI == null || projectURI.isEmpty()) {
+			return null;
+		}
+		try {
+			// the JDT LS extension returns the project location as a path
+			return projectURI.startsWith("file:") ? Paths.get(URI.create(projectURI)) : Paths.get(projectURI);
+		} catch (Exception e) {
+			LOGGER.log(Level.WARNING, "Invalid project URI '" + projectURI + "'.", e);
+			return null;
+		}
+	}
+
+	private static void collectFiles(Path dir, String glob, Set<String> uris) {
+		if (!Files.isDirectory(dir)) {
+			return;
+		}
+		try (DirectoryStream<Path> files = Files.newDirectoryStream(dir, glob)) {
+			for (Path file : files) {
+				if (Files.isRegularFile(file)) {
+					uris.add(file.toUri().toString());
+				}
+			}
+		} catch (IOException e) {
+			LOGGER.log(Level.WARNING, "Error while searching properties files in '" + dir + "'.", e);
+		}
+	}
+
+	/**
+	 * Work done progress of the prefetch.
+	 */
+	private class Progress {
+
+		private final Either<String, Integer> token;
+
+		private final int total;
+
+		private final AtomicInteger loaded;
+
+		// the last reported notification
+		private CompletableFuture<Void> notified;
+
+		public Progress(int total) {
+			this.token = Either.forLeft("microprofile/projectInfos/" + UUID.randomUUID());
+			this.total = total;
+			this.loaded = new AtomicInteger();
+			this.notified = languageClient.createProgress(new WorkDoneProgressCreateParams(token));
+		}
+
+		public void begin() {
+			WorkDoneProgressBegin begin = new WorkDoneProgressBegin();
+			begin.setTitle(PROGRESS_TITLE);
+			begin.setMessage("0/" + total + " properties file(s)");
+			begin.setPercentage(0);
+			begin.setCancellable(false);
+			notifyProgress(begin);
+		}
+
+		public void loaded(String uri) {
+			int count = loaded.incrementAndGet();
+			WorkDoneProgressReport report = new WorkDoneProgressReport();
+			report.setMessage(count + "/" + total + " properties file(s)");
+			report.setPercentage(count * 100 / total);
+			notifyProgress(report);
+		}
+
+		public void end() {
+			notifyProgress(new WorkDoneProgressEnd());
+		}
+
+		private synchronized void notifyProgress(WorkDoneProgressNotification notification) {
+			// the progress can be reported only when the client has created it, and the
+			// notifications are sent in order
+			notified = notified.thenRun(
+					() -> languageClient.notifyProgress(new ProgressParams(token, Either.forLeft(notification))));
+			notified.exceptionally(ex -> {
+				LOGGER.log(Level.FINE, "Error while reporting the MicroProfile properties warm-up.", ex);
+				return null;
+			});
+		}
+	}
+}
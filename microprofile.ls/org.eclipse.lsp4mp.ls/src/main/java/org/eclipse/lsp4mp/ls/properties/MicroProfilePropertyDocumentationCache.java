@@ -0,0 +1,146 @@
+/*******************************************************************************
+* Copyright (c) 2024 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.ls.properties;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+
+import org.eclipse.lsp4mp.commons.DocumentFormat;
+import org.eclipse.lsp4mp.commons.MicroProfilePropertyDocumentationParams;
+import org.eclipse.lsp4mp.ls.api.MicroProfilePropertyDocumentationProvider;
+
+/**
+ * Bounded LRU cache of the documentation of the properties declared in Java
+ * files, collected on demand (for hover and completion resolve) with
+ * <code>microprofile/propertyDocumentation</code>.
+ *
+ * <p>
+ * The documentation is not stored in the MicroProfile project information to
+ * keep it small when the properties are collected without rendering the
+ * Javadoc.
+ * </p>
+ *
+ */
+class MicroProfilePropertyDocumentationCache implements MicroProfilePropertyDocumentationProvider {
+
+	static final int DEFAULT_MAX_SIZE = 500;
+
+	private static class DocumentationKey {
+
+		private final String uri;
+
+		private final String sourceType;
+
+		private final String sourceField;
+
+		private final String sourceMethod;
+
+		private final DocumentFormat documentFormat;
+
+		public DocumentationKey(MicroProfilePropertyDocumentationParams params) {
+			this.uri = params.getUri();
+			this.sourceType = params.getSourceType();
+			this.sourceField = params.getSourceField();
+			this.sourceMethod = params.getSourceMethod();
+			this.documentFormat = params.getDocumentFormat();
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(uri, sourceType, sourceField, sourceMethod, documentFormat);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (obj == null || getClass() != obj.getClass()) {
+				return false;
+			}
+			DocumentationKey other = (DocumentationKey) obj;
+			return Objects.equals(uri, other.uri) && Objects.equals(sourceType, other.sourceType)
+					&& Objects.equals(sourceField, other.sourceField)
+					&& Objects.equals(sourceMethod, other.sourceMethod) && documentFormat == other.documentFormat;
+		}
+	}
+
+	private final MicroProfilePropertyDocumentationProvider provider;
+
+	private final Map<DocumentationKey, CompletableFuture<String>> cache;
+
+	public MicroProfilePropertyDocumentationCache(MicroProfilePropertyDocumentationProvider provider) {
+		this(provider, DEFAULT_MAX_SIZE);
+	}
+
+	public MicroProfilePropertyDocumentationCache(MicroProfilePropertyDocumentationProvider provider, int maxSize) {
+		this.provider = provider;
+		this.cache = new LinkedHashMap<DocumentationKey, CompletableFuture<String>>(16, 0.75f, true) {
+
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<DocumentationKey, CompletableFuture<String>> eldest) {
+				return size() > maxSize;
+			}
+		};
+	}
+
+	@Override
+	public CompletableFuture<String> getPropertyDocumentation(MicroProfilePropertyDocumentationParams params) {
+		DocumentationKey key = new DocumentationKey(params);
+		CompletableFuture<String> documentation;
+		synchronized (cache) {
+			documentation = cache.get(key);
+			if (documentation != null && !documentation.isCompletedExceptionally()) {
+				return documentation;
+			}
+			documentation = provider.getPropertyDocumentation(params);
+			cache.put(key, documentation);
+		}
+		CompletableFuture<String> result = documentation;
+		result.whenComplete((docs, ex) -> {
+			if (ex != null) {
+				// don't keep the error, the documentation will be collected with the next
+				// hover / completion resolve
+				synchronized (cache) {
+					cache.remove(key, result);
+				}
+			}
+		});
+		return result;
+	}
+
+	/**
+	 * Evict all the documentation (ex : when the Java sources have changed).
+	 */
+	public void evictAll() {
+		synchronized (cache) {
+			cache.clear();
+		}
+	}
+
+	/**
+	 * Returns the number of cached documentation.
+	 *
+	 * @return the number of cached documentation.
+	 */
+	int size() {
+		synchronized (cache) {
+			return cache.size();
+		}
+	}
+}
@@ -22,6 +22,7 @@ import java.util.concurrent.CompletionStage;
 import java.util.function.BiFunction;
 import java.util.stream.Collectors;
 
+import org.eclipse.lsp4j.ClientCapabilities;
 import org.eclipse.lsp4j.CodeAction;
 import org.eclipse.lsp4j.CodeActionParams;
 import org.eclipse.lsp4j.Command;
@@ -55,12 +56,16 @@ import org.eclipse.lsp4j.jsonrpc.messages.Either;
 import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
 import org.eclipse.lsp4mp.commons.MicroProfileProjectInfoParams;
 import org.eclipse.lsp4mp.commons.MicroProfilePropertiesChangeEvent;
+import org.eclipse.lsp4mp.commons.MicroProfilePropertiesScope;
+import org.eclipse.lsp4mp.commons.ProjectLabelInfoEntry;
 import org.eclipse.lsp4mp.commons.utils.JSONUtility;
+import org.eclipse.lsp4mp.extensions.ExtendedMicroProfileProjectInfo;
 import org.eclipse.lsp4mp.ls.AbstractTextDocumentService;
 import org.eclipse.lsp4mp.ls.MicroProfileLanguageServer;
 import org.eclipse.lsp4mp.ls.api.MicroProfileLanguageServerAPI.JsonSchemaForProjectInfo;
 import org.eclipse.lsp4mp.ls.commons.ModelTextDocument;
 import org.eclipse.lsp4mp.ls.commons.ModelTextDocuments;
+import org.eclipse.lsp4mp.ls.commons.TextDocumentVersionChecker;
 import org.eclipse.lsp4mp.ls.commons.ValidatorDelayer;
 import org.eclipse.lsp4mp.model.PropertiesModel;
 import org.eclipse.lsp4mp.services.properties.CompletionData;
@@ -89,17 +94,33 @@ public class PropertiesFileTextDocumentService extends AbstractTextDocumentServi
 
 	private MicroProfileProjectInfoCache projectInfoCache;
 
+	private MicroProfilePropertyDocumentationCache propertyDocumentationCache;
+
 	private final ValidatorDelayer<ModelTextDocument<PropertiesModel>> validatorDelayer;
 
+	private boolean workDoneProgressSupport;
+
 	public PropertiesFileTextDocumentService(MicroProfileLanguageServer microprofileLanguageServer,
 			SharedSettings sharedSettings) {
 		super(microprofileLanguageServer, sharedSettings);
 		this.documents = new ModelTextDocuments<PropertiesModel>((document, cancelChecker) -> {
 			return PropertiesModel.parse(document, cancelChecker);
+		}, (previousModel, document, change, cancelChecker) -> {
+			return PropertiesModel.update(previousModel, document, change, cancelChecker);
 		});
-		this.validatorDelayer = new ValidatorDelayer<ModelTextDocument<PropertiesModel>>((document) -> {
-			triggerValidationFor(document);
-		});
+		this.validatorDelayer = new ValidatorDelayer<ModelTextDocument<PropertiesModel>>(
+				(document, cancelChecker) -> {
+					triggerValidationFor(document, cancelChecker);
+					return null;
+				});
+	}
+
+	@Override
+	public void updateClientCapabilities(ClientCapabilities capabilities) {
+		super.updateClientCapabilities(capabilities);
+		workDoneProgressSupport = capabilities.getWindow() != null
+				&& capabilities.getWindow().getWorkDoneProgress() != null
+				&& capabilities.getWindow().getWorkDoneProgress();
 	}
 
 	@Override
@@ -118,7 +139,7 @@ public class PropertiesFileTextDocumentService extends AbstractTextDocumentServi
 	public void didClose(DidCloseTextDocumentParams params) {
 		documents.onDidCloseTextDocument(params);
 		String uri = params.getTextDocument().getUri();
-		validatorDelayer.cleanPendingValidation(uri);
+		validatorDelayer.closeDocument(uri);
 		microprofileLanguageServer.getLanguageClient()
 				.publishDiagnostics(new PublishDiagnosticsParams(uri, new ArrayList<Diagnostic>()));
 	}
@@ -156,11 +177,11 @@ public class PropertiesFileTextDocumentService extends AbstractTextDocumentServi
 			return CompletableFuture.completedFuture(null);
 		}
 		TextDocumentIdentifier identifier = new TextDocumentIdentifier(uri);
-		return getPropertiesModel(identifier, (document, cancelChecker) -> {
+		return getPropertiesModelCompose(identifier, (document, cancelChecker) -> {
 			MicroProfileProjectInfoParams projectInfoParams = createProjectInfoParams(new TextDocumentIdentifier(uri));
 			MicroProfileProjectInfo projectInfo = getProjectInfoCache().getProjectInfo(projectInfoParams).getNow(null);
 			return getPropertiesFileLanguageService().resolveCompletionItem(unresolved, projectInfo,
-					sharedSettings.getCompletionCapabilities(), cancelChecker);
+					sharedSettings.getCompletionCapabilities(), getPropertyDocumentationCache(), cancelChecker);
 		});
 	}
 
@@ -180,7 +201,7 @@ public class PropertiesFileTextDocumentService extends AbstractTextDocumentServi
 			// then return hover by using the MicroProfile project information and the
 			// Properties model document
 			return getPropertiesFileLanguageService().doHover(document, params.getPosition(), projectInfo,
-					sharedSettings.getHoverSettings(), this.microprofileLanguageServer.getLanguageClient(), cancelChecker);
+					sharedSettings.getHoverSettings(), getPropertyDocumentationCache(), cancelChecker);
 		});
 	}
 
@@ -298,9 +319,24 @@ public class PropertiesFileTextDocumentService extends AbstractTextDocumentServi
 	private MicroProfileProjectInfoParams createProjectInfoParams(String uri) {
 		MicroProfileProjectInfoParams params = new MicroProfileProjectInfoParams(uri);
 		params.setDocumentFormat(getDocumentFormat());
+		params.setDeferredDocumentation(isDeferredDocumentation());
 		return params;
 	}
 
+	/**
+	 * Returns true if the Javadoc of the properties must be collected on demand
+	 * (in hover and completion resolve) instead of being rendered while scanning
+	 * the project and false otherwise.
+	 *
+	 * @return true if the Javadoc of the properties must be collected on demand
+	 *         and false otherwise.
+	 */
+	private boolean isDeferredDocumentation() {
+		// the documentation of the completion items is available only with completion
+		// resolve when the properties are collected without rendering the Javadoc
+		return sharedSettings.getCompletionCapabilities().isCompletionResolveDocumentationSupported();
+	}
+
 	private PropertiesFileLanguageService getPropertiesFileLanguageService() {
 		return microprofileLanguageServer.getPropertiesFileLanguageService();
 	}
@@ -309,15 +345,28 @@ public class PropertiesFileTextDocumentService extends AbstractTextDocumentServi
 		if (delay) {
 			this.validatorDelayer.validateWithDelay(model);
 		} else {
+			CancelChecker cancelChecker = new TextDocumentVersionChecker(model, model.getVersion());
 			CompletableFuture.runAsync(() -> {
-				triggerValidationFor(model);
+				triggerValidationFor(model, cancelChecker);
 			});
 		}
 	}
 
-	private void triggerValidationFor(ModelTextDocument<PropertiesModel> model) {
-		PropertiesModel propertiesModel = model.getModel();
-		CancelChecker cancelChecker = propertiesModel.getCancelChecker();
+	private void triggerValidationFor(ModelTextDocument<PropertiesModel> document) {
+		triggerValidationFor(document, new TextDocumentVersionChecker(document, document.getVersion()));
+	}
+
+	/**
+	 * Validate the given document and publish the diagnostics if the version of
+	 * the document has not changed.
+	 *
+	 * @param document      the properties file to validate.
+	 * @param cancelChecker the cancel checker bound to the validated version of
+	 *                      the document.
+	 */
+	private void triggerValidationFor(ModelTextDocument<PropertiesModel> document, CancelChecker cancelChecker) {
+		cancelChecker.checkCanceled();
+		PropertiesModel propertiesModel = document.getModel();
 		cancelChecker.checkCanceled();
 
 		// Get MicroProfile project information which stores all available
@@ -384,6 +433,10 @@ public class PropertiesFileTextDocumentService extends AbstractTextDocumentServi
 	}
 
 	public void propertiesChanged(MicroProfilePropertiesChangeEvent event) {
+		if (!MicroProfilePropertiesScope.isOnlyConfigFiles(event.getType())) {
+			// the Javadoc of the properties declared in Java files could have changed
+			getPropertyDocumentationCache().evictAll();
+		}
 		Collection<String> uris = getProjectInfoCache().propertiesChanged(event);
 		for (String uri : uris) {
 			ModelTextDocument<PropertiesModel> document = getDocument(uri);
@@ -393,6 +446,20 @@ public class PropertiesFileTextDocumentService extends AbstractTextDocumentServi
 		}
 	}
 
+	/**
+	 * Prefetch the MicroProfile project information of the properties files of
+	 * the given projects.
+	 *
+	 * @param projects the projects of the workspace.
+	 * @return the future which is completed when the project information are
+	 *         loaded.
+	 */
+	public CompletableFuture<Void> prefetchProjectInfos(List<ProjectLabelInfoEntry> projects) {
+		return new MicroProfileProjectInfoPrefetcher(getProjectInfoCache(),
+				microprofileLanguageServer.getLanguageClient()).prefetch(projects, getDocumentFormat(),
+						isDeferredDocumentation(), workDoneProgressSupport);
+	}
+
 	public void updateSymbolSettings(MicroProfileSymbolSettings newSettings) {
 		MicroProfileSymbolSettings symbolSettings = sharedSettings.getSymbolSettings();
 		symbolSettings.setShowAsTree(newSettings.isShowAsTree());
@@ -440,10 +507,28 @@ public class PropertiesFileTextDocumentService extends AbstractTextDocumentServi
 		projectInfoCache = new MicroProfileProjectInfoCache(microprofileLanguageServer.getLanguageClient());
 	}
 
+	private MicroProfilePropertyDocumentationCache getPropertyDocumentationCache() {
+		if (propertyDocumentationCache == null) {
+			createPropertyDocumentationCache();
+		}
+		return propertyDocumentationCache;
+	}
+
+	private synchronized void createPropertyDocumentationCache() {
+		if (propertyDocumentationCache != null) {
+			return;
+		}
+		propertyDocumentationCache = new MicroProfilePropertyDocumentationCache(
+				microprofileLanguageServer.getLanguageClient());
+	}
+
 	public CompletableFuture<JsonSchemaForProjectInfo> getJsonSchemaForProjectInfo(
 			MicroProfileProjectInfoParams params) {
 		return getProjectInfoCache().getProjectInfo(params).thenApply(info -> {
-			String jsonSchema = JSONSchemaUtils.toJSONSchema(info, true);
+			// The JSON Schema is cached by the project info until its properties change
+			String jsonSchema = info instanceof ExtendedMicroProfileProjectInfo
+					? ((ExtendedMicroProfileProjectInfo) info).getJsonSchema()
+					: JSONSchemaUtils.toJSONSchema(info, true);
 			return new JsonSchemaForProjectInfo(info.getProjectURI(), jsonSchema);
 		});
 	}
@@ -26,6 +26,11 @@ public class Assign extends Node {
 		return NodeType.ASSIGN;
 	}
 
+	@Override
+	Node createNode() {
+		return new Assign();
+	}
+
 	@Override
 	public Property getParent() {
 		return (Property) super.getParent();
@@ -140,6 +140,38 @@ public abstract class Node {
 		children.add(node);
 	}
 
+	/**
+	 * Returns a copy of the node and its children where the start/end offsets are
+	 * shifted with the given delta.
+	 *
+	 * <p>
+	 * The node is not updated because it can belong to a properties model which is
+	 * still used.
+	 * </p>
+	 *
+	 * @param delta the delta to add to the offsets
+	 * @return a copy of the node and its children where the start/end offsets are
+	 *         shifted with the given delta.
+	 */
+	Node copy(int delta) {
+		Node node = createNode();
+		node.start = start != -1 ? start + delta : -1;
+		node.end = end != -1 ? end + delta : -1;
+		if (children != null) {
+			for (Node child : children) {
+				node.addNode(child.copy(delta));
+			}
+		}
+		return node;
+	}
+
+	/**
+	 * Returns a new node with the type of this node.
+	 *
+	 * @return a new node with the type of this node.
+	 */
+	abstract Node createNode();
+
 	/**
 	 * Returns the node type
 	 *
@@ -200,7 +232,7 @@ public abstract class Node {
 	 * @returns the least x for which p(x) is true or array.length if no element
 	 *          full fills the given function.
 	 */
-	private static <T> int findFirst(List<T> array, Function<T, Boolean> p) {
+	static <T> int findFirst(List<T> array, Function<T, Boolean> p) {
 		int low = 0, high = array.size();
 		if (high == 0) {
 			return 0; // no children
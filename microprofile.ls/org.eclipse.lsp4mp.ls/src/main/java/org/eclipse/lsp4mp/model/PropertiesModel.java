@@ -13,8 +13,12 @@
 *******************************************************************************/
 package org.eclipse.lsp4mp.model;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.eclipse.lsp4j.Position;
@@ -22,11 +26,10 @@ import org.eclipse.lsp4j.jsonrpc.CancelChecker;
 import org.eclipse.lsp4mp.commons.utils.IConfigSourcePropertiesProvider;
 import org.eclipse.lsp4mp.commons.utils.StringUtils;
 import org.eclipse.lsp4mp.ls.commons.BadLocationException;
+import org.eclipse.lsp4mp.ls.commons.TextChangeRegion;
 import org.eclipse.lsp4mp.ls.commons.TextDocument;
-import org.eclipse.lsp4mp.model.parser.ErrorEvent;
 import org.eclipse.lsp4mp.model.parser.ErrorHandler;
 import org.eclipse.lsp4mp.model.parser.ParseContext;
-import org.eclipse.lsp4mp.model.parser.ParseException;
 import org.eclipse.lsp4mp.model.parser.PropertiesHandler;
 import org.eclipse.lsp4mp.model.parser.PropertiesParser;
 
@@ -161,12 +164,25 @@ public class PropertiesModel extends Node implements IConfigSourcePropertiesProv
 
 	private final TextDocument document;
 	private CancelChecker cancelChecker;
-	private transient Set<String> keys;
+	private transient volatile Set<String> keys;
+	private transient volatile Map<String, List<Property>> propertiesByNameWithProfile;
+	private transient volatile Map<String, List<Property>> propertiesByName;
 
 	PropertiesModel(TextDocument document, CancelChecker cancelChecker) {
 		this.document = document;
 		this.cancelChecker = cancelChecker;
 		this.keys = null;
+		this.propertiesByNameWithProfile = null;
+		this.propertiesByName = null;
+	}
+
+	@Override
+	void addNode(Node node) {
+		super.addNode(node);
+		// the indexes must be rebuilt with the new node
+		this.keys = null;
+		this.propertiesByNameWithProfile = null;
+		this.propertiesByName = null;
 	}
 
 	@Override
@@ -174,6 +190,11 @@ public class PropertiesModel extends Node implements IConfigSourcePropertiesProv
 		return NodeType.DOCUMENT;
 	}
 
+	@Override
+	Node createNode() {
+		return new PropertiesModel(document, cancelChecker);
+	}
+
 	/**
 	 * Returns the properties model from the given text.
 	 *
@@ -208,16 +229,142 @@ public class PropertiesModel extends Node implements IConfigSourcePropertiesProv
 	public static PropertiesModel parse(TextDocument document, CancelChecker cancelChecker) {
 		PropertiesModel model = new PropertiesModel(document, cancelChecker);
 		PropertiesParser parser = new PropertiesParser();
-		parser.parse(document.getText(), new PropertiesModelHandler(model), new ErrorHandler() {
+		parser.parse(document.getText(), new PropertiesModelHandler(model), ErrorHandler.IGNORING, cancelChecker);
+		return model;
+	}
 
-			@Override
-			public void error(ParseContext context, ErrorEvent errorEvent) throws ParseException {
+	/**
+	 * Returns the properties model of the text of the given document by updating
+	 * the given previous model with the given changes.
+	 *
+	 * <p>
+	 * Only the lines impacted by the changes (including the lines of multi-line
+	 * properties) are parsed. The nodes of the previous model which are before
+	 * the changes are copied and the nodes after the changes are copied with
+	 * shifted offsets. The previous model is not modified and can still be used
+	 * (ex : by a validation of the previous version of the document).
+	 * </p>
+	 *
+	 * @param previousModel the properties model of the text before the changes.
+	 * @param document      the text document.
+	 * @param change        the changed region of the text.
+	 * @param cancelChecker the cancel checker.
+	 * @return the properties model of the text of the given document.
+	 */
+	public static PropertiesModel update(PropertiesModel previousModel, TextDocument document,
+			TextChangeRegion change, CancelChecker cancelChecker) {
+		String text = document.getText();
+		int length = text.length();
+		int delta = length - change.getPreviousLength();
+		List<Node> children = previousModel.getChildren();
+		int first = children.size();
+		int next = children.size();
+		PropertiesModel window = null;
+		if (change.hasChanges()) {
+			int changeStart = change.getUnchangedPrefix();
+			int changeEnd = length - change.getUnchangedSuffix();
+			int previousChangeEnd = change.getPreviousLength() - change.getUnchangedSuffix();
+
+			// Parse the lines from the first node which can be impacted by the change
+			// (the end offsets are not sorted because a comment line can be parsed
+			// inside a multi-line property key)
+			first = 0;
+			while (first < children.size() && children.get(first).getEnd() < changeStart - 1) {
+				first++;
+			}
+			int windowStart = first < children.size() ? Math.min(children.get(first).getStart(), changeStart)
+					: changeStart;
+			windowStart = getLineStart(text, windowStart);
+
+			// to the line of the first node after the change and after the replaced
+			// nodes which doesn't belong to a multi-line property.
+			next = Math.max(first, findFirst(children, node -> node.getStart() >= previousChangeEnd));
+			int replacedEnd = changeEnd;
+			for (int i = first; i < next; i++) {
+				replacedEnd = Math.max(replacedEnd, getUpdatedEnd(children.get(i), previousChangeEnd, changeEnd, delta));
+			}
+			PropertiesParser parser = new PropertiesParser();
+			while (true) {
+				int windowEnd = length;
+				while (next < children.size()) {
+					int lineStart = getNodeLineStart(text, children.get(next).getStart() + delta);
+					if (lineStart >= replacedEnd && lineStart < length) {
+						windowEnd = lineStart;
+						break;
+					}
+					replacedEnd = Math.max(replacedEnd,
+							getUpdatedEnd(children.get(next), previousChangeEnd, changeEnd, delta));
+					next++;
+				}
+				if (windowStart == 0 && windowEnd == length) {
+					return parse(document, cancelChecker);
+				}
+				window = new PropertiesModel(document, cancelChecker);
+				parser.parse(text, windowStart, windowEnd, new PropertiesModelHandler(window), ErrorHandler.IGNORING,
+						cancelChecker);
+				if (next < children.size() && parser.isMultiLinePropertyAtEnd()) {
+					// the next node is a part of the last parsed property
+					replacedEnd = Math.max(replacedEnd,
+							getUpdatedEnd(children.get(next), previousChangeEnd, changeEnd, delta));
+					next++;
+					continue;
+				}
+				break;
+			}
+		}
 
+		// Build the new model with the nodes of the previous model and the parsed
+		// nodes
+		PropertiesModel model = new PropertiesModel(document, cancelChecker);
+		model.setStart(0);
+		for (int i = 0; i < first; i++) {
+			model.addNode(children.get(i).copy(0));
+		}
+		if (window != null) {
+			for (Node node : window.getChildren()) {
+				model.addNode(node);
 			}
-		}, cancelChecker);
+		}
+		for (int i = next; i < children.size(); i++) {
+			model.addNode(children.get(i).copy(delta));
+		}
+		model.setEnd(next < children.size() || window == null ? previousModel.getEnd() + delta : window.getEnd());
 		return model;
 	}
 
+	/**
+	 * Returns the end offset of the given node of the previous model in the
+	 * updated text.
+	 */
+	private static int getUpdatedEnd(Node node, int previousChangeEnd, int changeEnd, int delta) {
+		int end = node.getEnd();
+		return end >= previousChangeEnd ? end + delta : Math.min(end, changeEnd);
+	}
+
+	private static int getLineStart(String text, int offset) {
+		int i = Math.min(offset, text.length());
+		while (i > 0 && !isNewLine(text.charAt(i - 1))) {
+			i--;
+		}
+		return i;
+	}
+
+	/**
+	 * Returns the start offset of the line of the given node start offset if the
+	 * node starts the line (after whitespaces) and -1 otherwise.
+	 */
+	private static int getNodeLineStart(String text, int nodeStart) {
+		int i = nodeStart;
+		while (i > 0 && (text.charAt(i - 1) == ' ' || text.charAt(i - 1) == '\t')) {
+			i--;
+		}
+		return i > 0 && isNewLine(text.charAt(i - 1)) ? i : -1;
+	}
+
+	private static boolean isNewLine(char c) {
+		return c == '\n' || c == '\r';
+	}
+
 	/**
 	 * Returns the text from the <code>start</code> offset (inclusive) to the
 	 * <code>end</code> offset (exclusive).
@@ -296,27 +443,82 @@ public class PropertiesModel extends Node implements IConfigSourcePropertiesProv
 		return cancelChecker;
 	}
 
-	@Override
-	public Set<String> keys() {
-		if (keys != null) {
-			return keys;
+	/**
+	 * Returns the properties of the model indexed by their name with the profile
+	 * (ex : '%dev.quarkus.http.port'). The properties with the same name are
+	 * stored in the order of the document. The returned map must not be modified.
+	 *
+	 * @return the properties of the model indexed by their name with the profile.
+	 */
+	public Map<String, List<Property>> getPropertiesIndex() {
+		Map<String, List<Property>> index = propertiesByNameWithProfile;
+		if (index == null) {
+			index = createPropertiesIndex(true);
+			propertiesByNameWithProfile = index;
 		}
+		return index;
+	}
 
-		keys = new HashSet<>();
+	/**
+	 * Returns the properties declared with the given name with the profile (ex :
+	 * '%dev.quarkus.http.port') in the order of the document and an empty list
+	 * otherwise.
+	 *
+	 * @param propertyNameWithProfile the property name with the profile.
+	 * @return the properties declared with the given name with the profile.
+	 */
+	public List<Property> getProperties(String propertyNameWithProfile) {
+		List<Property> properties = getPropertiesIndex().get(propertyNameWithProfile);
+		return properties != null ? properties : Collections.emptyList();
+	}
+
+	/**
+	 * Returns the properties declared with the given name without the profile (ex
+	 * : 'quarkus.http.port' for 'quarkus.http.port' and
+	 * '%dev.quarkus.http.port') in the order of the document and an empty list
+	 * otherwise.
+	 *
+	 * @param propertyName the property name without the profile.
+	 * @return the properties declared with the given name without the profile.
+	 */
+	public List<Property> getPropertiesWithoutProfile(String propertyName) {
+		Map<String, List<Property>> index = propertiesByName;
+		if (index == null) {
+			index = createPropertiesIndex(false);
+			propertiesByName = index;
+		}
+		List<Property> properties = index.get(propertyName);
+		return properties != null ? properties : Collections.emptyList();
+	}
 
+	private Map<String, List<Property>> createPropertiesIndex(boolean withProfile) {
+		Map<String, List<Property>> index = new HashMap<>();
 		for (Node child : getChildren()) {
 			if (child.getNodeType() == NodeType.PROPERTY) {
 				Property property = (Property) child;
-				PropertyValue valueNode = property.getValue();
-				if (valueNode != null && StringUtils.hasText(valueNode.getText(true))) {
-					String key = property.getPropertyNameWithProfile();
-					if (StringUtils.hasText(key)) {
-						keys.add(key);
-					}
+				String name = withProfile ? property.getPropertyNameWithProfile() : property.getPropertyName();
+				if (!StringUtils.isEmpty(name)) {
+					index.computeIfAbsent(name, k -> new ArrayList<>(1)).add(property);
 				}
 			}
 		}
+		return index;
+	}
 
+	@Override
+	public Set<String> keys() {
+		Set<String> keys = this.keys;
+		if (keys != null) {
+			return keys;
+		}
+
+		keys = new HashSet<>();
+		for (String key : getPropertiesIndex().keySet()) {
+			if (StringUtils.hasText(key) && getValue(key) != null) {
+				keys.add(key);
+			}
+		}
+		this.keys = keys;
 		return keys;
 	}
 
@@ -330,17 +532,13 @@ public class PropertiesModel extends Node implements IConfigSourcePropertiesProv
 		if (key == null) {
 			return null;
 		}
-		for (Node child : getChildren()) {
-			if (child.getNodeType() == NodeType.PROPERTY) {
-				Property property = (Property) child;
-				PropertyKey keyNode = property.getKey();
-				if (key.equals(keyNode.getPropertyNameWithProfile())) {
-					PropertyValue valueNode = property.getValue();
-					if (valueNode != null && StringUtils.hasText(valueNode.getText(true))) {
-						return valueNode.getText(true);
-					}
+		for (Property property : getProperties(key)) {
+			PropertyValue valueNode = property.getValue();
+			if (valueNode != null) {
+				String value = valueNode.getText(true);
+				if (StringUtils.hasText(value)) {
+					return value;
 				}
-
 			}
 		}
 		return null;
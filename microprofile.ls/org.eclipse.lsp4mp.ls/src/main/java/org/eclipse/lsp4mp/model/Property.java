@@ -69,6 +69,26 @@ public class Property extends Node {
 		this.delimiterAssign.parent = this;
 	}
 
+	@Override
+	Node copy(int delta) {
+		Property property = (Property) super.copy(delta);
+		if (key != null) {
+			property.setKey((PropertyKey) key.copy(delta));
+		}
+		if (delimiterAssign != null) {
+			property.setDelimiterAssign(delimiterAssign.copy(delta));
+		}
+		if (value != null) {
+			property.setValue((PropertyValue) value.copy(delta));
+		}
+		return property;
+	}
+
+	@Override
+	Node createNode() {
+		return new Property();
+	}
+
 	/**
 	 * Returns the property key (profile + property name) and null otherwise.
 	 *
@@ -26,6 +26,11 @@ public class PropertyKey extends Node {
 		return NodeType.PROPERTY_KEY;
 	}
 
+	@Override
+	Node createNode() {
+		return new PropertyKey();
+	}
+
 	/**
 	 * Returns the profile of the property key and null otherwise.
 	 *
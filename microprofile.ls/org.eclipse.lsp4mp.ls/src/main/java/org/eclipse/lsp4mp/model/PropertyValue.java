@@ -26,6 +26,11 @@ public class PropertyValue extends BasePropertyValue {
 		return NodeType.PROPERTY_VALUE;
 	}
 
+	@Override
+	Node createNode() {
+		return new PropertyValue();
+	}
+
 	/**
 	 * Returns the property value and null otherwise.
 	 *
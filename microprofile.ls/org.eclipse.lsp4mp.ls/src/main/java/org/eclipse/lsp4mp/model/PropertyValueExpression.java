@@ -240,6 +240,11 @@ public class PropertyValueExpression extends BasePropertyValue {
 		}
 	}
 
+	@Override
+	Node createNode() {
+		return new PropertyValueExpression();
+	}
+
 	@Override
 	public PropertyValue getParent() {
 		return (PropertyValue) super.getParent();
@@ -29,6 +29,11 @@ public class PropertyValueLiteral extends BasePropertyValue {
 		return NodeType.PROPERTY_VALUE_LITERAL;
 	}
 
+	@Override
+	Node createNode() {
+		return new PropertyValueLiteral();
+	}
+
 	/**
 	 * Returns the text this node contains and null otherwise.
 	 *
@@ -37,6 +37,8 @@ public class PropertiesParser implements ParseContext {
 	private ParseState parseState;
 	private CancelChecker cancelChecker;
 	private String text;
+	private int endIndex;
+	private boolean multiLinePropertyAtEnd;
 	private int bufferOffset;
 	private int index;
 	private int line;
@@ -66,16 +68,41 @@ public class PropertiesParser implements ParseContext {
 	 *                        {@code ParseException}s for them
 	 */
 	public void parse(String text, PropertiesHandler handler, ErrorHandler errorHandler, CancelChecker cancelChecker) {
+		parse(text, 0, text.length(), handler, errorHandler, cancelChecker);
+	}
+
+	/**
+	 * Reads the input from the {@code start} offset (inclusive) to the
+	 * {@code end} offset (exclusive) and transforms it into a sequence of parse
+	 * events which are sent to the given {@link PropertiesHandler}.
+	 *
+	 * <p>
+	 * The {@code start} offset must be the start of a line which doesn't continue
+	 * a multi-line property and the offsets of the parse events are the offsets in
+	 * the whole text.
+	 * </p>
+	 *
+	 * @param text          the text to parse
+	 * @param start         the start offset (inclusive)
+	 * @param end           the end offset (exclusive)
+	 * @param handler       the handler to send the parse events to
+	 * @param errorHandler  an {@link ErrorHandler} to notify on parse errors
+	 * @param cancelChecker the cancel checker
+	 */
+	public void parse(String text, int start, int end, PropertiesHandler handler, ErrorHandler errorHandler,
+			CancelChecker cancelChecker) {
 		this.handler = handler;
 		this.errorHandler = errorHandler;
 		this.parseState = ParseState.Property;
 		this.cancelChecker = cancelChecker;
 		bufferOffset = 0;
-		index = 0;
+		index = start;
+		endIndex = end;
 		line = 1;
-		lineOffset = 0;
+		lineOffset = start;
 		current = 0;
 		last = -1;
+		multiLinePropertyAtEnd = false;
 
 		this.text = text;
 		readLines();
@@ -87,6 +114,18 @@ public class PropertiesParser implements ParseContext {
 		}
 	}
 
+	/**
+	 * Returns true if the end of the parsed text has been reached while reading a
+	 * property which continues on the next line (ex : property value which ends
+	 * with '\') and false otherwise.
+	 *
+	 * @return true if the end of the parsed text has been reached while reading a
+	 *         property which continues on the next line and false otherwise.
+	 */
+	public boolean isMultiLinePropertyAtEnd() {
+		return multiLinePropertyAtEnd;
+	}
+
 	private void readLines() {
 		handler.startDocument(this);
 		int currentLine = 0;
@@ -100,6 +139,7 @@ public class PropertiesParser implements ParseContext {
 		} while (!isEndOfText());
 
 		// reached end of file
+		multiLinePropertyAtEnd = parseState != ParseState.Property;
 		if (parseState == ParseState.PropertyName) {
 			handler.endPropertyName(this);
 			handler.endProperty(this);
@@ -119,6 +159,10 @@ public class PropertiesParser implements ParseContext {
 	}
 
 	private void readLine() {
+		if (isEndOfText() && endIndex < text.length()) {
+			// end of a partial parse, the next line belongs to the remaining text
+			return;
+		}
 		skipWhiteSpace();
 		if (isNewLine()) {
 			// blank line
@@ -419,7 +463,7 @@ public class PropertiesParser implements ParseContext {
 			lineOffset = bufferOffset + index;
 		}
 		last = current;
-		current = index >= text.length() ? -1 : text.charAt(index++);
+		current = index >= endIndex ? -1 : text.charAt(index++);
 		if (current == -1) {
 			bufferOffset++;
 		}
@@ -0,0 +1,383 @@
+/*******************************************************************************
+* Copyright (c) 2024 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.services.properties;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
+import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
+import org.eclipse.lsp4mp.commons.utils.IConfigSourcePropertiesProvider;
+import org.eclipse.lsp4mp.commons.utils.PropertyValueExpander;
+import org.eclipse.lsp4mp.commons.utils.StringUtils;
+import org.eclipse.lsp4mp.extensions.ExtendedMicroProfileProjectInfo;
+import org.eclipse.lsp4mp.model.Property;
+import org.eclipse.lsp4mp.model.PropertiesModel;
+
+import io.smallrye.common.expression.Expression;
+import io.smallrye.common.expression.Expression.Flag;
+
+/**
+ * Long-lived {@link PropertyValueExpander} for a properties file.
+ *
+ * <p>
+ * The expander is updated with the {@link PropertiesModel} of the properties
+ * file and optionally the default values of the MicroProfile project
+ * information properties. The raw values, the dependencies between the
+ * properties and the expanded values are kept between the updates: when the
+ * model or the project information changes, only the expanded values of the
+ * changed properties and of the properties which reference them (transitively)
+ * are invalidated.
+ * </p>
+ *
+ * <p>
+ * The values are expanded by {@link PropertyValueExpander}, this class only
+ * tracks the references between the properties to invalidate the expanded
+ * values.
+ * </p>
+ *
+ */
+class CachedPropertyValueExpander extends PropertyValueExpander {
+
+	/**
+	 * The raw values of the properties file and of the default values of the
+	 * project information properties.
+	 */
+	private static class RawValues implements IConfigSourcePropertiesProvider {
+
+		private final boolean withDefaultValues;
+
+		private Map<String, String> modelValues;
+
+		private Map<String, String> defaultValues;
+
+		public RawValues(boolean withDefaultValues) {
+			this.withDefaultValues = withDefaultValues;
+			this.modelValues = Collections.emptyMap();
+			this.defaultValues = Collections.emptyMap();
+		}
+
+		@Override
+		public Set<String> keys() {
+			if (!withDefaultValues) {
+				return modelValues.keySet();
+			}
+			Set<String> keys = new LinkedHashSet<>(modelValues.keySet());
+			keys.addAll(defaultValues.keySet());
+			return keys;
+		}
+
+		@Override
+		public boolean hasKey(String key) {
+			String value = getValue(key);
+			return value != null && !value.isEmpty();
+		}
+
+		@Override
+		public String getValue(String key) {
+			String value = modelValues.get(key);
+			if (value == null && withDefaultValues) {
+				value = defaultValues.get(key);
+			}
+			return value;
+		}
+	}
+
+	private final RawValues values;
+
+	private PropertiesModel model;
+
+	private MicroProfileProjectInfo projectInfo;
+
+	private int projectInfoVersion;
+
+	private int projectInfoSize;
+
+	private final Map<String, Set<String>> dependencies;
+
+	private final Map<String, Set<String>> dependents;
+
+	private Boolean acyclic;
+
+	/**
+	 * Create an expander for a properties file.
+	 *
+	 * @param withDefaultValues true if the default values of the MicroProfile
+	 *                          project information properties must be used when
+	 *                          a property is not defined in the properties file
+	 *                          and false otherwise.
+	 */
+	public CachedPropertyValueExpander(boolean withDefaultValues) {
+		this(new RawValues(withDefaultValues));
+	}
+
+	private CachedPropertyValueExpander(RawValues values) {
+		super(values);
+		this.values = values;
+		this.dependencies = new HashMap<>();
+		this.dependents = new HashMap<>();
+	}
+
+	/**
+	 * Returns the expanded value for the give key, or the unexpanded value if the
+	 * value can't be expanded.
+	 *
+	 * @param model       the properties model.
+	 * @param projectInfo the MicroProfile project information.
+	 * @param key         the key to get the value of
+	 * @return the expanded value for the give key, or the unexpanded value if the
+	 *         value can't be expanded.
+	 */
+	public synchronized String getValue(PropertiesModel model, MicroProfileProjectInfo projectInfo, String key) {
+		update(model, projectInfo);
+		return getValue(key);
+	}
+
+	/**
+	 * Gets a list of properties that do not depend on <code>property</code>.
+	 *
+	 * @param model       the properties model.
+	 * @param projectInfo the MicroProfile project information.
+	 * @param property    The property the find the independent properties of.
+	 * @return A list of all the properties whose value do not depend on this
+	 *         property.
+	 *
+	 * @see PropertyValueExpander#getIndependentProperties(String)
+	 */
+	public synchronized List<String> getIndependentProperties(PropertiesModel model,
+			MicroProfileProjectInfo projectInfo, String property) {
+		update(model, projectInfo);
+		return getIndependentProperties(property);
+	}
+
+	@Override
+	public List<String> getIndependentProperties(String property) {
+		Set<String> reachable = getDependents(property);
+		List<String> unreachable = new ArrayList<>();
+		for (String key : values.keys()) {
+			if (!reachable.contains(key)) {
+				unreachable.add(key);
+			}
+		}
+		return unreachable;
+	}
+
+	@Override
+	protected synchronized Set<String> getResolvedKeys() {
+		return super.getResolvedKeys();
+	}
+
+	private void update(PropertiesModel model, MicroProfileProjectInfo projectInfo) {
+		Set<String> changedKeys = new HashSet<>();
+		if (values.withDefaultValues && isProjectInfoChanged(projectInfo)) {
+			Map<String, String> oldDefaultValues = values.defaultValues;
+			values.defaultValues = collectDefaultValues(projectInfo);
+			collectChangedKeys(oldDefaultValues, values.defaultValues, changedKeys);
+			this.projectInfo = projectInfo;
+			this.projectInfoVersion = getPropertiesVersion(projectInfo);
+			this.projectInfoSize = getPropertiesSize(projectInfo);
+		}
+		if (this.model != model) {
+			Map<String, String> oldModelValues = values.modelValues;
+			values.modelValues = collectModelValues(model);
+			collectChangedKeys(oldModelValues, values.modelValues, changedKeys);
+			this.model = model;
+		}
+		if (changedKeys.isEmpty()) {
+			return;
+		}
+		for (String key : changedKeys) {
+			// Invalidate the expanded value of the changed property and of the properties
+			// which reference it
+			for (String dependent : getDependents(key)) {
+				invalidate(dependent);
+			}
+			updateDependencies(key, values.getValue(key));
+		}
+		acyclic = null;
+	}
+
+	private boolean isProjectInfoChanged(MicroProfileProjectInfo projectInfo) {
+		return this.projectInfo != projectInfo || this.projectInfoVersion != getPropertiesVersion(projectInfo)
+				|| this.projectInfoSize != getPropertiesSize(projectInfo);
+	}
+
+	private static int getPropertiesVersion(MicroProfileProjectInfo projectInfo) {
+		return projectInfo instanceof ExtendedMicroProfileProjectInfo
+				? ((ExtendedMicroProfileProjectInfo) projectInfo).getPropertiesVersion()
+				: 0;
+	}
+
+	private static int getPropertiesSize(MicroProfileProjectInfo projectInfo) {
+		return projectInfo != null && projectInfo.getProperties() != null ? projectInfo.getProperties().size() : 0;
+	}
+
+	/**
+	 * Collect the value of the properties defined in the given model. When a
+	 * property is defined several times, the first value is used like
+	 * {@link PropertiesModel#getValue(String)}.
+	 */
+	private static Map<String, String> collectModelValues(PropertiesModel model) {
+		Map<String, String> values = new LinkedHashMap<>();
+		for (String key : model.keys()) {
+			values.put(key, model.getValue(key));
+		}
+		return values;
+	}
+
+	private static Map<String, String> collectDefaultValues(MicroProfileProjectInfo projectInfo) {
+		Map<String, String> values = new LinkedHashMap<>();
+		List<ItemMetadata> properties = projectInfo != null ? projectInfo.getProperties() : null;
+		if (properties != null) {
+			for (ItemMetadata item : properties) {
+				if (item.getName() != null && StringUtils.hasText(item.getDefaultValue())) {
+					values.putIfAbsent(item.getName(), item.getDefaultValue());
+				}
+			}
+		}
+		return values;
+	}
+
+	private void collectChangedKeys(Map<String, String> oldValues, Map<String, String> newValues,
+			Set<String> changedKeys) {
+		for (Map.Entry<String, String> entry : newValues.entrySet()) {
+			if (!Objects.equals(entry.getValue(), oldValues.get(entry.getKey()))) {
+				changedKeys.add(entry.getKey());
+			}
+		}
+		for (String key : oldValues.keySet()) {
+			if (!newValues.containsKey(key)) {
+				changedKeys.add(key);
+			}
+		}
+	}
+
+	/**
+	 * Update the properties referenced by the given key.
+	 */
+	private void updateDependencies(String key, String value) {
+		Set<String> oldDependencies = dependencies.remove(key);
+		if (oldDependencies != null) {
+			for (String dependency : oldDependencies) {
+				Set<String> keys = dependents.get(dependency);
+				if (keys != null) {
+					keys.remove(key);
+					if (keys.isEmpty()) {
+						dependents.remove(dependency);
+					}
+				}
+			}
+		}
+		if (StringUtils.hasText(value) && value.contains("${")) {
+			Set<String> newDependencies = new HashSet<>();
+			Expression expr = Expression.compile(value, Flag.LENIENT_SYNTAX);
+			expr.evaluate((resolver, builder) -> {
+				newDependencies.add(resolver.getKey());
+				resolver.expandDefault();
+			});
+			if (!newDependencies.isEmpty()) {
+				dependencies.put(key, newDependencies);
+				for (String dependency : newDependencies) {
+					dependents.computeIfAbsent(dependency, k -> new HashSet<>()).add(key);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns the given property and the properties which reference it
+	 * (transitively).
+	 */
+	private Set<String> getDependents(String key) {
+		Set<String> reached = new HashSet<>();
+		Deque<String> toVisit = new ArrayDeque<>();
+		reached.add(key);
+		toVisit.add(key);
+		while (!toVisit.isEmpty()) {
+			Set<String> keys = dependents.get(toVisit.poll());
+			if (keys != null) {
+				for (String dependent : keys) {
+					if (reached.add(dependent)) {
+						toVisit.add(dependent);
+					}
+				}
+			}
+		}
+		return reached;
+	}
+
+	@Override
+	protected boolean isAcyclic() {
+		if (acyclic == null) {
+			acyclic = !hasCycle();
+		}
+		return acyclic;
+	}
+
+	/**
+	 * Returns true if the references between the properties have a cycle and false
+	 * otherwise (by removing the properties which are not referenced until there
+	 * are no more properties to remove).
+	 */
+	private boolean hasCycle() {
+		Set<String> keys = values.keys();
+		Map<String, Integer> inDegrees = new HashMap<>();
+		for (String key : keys) {
+			for (String dependency : getExistingDependencies(key, keys)) {
+				inDegrees.merge(dependency, 1, Integer::sum);
+			}
+		}
+		Deque<String> toRemove = new ArrayDeque<>();
+		for (String key : keys) {
+			if (!inDegrees.containsKey(key)) {
+				toRemove.add(key);
+			}
+		}
+		int removed = 0;
+		while (!toRemove.isEmpty()) {
+			String key = toRemove.poll();
+			removed++;
+			for (String dependency : getExistingDependencies(key, keys)) {
+				if (inDegrees.merge(dependency, -1, Integer::sum) == 0) {
+					toRemove.add(dependency);
+				}
+			}
+		}
+		return removed != keys.size();
+	}
+
+	private List<String> getExistingDependencies(String key, Set<String> keys) {
+		Set<String> keyDependencies = dependencies.get(key);
+		if (keyDependencies == null) {
+			return Collections.emptyList();
+		}
+		List<String> existing = new ArrayList<>(keyDependencies.size());
+		for (String dependency : keyDependencies) {
+			if (keys.contains(dependency)) {
+				existing.add(dependency);
+			}
+		}
+		return existing;
+	}
+}
@@ -15,10 +15,10 @@ package org.eclipse.lsp4mp.services.properties;
 
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Predicate;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -39,8 +39,7 @@ import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
 import org.eclipse.lsp4mp.commons.metadata.ConverterKind;
 import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
 import org.eclipse.lsp4mp.commons.metadata.ValueHint;
-import org.eclipse.lsp4mp.commons.utils.PropertyValueExpander;
-import org.eclipse.lsp4mp.commons.utils.StringUtils;
+import org.eclipse.lsp4mp.ls.api.MicroProfilePropertyDocumentationProvider;
 import org.eclipse.lsp4mp.ls.commons.BadLocationException;
 import org.eclipse.lsp4mp.ls.commons.SnippetsBuilder;
 import org.eclipse.lsp4mp.ls.commons.TextDocument;
@@ -60,6 +59,7 @@ import org.eclipse.lsp4mp.snippets.SnippetContextForProperties;
 import org.eclipse.lsp4mp.utils.DocumentationUtils;
 import org.eclipse.lsp4mp.utils.PropertiesFileUtils;
 import org.eclipse.lsp4mp.utils.PropertiesFileUtils.FormattedPropertyResult;
+import org.eclipse.lsp4mp.utils.PropertiesIndex.PrefixMatch;
 
 /**
  * The properties file completions support.
@@ -70,8 +70,20 @@ import org.eclipse.lsp4mp.utils.PropertiesFileUtils.FormattedPropertyResult;
 class PropertiesFileCompletions {
 
 	private static final Logger LOGGER = Logger.getLogger(PropertiesFileCompletions.class.getName());
+
+	/**
+	 * The maximum number of property keys returned by a completion. When this
+	 * number is reached, the completion list is marked as incomplete.
+	 */
+	static final int MAX_PROPERTY_KEY_COMPLETION_ITEMS = 5000;
 	private TextDocumentSnippetRegistry snippetRegistry;
 
+	private final PropertyValueExpanders expanders;
+
+	public PropertiesFileCompletions(PropertyValueExpanders expanders) {
+		this.expanders = expanders;
+	}
+
 	/**
 	 * Returns completion list for the given position
 	 *
@@ -162,14 +174,40 @@ class PropertiesFileCompletions {
 	 */
 	public CompletionItem resolveCompletionItem(CompletionItem unresolved, MicroProfileProjectInfo projectInfo,
 			MicroProfileCompletionCapabilities completionCapabilities, CancelChecker cancelChecker) {
+		return resolveCompletionItem(unresolved, projectInfo, completionCapabilities, null, cancelChecker)
+				.getNow(unresolved);
+	}
+
+	/**
+	 * Returns the completion item with the empty fields resolved. The description
+	 * of a property declared in a Java file is collected on demand with the given
+	 * documentation provider when it has not been collected while scanning the
+	 * project.
+	 *
+	 * @param unresolved             the unresolved completion item
+	 * @param projectInfo            the MicroProfile project information
+	 * @param completionCapabilities the completion capabilities
+	 * @param documentationProvider  the documentation provider
+	 * @param cancelChecker          the cancel checker
+	 * @return the completion item with the empty fields resolved.
+	 */
+	public CompletableFuture<CompletionItem> resolveCompletionItem(CompletionItem unresolved,
+			MicroProfileProjectInfo projectInfo, MicroProfileCompletionCapabilities completionCapabilities,
+			MicroProfilePropertyDocumentationProvider documentationProvider, CancelChecker cancelChecker) {
 		String propertyName = unresolved.getLabel();
 		boolean markdownSupported = completionCapabilities.isDocumentationFormatSupported(MarkupKind.MARKDOWN);
 		ItemMetadata property = PropertiesFileUtils.getProperty(propertyName, projectInfo);
 		if (property == null) {
-			return unresolved;
+			return CompletableFuture.completedFuture(unresolved);
 		}
-		unresolved.setDocumentation(DocumentationUtils.getDocumentation(property, null, null, markdownSupported));
-		return unresolved;
+		CompletionData data = CompletionData.getCompletionData(unresolved);
+		String uri = data != null ? data.getUri() : null;
+		return DocumentationUtils.getDescription(property, uri, markdownSupported, documentationProvider) //
+				.thenApply(description -> {
+					unresolved.setDocumentation(
+							DocumentationUtils.getDocumentation(property, description, null, null, markdownSupported));
+					return unresolved;
+				});
 	}
 
 	/**
@@ -219,22 +257,26 @@ class PropertiesFileCompletions {
 			propertyValue = ((Assign) node).getProperty().getPropertyValue();
 		}
 
-		// Completion on MicroProfile properties
-		for (ItemMetadata property : projectInfo.getProperties()) {
-			if (property == null) {
-				continue;
-			}
-			String propertyName = property.getName();
-			if (profile != null) {
-				propertyName = "%" + profile + "." + propertyName;
-			}
-			if (existingProperties.contains(propertyName) && node.getNodeType() == NodeType.PROPERTY_KEY
-					&& !((PropertyKey) node).getPropertyNameWithProfile().equals(propertyName)) {
-				// don't add completion items for properties that already exist
-				// unless current node has a key equal to current property name
-				continue;
-			}
-
+		// Completion on MicroProfile properties which start with the typed property
+		// name
+		String prefix = getPropertyNamePrefix(offset, node, profile);
+		String currentProfile = profile;
+		PrefixMatch candidates = PropertiesFileUtils.getPropertiesIndex(projectInfo).findProperties(prefix,
+				MAX_PROPERTY_KEY_COMPLETION_ITEMS, property -> {
+					String propertyName = property.getName();
+					if (currentProfile != null) {
+						propertyName = "%" + currentProfile + "." + propertyName;
+					}
+					// don't add completion items for properties that already exist
+					// unless current node has a key equal to current property name
+					return !(existingProperties.contains(propertyName) && node.getNodeType() == NodeType.PROPERTY_KEY
+							&& !((PropertyKey) node).getPropertyNameWithProfile().equals(propertyName));
+				});
+		if (candidates.isIncomplete()) {
+			// the typed text must be completed to find the other properties
+			list.setIsIncomplete(true);
+		}
+		for (ItemMetadata property : candidates.getProperties()) {
 			String name = property.getName();
 			CompletionItem item = new CompletionItem(name);
 			item.setKind(CompletionItemKind.Property);
@@ -305,6 +347,29 @@ class PropertiesFileCompletions {
 		}
 	}
 
+	/**
+	 * Returns the property name (without the profile) typed before the given
+	 * offset.
+	 *
+	 * @param offset  the offset where completion was invoked
+	 * @param node    the node where completion was invoked
+	 * @param profile the profile of the property key and null otherwise.
+	 * @return the property name (without the profile) typed before the given
+	 *         offset.
+	 */
+	private static String getPropertyNamePrefix(int offset, Node node, String profile) {
+		if (node == null || node.getNodeType() != NodeType.PROPERTY_KEY) {
+			return "";
+		}
+		PropertyKey key = (PropertyKey) node;
+		int nameStart = profile != null ? key.getStart() + profile.length() + 2 : key.getStart();
+		int end = Math.min(offset, key.getEnd());
+		if (end <= nameStart) {
+			return "";
+		}
+		return key.getOwnerModel().getText(nameStart, end, true);
+	}
+
 	/**
 	 * Collect Quarkus profiles
 	 *
@@ -404,16 +469,7 @@ class PropertiesFileCompletions {
 	 * @return set of property names for the properties in <code>model</code>
 	 */
 	private static Set<String> getExistingProperties(PropertiesModel model) {
-		Set<String> set = new HashSet<String>();
-		for (Node child : model.getChildren()) {
-			if (child.getNodeType() == NodeType.PROPERTY) {
-				String name = ((Property) child).getPropertyNameWithProfile();
-				if (!StringUtils.isEmpty(name)) {
-					set.add(name);
-				}
-			}
-		}
-		return set;
+		return model.getPropertiesIndex().keySet();
 	}
 
 	/**
@@ -501,17 +557,16 @@ class PropertiesFileCompletions {
 		}
 	}
 
-	private static void collectPropertyValueExpressionSuggestions(PropertyValueExpression node, PropertiesModel model,
+	private void collectPropertyValueExpressionSuggestions(PropertyValueExpression node, PropertiesModel model,
 			MicroProfileProjectInfo projectInfo, MicroProfileCompletionCapabilities completionCapabilities,
 			CompletionList list, CancelChecker cancelChecker) {
 
-		PropertyValueExpander expander = new PropertyValueExpander(model);
 		cancelChecker.checkCanceled();
 
 		// Find properties that won't make a circular dependency and suggest them for
 		// completion
 		String completionPropertyName = node.getProperty().getPropertyKey();
-		List<String> independentProperties = expander.getIndependentProperties(completionPropertyName);
+		List<String> independentProperties = expanders.getIndependentProperties(model, completionPropertyName);
 		cancelChecker.checkCanceled();
 
 		// Compute range
@@ -15,6 +15,7 @@ package org.eclipse.lsp4mp.services.properties;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.logging.Level;
@@ -149,17 +150,15 @@ public class PropertiesFileDefinition {
 
 		String propToResolveName = propertyValueExpression.getReferencedPropertyName();
 
-		List<Property> props = new ArrayList<>();
-
-		for (Node modelChild : document.getChildren()) {
-			if (modelChild.getNodeType() == NodeType.PROPERTY) {
-				Property property = (Property) modelChild;
-				if (property.getPropertyName().equals(propToResolveName)
-						|| property.getPropertyNameWithProfile().equals(propToResolveName)) {
-					props.add(property);
-				}
+		// the properties declared with the name (ex : 'key' for 'key' and '%dev.key')
+		// or with the name with the profile (ex : '%dev.key')
+		List<Property> props = new ArrayList<>(document.getPropertiesWithoutProfile(propToResolveName));
+		for (Property property : document.getProperties(propToResolveName)) {
+			if (!props.contains(property)) {
+				props.add(property);
 			}
 		}
+		props.sort(Comparator.comparingInt(Property::getStart));
 
 		if (!props.isEmpty()) {
 			return getPropertyDefinition(document, propertyValueExpression, props);
@@ -14,7 +14,9 @@
 package org.eclipse.lsp4mp.services.properties;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.lsp4j.Diagnostic;
 import org.eclipse.lsp4j.jsonrpc.CancelChecker;
@@ -29,10 +31,25 @@ import org.eclipse.lsp4mp.settings.MicroProfileValidationSettings;
  */
 class PropertiesFileDiagnostics {
 	
+	private static final int MAX_CACHED_DOCUMENTS = 10;
+
 	private final PropertiesFileExtensionRegistry extensionRegistry;
+
+	// diagnostics of the last validation of the last validated documents, by
+	// document URI
+	private final Map<String, PropertyDiagnosticsCache> diagnosticsCaches;
 	
 	public PropertiesFileDiagnostics(PropertiesFileExtensionRegistry extensionRegistry) {
 		this.extensionRegistry = extensionRegistry;
+		this.diagnosticsCaches = new LinkedHashMap<String, PropertyDiagnosticsCache>(16, 0.75f, true) {
+
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, PropertyDiagnosticsCache> eldest) {
+				return size() > MAX_CACHED_DOCUMENTS;
+			}
+		};
 	}
 
 	/**
@@ -53,9 +70,25 @@ class PropertiesFileDiagnostics {
 		List<Diagnostic> diagnostics = new ArrayList<Diagnostic>();
 		if (validationSettings.isEnabled()) {
 			PropertiesFileValidator validator = new PropertiesFileValidator(projectInfo, diagnostics, validationSettings, extensionRegistry);
-			validator.validate(document, cancelChecker);
+			PropertyDiagnosticsCache diagnosticsCache = getDiagnosticsCache(document);
+			synchronized (diagnosticsCache) {
+				validator.setDiagnosticsCache(diagnosticsCache);
+				validator.validate(document, cancelChecker);
+			}
 		}
 		return diagnostics;
 	}
 
+	/**
+	 * Returns the diagnostics cache of the given properties file.
+	 *
+	 * @param document the properties model.
+	 * @return the diagnostics cache of the given properties file.
+	 */
+	PropertyDiagnosticsCache getDiagnosticsCache(PropertiesModel document) {
+		synchronized (diagnosticsCaches) {
+			return diagnosticsCaches.computeIfAbsent(document.getDocumentURI(), uri -> new PropertyDiagnosticsCache());
+		}
+	}
+
 }
@@ -78,14 +78,9 @@ public class PropertiesFileDocumentHighlight {
 		}
 		List<DocumentHighlight> highlights = new ArrayList<>(2);
 		highlights.add(createHighlight(node, DocumentHighlightKind.Read));
-		for (Node child : document.getChildren()) {
-			if (child.getNodeType() == NodeType.PROPERTY) {
-				Property property = (Property) child;
-				if (otherProp.equals(property.getPropertyName())) {
-					highlights.add(createHighlight(property.getKey(), DocumentHighlightKind.Write));
-					break;
-				}
-			}
+		List<Property> properties = document.getPropertiesWithoutProfile(otherProp);
+		if (!properties.isEmpty()) {
+			highlights.add(createHighlight(properties.get(0).getKey(), DocumentHighlightKind.Write));
 		}
 		return highlights;
 	}
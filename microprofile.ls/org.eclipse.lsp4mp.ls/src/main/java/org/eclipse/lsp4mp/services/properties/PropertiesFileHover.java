@@ -23,16 +23,11 @@ import org.eclipse.lsp4j.MarkupKind;
 import org.eclipse.lsp4j.Position;
 import org.eclipse.lsp4j.Range;
 import org.eclipse.lsp4j.jsonrpc.CancelChecker;
-import org.eclipse.lsp4mp.commons.DocumentFormat;
 import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
-import org.eclipse.lsp4mp.commons.MicroProfilePropertyDocumentationParams;
 import org.eclipse.lsp4mp.commons.metadata.ConfigurationMetadata;
 import org.eclipse.lsp4mp.commons.metadata.ItemHint;
 import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
 import org.eclipse.lsp4mp.commons.metadata.ValueHint;
-import org.eclipse.lsp4mp.commons.utils.ConfigSourcePropertiesProviderUtils;
-import org.eclipse.lsp4mp.commons.utils.IConfigSourcePropertiesProvider;
-import org.eclipse.lsp4mp.commons.utils.PropertyValueExpander;
 import org.eclipse.lsp4mp.commons.utils.StringUtils;
 import org.eclipse.lsp4mp.ls.api.MicroProfilePropertyDocumentationProvider;
 import org.eclipse.lsp4mp.ls.commons.BadLocationException;
@@ -55,6 +50,12 @@ class PropertiesFileHover {
 
 	private static final CompletableFuture<Hover> NULL_HOVER = CompletableFuture.completedFuture(null);
 
+	private final PropertyValueExpanders expanders;
+
+	public PropertiesFileHover(PropertyValueExpanders expanders) {
+		this.expanders = expanders;
+	}
+
 	/**
 	 * Returns Hover object for the currently hovered token
 	 *
@@ -155,7 +156,7 @@ class PropertiesFileHover {
 	 * @param cancelChecker         the cancel checker
 	 * @return the documentation hover for property key represented by token
 	 */
-	private static CompletableFuture<Hover> getPropertyKeyHover(PropertyKey key, MicroProfileProjectInfo projectInfo,
+	private CompletableFuture<Hover> getPropertyKeyHover(PropertyKey key, MicroProfileProjectInfo projectInfo,
 			MicroProfileHoverSettings hoverSettings, MicroProfilePropertyDocumentationProvider documentationProvider,
 			String uri, CancelChecker cancelChecker) {
 		boolean markdownSupported = hoverSettings.isContentFormatSupported(MarkupKind.MARKDOWN);
@@ -163,12 +164,9 @@ class PropertiesFileHover {
 		String propertyName = key.getPropertyName();
 
 		PropertiesModel model = key.getOwnerModel();
-		IConfigSourcePropertiesProvider propertiesProvider = ConfigSourcePropertiesProviderUtils.layer(model,
-				new PropertiesInfoPropertiesProvider(projectInfo.getProperties()));
-		PropertyValueExpander expander = new PropertyValueExpander(propertiesProvider);
 		cancelChecker.checkCanceled();
 
-		String propertyValue = expander.getValue(key.getPropertyNameWithProfile());
+		String propertyValue = expanders.getValue(model, projectInfo, key.getPropertyNameWithProfile());
 		if (!StringUtils.hasText(propertyValue)) {
 			propertyValue = null;
 		}
@@ -178,52 +176,25 @@ class PropertiesFileHover {
 		final String propertyValueFinal = propertyValue;
 
 		if (item != null || propertyValue != null) {
-
-			CompletableFuture<Void> docsCollect = null;
-			if (item != null && item.isJavaOrigin() && StringUtils.isEmpty(item.getDescription())) {
-				// It is a property declared in a Java file, try to collect the Javadoc
-				MicroProfilePropertyDocumentationParams params = new MicroProfilePropertyDocumentationParams();
-				params.setUri(uri);
-				params.setSourceField(item.getSourceField());
-				params.setSourceMethod(item.getSourceMethod());
-				params.setSourceType(item.getSourceType());
-				params.setDocumentFormat(markdownSupported ? DocumentFormat.Markdown : DocumentFormat.PlainText);
-				docsCollect = documentationProvider.getPropertyDocumentation(params) //
-						.thenAccept(docs -> {
-							if (docs != null && !docs.isEmpty()) {
-								item.setDescription(docs);
-							}
-						});
-			}
-
-			if (docsCollect == null) {
+			if (item == null) {
+				// The property was not found, display just the resolved value
 				Hover hover = new Hover();
-				MarkupContent markupContent = null;
-				if (item != null) {
-					// MicroProfile property found, display the documentation as hover
-					markupContent = DocumentationUtils.getDocumentation(item, key.getProfile(), propertyValue,
-							markdownSupported);
-				} else {
-					// The property was not found, display just the resolved value
-					markupContent = DocumentationUtils.getDocumentation(key.getProfile(), propertyName, propertyValue,
-							markdownSupported);
-				}
-				hover.setContents(markupContent);
+				hover.setContents(DocumentationUtils.getDocumentation(key.getProfile(), propertyName, propertyValue,
+						markdownSupported));
 				hover.setRange(PositionUtils.createRange(key));
 				return CompletableFuture.completedFuture(hover);
 			}
-			return docsCollect.thenApply((_null) -> {
-				Hover hover = new Hover();
-				MarkupContent markupContent = null;
-				// Docs are only collected asynchronously from JDT.LS if the ItemMetadata
-				// resolves
-				// MicroProfile property found, display the documentation as hover
-				markupContent = DocumentationUtils.getDocumentation(item, key.getProfile(), propertyValueFinal,
-						markdownSupported);
-				hover.setContents(markupContent);
-				hover.setRange(PositionUtils.createRange(key));
-				return hover;
-			});
+			// MicroProfile property found, display the documentation as hover. The
+			// description of a property declared in a Java file is collected on demand
+			// when it has not been collected while scanning the project.
+			return DocumentationUtils.getDescription(item, uri, markdownSupported, documentationProvider) //
+					.thenApply(description -> {
+						Hover hover = new Hover();
+						hover.setContents(DocumentationUtils.getDocumentation(item, description, key.getProfile(),
+								propertyValueFinal, markdownSupported));
+						hover.setRange(PositionUtils.createRange(key));
+						return hover;
+					});
 		}
 
 		return NULL_HOVER;
@@ -264,7 +235,7 @@ class PropertiesFileHover {
 		return null;
 	}
 
-	private static Hover getPropertyValueExpressionHover(PropertyValueExpression node,
+	private Hover getPropertyValueExpressionHover(PropertyValueExpression node,
 			MicroProfileProjectInfo projectInfo, MicroProfileHoverSettings hoverSettings, CancelChecker cancelChecker) {
 		String referencedProp = node.getReferencedPropertyName();
 		if (referencedProp == null) {
@@ -272,12 +243,9 @@ class PropertiesFileHover {
 		}
 
 		PropertiesModel model = node.getOwnerModel();
-		IConfigSourcePropertiesProvider propertiesProvider = ConfigSourcePropertiesProviderUtils.layer(model,
-				new PropertiesInfoPropertiesProvider(projectInfo.getProperties()));
-		PropertyValueExpander expander = new PropertyValueExpander(propertiesProvider);
 		cancelChecker.checkCanceled();
 
-		String resolvedValue = expander.getValue(referencedProp);
+		String resolvedValue = expanders.getValue(model, projectInfo, referencedProp);
 
 		if (StringUtils.hasText(resolvedValue)) {
 			return createHover(resolvedValue, node);
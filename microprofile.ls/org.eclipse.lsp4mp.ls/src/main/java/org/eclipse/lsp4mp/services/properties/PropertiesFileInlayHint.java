@@ -14,7 +14,6 @@
 package org.eclipse.lsp4mp.services.properties;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -24,10 +23,6 @@ import org.eclipse.lsp4j.Position;
 import org.eclipse.lsp4j.Range;
 import org.eclipse.lsp4j.jsonrpc.CancelChecker;
 import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
-import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
-import org.eclipse.lsp4mp.commons.utils.ConfigSourcePropertiesProviderUtils;
-import org.eclipse.lsp4mp.commons.utils.IConfigSourcePropertiesProvider;
-import org.eclipse.lsp4mp.commons.utils.PropertyValueExpander;
 import org.eclipse.lsp4mp.ls.commons.BadLocationException;
 import org.eclipse.lsp4mp.model.Node;
 import org.eclipse.lsp4mp.model.Node.NodeType;
@@ -63,11 +58,14 @@ class PropertiesFileInlayHint {
 
 	private static final Logger LOGGER = Logger.getLogger(PropertiesFileInlayHint.class.getName());
 
+	private final PropertyValueExpanders expanders;
+
+	public PropertiesFileInlayHint(PropertyValueExpanders expanders) {
+		this.expanders = expanders;
+	}
+
 	public List<InlayHint> getInlayHint(PropertiesModel document, MicroProfileProjectInfo projectInfo, Range range,
 			CancelChecker cancelChecker) {
-		List<ItemMetadata> metadatas = projectInfo != null && projectInfo.getProperties() != null
-				? projectInfo.getProperties()
-				: Collections.emptyList();
 		List<InlayHint> hints = new ArrayList<>();
 		List<Node> children = document.getChildren();
 		for (Node child : children) {
@@ -78,10 +76,8 @@ class PropertiesFileInlayHint {
 				if (valueNode != null && valueNode.hasExpression()) {
 					// The current property has a value with expression:
 					// ex : server.url=https://${host}:${port:8080}/${endpoint}
-					IConfigSourcePropertiesProvider propertiesProvider = ConfigSourcePropertiesProviderUtils
-							.layer(document, new PropertiesInfoPropertiesProvider(metadatas));
-					PropertyValueExpander expander = new PropertyValueExpander(propertiesProvider);
-					String resolved = expander.getValue(property.getKey().getPropertyNameWithProfile());
+					String resolved = expanders.getValue(document, projectInfo,
+							property.getKey().getPropertyNameWithProfile());
 					if (resolved != null) {
 						try {
 							// The expression 'https://${host}:${port:8080}/${endpoint}' can be resolved
@@ -65,15 +65,16 @@ public class PropertiesFileLanguageService extends PropertiesFileExtensionRegist
 	private final PropertiesFileInlayHint inlayHint;
 
 	public PropertiesFileLanguageService() {
-		this.completions = new PropertiesFileCompletions();
+		PropertyValueExpanders expanders = new PropertyValueExpanders();
+		this.completions = new PropertiesFileCompletions(expanders);
 		this.symbolsProvider = new PropertiesFileSymbolsProvider();
-		this.hover = new PropertiesFileHover();
+		this.hover = new PropertiesFileHover(expanders);
 		this.definition = new PropertiesFileDefinition();
 		this.diagnostics = new PropertiesFileDiagnostics(this);
 		this.formatter = new PropertiesFileFormatter();
 		this.codeActions = new PropertiesFileCodeActions();
 		this.documentHighlight = new PropertiesFileDocumentHighlight();
-		this.inlayHint = new PropertiesFileInlayHint();
+		this.inlayHint = new PropertiesFileInlayHint(expanders);
 	}
 
 	/**
@@ -108,6 +109,25 @@ public class PropertiesFileLanguageService extends PropertiesFileExtensionRegist
 		return completions.resolveCompletionItem(unresolved, projectInfo, completionCapabilities, cancelChecker);
 	}
 
+	/**
+	 * Returns the completion item with the empty fields resolved and the
+	 * description of the property collected on demand with the given
+	 * documentation provider.
+	 *
+	 * @param unresolved             the unresolved completion item
+	 * @param projectInfo            the MicroProfile project information
+	 * @param completionCapabilities the completion capabilities
+	 * @param documentationProvider  the documentation provider
+	 * @param cancelChecker          the cancel checker
+	 * @return the completion item with the empty fields resolved.
+	 */
+	public CompletableFuture<CompletionItem> resolveCompletionItem(CompletionItem unresolved,
+			MicroProfileProjectInfo projectInfo, MicroProfileCompletionCapabilities completionCapabilities,
+			MicroProfilePropertyDocumentationProvider documentationProvider, CancelChecker cancelChecker) {
+		return completions.resolveCompletionItem(unresolved, projectInfo, completionCapabilities,
+				documentationProvider, cancelChecker);
+	}
+
 	/**
 	 * Returns Hover object for the currently hovered token
 	 *
@@ -15,8 +15,6 @@ package org.eclipse.lsp4mp.services.properties;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
-import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -30,12 +28,15 @@ import java.util.stream.Collectors;
 
 import org.eclipse.lsp4j.Diagnostic;
 import org.eclipse.lsp4j.DiagnosticSeverity;
+import org.eclipse.lsp4j.Position;
 import org.eclipse.lsp4j.Range;
 import org.eclipse.lsp4j.jsonrpc.CancelChecker;
 import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
 import org.eclipse.lsp4mp.commons.metadata.ConfigurationMetadata;
+import org.eclipse.lsp4mp.commons.metadata.ItemHint;
 import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
 import org.eclipse.lsp4mp.commons.utils.StringUtils;
+import org.eclipse.lsp4mp.ls.commons.BadLocationException;
 import org.eclipse.lsp4mp.model.Node;
 import org.eclipse.lsp4mp.model.Node.NodeType;
 import org.eclipse.lsp4mp.model.PropertiesModel;
@@ -65,26 +66,49 @@ class PropertiesFileValidator {
 
 	private final MicroProfileValidationSettings validationSettings;
 	private final PropertiesFileExtensionRegistry extensionRegistry;
-	private final Map<String, List<Property>> existingProperties;
+	private Map<String, List<Property>> existingProperties;
 	private Set<String> declaredProperties;
 	private Map<String, ItemMetadata> availableProperties;
 
 	private ValidationKeyContext validationKeyContext;
 	private ValidationValueContext validationValueContext;
 
+	private PropertyDiagnosticsCache diagnosticsCache;
+
 	public PropertiesFileValidator(MicroProfileProjectInfo projectInfo, List<Diagnostic> diagnostics,
 			MicroProfileValidationSettings validationSettings, PropertiesFileExtensionRegistry extensionRegistry) {
 		this.projectInfo = projectInfo;
 		this.diagnostics = diagnostics;
 		this.validationSettings = validationSettings;
 		this.extensionRegistry = extensionRegistry;
-		this.existingProperties = new HashMap<String, List<Property>>();
 		// to be lazily init
 		this.declaredProperties = null;
 		this.availableProperties = null;
 	}
 
+	/**
+	 * Set the cache used to reuse the diagnostics of the properties which have
+	 * not changed since the last validation.
+	 *
+	 * <p>
+	 * The cache is ignored when property validator participants are registered,
+	 * because they can validate a property with the whole properties file.
+	 * </p>
+	 *
+	 * @param diagnosticsCache the diagnostics cache and null otherwise.
+	 */
+	public void setDiagnosticsCache(PropertyDiagnosticsCache diagnosticsCache) {
+		this.diagnosticsCache = diagnosticsCache;
+	}
+
 	public void validate(PropertiesModel document, CancelChecker cancelChecker) {
+		if (diagnosticsCache != null && !extensionRegistry.getPropertyValidatorParticipants().isEmpty()) {
+			diagnosticsCache = null;
+		}
+		if (diagnosticsCache != null) {
+			diagnosticsCache.begin(projectInfo, validationSettings);
+		}
+		existingProperties = document.getPropertiesIndex();
 		List<Node> nodes = document.getChildren();
 
 		for (Node node : nodes) {
@@ -96,22 +120,60 @@ class PropertiesFileValidator {
 			}
 		}
 
+		if (diagnosticsCache != null) {
+			diagnosticsCache.end();
+		}
+
 		addDiagnosticsForDuplicates();
 		addDiagnosticsForMissingRequired(document);
 	}
 
 	private void validateProperty(Property property, CancelChecker cancelChecker) {
 		String propertyNameWithProfile = property.getPropertyNameWithProfile();
+		String propertyName = property.getPropertyName();
+		ItemMetadata metadata = !StringUtils.isEmpty(propertyName)
+				? PropertiesFileUtils.getProperty(propertyName, projectInfo)
+				: null;
+		if (diagnosticsCache == null || property.isPropertyValueExpression()) {
+			// The validation of a property value expression depends on the other
+			// properties, it cannot be cached
+			validateProperty(property, propertyNameWithProfile, propertyName, metadata, cancelChecker);
+			return;
+		}
+
+		// The diagnostics of the property only depend on the text of its lines, its
+		// metadata and the validation settings
+		PropertiesModel model = property.getOwnerModel();
+		String propertyText = null;
+		int line = -1;
+		try {
+			line = model.positionAt(property.getStart()).getLine();
+			int lineStart = model.offsetAt(new Position(line, 0));
+			propertyText = model.getDocument().getText().substring(lineStart, property.getEnd());
+		} catch (BadLocationException | IndexOutOfBoundsException e) {
+			LOGGER.log(Level.WARNING, "Error while getting the text of the property '" + propertyName + "'.", e);
+			validateProperty(property, propertyNameWithProfile, propertyName, metadata, cancelChecker);
+			return;
+		}
+		ItemHint hint = metadata != null ? projectInfo.getHint(metadata) : null;
+		List<Diagnostic> cachedDiagnostics = diagnosticsCache.get(propertyText, metadata, hint, line);
+		if (cachedDiagnostics != null) {
+			diagnostics.addAll(cachedDiagnostics);
+			return;
+		}
+		int start = diagnostics.size();
+		validateProperty(property, propertyNameWithProfile, propertyName, metadata, cancelChecker);
+		diagnosticsCache.put(propertyText, metadata, hint, line, diagnostics.subList(start, diagnostics.size()));
+	}
+
+	private void validateProperty(Property property, String propertyNameWithProfile, String propertyName,
+			ItemMetadata metadata, CancelChecker cancelChecker) {
 		if (!StringUtils.isEmpty(propertyNameWithProfile)) {
 			// Validate Syntax property
 			validateSyntaxProperty(propertyNameWithProfile, property);
-			// Validate Duplicate property
-			validateDuplicateProperty(propertyNameWithProfile, property);
 		}
 
-		String propertyName = property.getPropertyName();
 		if (!StringUtils.isEmpty(propertyName)) {
-			ItemMetadata metadata = PropertiesFileUtils.getProperty(propertyName, projectInfo);
 			validatePropertyKey(property, propertyName, metadata, cancelChecker);
 			// Validate simple / expression property value
 			validatePropertyValue(property, propertyNameWithProfile, metadata, cancelChecker);
@@ -132,20 +194,6 @@ class PropertiesFileValidator {
 		}
 	}
 
-	private void validateDuplicateProperty(String propertyName, Property property) {
-		DiagnosticSeverity severity = validationSettings.getDuplicate().getDiagnosticSeverity(propertyName);
-		if (severity == null) {
-			// The duplicate validation must be ignored for this property name
-			return;
-		}
-
-		if (!existingProperties.containsKey(propertyName)) {
-			existingProperties.put(propertyName, new ArrayList<Property>());
-		}
-
-		existingProperties.get(propertyName).add(property);
-	}
-
 	// ---------------- Property key validation
 
 	private void validatePropertyKey(Property property, String propertyName, ItemMetadata metadata,
@@ -307,11 +355,7 @@ class PropertiesFileValidator {
 					if (declaredProperties == null) {
 						// Collect names of all properties defined in the configuration file and the
 						// project information
-						declaredProperties = property.getOwnerModel().getChildren().stream().filter(n -> {
-							return n.getNodeType() == NodeType.PROPERTY;
-						}).map(prop -> {
-							return ((Property) prop).getPropertyNameWithProfile();
-						}).collect(Collectors.toSet());
+						declaredProperties = property.getOwnerModel().getPropertiesIndex().keySet();
 
 						availableProperties = projectInfo.getProperties()//
 								.stream() //
@@ -533,6 +577,10 @@ class PropertiesFileValidator {
 			}
 
 			DiagnosticSeverity severity = validationSettings.getDuplicate().getDiagnosticSeverity(propertyName);
+			if (severity == null) {
+				// The duplicate validation must be ignored for this property name
+				return;
+			}
 
 			for (Property property : propertyList) {
 				addDiagnostic("Duplicate property '" + propertyName + "'", property.getKey(), severity,
@@ -0,0 +1,202 @@
+/*******************************************************************************
+* Copyright (c) 2024 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.services.properties;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.lsp4j.Diagnostic;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
+import org.eclipse.lsp4mp.commons.metadata.ItemHint;
+import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
+import org.eclipse.lsp4mp.settings.MicroProfileValidationSettings;
+import org.eclipse.lsp4mp.settings.MicroProfileValidationTypeSettings;
+
+/**
+ * Diagnostics of the properties of a properties file computed by the last
+ * validation.
+ *
+ * <p>
+ * The diagnostics of a property (syntax, unknown property and value) are
+ * reused when the text of its lines, its {@link ItemMetadata}, its
+ * {@link ItemHint} and the validation settings are the same than the last
+ * validation. The ranges of the reused diagnostics are moved to the new line of
+ * the property.
+ * </p>
+ *
+ * <p>
+ * The cache only keeps the properties of the last validation and it is cleared
+ * when the project info or the validation settings change.
+ * </p>
+ *
+ */
+class PropertyDiagnosticsCache {
+
+	private static class Entry {
+
+		private final ItemMetadata metadata;
+
+		private final ItemHint hint;
+
+		private final int line;
+
+		private final List<Diagnostic> diagnostics;
+
+		public Entry(ItemMetadata metadata, ItemHint hint, int line, List<Diagnostic> diagnostics) {
+			this.metadata = metadata;
+			this.hint = hint;
+			this.line = line;
+			this.diagnostics = diagnostics;
+		}
+	}
+
+	private MicroProfileProjectInfo projectInfo;
+
+	private List<Object> settingsKey;
+
+	private Map<String, Entry> entries;
+
+	private Map<String, Entry> newEntries;
+
+	private int hitCount;
+
+	private int missCount;
+
+	public PropertyDiagnosticsCache() {
+		this.entries = new HashMap<>();
+	}
+
+	/**
+	 * Start a validation of the properties file with the given project info and
+	 * validation settings.
+	 *
+	 * @param projectInfo        the MicroProfile project info.
+	 * @param validationSettings the validation settings.
+	 */
+	public void begin(MicroProfileProjectInfo projectInfo, MicroProfileValidationSettings validationSettings) {
+		List<Object> settingsKey = createSettingsKey(validationSettings);
+		if (this.projectInfo != projectInfo || !settingsKey.equals(this.settingsKey)) {
+			entries.clear();
+			this.projectInfo = projectInfo;
+			this.settingsKey = settingsKey;
+		}
+		newEntries = new HashMap<>();
+		hitCount = 0;
+		missCount = 0;
+	}
+
+	/**
+	 * End the validation : only the properties of this validation are kept.
+	 */
+	public void end() {
+		entries = newEntries;
+		newEntries = null;
+	}
+
+	/**
+	 * Returns the diagnostics of the property with the given text and metadata
+	 * moved to the given line and null if the property must be validated.
+	 *
+	 * @param text     the text of the property lines.
+	 * @param metadata the metadata of the property and null otherwise.
+	 * @param hint     the hint of the property metadata and null otherwise.
+	 * @param line     the start line of the property.
+	 * @return the diagnostics of the property moved to the given line and null if
+	 *         the property must be validated.
+	 */
+	public List<Diagnostic> get(String text, ItemMetadata metadata, ItemHint hint, int line) {
+		Entry entry = entries.get(text);
+		if (entry == null || entry.metadata != metadata || entry.hint != hint) {
+			missCount++;
+			return null;
+		}
+		hitCount++;
+		List<Diagnostic> diagnostics = move(entry.diagnostics, line - entry.line);
+		newEntries.put(text, line == entry.line ? entry
+				: new Entry(metadata, hint, line, move(entry.diagnostics, line - entry.line)));
+		return diagnostics;
+	}
+
+	/**
+	 * Store the diagnostics of the property with the given text and metadata.
+	 *
+	 * @param text        the text of the property lines.
+	 * @param metadata    the metadata of the property and null otherwise.
+	 * @param hint        the hint of the property metadata and null otherwise.
+	 * @param line        the start line of the property.
+	 * @param diagnostics the diagnostics of the property.
+	 */
+	public void put(String text, ItemMetadata metadata, ItemHint hint, int line, List<Diagnostic> diagnostics) {
+		newEntries.put(text, new Entry(metadata, hint, line, move(diagnostics, 0)));
+	}
+
+	/**
+	 * Returns the number of properties whose diagnostics have been reused by the
+	 * last validation.
+	 *
+	 * @return the number of properties whose diagnostics have been reused by the
+	 *         last validation.
+	 */
+	public int getHitCount() {
+		return hitCount;
+	}
+
+	/**
+	 * Returns the number of properties which have been validated by the last
+	 * validation.
+	 *
+	 * @return the number of properties which have been validated by the last
+	 *         validation.
+	 */
+	public int getMissCount() {
+		return missCount;
+	}
+
+	private static List<Object> createSettingsKey(MicroProfileValidationSettings validationSettings) {
+		List<Object> key = new ArrayList<>();
+		for (MicroProfileValidationTypeSettings settings : Arrays.asList(validationSettings.getSyntax(),
+				validationSettings.getUnknown(), validationSettings.getValue())) {
+			key.add(settings != null ? settings.getSeverity() : null);
+			List<String> excluded = settings != null ? settings.getExcluded() : null;
+			key.add(excluded != null ? new ArrayList<>(excluded) : null);
+		}
+		return key;
+	}
+
+	private static List<Diagnostic> move(List<Diagnostic> diagnostics, int lineDelta) {
+		List<Diagnostic> moved = new ArrayList<>(diagnostics.size());
+		for (Diagnostic diagnostic : diagnostics) {
+			moved.add(move(diagnostic, lineDelta));
+		}
+		return moved;
+	}
+
+	private static Diagnostic move(Diagnostic diagnostic, int lineDelta) {
+		Range range = diagnostic.getRange();
+		Diagnostic moved = new Diagnostic();
+		moved.setRange(new Range(new Position(range.getStart().getLine() + lineDelta, range.getStart().getCharacter()),
+				new Position(range.getEnd().getLine() + lineDelta, range.getEnd().getCharacter())));
+		moved.setMessage(diagnostic.getMessage());
+		moved.setSeverity(diagnostic.getSeverity());
+		moved.setSource(diagnostic.getSource());
+		moved.setCode(diagnostic.getCode());
+		moved.setData(diagnostic.getData());
+		return moved;
+	}
+}
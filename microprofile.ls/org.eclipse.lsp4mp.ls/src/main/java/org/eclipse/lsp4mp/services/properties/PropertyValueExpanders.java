@@ -0,0 +1,96 @@
+/*******************************************************************************
+* Copyright (c) 2024 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.services.properties;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
+import org.eclipse.lsp4mp.model.PropertiesModel;
+
+/**
+ * The property value expanders of the last used properties files shared by the
+ * hover, the inlay hint and the completion.
+ *
+ */
+class PropertyValueExpanders {
+
+	private static final int MAX_CACHED_DOCUMENTS = 10;
+
+	private static class DocumentExpanders {
+
+		// expander which uses the properties file and the default values of the
+		// project info properties
+		private final CachedPropertyValueExpander withDefaultValues = new CachedPropertyValueExpander(true);
+
+		// expander which uses only the properties file
+		private final CachedPropertyValueExpander withoutDefaultValues = new CachedPropertyValueExpander(false);
+	}
+
+	// expanders of the last used documents, by document URI
+	private final Map<String, DocumentExpanders> expanders;
+
+	public PropertyValueExpanders() {
+		this.expanders = new LinkedHashMap<String, DocumentExpanders>(16, 0.75f, true) {
+
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, DocumentExpanders> eldest) {
+				return size() > MAX_CACHED_DOCUMENTS;
+			}
+		};
+	}
+
+	/**
+	 * Returns the expanded value for the given key of the given properties model,
+	 * or the unexpanded value if the value can't be expanded. The default values of
+	 * the project info properties are used when the property is not defined in the
+	 * properties model.
+	 *
+	 * @param model       the properties model.
+	 * @param projectInfo the MicroProfile project information.
+	 * @param key         the key to get the value of.
+	 * @return the expanded value for the given key, or the unexpanded value if the
+	 *         value can't be expanded.
+	 */
+	public String getValue(PropertiesModel model, MicroProfileProjectInfo projectInfo, String key) {
+		return getExpanders(model).withDefaultValues.getValue(model, projectInfo, key);
+	}
+
+	/**
+	 * Gets a list of the properties of the given properties model that do not
+	 * depend on <code>property</code>.
+	 *
+	 * @param model    the properties model.
+	 * @param property The property the find the independent properties of.
+	 * @return A list of all the properties whose value do not depend on this
+	 *         property.
+	 */
+	public List<String> getIndependentProperties(PropertiesModel model, String property) {
+		return getExpanders(model).withoutDefaultValues.getIndependentProperties(model, null, property);
+	}
+
+	CachedPropertyValueExpander getExpander(PropertiesModel model, boolean withDefaultValues) {
+		DocumentExpanders documentExpanders = getExpanders(model);
+		return withDefaultValues ? documentExpanders.withDefaultValues : documentExpanders.withoutDefaultValues;
+	}
+
+	private DocumentExpanders getExpanders(PropertiesModel model) {
+		synchronized (expanders) {
+			return expanders.computeIfAbsent(model.getDocumentURI(), uri -> new DocumentExpanders());
+		}
+	}
+}
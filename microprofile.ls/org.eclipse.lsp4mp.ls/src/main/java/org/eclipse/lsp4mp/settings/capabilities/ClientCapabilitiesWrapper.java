@@ -127,6 +127,19 @@ public class ClientCapabilitiesWrapper {
 		// @formatter:on
 	}
 
+	/**
+	 * Returns true if the client supports the 'workspace/codeLens/refresh'
+	 * request and false otherwise.
+	 *
+	 * @return true if the client supports the 'workspace/codeLens/refresh'
+	 *         request and false otherwise.
+	 */
+	public boolean isCodeLensRefreshSupported() {
+		return capabilities.getWorkspace() != null && capabilities.getWorkspace().getCodeLens() != null
+				&& capabilities.getWorkspace().getCodeLens().getRefreshSupport() != null
+				&& capabilities.getWorkspace().getCodeLens().getRefreshSupport().booleanValue();
+	}
+
 	public boolean isInlayHintDynamicRegistered() {
 		return v3Supported && isDynamicRegistrationSupported(getTextDocument().getInlayHint());
 	}
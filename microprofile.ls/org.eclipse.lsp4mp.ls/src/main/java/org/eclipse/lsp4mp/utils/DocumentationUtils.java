@@ -15,11 +15,17 @@ package org.eclipse.lsp4mp.utils;
 
 import static org.eclipse.lsp4mp.utils.PropertiesFileUtils.formatPropertyForMarkdown;
 
+import java.util.concurrent.CompletableFuture;
+
 import org.eclipse.lsp4j.MarkupContent;
 import org.eclipse.lsp4j.MarkupKind;
 import org.eclipse.lsp4j.jsonrpc.messages.Either;
+import org.eclipse.lsp4mp.commons.DocumentFormat;
+import org.eclipse.lsp4mp.commons.MicroProfilePropertyDocumentationParams;
 import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
 import org.eclipse.lsp4mp.commons.metadata.ValueHint;
+import org.eclipse.lsp4mp.commons.utils.StringUtils;
+import org.eclipse.lsp4mp.ls.api.MicroProfilePropertyDocumentationProvider;
 
 /**
  * Utility for documentation.
@@ -42,6 +48,24 @@ public class DocumentationUtils {
 	 * @return the documentation of the given MicroProfile property.
 	 */
 	public static MarkupContent getDocumentation(ItemMetadata item, String profile, String value, boolean markdown) {
+		return getDocumentation(item, item.getDescription(), profile, value, markdown);
+	}
+
+	/**
+	 * Returns the documentation of the given MicroProfile property with the given
+	 * description.
+	 *
+	 * @param item        the MicroProfile property.
+	 * @param description the description of the property (ex : the Javadoc
+	 *                    collected on demand).
+	 * @param profile     the profile
+	 * @param value       the value of the property, or null if it is not known
+	 * @param markdown    true if documentation must be formatted as markdown and
+	 *                    false otherwise.
+	 * @return the documentation of the given MicroProfile property.
+	 */
+	public static MarkupContent getDocumentation(ItemMetadata item, String description, String profile, String value,
+			boolean markdown) {
 
 		StringBuilder documentation = new StringBuilder();
 
@@ -56,7 +80,6 @@ public class DocumentationUtils {
 		documentation.append(System.lineSeparator());
 
 		// Description
-		String description = item.getDescription();
 		if (description != null) {
 			documentation.append(System.lineSeparator());
 			documentation.append(description);
@@ -84,6 +107,37 @@ public class DocumentationUtils {
 		return new MarkupContent(markdown ? MarkupKind.MARKDOWN : MarkupKind.PLAINTEXT, documentation.toString());
 	}
 
+	/**
+	 * Returns the description of the given MicroProfile property. When the
+	 * property is declared in a Java file and its description has not been
+	 * collected while scanning the project, the description (the Javadoc) is
+	 * collected on demand with the given documentation provider.
+	 *
+	 * @param item                  the MicroProfile property.
+	 * @param uri                   the uri of the properties file.
+	 * @param markdown              true if the description must be formatted as
+	 *                              markdown and false otherwise.
+	 * @param documentationProvider the documentation provider and null if the
+	 *                              description must not be collected.
+	 * @return the description of the given MicroProfile property.
+	 */
+	public static CompletableFuture<String> getDescription(ItemMetadata item, String uri, boolean markdown,
+			MicroProfilePropertyDocumentationProvider documentationProvider) {
+		if (documentationProvider == null || uri == null || !item.isJavaOrigin()
+				|| !StringUtils.isEmpty(item.getDescription())) {
+			return CompletableFuture.completedFuture(item.getDescription());
+		}
+		// It is a property declared in a Java file, try to collect the Javadoc
+		MicroProfilePropertyDocumentationParams params = new MicroProfilePropertyDocumentationParams();
+		params.setUri(uri);
+		params.setSourceField(item.getSourceField());
+		params.setSourceMethod(item.getSourceMethod());
+		params.setSourceType(item.getSourceType());
+		params.setDocumentFormat(markdown ? DocumentFormat.Markdown : DocumentFormat.PlainText);
+		return documentationProvider.getPropertyDocumentation(params) //
+				.thenApply(docs -> docs != null && !docs.isEmpty() ? docs : item.getDescription());
+	}
+
 	/**
 	 * Returns the documentation for the given unrecognized MicroProfile property.
 	 *
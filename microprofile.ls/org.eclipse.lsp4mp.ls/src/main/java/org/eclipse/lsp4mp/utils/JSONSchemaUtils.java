@@ -13,7 +13,12 @@
 *******************************************************************************/
 package org.eclipse.lsp4mp.utils;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
 import org.eclipse.lsp4mp.commons.metadata.ConfigurationMetadata;
@@ -22,9 +27,8 @@ import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
 import org.eclipse.lsp4mp.commons.metadata.ValueHint;
 import org.eclipse.lsp4mp.commons.utils.StringUtils;
 
-import com.google.gson.Gson;
-import com.google.gson.JsonArray;
-import com.google.gson.JsonObject;
+import com.google.gson.JsonIOException;
+import com.google.gson.stream.JsonWriter;
 
 /**
  * JSON Schema utilities.
@@ -78,6 +82,30 @@ public class JSONSchemaUtils {
 		}
 	}
 
+	/**
+	 * JSON Schema of a property or of a segment of the property names.
+	 */
+	private static class SchemaNode {
+
+		private JSONSchemaType type;
+
+		private boolean closed;
+
+		private String description;
+
+		private List<String> enumValues;
+
+		private SchemaNode items;
+
+		private Map<String, SchemaNode> properties;
+
+		private boolean propertiesBeforeItems;
+
+		public SchemaNode(JSONSchemaType type) {
+			this.type = type;
+		}
+	}
+
 	/**
 	 * Returns as JSON string the JSON Schema of the given <code>info</code>.
 	 *
@@ -151,26 +179,62 @@ public class JSONSchemaUtils {
 	 *                otherwise.
 	 *
 	 * @return as JSON string the JSON Schema of the given <code>info</code>.
+	 *
+	 * @see #writeJSONSchema(MicroProfileProjectInfo, boolean, JsonWriter)
 	 */
 	public static String toJSONSchema(MicroProfileProjectInfo info, boolean lenient) {
-		final JsonObject schema = new JsonObject();
-		schema.addProperty(SCHEMA_PROP, SCHEMA_URL);
+		StringWriter out = new StringWriter();
+		try {
+			JsonWriter writer = new JsonWriter(out);
+			writer.setHtmlSafe(true);
+			writeJSONSchema(info, lenient, writer);
+			writer.flush();
+		} catch (IOException e) {
+			throw new JsonIOException(e);
+		}
+		return out.toString();
+	}
+
+	/**
+	 * Write the JSON Schema of the given <code>info</code> with the given JSON
+	 * writer.
+	 *
+	 * <p>
+	 * The properties are grouped by the segments of their name in one pass over
+	 * the properties, and the JSON Schema is written directly in the writer
+	 * without building a JSON tree.
+	 * </p>
+	 *
+	 * @param info    the MicroProfile project information to convert as JSON
+	 *                Schema.
+	 * @param lenient true if 'additionalProperties' must be set to false and false
+	 *                otherwise.
+	 * @param writer  the JSON writer.
+	 * @throws IOException if an error occurs while writing the JSON Schema.
+	 */
+	public static void writeJSONSchema(MicroProfileProjectInfo info, boolean lenient, JsonWriter writer)
+			throws IOException {
+		writer.beginObject();
+		writer.name(SCHEMA_PROP).value(SCHEMA_URL);
 		// Generate the JSON Schema definitions for MicroProfile properties
-		generateDefinitions(info, schema, lenient);
+		writer.name(DEFINITIONS_PROP).beginObject();
+		writer.name(ROOT_PROP);
+		writeNode(generateRoot(info, lenient), writer);
+		writer.endObject();
 		// Reference the JSON Schema #/definitions/root on the root
-		schema.addProperty($REF_PROP, DEFINITIONS_ROOT);
+		writer.name($REF_PROP).value(DEFINITIONS_ROOT);
 		// For accepting profile ("%dev"), we use patternProperties bound to
 		// #/definitions/root
-		generateProfile(schema);
-		return new Gson().toJson(schema);
+		writeProfile(writer);
+		writer.endObject();
 	}
 
 	/**
-	 * Generate the JSON Schema definitions for MicroProfile properties:
+	 * Generate the JSON Schema of the root definition for MicroProfile
+	 * properties:
 	 *
 	 * <code>
-	 * "definitions": {
-		    "root": {
+	 * "root": {
 		      "type": "object",
 		      "additionalProperties": false,
 		      "properties": {
@@ -178,31 +242,26 @@ public class JSONSchemaUtils {
 		        ...
 	 * </code>
 	 *
-	 * @param info   the MicroProfile project information.
-	 * @param schema the JSON Schema
+	 * @param info    the MicroProfile project information.
+	 * @param lenient true if 'additionalProperties' must be set to false and false
+	 *                otherwise.
+	 * @return the JSON Schema of the root definition.
 	 */
-	private static void generateDefinitions(MicroProfileProjectInfo info, final JsonObject schema, boolean lenient) {
-		JsonObject definitions = new JsonObject();
-		schema.add(DEFINITIONS_PROP, definitions);
-
-		JsonObject root = new JsonObject();
-		definitions.add(ROOT_PROP, root);
-		root.addProperty(TYPE_PROP, JSONSchemaType.object.getName());
-		if (!lenient) {
-			root.addProperty(ADDITIONAL_PROPERTIES_PROP, false);
-		}
-		JsonObject properties = new JsonObject();
-		root.add(PROPERTIES_PROP, properties);
-
+	private static SchemaNode generateRoot(MicroProfileProjectInfo info, boolean lenient) {
+		SchemaNode root = createNode(JSONSchemaType.object, lenient);
+		root.properties = new LinkedHashMap<>();
 		List<ItemMetadata> items = info.getProperties();
 		if (items != null && !items.isEmpty()) {
-			items.forEach(item -> generateProperty(info, item, properties, lenient));
+			for (ItemMetadata item : items) {
+				generateProperty(info, item, root.properties, lenient);
+			}
 		}
+		return root;
 	}
 
-	private static void generateProperty(ConfigurationMetadata configuration, ItemMetadata item, JsonObject properties,
-			boolean lenient) {
-		JsonObject parent = properties;
+	private static void generateProperty(ConfigurationMetadata configuration, ItemMetadata item,
+			Map<String, SchemaNode> properties, boolean lenient) {
+		Map<String, SchemaNode> parent = properties;
 		// property name contains '.' (ex: quarkus.application.name)
 		// split it to generates the proper JSON Schema object
 		String[] paths = item.getPaths();
@@ -222,52 +281,52 @@ public class JSONSchemaUtils {
 		addProperty(paths[paths.length - 1], configuration, item, parent, lenient);
 	}
 
-	private static JsonObject getParentProperties(JsonObject parent, String path, boolean isArray, boolean lenient) {
-		if (!parent.has(path)) {
+	private static Map<String, SchemaNode> getParentProperties(Map<String, SchemaNode> parent, String path,
+			boolean isArray, boolean lenient) {
+		SchemaNode node = parent.get(path);
+		if (node == null) {
 			// parent has no the current path, create the JSON object
-			JsonObject object = addProperty(path, isArray ? JSONSchemaType.array : JSONSchemaType.object, null, null,
-					parent, lenient);
-			return getOrCreateProperties(object, isArray);
+			node = createNode(isArray ? JSONSchemaType.array : JSONSchemaType.object, lenient);
+			parent.put(path, node);
+			return getOrCreateProperties(node, isArray);
 		}
-		JsonObject object = parent.getAsJsonObject(path);
-		if (!isArray && object.has(TYPE_PROP)
-				&& !JSONSchemaType.object.getName().equals(object.get(TYPE_PROP).getAsString())) {
+		if (!isArray && node.type != null && node.type != JSONSchemaType.object) {
 			// Generate tilde -> see
 			// https://quarkus.io/guides/config#configuration-key-conflicts
 			parent.remove(path);
-			JsonObject newObject = addProperty(path, JSONSchemaType.object, null, null, parent, lenient);
-			JsonObject properties = new JsonObject();
-			newObject.add(PROPERTIES_PROP, properties);
-			properties.add(TILDE_PROP, object);
-			return properties;
+			SchemaNode newNode = createNode(JSONSchemaType.object, lenient);
+			parent.put(path, newNode);
+			newNode.properties = new LinkedHashMap<>();
+			newNode.properties.put(TILDE_PROP, node);
+			return newNode.properties;
 		}
-		return getOrCreateProperties(object, isArray);
+		return getOrCreateProperties(node, isArray);
 	}
 
-	private static JsonObject getOrCreateProperties(JsonObject parent, boolean isArray) {
+	private static Map<String, SchemaNode> getOrCreateProperties(SchemaNode parent, boolean isArray) {
 		if (isArray) {
 			// should have items/properties
-			JsonObject items = null;
-			if (parent.has(ITEMS_PROP)) {
-				items = parent.getAsJsonObject(ITEMS_PROP);
-			} else {
-				items = new JsonObject();
-				parent.add(ITEMS_PROP, items);
-				items.addProperty(TYPE_PROP, JSONSchemaType.object.getName());
+			if (parent.items == null) {
+				parent.items = new SchemaNode(JSONSchemaType.object);
+				parent.propertiesBeforeItems = parent.properties != null;
 			}
-			return getOrCreateProperties(items, false);
+			return getOrCreateProperties(parent.items, false);
 		}
 		// parent is a object : it should have properties
-		if (parent.has(PROPERTIES_PROP)) {
-			return parent.getAsJsonObject(PROPERTIES_PROP);
+		if (parent.properties == null) {
+			parent.properties = new LinkedHashMap<>();
 		}
-		JsonObject properties = new JsonObject();
-		parent.add(PROPERTIES_PROP, properties);
-		return properties;
+		return parent.properties;
+	}
+
+	private static SchemaNode createNode(JSONSchemaType type, boolean lenient) {
+		SchemaNode node = new SchemaNode(type);
+		node.closed = JSONSchemaType.object.equals(type) && !lenient;
+		return node;
 	}
 
 	/**
-	 * Generate the JSON Schema profile type definition:
+	 * Write the JSON Schema profile type definition:
 	 *
 	 * <code>
 	 * "patternProperties": {
@@ -279,36 +338,57 @@ public class JSONSchemaUtils {
 	 *
 	 * </code>
 	 *
-	 * @param schema the JSON Schema
+	 * @param writer the JSON writer
+	 * @throws IOException if an error occurs while writing the JSON Schema.
 	 */
-	private static void generateProfile(final JsonObject schema) {
+	private static void writeProfile(JsonWriter writer) throws IOException {
 		// For accepting profile ("%dev", use patternProperties which is bound to the
 		// MicroProfile definitions
-		JsonObject patternProperties = new JsonObject();
-		JsonObject profile = new JsonObject();
-		profile.addProperty(TYPE_PROP, JSONSchemaType.object.getName());
-		profile.addProperty($REF_PROP, DEFINITIONS_ROOT);
-		patternProperties.add(PROFILE_PATTERN, profile);
-		schema.add(PATTERN_PROPERTIES_PROP, patternProperties);
+		writer.name(PATTERN_PROPERTIES_PROP).beginObject();
+		writer.name(PROFILE_PATTERN).beginObject();
+		writer.name(TYPE_PROP).value(JSONSchemaType.object.getName());
+		writer.name($REF_PROP).value(DEFINITIONS_ROOT);
+		writer.endObject();
+		writer.endObject();
 	}
 
-	private static JsonObject addProperty(String name, ConfigurationMetadata configuration, ItemMetadata item,
-			JsonObject parent, boolean lenient) {
+	private static void addProperty(String name, ConfigurationMetadata configuration, ItemMetadata item,
+			Map<String, SchemaNode> parent, boolean lenient) {
 		List<ValueHint> values = getValues(configuration, item);
 		JSONSchemaType type = getType(item, values);
-		JsonObject property = addProperty(name, type, item.getDescription(), item.getDefaultValue(), parent, lenient);
+		SchemaNode property = null;
+		if (name.endsWith("[*]")) {
+			// This case comes from with property which ends with an array
+			// ex : kubernetes.image-pull-secrets[*]
+			// here we must create a JSON object array kind
+			name = name.substring(0, name.length() - 3);
+			SchemaNode array = new SchemaNode(JSONSchemaType.array);
+			parent.put(name, array);
+			// should have items/properties
+			property = new SchemaNode(JSONSchemaType.object);
+			array.items = property;
+		} else {
+			property = new SchemaNode(null);
+			parent.put(name, property);
+		}
+
+		if (type != null) {
+			property.type = type;
+			property.closed = JSONSchemaType.object.equals(type) && !lenient;
+		}
+		property.description = item.getDescription();
+		// don't generate default value since apply of completion generate all
+		// properties with default value.
+
 		// enum
 		if (values != null) {
-			JsonArray enumType = new JsonArray();
-			property.add(ENUM_PROP, enumType);
+			property.enumValues = new ArrayList<>(values.size());
 			for (ValueHint value : values) {
 				if (!StringUtils.isEmpty(value.getValue())) {
-					enumType.add(value.getValue());
+					property.enumValues.add(value.getValue());
 				}
 			}
 		}
-		return property;
-
 	}
 
 	private static List<ValueHint> getValues(ConfigurationMetadata configuration, ItemMetadata item) {
@@ -340,48 +420,49 @@ public class JSONSchemaUtils {
 		return values != null ? JSONSchemaType.string : null;
 	}
 
-	private static JsonObject addProperty(String name, JSONSchemaType type, String description, String defaultValue,
-			JsonObject parent, boolean lenient) {
-		JsonObject property = null;
-		if (name.endsWith("[*]")) {
-			// This case comes from with property which ends with an array
-			// ex : kubernetes.image-pull-secrets[*]
-			// here we must create a JSON object array kind
-			name = name.substring(0, name.length() - 3);
-			// should have items/properties
-			JsonObject array = new JsonObject();
-			array.addProperty(TYPE_PROP, JSONSchemaType.array.getName());
-			parent.add(name, array);
-
-			JsonObject items = null;
-			if (parent.has(ITEMS_PROP)) {
-				items = array.getAsJsonObject(ITEMS_PROP);
-			} else {
-				items = new JsonObject();
-				array.add(ITEMS_PROP, items);
-				items.addProperty(TYPE_PROP, JSONSchemaType.object.getName());
+	private static void writeNode(SchemaNode node, JsonWriter writer) throws IOException {
+		writer.beginObject();
+		if (node.type != null) {
+			writer.name(TYPE_PROP).value(node.type.getName());
+		}
+		if (node.closed) {
+			writer.name(ADDITIONAL_PROPERTIES_PROP).value(false);
+		}
+		if (node.description != null) {
+			writer.name(DESCRIPTION_PROP).value(node.description);
+		}
+		if (node.enumValues != null) {
+			writer.name(ENUM_PROP).beginArray();
+			for (String value : node.enumValues) {
+				writer.value(value);
 			}
-			property = items;
+			writer.endArray();
+		}
+		if (node.propertiesBeforeItems) {
+			writeProperties(node.properties, writer);
+			writeItems(node.items, writer);
 		} else {
-			property = new JsonObject();
-			parent.add(name, property);
+			writeItems(node.items, writer);
+			writeProperties(node.properties, writer);
 		}
+		writer.endObject();
+	}
 
-		if (type != null) {
-			property.addProperty(TYPE_PROP, type.getName());
-			if (JSONSchemaType.object.equals(type) && !lenient) {
-				property.addProperty(ADDITIONAL_PROPERTIES_PROP, false);
-			}
+	private static void writeItems(SchemaNode items, JsonWriter writer) throws IOException {
+		if (items != null) {
+			writer.name(ITEMS_PROP);
+			writeNode(items, writer);
 		}
-		if (description != null) {
-			property.addProperty(DESCRIPTION_PROP, description);
-		}
-		if (defaultValue != null && !defaultValue.isEmpty()) {
-			// don't generate default value since apply of completion generate all
-			// properties
-			// with default value.
-			// property.addProperty(DEFAULT_PROP, defaultValue);
+	}
+
+	private static void writeProperties(Map<String, SchemaNode> properties, JsonWriter writer) throws IOException {
+		if (properties != null) {
+			writer.name(PROPERTIES_PROP).beginObject();
+			for (Map.Entry<String, SchemaNode> property : properties.entrySet()) {
+				writer.name(property.getKey());
+				writeNode(property.getValue(), writer);
+			}
+			writer.endObject();
 		}
-		return property;
 	}
 }
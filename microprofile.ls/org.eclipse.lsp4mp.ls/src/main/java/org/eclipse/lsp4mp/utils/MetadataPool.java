@@ -0,0 +1,242 @@
+/*******************************************************************************
+* Copyright (c) 2024 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.utils;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
+
+import org.eclipse.lsp4mp.commons.metadata.ConverterKind;
+import org.eclipse.lsp4mp.commons.metadata.ItemHint;
+import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
+import org.eclipse.lsp4mp.commons.metadata.ValueHint;
+
+/**
+ * Pool of the MicroProfile properties and of the strings of the properties and
+ * hints shared by the MicroProfile project information of all the projects.
+ *
+ * <p>
+ * The properties and hints collected from the JARs are the same for all the
+ * projects which depend on those JARs, and their strings (type, source type,
+ * extension name...) are repeated by thousands of properties. The pool returns
+ * properties and hints which:
+ * </p>
+ *
+ * <ul>
+ * <li>share the same instance of the equal binary properties (collected from
+ * the JARs).</li>
+ * <li>share the same instance of the repeated strings (type, source type,
+ * description...) of the properties, hints and hint values.</li>
+ * <li>share the same instance of the (unmodifiable) converter kinds
+ * lists.</li>
+ * </ul>
+ *
+ * <p>
+ * The given properties and hints are never updated nor pooled: the pool keeps
+ * its own copies. The shared binary properties must not be updated, a project
+ * information which changes a binary property (ex : when a delta is applied)
+ * replaces it in its list with a new property given to the pool (copy on
+ * write). The properties of the Java sources and the hints are not shared, they
+ * are copies which can be updated by a project information without impacting
+ * the other projects. The pooled values are weakly referenced, they are removed
+ * from the pool when no project information uses them.
+ * </p>
+ *
+ */
+public class MetadataPool {
+
+	private static final MetadataPool INSTANCE = new MetadataPool();
+
+	public static MetadataPool getInstance() {
+		return INSTANCE;
+	}
+
+	private final Map<String, WeakReference<String>> strings;
+
+	private final Map<List<ConverterKind>, WeakReference<List<ConverterKind>>> converterKinds;
+
+	private final Map<ItemMetadata, WeakReference<ItemMetadata>> binaryProperties;
+
+	MetadataPool() {
+		this.strings = new WeakHashMap<>();
+		this.converterKinds = new WeakHashMap<>();
+		this.binaryProperties = new WeakHashMap<>();
+	}
+
+	/**
+	 * Returns a list with the shared binary properties equal to the given binary
+	 * properties and copies of the given source properties where the strings are
+	 * pooled, and null if the given list is null.
+	 *
+	 * @param properties the properties.
+	 * @return a list with the shared binary properties equal to the given binary
+	 *         properties and copies of the given source properties where the
+	 *         strings are pooled, and null if the given list is null.
+	 */
+	public synchronized List<ItemMetadata> internProperties(List<ItemMetadata> properties) {
+		if (properties == null) {
+			return null;
+		}
+		List<ItemMetadata> result = new ArrayList<>(properties.size());
+		for (ItemMetadata property : properties) {
+			result.add(intern(property));
+		}
+		return result;
+	}
+
+	/**
+	 * Returns a list with copies of the given hints where the strings are pooled
+	 * and null if the given list is null.
+	 *
+	 * @param hints the hints.
+	 * @return a list with copies of the given hints where the strings are pooled
+	 *         and null if the given list is null.
+	 */
+	public synchronized List<ItemHint> internHints(List<ItemHint> hints) {
+		if (hints == null) {
+			return null;
+		}
+		List<ItemHint> result = new ArrayList<>(hints.size());
+		for (ItemHint hint : hints) {
+			result.add(intern(hint));
+		}
+		return result;
+	}
+
+	private ItemMetadata intern(ItemMetadata property) {
+		if (property == null || property.getClass() != ItemMetadata.class) {
+			// the computed properties (ex : dynamic properties) are kept as is
+			return property;
+		}
+		ItemMetadata copy = new ItemMetadata();
+		// the names of the properties are unique in a project, they are not pooled
+		copy.setName(property.getName());
+		copy.setDescription(intern(property.getDescription()));
+		copy.setSourceType(intern(property.getSourceType()));
+		copy.setSource(property.getSource());
+		copy.setOrigin(intern(property.getOrigin()));
+		copy.setType(intern(property.getType()));
+		copy.setSourceField(intern(property.getSourceField()));
+		copy.setSourceMethod(intern(property.getSourceMethod()));
+		copy.setDefaultValue(intern(property.getDefaultValue()));
+		copy.setExtensionName(intern(property.getExtensionName()));
+		copy.setRequired(property.isRequired());
+		copy.setPhase(property.getPhase());
+		copy.setConverterKinds(intern(property.getConverterKinds()));
+		if (!copy.isBinary()) {
+			// the properties of the Java sources are specific to a project
+			return copy;
+		}
+		ItemMetadata shared = get(binaryProperties, copy);
+		if (shared == null) {
+			// the shared property is the key of the pool, it is never updated
+			binaryProperties.put(copy, new WeakReference<>(copy));
+			return copy;
+		}
+		// the converter kinds are not compared by ItemMetadata#equals
+		return Objects.equals(shared.getConverterKinds(), copy.getConverterKinds()) ? shared : copy;
+	}
+
+	private ItemHint intern(ItemHint hint) {
+		if (hint == null) {
+			return hint;
+		}
+		ItemHint copy = new ItemHint();
+		copy.setName(intern(hint.getName()));
+		copy.setDescription(intern(hint.getDescription()));
+		copy.setSourceType(intern(hint.getSourceType()));
+		copy.setSource(hint.getSource());
+		copy.setOrigin(intern(hint.getOrigin()));
+		copy.setProviders(hint.getProviders());
+		if (hint.getValues() != null) {
+			// the values list is updated by some providers (ex : reactive messaging
+			// connectors), a new list is created
+			List<ValueHint> values = new ArrayList<>(hint.getValues().size());
+			for (ValueHint value : hint.getValues()) {
+				values.add(intern(value));
+			}
+			copy.setValues(values);
+		}
+		return copy;
+	}
+
+	private ValueHint intern(ValueHint value) {
+		if (value == null) {
+			return value;
+		}
+		ValueHint copy = new ValueHint();
+		copy.setValue(intern(value.getValue()));
+		copy.setDescription(intern(value.getDescription()));
+		copy.setSourceType(intern(value.getSourceType()));
+		return copy;
+	}
+
+	private String intern(String value) {
+		return intern(strings, value);
+	}
+
+	private List<ConverterKind> intern(List<ConverterKind> value) {
+		if (value == null) {
+			return null;
+		}
+		List<ConverterKind> pooled = get(converterKinds, value);
+		if (pooled != null) {
+			return pooled;
+		}
+		// the pooled list is an unmodifiable copy, the key of the pool can't be
+		// updated by the caller
+		List<ConverterKind> copy = Collections.unmodifiableList(new ArrayList<>(value));
+		converterKinds.put(copy, new WeakReference<>(copy));
+		return copy;
+	}
+
+	private static <T> T intern(Map<T, WeakReference<T>> pool, T value) {
+		if (value == null) {
+			return null;
+		}
+		T pooled = get(pool, value);
+		if (pooled != null) {
+			return pooled;
+		}
+		pool.put(value, new WeakReference<>(value));
+		return value;
+	}
+
+	private static <T> T get(Map<T, WeakReference<T>> pool, T value) {
+		WeakReference<T> ref = pool.get(value);
+		return ref != null ? ref.get() : null;
+	}
+
+	/**
+	 * Returns the number of pooled strings.
+	 *
+	 * @return the number of pooled strings.
+	 */
+	synchronized int getStringsSize() {
+		return strings.size();
+	}
+
+	/**
+	 * Returns the number of shared binary properties.
+	 *
+	 * @return the number of shared binary properties.
+	 */
+	synchronized int getPropertiesSize() {
+		return binaryProperties.size();
+	}
+}
@@ -29,6 +29,7 @@ import org.eclipse.lsp4mp.commons.metadata.ValueProvider;
 import org.eclipse.lsp4mp.commons.metadata.ValueProvider.ValueProviderDefaultName;
 import org.eclipse.lsp4mp.commons.metadata.ValueProviderParameter;
 import org.eclipse.lsp4mp.commons.utils.StringUtils;
+import org.eclipse.lsp4mp.extensions.ExtendedMicroProfileProjectInfo;
 import org.eclipse.lsp4mp.ls.commons.SnippetsBuilder;
 import org.eclipse.lsp4mp.model.PropertiesModel;
 import org.eclipse.lsp4mp.services.properties.QuarkusModel;
@@ -185,10 +186,18 @@ public class PropertiesFileUtils {
 			return null;
 		}
 		Collection<ItemMetadata> properties = info.getProperties();
-		for (ItemMetadata property : properties) {
-			if (property != null && match(propertyName, property.getName())) {
+		if (info instanceof ExtendedMicroProfileProjectInfo) {
+			ItemMetadata property = ((ExtendedMicroProfileProjectInfo) info).getPropertiesIndex()
+					.getProperty(propertyName);
+			if (property != null) {
 				return property;
 			}
+		} else {
+			for (ItemMetadata property : properties) {
+				if (property != null && match(propertyName, property.getName())) {
+					return property;
+				}
+			}
 		}
 		if (EnvUtils.isWindows && System.getenv(propertyName) != null) {
 			// Here we are on Windows OS and the property name is an Environment variable
@@ -206,6 +215,22 @@ public class PropertiesFileUtils {
 		return null;
 	}
 
+	/**
+	 * Returns the index of the MicroProfile properties of the given project
+	 * information.
+	 *
+	 * @param info the MicroProfile project information which hosts the
+	 *             MicroProfile properties.
+	 * @return the index of the MicroProfile properties of the given project
+	 *         information.
+	 */
+	public static PropertiesIndex getPropertiesIndex(MicroProfileProjectInfo info) {
+		if (info instanceof ExtendedMicroProfileProjectInfo) {
+			return ((ExtendedMicroProfileProjectInfo) info).getPropertiesIndex();
+		}
+		return new PropertiesIndex(info.getProperties(), 0);
+	}
+
 	/**
 	 * Returns true if the given property name matches the given pattern and false
 	 * otherwise.
@@ -223,7 +248,7 @@ public class PropertiesFileUtils {
 	 * @return true if the given property name matches the given pattern and false
 	 *         otherwise.
 	 */
-	private static boolean match(String propertyName, String pattern) {
+	static boolean match(String propertyName, String pattern) {
 		int i2 = 0;
 		int len = Math.max(propertyName.length(), pattern.length());
 		for (int i1 = 0; i1 < len; i1++) {
@@ -0,0 +1,320 @@
+/*******************************************************************************
+* Copyright (c) 2024 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.utils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
+
+/**
+ * Index of MicroProfile properties used to find the property which matches a
+ * given property name without looping over all properties.
+ *
+ * <p>
+ * The index is composed of :
+ * </p>
+ *
+ * <ul>
+ * <li>a map for the properties which have a simple name (ex :
+ * 'quarkus.http.port').</li>
+ * <li>a trie of the text before the first <code>{*}</code> or <code>[*]</code>
+ * for the map and index array properties (ex :
+ * 'quarkus.log.category.{*}.level'). Only the patterns whose prefix starts the
+ * property name are checked with
+ * {@link PropertiesFileUtils#match(String, String)}.</li>
+ * </ul>
+ *
+ * <p>
+ * When several properties match a given name, the first property of the
+ * indexed list is returned, like a loop over the properties list.
+ * </p>
+ *
+ * <p>
+ * The index is also used by the property key completion to find the properties
+ * which start with the typed text with a binary search in the sorted property
+ * names.
+ * </p>
+ *
+ */
+public class PropertiesIndex {
+
+	private static class PatternNode {
+
+		private Map<Character, PatternNode> children;
+
+		private List<Integer> patterns;
+
+		public PatternNode getOrCreateChild(char c) {
+			if (children == null) {
+				children = new HashMap<>();
+			}
+			return children.computeIfAbsent(c, k -> new PatternNode());
+		}
+
+		public PatternNode getChild(char c) {
+			return children != null ? children.get(c) : null;
+		}
+
+		public void addPattern(int index) {
+			if (patterns == null) {
+				patterns = new ArrayList<>(1);
+			}
+			patterns.add(index);
+		}
+	}
+
+	private final int version;
+
+	private final ItemMetadata[] properties;
+
+	private final Map<String, Integer> names;
+
+	private final PatternNode patterns;
+
+	private final String[] sortedNames;
+
+	private final int[] sortedIndexes;
+
+	private final int[] patternIndexes;
+
+	private final String[] patternPrefixes;
+
+	/**
+	 * Result of {@link PropertiesIndex#findProperties(String, int, Predicate)}.
+	 */
+	public static class PrefixMatch {
+
+		private final List<ItemMetadata> properties;
+
+		private final boolean incomplete;
+
+		private PrefixMatch(List<ItemMetadata> properties, boolean incomplete) {
+			this.properties = properties;
+			this.incomplete = incomplete;
+		}
+
+		/**
+		 * Returns the properties which start with the prefix in the order of the
+		 * indexed list.
+		 *
+		 * @return the properties which start with the prefix in the order of the
+		 *         indexed list.
+		 */
+		public List<ItemMetadata> getProperties() {
+			return properties;
+		}
+
+		/**
+		 * Returns true if some properties have been ignored because of the limit and
+		 * false otherwise.
+		 *
+		 * @return true if some properties have been ignored because of the limit and
+		 *         false otherwise.
+		 */
+		public boolean isIncomplete() {
+			return incomplete;
+		}
+	}
+
+	/**
+	 * Create the index of the given properties.
+	 *
+	 * @param properties the properties to index.
+	 * @param version    the version of the properties list.
+	 */
+	public PropertiesIndex(List<ItemMetadata> properties, int version) {
+		this.version = version;
+		this.properties = properties.toArray(new ItemMetadata[0]);
+		this.names = new HashMap<>(this.properties.length);
+		this.patterns = new PatternNode();
+		List<Integer> simpleIndexes = new ArrayList<>(this.properties.length);
+		List<Integer> patternIndexes = new ArrayList<>();
+		for (int i = 0; i < this.properties.length; i++) {
+			ItemMetadata property = this.properties[i];
+			String name = property != null ? property.getName() : null;
+			if (name == null) {
+				continue;
+			}
+			int patternStart = getPatternStart(name);
+			if (patternStart == -1) {
+				names.putIfAbsent(name, i);
+				simpleIndexes.add(i);
+			} else {
+				patternIndexes.add(i);
+				PatternNode node = patterns;
+				for (int j = 0; j < patternStart; j++) {
+					node = node.getOrCreateChild(name.charAt(j));
+				}
+				// patterns are added in the list order
+				node.addPattern(i);
+			}
+		}
+		// Sort the simple names (ignoring the case) for the prefix search
+		String[] lowerCaseNames = new String[this.properties.length];
+		for (int index : simpleIndexes) {
+			lowerCaseNames[index] = this.properties[index].getName().toLowerCase(Locale.ROOT);
+		}
+		simpleIndexes.sort(Comparator.comparing(index -> lowerCaseNames[index]));
+		this.sortedIndexes = new int[simpleIndexes.size()];
+		this.sortedNames = new String[simpleIndexes.size()];
+		for (int i = 0; i < sortedIndexes.length; i++) {
+			sortedIndexes[i] = simpleIndexes.get(i);
+			sortedNames[i] = lowerCaseNames[sortedIndexes[i]];
+		}
+		this.patternIndexes = new int[patternIndexes.size()];
+		this.patternPrefixes = new String[patternIndexes.size()];
+		for (int i = 0; i < this.patternIndexes.length; i++) {
+			int index = patternIndexes.get(i);
+			String name = this.properties[index].getName();
+			this.patternIndexes[i] = index;
+			this.patternPrefixes[i] = name.substring(0, getPatternStart(name)).toLowerCase(Locale.ROOT);
+		}
+	}
+
+	/**
+	 * Returns the version of the indexed properties list.
+	 *
+	 * @return the version of the indexed properties list.
+	 */
+	public int getVersion() {
+		return version;
+	}
+
+	/**
+	 * Returns the number of indexed properties.
+	 *
+	 * @return the number of indexed properties.
+	 */
+	public int size() {
+		return properties.length;
+	}
+
+	/**
+	 * Returns the first property which matches the given property name and null
+	 * otherwise.
+	 *
+	 * @param propertyName the property name.
+	 * @return the first property which matches the given property name and null
+	 *         otherwise.
+	 */
+	public ItemMetadata getProperty(String propertyName) {
+		Integer exactIndex = names.get(propertyName);
+		int best = exactIndex != null ? exactIndex : Integer.MAX_VALUE;
+		PatternNode node = patterns;
+		int i = 0;
+		while (node != null) {
+			if (node.patterns != null) {
+				for (int index : node.patterns) {
+					if (index >= best) {
+						break;
+					}
+					if (PropertiesFileUtils.match(propertyName, properties[index].getName())) {
+						best = index;
+						break;
+					}
+				}
+			}
+			if (i >= propertyName.length()) {
+				break;
+			}
+			node = node.getChild(propertyName.charAt(i++));
+		}
+		return best != Integer.MAX_VALUE ? properties[best] : null;
+	}
+
+	/**
+	 * Returns the properties which start with the given prefix (ignoring the
+	 * case) and which are accepted by the given filter.
+	 *
+	 * <p>
+	 * A map or index array property (ex : 'quarkus.log.category.{*}.level') is
+	 * returned when the text before the first <code>{*}</code> or
+	 * <code>[*]</code> starts with the prefix or when the prefix starts with this
+	 * text.
+	 * </p>
+	 *
+	 * @param prefix the prefix.
+	 * @param limit  the maximum number of properties to return.
+	 * @param filter the filter.
+	 * @return the properties which start with the given prefix.
+	 */
+	public PrefixMatch findProperties(String prefix, int limit, Predicate<ItemMetadata> filter) {
+		String lowerCasePrefix = prefix != null ? prefix.toLowerCase(Locale.ROOT) : "";
+		List<Integer> indexes = new ArrayList<>();
+		boolean incomplete = false;
+		// Map and index array properties
+		for (int i = 0; i < patternIndexes.length && !incomplete; i++) {
+			String patternPrefix = patternPrefixes[i];
+			if (patternPrefix.startsWith(lowerCasePrefix) || lowerCasePrefix.startsWith(patternPrefix)) {
+				incomplete = !accept(patternIndexes[i], limit, filter, indexes);
+			}
+		}
+		// Simple properties
+		for (int i = lowerBound(lowerCasePrefix); i < sortedNames.length && !incomplete; i++) {
+			if (!sortedNames[i].startsWith(lowerCasePrefix)) {
+				break;
+			}
+			incomplete = !accept(sortedIndexes[i], limit, filter, indexes);
+		}
+		Collections.sort(indexes);
+		List<ItemMetadata> result = new ArrayList<>(indexes.size());
+		for (int index : indexes) {
+			result.add(properties[index]);
+		}
+		return new PrefixMatch(result, incomplete);
+	}
+
+	private boolean accept(int index, int limit, Predicate<ItemMetadata> filter, List<Integer> indexes) {
+		if (filter != null && !filter.test(properties[index])) {
+			return true;
+		}
+		if (indexes.size() >= limit) {
+			return false;
+		}
+		indexes.add(index);
+		return true;
+	}
+
+	private int lowerBound(String prefix) {
+		int index = Arrays.binarySearch(sortedNames, prefix);
+		if (index < 0) {
+			return -(index + 1);
+		}
+		// Several properties can have the same name
+		while (index > 0 && sortedNames[index - 1].equals(prefix)) {
+			index--;
+		}
+		return index;
+	}
+
+	private static int getPatternStart(String name) {
+		int keyMap = name.indexOf("{*}");
+		int indexArray = name.indexOf("[*]");
+		if (keyMap == -1) {
+			return indexArray;
+		}
+		if (indexArray == -1) {
+			return keyMap;
+		}
+		return Math.min(keyMap, indexArray);
+	}
+}
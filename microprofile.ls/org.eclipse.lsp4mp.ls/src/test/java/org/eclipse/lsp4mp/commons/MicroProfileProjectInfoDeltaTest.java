@@ -0,0 +1,191 @@
+/*******************************************************************************
+* Copyright (c) 2024 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.commons;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import org.eclipse.lsp4mp.commons.metadata.ItemBase;
+import org.eclipse.lsp4mp.commons.metadata.ItemHint;
+import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
+import org.eclipse.lsp4mp.commons.metadata.ValueHint;
+import org.eclipse.lsp4mp.extensions.ExtendedMicroProfileProjectInfo;
+import org.junit.Test;
+
+import com.google.gson.Gson;
+
+/**
+ * Test for {@link MicroProfileProjectInfoDelta}.
+ *
+ */
+public class MicroProfileProjectInfoDeltaTest {
+
+	private static final Logger LOGGER = Logger.getLogger(MicroProfileProjectInfoDeltaTest.class.getName());
+
+	@Test
+	public void computeAndApply() {
+		MicroProfileProjectInfo base = createInfo("1", //
+				Arrays.asList(p("a", "int"), p("b", "int"), p("b", "long"), p("c", "int")), //
+				Arrays.asList(h("h1", "x"), h("h2", "x")));
+		MicroProfileProjectInfo target = createInfo("2", //
+				Arrays.asList(p("d", "int"), p("a", "boolean"), p("b", "int"), p("b", "long")), //
+				Arrays.asList(h("h1", "x", "y"), h("h3", "x")));
+
+		MicroProfileProjectInfoDelta delta = MicroProfileProjectInfoDelta.compute("1", base, target);
+		assertEquals("1", delta.getBaseVersion());
+		assertEquals(Arrays.asList("d"), getNames(delta.getAddedProperties()));
+		assertEquals(Arrays.asList("a"), getNames(delta.getChangedProperties()));
+		assertEquals(Arrays.asList("c"), delta.getRemovedProperties());
+		assertEquals(Arrays.asList("h3"), getNames(delta.getAddedHints()));
+		assertEquals(Arrays.asList("h1"), getNames(delta.getChangedHints()));
+		assertEquals(Arrays.asList("h2"), delta.getRemovedHints());
+
+		delta.applyTo(base);
+		// the changed items keep their position, the added items are at the end
+		assertEquals(Arrays.asList(p("a", "boolean"), p("b", "int"), p("b", "long"), p("d", "int")),
+				base.getProperties());
+		assertEquals(Arrays.asList(h("h1", "x", "y"), h("h3", "x")), base.getHints());
+
+		assertTrue(MicroProfileProjectInfoDelta.compute("2", target, target).isEmpty());
+	}
+
+	@Test
+	public void applyDeltaOnExtendedProjectInfo() {
+		List<ItemMetadata> properties = Arrays.asList(p("a", "int"),
+				p("${mp.register.rest.client.class}/mp-rest/url", "java.lang.String"));
+		List<ItemHint> hints = Arrays.asList(h("${mp.register.rest.client.class}", "org.acme.A"));
+		ExtendedMicroProfileProjectInfo info = new ExtendedMicroProfileProjectInfo(
+				createInfo("1", properties, hints));
+		assertEquals(new HashSet<>(Arrays.asList("a", "org.acme.A/mp-rest/url")), getNameSet(info.getProperties()));
+
+		MicroProfileProjectInfo target = createInfo("2", //
+				Arrays.asList(p("a", "int"), p("${mp.register.rest.client.class}/mp-rest/url", "java.lang.String"),
+						p("b", "int")), //
+				Arrays.asList(h("${mp.register.rest.client.class}", "org.acme.A", "org.acme.B")));
+		MicroProfileProjectInfo delta = new MicroProfileProjectInfo();
+		delta.setVersion("2");
+		delta.setDelta(MicroProfileProjectInfoDelta.compute("1", createInfo("1", properties, hints), target));
+
+		int propertiesVersion = info.getPropertiesVersion();
+		assertTrue(info.applyDelta(delta));
+		assertEquals("2", info.getVersion());
+		assertTrue(info.getPropertiesVersion() > propertiesVersion);
+		// the properties are expanded with the new hint values
+		assertEquals(new HashSet<>(Arrays.asList("a", "b", "org.acme.A/mp-rest/url", "org.acme.B/mp-rest/url")),
+				getNameSet(info.getProperties()));
+		assertEquals(1, info.getDynamicProperties().size());
+
+		// the delta doesn't apply to the version '2'
+		assertFalse(info.applyDelta(delta));
+	}
+
+	@Test
+	public void deltaBenchmark() {
+		// 50 dependencies with 100 properties and 2 hints
+		List<ItemMetadata> properties = new ArrayList<>();
+		List<ItemHint> hints = new ArrayList<>();
+		for (int i = 0; i < 50; i++) {
+			addDependency("dependency" + i, properties, hints);
+		}
+		MicroProfileProjectInfo base = createInfo("1", properties, hints);
+
+		// add one dependency
+		List<ItemMetadata> newProperties = new ArrayList<>(properties);
+		List<ItemHint> newHints = new ArrayList<>(hints);
+		addDependency("newdependency", newProperties, newHints);
+		MicroProfileProjectInfo target = createInfo("2", newProperties, newHints);
+
+		MicroProfileProjectInfo deltaInfo = new MicroProfileProjectInfo();
+		deltaInfo.setProjectURI(target.getProjectURI());
+		deltaInfo.setVersion("2");
+		deltaInfo.setDelta(MicroProfileProjectInfoDelta.compute("1", base, target));
+
+		Gson gson = new Gson();
+		String fullPayload = gson.toJson(target);
+		String deltaPayload = gson.toJson(deltaInfo);
+
+		ExtendedMicroProfileProjectInfo info = new ExtendedMicroProfileProjectInfo(
+				gson.fromJson(gson.toJson(base), MicroProfileProjectInfo.class));
+
+		long start = System.nanoTime();
+		ExtendedMicroProfileProjectInfo fullInfo = new ExtendedMicroProfileProjectInfo(
+				gson.fromJson(fullPayload, MicroProfileProjectInfo.class));
+		long fullTime = System.nanoTime() - start;
+
+		start = System.nanoTime();
+		assertTrue(info.applyDelta(gson.fromJson(deltaPayload, MicroProfileProjectInfo.class)));
+		long deltaTime = System.nanoTime() - start;
+
+		assertEquals(getNameSet(fullInfo.getProperties()), getNameSet(info.getProperties()));
+		assertEquals(getNameSet(fullInfo.getHints()), getNameSet(info.getHints()));
+		assertTrue(deltaPayload.length() * 10 < fullPayload.length());
+		LOGGER.info("Add of one dependency in a project with " + properties.size() + " properties : full payload "
+				+ fullPayload.length() + " chars loaded in " + fullTime / 1000 + "us, delta payload "
+				+ deltaPayload.length() + " chars applied in " + deltaTime / 1000 + "us");
+	}
+
+	private static void addDependency(String name, List<ItemMetadata> properties, List<ItemHint> hints) {
+		for (int i = 0; i < 100; i++) {
+			ItemMetadata property = p(name + ".property" + i, "java.lang.String");
+			property.setSourceType("org.acme." + name + ".Config");
+			property.setSourceField("property" + i);
+			property.setDescription("The description of the property " + i + " of the " + name + " dependency.");
+			property.setDefaultValue(String.valueOf(i));
+			properties.add(property);
+		}
+		hints.add(h(name + ".Mode", "fast", "slow"));
+		hints.add(h(name + ".Level", "low", "medium", "high"));
+	}
+
+	private static MicroProfileProjectInfo createInfo(String version, List<ItemMetadata> properties,
+			List<ItemHint> hints) {
+		MicroProfileProjectInfo info = new MicroProfileProjectInfo();
+		info.setProjectURI("project");
+		info.setVersion(version);
+		info.setProperties(new ArrayList<>(properties));
+		info.setHints(new ArrayList<>(hints));
+		return info;
+	}
+
+	private static ItemMetadata p(String name, String type) {
+		ItemMetadata property = new ItemMetadata();
+		property.setName(name);
+		property.setType(type);
+		return property;
+	}
+
+	private static ItemHint h(String name, String... values) {
+		ItemHint hint = new ItemHint();
+		hint.setName(name);
+		hint.setValues(Arrays.stream(values).map(v -> {
+			ValueHint value = new ValueHint();
+			value.setValue(v);
+			return value;
+		}).collect(Collectors.toList()));
+		return hint;
+	}
+
+	private static List<String> getNames(List<? extends ItemBase> items) {
+		return items.stream().map(ItemBase::getName).collect(Collectors.toList());
+	}
+
+	private static Set<String> getNameSet(List<? extends ItemBase> items) {
+		return items.stream().map(ItemBase::getName).collect(Collectors.toSet());
+	}
+}
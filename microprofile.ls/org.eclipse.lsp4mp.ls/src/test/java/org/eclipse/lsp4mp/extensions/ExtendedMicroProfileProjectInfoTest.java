@@ -120,8 +120,189 @@ public class ExtendedMicroProfileProjectInfoTest {
 
 	}
 
+	@Test
+	public void updateSourcesPropertiesOfCompilationUnits() {
+		MicroProfileProjectInfo info = new MicroProfileProjectInfo();
+		info.setProperties(new ArrayList<>());
+		info.setHints(new ArrayList<>());
+		info.getProperties().add(createSourceProperty("greeting.message", "org.acme.GreetingResource"));
+		info.getProperties().add(createSourceProperty("greeting.name", "org.acme.GreetingResource"));
+		info.getProperties().add(createSourceProperty("counter.start", "org.acme.Counter.Config"));
+		info.getProperties().add(createSourceProperty("binary.property", "org.acme.GreetingResource"));
+		info.getProperties().get(3).setSource(null);
+
+		ExtendedMicroProfileProjectInfo wrapper = new ExtendedMicroProfileProjectInfo(info);
+		wrapper.clearPropertiesFromSource(Arrays.asList("file:///project/src/main/java/org/acme/GreetingResource.java"));
+		wrapper.clearPropertiesFromSource(Arrays.asList("file:///project/src/main/java/org/acme/Counter.java"));
+		Assert.assertTrue(wrapper.isReloadFromSource());
+		Assert.assertEquals(2, wrapper.getChangedCompilationUnitURIs().size());
+
+		// Update only GreetingResource.java
+		Assert.assertTrue(wrapper.updateSourcesProperties(
+				new ArrayList<>(Arrays.asList(createSourceProperty("greeting.suffix", "org.acme.GreetingResource"))),
+				new ArrayList<>(), Arrays.asList("file:///project/src/main/java/org/acme/GreetingResource.java"),
+				Arrays.asList("org.acme.GreetingResource")));
+		assertPropertyExist("greeting.suffix", wrapper);
+		assertPropertyNotExist("greeting.message", wrapper);
+		assertPropertyNotExist("greeting.name", wrapper);
+		assertPropertyExist("counter.start", wrapper);
+		assertPropertyExist("binary.property", wrapper);
+		// Counter.java must still be reloaded
+		Assert.assertTrue(wrapper.isReloadFromSource());
+		Assert.assertEquals(Arrays.asList("file:///project/src/main/java/org/acme/Counter.java"),
+				wrapper.getChangedCompilationUnitURIs());
+
+		// Update Counter.java (the nested type Counter.Config is declared in
+		// Counter.java)
+		Assert.assertTrue(wrapper.updateSourcesProperties(new ArrayList<>(), new ArrayList<>(),
+				Arrays.asList("file:///project/src/main/java/org/acme/Counter.java"), Arrays.asList("org.acme.Counter")));
+		assertPropertyNotExist("counter.start", wrapper);
+		assertPropertyExist("greeting.suffix", wrapper);
+		Assert.assertFalse(wrapper.isReloadFromSource());
+	}
+
+	@Test
+	public void updateSourcesPropertiesOfCompilationUnitsWithSecondaryType() {
+		MicroProfileProjectInfo info = new MicroProfileProjectInfo();
+		info.setProperties(new ArrayList<>());
+		info.setHints(new ArrayList<>());
+		info.getProperties().add(createSourceProperty("greeting.message", "org.acme.GreetingResource"));
+		info.getProperties().add(createSourceProperty("greeting.config", "org.acme.Config"));
+
+		ExtendedMicroProfileProjectInfo wrapper = new ExtendedMicroProfileProjectInfo(info);
+		wrapper.clearPropertiesFromSource(Arrays.asList("file:///project/src/main/java/org/acme/GreetingResource.java"));
+
+		// GreetingResource.java declares the secondary type 'org.acme.Config' (the
+		// type cannot be guessed from the file path)
+		Assert.assertTrue(wrapper.updateSourcesProperties(
+				new ArrayList<>(Arrays.asList(createSourceProperty("greeting.name", "org.acme.Config"))),
+				new ArrayList<>(), Arrays.asList("file:///project/src/main/java/org/acme/GreetingResource.java"),
+				Arrays.asList("org.acme.GreetingResource", "org.acme.Config")));
+		assertPropertyNotExist("greeting.message", wrapper);
+		assertPropertyNotExist("greeting.config", wrapper);
+		assertPropertyExist("greeting.name", wrapper);
+		Assert.assertFalse(wrapper.isReloadFromSource());
+	}
+
+	@Test
+	public void updateSourcesPropertiesOfAllSources() {
+		MicroProfileProjectInfo info = new MicroProfileProjectInfo();
+		info.setProperties(new ArrayList<>());
+		info.setHints(new ArrayList<>());
+		info.getProperties().add(createSourceProperty("greeting.message", "org.acme.GreetingResource"));
+		info.getProperties().add(createSourceProperty("counter.start", "org.acme.Counter"));
+
+		ExtendedMicroProfileProjectInfo wrapper = new ExtendedMicroProfileProjectInfo(info);
+		wrapper.clearPropertiesFromSource(Arrays.asList("file:///project/src/main/java/org/acme/Deleted.java"));
+
+		// The deleted Java file cannot be resolved, the properties have been
+		// collected from all Java sources (without source types)
+		Assert.assertTrue(wrapper.updateSourcesProperties(
+				new ArrayList<>(Arrays.asList(createSourceProperty("greeting.message", "org.acme.GreetingResource"))),
+				new ArrayList<>(), Arrays.asList("file:///project/src/main/java/org/acme/Deleted.java"), null));
+		assertPropertyExist("greeting.message", wrapper);
+		assertPropertyNotExist("counter.start", wrapper);
+		Assert.assertFalse(wrapper.isReloadFromSource());
+		Assert.assertNull(wrapper.getChangedCompilationUnitURIs());
+	}
+
+	@Test
+	public void updateSourcesPropertiesOfCompilationUnitsWithHint() {
+		MicroProfileProjectInfo info = new MicroProfileProjectInfo();
+		info.setProperties(new ArrayList<>());
+		info.setHints(new ArrayList<>());
+
+		ItemMetadata p = new ItemMetadata();
+		p.setName("${mp.register.rest.client.class}/mp-rest/url");
+		p.setSource(Boolean.TRUE);
+		info.getProperties().add(p);
+
+		ItemHint hint = new ItemHint();
+		hint.setName("${mp.register.rest.client.class}");
+		hint.setSource(Boolean.TRUE);
+		hint.setValues(new ArrayList<>());
+		hint.getValues().add(createValue("org.acme.restclient.CountriesService"));
+		hint.getValues().add(createValue("org.acme.restclient.StreetsService"));
+		info.getHints().add(hint);
+
+		ExtendedMicroProfileProjectInfo wrapper = new ExtendedMicroProfileProjectInfo(info);
+		assertPropertyExist("org.acme.restclient.CountriesService/mp-rest/url", wrapper);
+		assertPropertyExist("org.acme.restclient.StreetsService/mp-rest/url", wrapper);
+
+		// StreetsService.java is renamed to CitiesService.java
+		ItemHint newHint = new ItemHint();
+		newHint.setName("${mp.register.rest.client.class}");
+		newHint.setSource(Boolean.TRUE);
+		newHint.setValues(new ArrayList<>());
+		newHint.getValues().add(createValue("org.acme.restclient.CitiesService"));
+		p = new ItemMetadata();
+		p.setName("${mp.register.rest.client.class}/mp-rest/url");
+		p.setSource(Boolean.TRUE);
+
+		Assert.assertTrue(wrapper.updateSourcesProperties(new ArrayList<>(Arrays.asList(p)),
+				new ArrayList<>(Arrays.asList(newHint)),
+				Arrays.asList("file:///project/src/main/java/org/acme/restclient/StreetsService.java",
+						"file:///project/src/main/java/org/acme/restclient/CitiesService.java"),
+				Arrays.asList("org.acme.restclient.StreetsService", "org.acme.restclient.CitiesService")));
+		assertPropertyExist("org.acme.restclient.CountriesService/mp-rest/url", wrapper);
+		assertPropertyNotExist("org.acme.restclient.StreetsService/mp-rest/url", wrapper);
+		assertPropertyExist("org.acme.restclient.CitiesService/mp-rest/url", wrapper);
+		Assert.assertEquals(1, wrapper.getDynamicProperties().size());
+		Assert.assertEquals(2, wrapper.getHint("${mp.register.rest.client.class}").getValues().size());
+	}
+
+	@Test
+	public void updateSourcesPropertiesOfCompilationUnitsWithEnumHint() {
+		MicroProfileProjectInfo info = new MicroProfileProjectInfo();
+		info.setProperties(new ArrayList<>());
+		info.setHints(new ArrayList<>());
+		info.getProperties().add(createSourceProperty("greeting.color", "org.acme.GreetingResource"));
+
+		ItemHint hint = new ItemHint();
+		hint.setName("org.acme.Color");
+		hint.setSourceType("org.acme.Color");
+		hint.setSource(Boolean.TRUE);
+		hint.setValues(new ArrayList<>());
+		ValueHint value = new ValueHint();
+		value.setValue("RED");
+		hint.getValues().add(value);
+		info.getHints().add(hint);
+
+		ExtendedMicroProfileProjectInfo wrapper = new ExtendedMicroProfileProjectInfo(info);
+		wrapper.clearPropertiesFromSource(Arrays.asList("file:///project/src/main/java/org/acme/Color.java"));
+
+		// The values of the enum cannot be collected from Color.java, all Java sources
+		// must be reloaded
+		Assert.assertFalse(wrapper.updateSourcesProperties(new ArrayList<>(), new ArrayList<>(),
+				Arrays.asList("file:///project/src/main/java/org/acme/Color.java"), Arrays.asList("org.acme.Color")));
+		Assert.assertTrue(wrapper.isReloadFromSource());
+		Assert.assertNull(wrapper.getChangedCompilationUnitURIs());
+		assertPropertyExist("greeting.color", wrapper);
+		Assert.assertNotNull(wrapper.getHint("org.acme.Color"));
+	}
+
+	private static ItemMetadata createSourceProperty(String name, String sourceType) {
+		ItemMetadata property = new ItemMetadata();
+		property.setName(name);
+		property.setType("java.lang.String");
+		property.setSourceType(sourceType);
+		property.setSource(Boolean.TRUE);
+		return property;
+	}
+
+	private static ValueHint createValue(String type) {
+		ValueHint value = new ValueHint();
+		value.setValue(type);
+		value.setSourceType(type);
+		return value;
+	}
+
 	private void assertPropertyExist(String propertyName, ExtendedMicroProfileProjectInfo wrapper) {
 		Assert.assertTrue(wrapper.getProperties().stream().anyMatch(p -> propertyName.equals(p.getName())));
 	}
 
+	private void assertPropertyNotExist(String propertyName, ExtendedMicroProfileProjectInfo wrapper) {
+		Assert.assertFalse(wrapper.getProperties().stream().anyMatch(p -> propertyName.equals(p.getName())));
+	}
+
 }
@@ -0,0 +1,145 @@
+/*******************************************************************************
+* Copyright (c) 2024 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.ls.commons;
+
+import java.util.Collections;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.lsp4j.TextDocumentContentChangeEvent;
+import org.eclipse.lsp4j.jsonrpc.CancelChecker;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test for the version-aware cancellation of the parse of
+ * {@link ModelTextDocument} and of the validation of {@link ValidatorDelayer}.
+ *
+ */
+public class ModelTextDocumentTest {
+
+	@Test
+	public void newerVersionDoesntWaitForStaleParse() throws Exception {
+		CountDownLatch parsing = new CountDownLatch(1);
+		ModelTextDocument<String> document = new ModelTextDocument<>("a=1", "application.properties",
+				(textDocument, cancelChecker) -> {
+					if ("a=1".equals(textDocument.getText())) {
+						// long parse of the first version
+						parsing.countDown();
+						waitForCancellation(cancelChecker);
+					}
+					return textDocument.getText();
+				});
+		document.setIncremental(true);
+		document.setVersion(1);
+
+		CompletableFuture<String> staleModel = CompletableFuture.supplyAsync(document::getModel);
+		Assert.assertTrue(parsing.await(10, TimeUnit.SECONDS));
+
+		change(document, 2, "a=2");
+		// the parse of the version 2 doesn't wait for the parse of the version 1
+		Assert.assertEquals("a=2", CompletableFuture.supplyAsync(document::getModel).get(10, TimeUnit.SECONDS));
+
+		// the parse of the version 1 is stopped
+		try {
+			staleModel.get(10, TimeUnit.SECONDS);
+			Assert.fail("The parse of the version 1 should be cancelled");
+		} catch (ExecutionException e) {
+			Assert.assertTrue(e.getCause() instanceof CancellationException);
+		}
+		Assert.assertEquals("a=2", document.getExistingModel());
+	}
+
+	@Test
+	public void sameVersionSharesParse() throws Exception {
+		CountDownLatch parsing = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		AtomicInteger parseCount = new AtomicInteger();
+		ModelTextDocument<String> document = new ModelTextDocument<>("a=1", "application.properties",
+				(textDocument, cancelChecker) -> {
+					parseCount.incrementAndGet();
+					parsing.countDown();
+					try {
+						release.await(10, TimeUnit.SECONDS);
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					}
+					return new String(textDocument.getText());
+				});
+
+		CompletableFuture<String> model1 = CompletableFuture.supplyAsync(document::getModel);
+		Assert.assertTrue(parsing.await(10, TimeUnit.SECONDS));
+		CompletableFuture<String> model2 = CompletableFuture.supplyAsync(document::getModel);
+		release.countDown();
+
+		Assert.assertSame(model1.get(10, TimeUnit.SECONDS), model2.get(10, TimeUnit.SECONDS));
+		Assert.assertEquals(1, parseCount.get());
+	}
+
+	@Test
+	public void stopStaleValidation() throws Exception {
+		ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+		try {
+			TextDocument document = new TextDocument("a=1", "application.properties");
+			document.setIncremental(true);
+			document.setVersion(1);
+			CountDownLatch validating = new CountDownLatch(1);
+			CompletableFuture<String> published = new CompletableFuture<>();
+			ValidatorDelayer<TextDocument> delayer = new ValidatorDelayer<>(executor, (textDocument, cancelChecker) -> {
+				String text = textDocument.getText();
+				try {
+					if ("a=1".equals(text)) {
+						// long validation of the first version
+						validating.countDown();
+						waitForCancellation(cancelChecker);
+					}
+					cancelChecker.checkCanceled();
+					published.complete(text);
+					return null;
+				} catch (CancellationException e) {
+					published.complete("cancelled " + text);
+					throw e;
+				}
+			}, 0);
+
+			delayer.validateWithDelay(document);
+			Assert.assertTrue(validating.await(10, TimeUnit.SECONDS));
+			// a newer version of the document stops the running validation
+			change(document, 2, "a=2");
+			Assert.assertEquals("cancelled a=1", published.get(10, TimeUnit.SECONDS));
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private static void waitForCancellation(CancelChecker cancelChecker) {
+		long end = System.currentTimeMillis() + 10000;
+		while (System.currentTimeMillis() < end) {
+			cancelChecker.checkCanceled();
+			try {
+				Thread.sleep(10);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+		}
+	}
+
+	private static void change(TextDocument document, int version, String text) {
+		document.setVersion(version);
+		document.update(Collections.singletonList(new TextDocumentContentChangeEvent(text)));
+	}
+}
@@ -0,0 +1,115 @@
+/*******************************************************************************
+* Copyright (c) 2024 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.ls.commons;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Collections;
+import java.util.Random;
+import java.util.logging.Logger;
+
+import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4j.TextDocumentContentChangeEvent;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test for {@link Rope} and the incremental update of {@link TextDocument}.
+ *
+ */
+public class RopeTest {
+
+	private static final Logger LOGGER = Logger.getLogger(RopeTest.class.getName());
+
+	@Test
+	public void replace() {
+		Rope rope = Rope.of("abcdef");
+		Assert.assertEquals("aXYdef", rope.replace(1, 2, "XY").toString());
+		Assert.assertEquals("abcdefZ", rope.replace(6, 0, "Z").toString());
+		Assert.assertEquals("Zabcdef", rope.replace(0, 0, "Z").toString());
+		Assert.assertEquals("", rope.replace(0, 6, "").toString());
+		// the replaced text ends at the end of the text
+		Assert.assertEquals("abc", rope.replace(3, 10, "").toString());
+		// the rope is immutable
+		Assert.assertEquals("abcdef", rope.toString());
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void replaceOutOfBounds() {
+		Rope.of("abc").replace(4, 0, "");
+	}
+
+	@Test
+	public void replaceWithRandomChanges() {
+		Random random = new Random(42);
+		StringBuilder expected = new StringBuilder();
+		for (int i = 0; i < 10000; i++) {
+			expected.append((char) ('a' + random.nextInt(26)));
+		}
+		Rope rope = Rope.of(expected.toString());
+		for (int i = 0; i < 20000; i++) {
+			int offset = random.nextInt(expected.length() + 1);
+			int length = random.nextInt(Math.min(3000, expected.length() - offset) + 1);
+			StringBuilder text = new StringBuilder();
+			int textLength = random.nextInt(10) == 0 ? random.nextInt(3000) : random.nextInt(3);
+			for (int j = 0; j < textLength; j++) {
+				text.append((char) ('a' + random.nextInt(26)));
+			}
+			expected.replace(offset, offset + length, text.toString());
+			rope = rope.replace(offset, length, text.toString());
+			Assert.assertEquals(expected.length(), rope.length());
+			if (i % 100 == 0) {
+				Assert.assertEquals(expected.toString(), rope.toString());
+			}
+		}
+		Assert.assertEquals(expected.toString(), rope.toString());
+		// the tree is balanced
+		Assert.assertTrue("Height: " + rope.getHeight(), rope.getHeight() <= 2 * log2(rope.length()));
+	}
+
+	@Test
+	public void updateLargeDocument() throws BadLocationException {
+		StringBuilder text = new StringBuilder();
+		int i = 0;
+		while (text.length() < 5 * 1024 * 1024) {
+			text.append("quarkus.property").append(i++).append(" = value\n");
+		}
+		TextDocument document = new TextDocument(text.toString(), "application.properties");
+		document.setIncremental(true);
+
+		Random random = new Random(42);
+		long allocatedBefore = getAllocatedBytes();
+		long start = System.nanoTime();
+		for (i = 0; i < 1000; i++) {
+			int offset = random.nextInt(text.length());
+			Range range = new Range(document.positionAt(offset), document.positionAt(offset + 1));
+			document.update(Collections.singletonList(new TextDocumentContentChangeEvent(range, 1, "x")));
+			text.replace(offset, offset + 1, "x");
+		}
+		long time = System.nanoTime() - start;
+		long allocated = getAllocatedBytes() - allocatedBefore;
+		LOGGER.info("1000 updates of a " + text.length() + " chars document in " + time / 1000000 + "ms"
+				+ (allocatedBefore >= 0 ? ", allocated " + allocated / 1024 + "KB" : ""));
+
+		Assert.assertEquals(text.toString(), document.getText());
+	}
+
+	private static int log2(int value) {
+		return 32 - Integer.numberOfLeadingZeros(value);
+	}
+
+	private static long getAllocatedBytes() {
+		ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+		if (bean instanceof com.sun.management.ThreadMXBean) {
+			return ((com.sun.management.ThreadMXBean) bean).getThreadAllocatedBytes(Thread.currentThread().getId());
+		}
+		return -1;
+	}
+}
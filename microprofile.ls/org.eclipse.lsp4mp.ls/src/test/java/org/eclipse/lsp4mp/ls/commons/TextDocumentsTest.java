@@ -0,0 +1,296 @@
+/*******************************************************************************
+* Copyright (c) 2024 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.ls.commons;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Logger;
+
+import org.eclipse.lsp4j.CompletionList;
+import org.eclipse.lsp4j.DidChangeTextDocumentParams;
+import org.eclipse.lsp4j.DidOpenTextDocumentParams;
+import org.eclipse.lsp4j.Hover;
+import org.eclipse.lsp4j.HoverCapabilities;
+import org.eclipse.lsp4j.MarkupKind;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4j.TextDocumentContentChangeEvent;
+import org.eclipse.lsp4j.TextDocumentItem;
+import org.eclipse.lsp4j.VersionedTextDocumentIdentifier;
+import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
+import org.eclipse.lsp4mp.model.PropertiesModel;
+import org.eclipse.lsp4mp.services.properties.PropertiesFileAssert;
+import org.eclipse.lsp4mp.services.properties.PropertiesFileLanguageService;
+import org.eclipse.lsp4mp.settings.MicroProfileCompletionCapabilities;
+import org.eclipse.lsp4mp.settings.MicroProfileFormattingSettings;
+import org.eclipse.lsp4mp.settings.MicroProfileHoverSettings;
+import org.junit.Assert;
+import org.junit.Ignore;
+import org.junit.Test;
+
+/**
+ * Test for {@link TextDocuments} : the documents are read without lock and the
+ * changes are serialized per document.
+ *
+ */
+public class TextDocumentsTest {
+
+	private static final Logger LOGGER = Logger.getLogger(TextDocumentsTest.class.getName());
+
+	@Test
+	public void changeDoesntBlockOtherDocuments() throws Exception {
+		CountDownLatch changing = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		TextDocuments<TextDocument> documents = new TextDocuments<TextDocument>() {
+
+			@Override
+			public TextDocument createDocument(TextDocumentItem item) {
+				TextDocument document = new TextDocument(item) {
+
+					@Override
+					public void update(List<TextDocumentContentChangeEvent> changes) {
+						if ("blocked.properties".equals(getUri())) {
+							// simulate a long change
+							changing.countDown();
+							try {
+								release.await(10, TimeUnit.SECONDS);
+							} catch (InterruptedException e) {
+								Thread.currentThread().interrupt();
+							}
+						}
+						super.update(changes);
+					}
+				};
+				document.setIncremental(isIncremental());
+				return document;
+			}
+		};
+		open(documents, "blocked.properties", "a=1");
+		open(documents, "other.properties", "b=1");
+
+		CompletableFuture<Void> blockedChange = CompletableFuture
+				.runAsync(() -> documents.onDidChangeTextDocument(change("blocked.properties", 2, "a=2")));
+		Assert.assertTrue(changing.await(10, TimeUnit.SECONDS));
+		try {
+			// The documents can be read and the other documents can be changed while
+			// the blocked document is changing
+			CompletableFuture<Void> otherChange = CompletableFuture.runAsync(() -> {
+				Assert.assertEquals("a=1", documents.get("blocked.properties").getText());
+				Assert.assertEquals(2, documents.all().size());
+				documents.onDidChangeTextDocument(change("other.properties", 2, "b=2"));
+			});
+			otherChange.get(10, TimeUnit.SECONDS);
+			Assert.assertEquals("b=2", documents.get("other.properties").getText());
+			Assert.assertFalse(blockedChange.isDone());
+		} finally {
+			release.countDown();
+		}
+		blockedChange.get(10, TimeUnit.SECONDS);
+		Assert.assertEquals("a=2", documents.get("blocked.properties").getText());
+		Assert.assertEquals(2, documents.get("blocked.properties").getVersion());
+	}
+
+	@Test
+	public void concurrentChangesAreSerialized() throws Exception {
+		ModelTextDocuments<PropertiesModel> documents = createDocuments();
+		String uri = "concurrent.properties";
+		open(documents, uri, "");
+		int threadCount = 4;
+		int changeCount = 200;
+		CyclicBarrier start = new CyclicBarrier(threadCount + 1);
+		ExecutorService executor = Executors.newFixedThreadPool(threadCount + 1);
+		try {
+			List<Future<?>> writers = new ArrayList<>();
+			for (int i = 0; i < threadCount; i++) {
+				int writer = i;
+				writers.add(executor.submit(() -> {
+					start.await(10, TimeUnit.SECONDS);
+					for (int j = 0; j < changeCount; j++) {
+						// insert a property at the start of the document
+						documents.onDidChangeTextDocument(
+								insert(uri, writer * changeCount + j, "writer" + writer + ".property" + j + "=v\n"));
+					}
+					return null;
+				}));
+			}
+			// The document is read while it is changing : its text always contains whole
+			// changes
+			Future<?> reader = executor.submit(() -> {
+				start.await(10, TimeUnit.SECONDS);
+				while (!writers.stream().allMatch(Future::isDone)) {
+					String text = documents.get(uri).getText();
+					Assert.assertTrue(text, text.isEmpty() || text.endsWith("\n"));
+					Assert.assertEquals(text, text.split("\n", -1).length - 1,
+							text.split("=v\n", -1).length - 1);
+				}
+				return null;
+			});
+			for (Future<?> writer : writers) {
+				writer.get(30, TimeUnit.SECONDS);
+			}
+			reader.get(30, TimeUnit.SECONDS);
+		} finally {
+			executor.shutdownNow();
+		}
+
+		// No change has been lost
+		ModelTextDocument<PropertiesModel> document = documents.get(uri);
+		Set<String> lines = new HashSet<>(Arrays.asList(document.getText().split("\n")));
+		Assert.assertEquals(threadCount * changeCount, lines.size());
+		for (int i = 0; i < threadCount; i++) {
+			for (int j = 0; j < changeCount; j++) {
+				Assert.assertTrue(lines.contains("writer" + i + ".property" + j + "=v"));
+			}
+		}
+		Assert.assertEquals(PropertiesModel.parse(document.getText(), uri).getChildren().size(),
+				document.getModel().getChildren().size());
+	}
+
+	@Ignore("Benchmark which takes several seconds, run it manually")
+	@Test
+	public void concurrentEditsBenchmark() throws Exception {
+		long[] globalLock = runConcurrentEdits(new GlobalLockTextDocuments());
+		long[] perDocumentLock = runConcurrentEdits(createDocuments());
+		LOGGER.info("Hover and completion during concurrent edits of another document : p50=" + globalLock[0] / 1000
+				+ "us, p99=" + globalLock[1] / 1000 + "us with a global lock, p50=" + perDocumentLock[0] / 1000
+				+ "us, p99=" + perDocumentLock[1] / 1000 + "us with per document locks");
+	}
+
+	/**
+	 * Returns the median and the 99th percentile (in nanoseconds) of hover and
+	 * completion requests on a small properties file while 2 threads change a big
+	 * properties file.
+	 */
+	private static long[] runConcurrentEdits(ModelTextDocuments<PropertiesModel> documents) throws Exception {
+		StringBuilder bigText = new StringBuilder();
+		for (int i = 0; i < 20000; i++) {
+			bigText.append("property").append(i).append("=value").append(i).append('\n');
+		}
+		open(documents, "big.properties", bigText.toString());
+		String smallUri = "small.properties";
+		open(documents, smallUri, "quarkus.http.port=8080\nquarkus.application.name=${quarkus.http.port}\n");
+
+		MicroProfileProjectInfo projectInfo = PropertiesFileAssert.getDefaultMicroProfileProjectInfo();
+		PropertiesFileLanguageService languageService = new PropertiesFileLanguageService();
+		MicroProfileHoverSettings hoverSettings = new MicroProfileHoverSettings();
+		hoverSettings.setCapabilities(new HoverCapabilities(Arrays.asList(MarkupKind.MARKDOWN), false));
+		MicroProfileCompletionCapabilities completionCapabilities = new MicroProfileCompletionCapabilities();
+		MicroProfileFormattingSettings formattingSettings = new MicroProfileFormattingSettings();
+
+		AtomicBoolean stop = new AtomicBoolean();
+		List<Thread> writers = new ArrayList<>();
+		for (int i = 0; i < 2; i++) {
+			int writer = i;
+			Thread thread = new Thread(() -> {
+				int version = 1;
+				while (!stop.get()) {
+					// replace the whole text of the big document
+					documents.onDidChangeTextDocument(change("big.properties", version++,
+							bigText.toString() + "writer" + writer + "=" + version));
+				}
+			});
+			thread.start();
+			writers.add(thread);
+		}
+
+		int requests = 300;
+		List<Long> times = new ArrayList<>();
+		try {
+			for (int i = 0; i < requests; i++) {
+				long start = System.nanoTime();
+				PropertiesModel model = documents.getModel(smallUri);
+				Hover hover = languageService.doHover(model, new Position(0, 3), projectInfo, hoverSettings,
+						params -> CompletableFuture.completedFuture(null), () -> {
+						}).get(10, TimeUnit.SECONDS);
+				CompletionList list = languageService.doComplete(documents.getModel(smallUri), new Position(1, 0),
+						projectInfo, completionCapabilities, formattingSettings, () -> {
+						});
+				times.add(System.nanoTime() - start);
+				Assert.assertNotNull(hover);
+				Assert.assertFalse(list.getItems().isEmpty());
+			}
+		} finally {
+			stop.set(true);
+			for (Thread writer : writers) {
+				writer.join();
+			}
+		}
+		Collections.sort(times);
+		return new long[] { times.get(requests / 2), times.get(requests * 99 / 100) };
+	}
+
+	private static ModelTextDocuments<PropertiesModel> createDocuments() {
+		return new ModelTextDocuments<PropertiesModel>((document, cancelChecker) -> {
+			return PropertiesModel.parse(document, cancelChecker);
+		}, (previousModel, document, change, cancelChecker) -> {
+			return PropertiesModel.update(previousModel, document, change, cancelChecker);
+		});
+	}
+
+	/**
+	 * Documents which are read and changed with a global lock, like the
+	 * {@link TextDocuments} implementation with a synchronized map.
+	 */
+	private static class GlobalLockTextDocuments extends ModelTextDocuments<PropertiesModel> {
+
+		private final Object lock = new Object();
+
+		public GlobalLockTextDocuments() {
+			super((document, cancelChecker) -> {
+				return PropertiesModel.parse(document, cancelChecker);
+			}, (previousModel, document, change, cancelChecker) -> {
+				return PropertiesModel.update(previousModel, document, change, cancelChecker);
+			});
+		}
+
+		@Override
+		public ModelTextDocument<PropertiesModel> get(String uri) {
+			synchronized (lock) {
+				return super.get(uri);
+			}
+		}
+
+		@Override
+		public ModelTextDocument<PropertiesModel> onDidChangeTextDocument(DidChangeTextDocumentParams params) {
+			synchronized (lock) {
+				return super.onDidChangeTextDocument(params);
+			}
+		}
+	}
+
+	private static void open(TextDocuments<?> documents, String uri, String text) {
+		documents.onDidOpenTextDocument(
+				new DidOpenTextDocumentParams(new TextDocumentItem(uri, "microprofile-properties", 1, text)));
+	}
+
+	private static DidChangeTextDocumentParams insert(String uri, int version, String text) {
+		TextDocumentContentChangeEvent change = new TextDocumentContentChangeEvent(
+				new Range(new Position(0, 0), new Position(0, 0)), 0, text);
+		return new DidChangeTextDocumentParams(new VersionedTextDocumentIdentifier(uri, version),
+				Collections.singletonList(change));
+	}
+
+	private static DidChangeTextDocumentParams change(String uri, int version, String text) {
+		return new DidChangeTextDocumentParams(new VersionedTextDocumentIdentifier(uri, version),
+				Collections.singletonList(new TextDocumentContentChangeEvent(text)));
+	}
+}
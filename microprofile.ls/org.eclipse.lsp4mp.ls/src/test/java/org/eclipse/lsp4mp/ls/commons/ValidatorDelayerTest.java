@@ -0,0 +1,118 @@
+/*******************************************************************************
+* Copyright (c) 2024 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.ls.commons;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test for the adaptive delay of {@link ValidatorDelayer}.
+ *
+ */
+public class ValidatorDelayerTest {
+
+	private ScheduledExecutorService executor;
+
+	@Before
+	public void createExecutor() {
+		executor = Executors.newSingleThreadScheduledExecutor();
+	}
+
+	@After
+	public void shutdownExecutor() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	public void smallDocumentIsValidatedQuickly() throws Exception {
+		Semaphore validated = new Semaphore(0);
+		ValidatorDelayer<TextDocument> delayer = new ValidatorDelayer<>(executor, (document, cancelChecker) -> {
+			validated.release();
+			return null;
+		}, 500);
+		TextDocument document = createDocument("small.properties");
+		Assert.assertNull(delayer.getMetrics(document.getUri()));
+
+		delayer.validateWithDelay(document);
+		// the validation time is unknown, the initial delay is used
+		Assert.assertEquals(500, delayer.getMetrics(document.getUri()).getDelay());
+		Assert.assertTrue(validated.tryAcquire(10, TimeUnit.SECONDS));
+		waitForValidationCount(delayer, document.getUri(), 1);
+
+		ValidationMetrics metrics = delayer.getMetrics(document.getUri());
+		Assert.assertEquals(ValidatorDelayer.MIN_VALIDATION_DELAY_MS, metrics.getDelay());
+		Assert.assertEquals(1, delayer.getMetrics().size());
+
+		delayer.closeDocument(document.getUri());
+		Assert.assertNull(delayer.getMetrics(document.getUri()));
+	}
+
+	@Test
+	public void hugeDocumentWaitsLonger() throws Exception {
+		ValidatorDelayer<TextDocument> delayer = new ValidatorDelayer<>(executor, (document, cancelChecker) -> {
+			// the validation of the huge document is done asynchronously in 300ms
+			return CompletableFuture.runAsync(() -> {
+				try {
+					Thread.sleep(300);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			});
+		}, 0);
+		TextDocument document = createDocument("huge.properties");
+
+		delayer.validateWithDelay(document);
+		waitForValidationCount(delayer, document.getUri(), 1);
+
+		ValidationMetrics metrics = delayer.getMetrics(document.getUri());
+		Assert.assertTrue(metrics.toString(), metrics.getAverageValidationTime() >= 300);
+		Assert.assertTrue(metrics.toString(), metrics.getDelay() >= 600);
+	}
+
+	@Test
+	public void pendingAsynchronousValidationsDontBlockValidations() throws Exception {
+		Semaphore validated = new Semaphore(0);
+		ValidatorDelayer<TextDocument> delayer = new ValidatorDelayer<>(executor, (document, cancelChecker) -> {
+			validated.release();
+			// the response of the asynchronous validation never arrives
+			return new CompletableFuture<>();
+		}, 0);
+		int count = Runtime.getRuntime().availableProcessors() + 3;
+		for (int i = 0; i < count; i++) {
+			delayer.validateWithDelay(createDocument("pending" + i + ".properties"));
+		}
+		Assert.assertTrue(validated.tryAcquire(count, 10, TimeUnit.SECONDS));
+		Assert.assertEquals(0, delayer.getMetrics("pending0.properties").getValidationCount());
+	}
+
+	private static void waitForValidationCount(ValidatorDelayer<?> delayer, String uri, int count)
+			throws InterruptedException {
+		long end = System.currentTimeMillis() + 10000;
+		while (delayer.getMetrics(uri).getValidationCount() < count && System.currentTimeMillis() < end) {
+			Thread.sleep(10);
+		}
+		Assert.assertEquals(count, delayer.getMetrics(uri).getValidationCount());
+	}
+
+	private static TextDocument createDocument(String uri) {
+		TextDocument document = new TextDocument("a=1", uri);
+		document.setIncremental(true);
+		document.setVersion(1);
+		return document;
+	}
+}
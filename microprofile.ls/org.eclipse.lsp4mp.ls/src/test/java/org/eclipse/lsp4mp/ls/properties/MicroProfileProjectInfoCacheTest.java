@@ -12,14 +12,17 @@ package org.eclipse.lsp4mp.ls.properties;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
+import org.eclipse.lsp4mp.commons.MicroProfileProjectInfoDelta;
 import org.eclipse.lsp4mp.commons.MicroProfileProjectInfoParams;
 import org.eclipse.lsp4mp.commons.MicroProfilePropertiesChangeEvent;
 import org.eclipse.lsp4mp.commons.MicroProfilePropertiesScope;
+import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
 import org.eclipse.lsp4mp.ls.api.MicroProfileProjectInfoProvider;
 import org.junit.Assert;
 import org.junit.Test;
@@ -136,6 +139,50 @@ public class MicroProfileProjectInfoCacheTest {
 
 	}
 
+	@Test
+	public void getProjectInfoFromCacheAfterJavaSourceChanged() throws InterruptedException, ExecutionException {
+		List<MicroProfileProjectInfoParams> requests = new ArrayList<>();
+		MicroProfileProjectInfoProvider provider = params -> {
+			MicroProfileProjectInfoParams request = new MicroProfileProjectInfoParams(params.getUri());
+			request.setScopes(params.getScopes());
+			request.setCompilationUnitURIs(params.getCompilationUnitURIs());
+			requests.add(request);
+			MicroProfileProjectInfo info = new MicroProfileProjectInfo();
+			info.setProjectURI(PROJECT1);
+			info.setProperties(new ArrayList<>());
+			info.setHints(new ArrayList<>());
+			if (params.getCompilationUnitURIs() != null) {
+				info.setSourceTypes(Arrays.asList("org.acme.A", "org.acme.B"));
+			}
+			return CompletableFuture.completedFuture(info);
+		};
+		MicroProfileProjectInfoCache cache = new MicroProfileProjectInfoCache(provider);
+		MicroProfileProjectInfoParams params = new MicroProfileProjectInfoParams(PROJECT1_APPLICATION_PROPERTIES);
+		MicroProfileProjectInfo info = cache.getProjectInfoFromCache(params).get();
+
+		// 2 Java files saved -> only the properties of those files should be collected
+		MicroProfilePropertiesChangeEvent event = new MicroProfilePropertiesChangeEvent();
+		event.setProjectURIs(new HashSet<String>(Arrays.asList(PROJECT1)));
+		event.setType(MicroProfilePropertiesScope.ONLY_SOURCES);
+		event.setCompilationUnitURIs(new HashSet<String>(Arrays.asList("file:///project1/src/org/acme/A.java")));
+		cache.propertiesChanged(event);
+		event.setCompilationUnitURIs(new HashSet<String>(Arrays.asList("file:///project1/src/org/acme/B.java")));
+		cache.propertiesChanged(event);
+
+		Assert.assertTrue("Same instance of getProjectInfo after Java sources changed",
+				info == cache.getProjectInfoFromCache(params).get());
+		Assert.assertEquals(2, requests.size());
+		Assert.assertEquals(MicroProfilePropertiesScope.ONLY_SOURCES, requests.get(1).getScopes());
+		Assert.assertEquals(
+				new HashSet<>(Arrays.asList("file:///project1/src/org/acme/A.java",
+						"file:///project1/src/org/acme/B.java")),
+				new HashSet<>(requests.get(1).getCompilationUnitURIs()));
+
+		// Java sources are up to date
+		cache.getProjectInfoFromCache(params).get();
+		Assert.assertEquals(2, requests.size());
+	}
+
 	@Test
 	public void getProjectInfoCacheProviderException() throws InterruptedException, ExecutionException {
 		MicroProfileProjectInfoProvider provider = new MicroProfileProjectInfoProviderThrowException();
@@ -165,4 +212,62 @@ public class MicroProfileProjectInfoCacheTest {
 				!infoWithNoError.getProjectURI().isEmpty());
 
 	}
+
+	@Test
+	public void getProjectInfoDeltaAfterClasspathChanged() throws InterruptedException, ExecutionException {
+		List<String> baseVersions = new ArrayList<>();
+		MicroProfileProjectInfoProvider provider = params -> {
+			baseVersions.add(params.getBaseVersion());
+			MicroProfileProjectInfo info = new MicroProfileProjectInfo();
+			info.setProjectURI(PROJECT1);
+			if ("1".equals(params.getBaseVersion())) {
+				// the dependency 'b' has been added
+				MicroProfileProjectInfoDelta delta = new MicroProfileProjectInfoDelta();
+				delta.setBaseVersion("1");
+				delta.setAddedProperties(Arrays.asList(createProperty("b")));
+				info.setVersion("2");
+				info.setDelta(delta);
+			} else {
+				info.setVersion(params.getBaseVersion() == null ? "1" : "3");
+				info.setProperties(new ArrayList<>(Arrays.asList(createProperty("a"))));
+				info.setHints(new ArrayList<>());
+			}
+			return CompletableFuture.completedFuture(info);
+		};
+		MicroProfileProjectInfoCache cache = new MicroProfileProjectInfoCache(provider);
+		MicroProfileProjectInfoParams params = new MicroProfileProjectInfoParams(PROJECT1_APPLICATION_PROPERTIES);
+		MicroProfileProjectInfo info = cache.getProjectInfoFromCache(params).get();
+		Assert.assertEquals("1", info.getVersion());
+
+		// Classpath changed -> only the changes since the version '1' should be loaded
+		MicroProfilePropertiesChangeEvent event = new MicroProfilePropertiesChangeEvent();
+		event.setProjectURIs(new HashSet<String>(Arrays.asList(PROJECT1)));
+		event.setType(MicroProfilePropertiesScope.SOURCES_AND_DEPENDENCIES);
+		cache.propertiesChanged(event);
+
+		Assert.assertTrue("Same instance of getProjectInfo after classpath changed",
+				info == cache.getProjectInfoFromCache(params).get());
+		Assert.assertEquals(Arrays.asList(null, "1"), baseVersions);
+		Assert.assertEquals("2", info.getVersion());
+		Assert.assertEquals(2, info.getProperties().size());
+
+		// The classpath is up to date
+		cache.getProjectInfoFromCache(params).get();
+		Assert.assertEquals(2, baseVersions.size());
+
+		// The version '2' is not known by the server -> the full project info is loaded
+		cache.propertiesChanged(event);
+		MicroProfileProjectInfo newInfo = cache.getProjectInfoFromCache(params).get();
+		Assert.assertFalse("Different instance of getProjectInfo after classpath changed", info == newInfo);
+		Assert.assertEquals(Arrays.asList(null, "1", "2"), baseVersions);
+		Assert.assertEquals("3", newInfo.getVersion());
+		Assert.assertEquals(1, newInfo.getProperties().size());
+	}
+
+	private static ItemMetadata createProperty(String name) {
+		ItemMetadata property = new ItemMetadata();
+		property.setName(name);
+		property.setType("java.lang.String");
+		return property;
+	}
 }
@@ -0,0 +1,183 @@
+/*******************************************************************************
+* Copyright (c) 2024 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.ls.properties;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.eclipse.lsp4mp.commons.DocumentFormat;
+import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
+import org.eclipse.lsp4mp.commons.MicroProfileProjectInfoParams;
+import org.eclipse.lsp4mp.commons.MicroProfileProjectInfosParams;
+import org.eclipse.lsp4mp.commons.ProjectLabelInfoEntry;
+import org.eclipse.lsp4mp.ls.api.MicroProfileProjectInfoProvider;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Test for the prefetch of the {@link MicroProfileProjectInfo} of the
+ * properties files of a workspace.
+ *
+ */
+public class MicroProfileProjectInfoPrefetcherTest {
+
+	@Rule
+	public TemporaryFolder workspace = new TemporaryFolder();
+
+	static class BatchProvider implements MicroProfileProjectInfoProvider {
+
+		private final List<MicroProfileProjectInfosParams> batchRequests = new ArrayList<>();
+
+		private final List<String> requests = new ArrayList<>();
+
+		private final boolean supportBatch;
+
+		public BatchProvider(boolean supportBatch) {
+			this.supportBatch = supportBatch;
+		}
+
+		@Override
+		public CompletableFuture<MicroProfileProjectInfo> getProjectInfo(MicroProfileProjectInfoParams params) {
+			requests.add(params.getUri());
+			return CompletableFuture.completedFuture(createInfo(params.getUri()));
+		}
+
+		@Override
+		public CompletableFuture<List<MicroProfileProjectInfo>> getProjectInfos(MicroProfileProjectInfosParams params) {
+			batchRequests.add(params);
+			if (!supportBatch) {
+				CompletableFuture<List<MicroProfileProjectInfo>> result = new CompletableFuture<>();
+				result.completeExceptionally(new UnsupportedOperationException());
+				return result;
+			}
+			return CompletableFuture.completedFuture(params.getUris().stream() //
+					.map(BatchProvider::createInfo) //
+					.collect(Collectors.toList()));
+		}
+
+		private static MicroProfileProjectInfo createInfo(String uri) {
+			MicroProfileProjectInfo info = new MicroProfileProjectInfo();
+			info.setProjectURI(uri.substring(0, uri.indexOf("/src/")));
+			info.setProperties(new ArrayList<>());
+			info.setHints(new ArrayList<>());
+			return info;
+		}
+	}
+
+	@Test
+	public void findPropertiesFiles() throws Exception {
+		List<ProjectLabelInfoEntry> projects = createWorkspace();
+		List<String> uris = MicroProfileProjectInfoPrefetcher.findPropertiesFileURIs(projects);
+		Assert.assertEquals(Arrays.asList("application-dev.properties", "application.properties",
+				"microprofile-config.properties"), getFileNames(uris));
+	}
+
+	@Test
+	public void prefetchInOneRequest() throws Exception {
+		List<ProjectLabelInfoEntry> projects = createWorkspace();
+		BatchProvider provider = new BatchProvider(true);
+		MicroProfileProjectInfoCache cache = new MicroProfileProjectInfoCache(provider);
+		MicroProfileProjectInfoPrefetcher prefetcher = new MicroProfileProjectInfoPrefetcher(cache, null);
+
+		prefetcher.prefetch(projects, DocumentFormat.Markdown, false, false).get(10, TimeUnit.SECONDS);
+		Assert.assertEquals(1, provider.batchRequests.size());
+		Assert.assertEquals(3, provider.batchRequests.get(0).getUris().size());
+		Assert.assertEquals(DocumentFormat.Markdown, provider.batchRequests.get(0).getDocumentFormat());
+		Assert.assertTrue(provider.requests.isEmpty());
+
+		// the project info are loaded for the first completion
+		String uri = provider.batchRequests.get(0).getUris().get(0);
+		MicroProfileProjectInfo info = cache.getProjectInfo(new MicroProfileProjectInfoParams(uri)).getNow(null);
+		Assert.assertNotNull(info);
+		Assert.assertTrue(provider.requests.isEmpty());
+
+		// the project info in the cache are not requested again
+		prefetcher.prefetch(projects, DocumentFormat.Markdown, false, false).get(10, TimeUnit.SECONDS);
+		Assert.assertEquals(1, provider.batchRequests.size());
+	}
+
+	@Test
+	public void prefetchWithoutBatchSupport() throws Exception {
+		List<ProjectLabelInfoEntry> projects = createWorkspace();
+		BatchProvider provider = new BatchProvider(false);
+		MicroProfileProjectInfoCache cache = new MicroProfileProjectInfoCache(provider);
+		MicroProfileProjectInfoPrefetcher prefetcher = new MicroProfileProjectInfoPrefetcher(cache, null);
+
+		prefetcher.prefetch(projects, DocumentFormat.PlainText, false, false).get(10, TimeUnit.SECONDS);
+		// the project info of each properties file is requested
+		Assert.assertEquals(1, provider.batchRequests.size());
+		Assert.assertEquals(3, provider.requests.size());
+		for (String uri : provider.requests) {
+			Assert.assertNotNull(cache.getProjectInfo(new MicroProfileProjectInfoParams(uri)).getNow(null));
+		}
+		Assert.assertEquals(3, provider.requests.size());
+	}
+
+	@Test
+	public void prefetchSkipsCachedProjectInfos() throws Exception {
+		List<ProjectLabelInfoEntry> projects = createWorkspace();
+		List<String> uris = MicroProfileProjectInfoPrefetcher.findPropertiesFileURIs(projects);
+		BatchProvider provider = new BatchProvider(false);
+		MicroProfileProjectInfoCache cache = new MicroProfileProjectInfoCache(provider);
+		MicroProfileProjectInfoPrefetcher prefetcher = new MicroProfileProjectInfoPrefetcher(cache, null);
+
+		// the project info of the first and last properties files are already loaded
+		String first = uris.get(0);
+		String last = uris.get(uris.size() - 1);
+		cache.getProjectInfo(new MicroProfileProjectInfoParams(first)).get(10, TimeUnit.SECONDS);
+		cache.getProjectInfo(new MicroProfileProjectInfoParams(last)).get(10, TimeUnit.SECONDS);
+		provider.requests.clear();
+
+		prefetcher.prefetch(projects, DocumentFormat.Markdown, false, false).get(10, TimeUnit.SECONDS);
+		Assert.assertEquals(1, provider.batchRequests.size());
+		Assert.assertEquals(Collections.singletonList(uris.get(1)), provider.batchRequests.get(0).getUris());
+		// the batched request fails, only the project info which was not loaded is
+		// requested
+		Assert.assertEquals(Collections.singletonList(uris.get(1)), provider.requests);
+	}
+
+	private List<ProjectLabelInfoEntry> createWorkspace() throws Exception {
+		Path module1 = workspace.newFolder("module1").toPath();
+		Path resources = Files.createDirectories(module1.resolve("src/main/resources"));
+		Files.write(resources.resolve("application.properties"), "a=1".getBytes());
+		Files.write(resources.resolve("application-dev.properties"), "a=2".getBytes());
+		Files.write(resources.resolve("other.properties"), "a=3".getBytes());
+
+		Path module2 = workspace.newFolder("module2").toPath();
+		Path metaInf = Files.createDirectories(module2.resolve("src/main/resources/META-INF"));
+		Files.write(metaInf.resolve("microprofile-config.properties"), "b=1".getBytes());
+
+		// not a MicroProfile project
+		Path module3 = workspace.newFolder("module3").toPath();
+		resources = Files.createDirectories(module3.resolve("src/main/resources"));
+		Files.write(resources.resolve("application.properties"), "c=1".getBytes());
+
+		return Arrays.asList(
+				new ProjectLabelInfoEntry(module1.toString(), "module1", Arrays.asList("maven", "microprofile")),
+				new ProjectLabelInfoEntry(module2.toString(), "module2", Arrays.asList("microprofile")),
+				new ProjectLabelInfoEntry(module3.toString(), "module3", Collections.singletonList("maven")));
+	}
+
+	private static List<String> getFileNames(List<String> uris) {
+		return uris.stream() //
+				.map(uri -> uri.substring(uri.lastIndexOf('/') + 1)) //
+				.sorted() //
+				.collect(Collectors.toList());
+	}
+}
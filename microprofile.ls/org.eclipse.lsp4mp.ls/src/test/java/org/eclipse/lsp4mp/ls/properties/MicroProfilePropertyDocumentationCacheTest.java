@@ -0,0 +1,147 @@
+/*******************************************************************************
+* Copyright (c) 2024 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.ls.properties;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.lsp4j.CompletionItem;
+import org.eclipse.lsp4j.MarkupContent;
+import org.eclipse.lsp4mp.commons.DocumentFormat;
+import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
+import org.eclipse.lsp4mp.commons.MicroProfilePropertyDocumentationParams;
+import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
+import org.eclipse.lsp4mp.ls.api.MicroProfilePropertyDocumentationProvider;
+import org.eclipse.lsp4mp.services.properties.CompletionData;
+import org.eclipse.lsp4mp.services.properties.PropertiesFileLanguageService;
+import org.eclipse.lsp4mp.settings.MicroProfileCompletionCapabilities;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test for {@link MicroProfilePropertyDocumentationCache} and the on demand
+ * documentation of the properties collected without Javadoc.
+ *
+ */
+public class MicroProfilePropertyDocumentationCacheTest {
+
+	private static final String URI = "file:///project/src/main/resources/application.properties";
+
+	static class CountingProvider implements MicroProfilePropertyDocumentationProvider {
+
+		private final List<MicroProfilePropertyDocumentationParams> requests = new ArrayList<>();
+
+		private boolean fail;
+
+		@Override
+		public CompletableFuture<String> getPropertyDocumentation(MicroProfilePropertyDocumentationParams params) {
+			requests.add(params);
+			if (fail) {
+				CompletableFuture<String> result = new CompletableFuture<>();
+				result.completeExceptionally(new UnsupportedOperationException());
+				return result;
+			}
+			return CompletableFuture.completedFuture("Javadoc of " + params.getSourceField());
+		}
+	}
+
+	@Test
+	public void cacheDocumentation() throws Exception {
+		CountingProvider provider = new CountingProvider();
+		MicroProfilePropertyDocumentationCache cache = new MicroProfilePropertyDocumentationCache(provider);
+
+		Assert.assertEquals("Javadoc of a", cache.getPropertyDocumentation(params("a", DocumentFormat.Markdown)).get());
+		Assert.assertEquals("Javadoc of a", cache.getPropertyDocumentation(params("a", DocumentFormat.Markdown)).get());
+		Assert.assertEquals(1, provider.requests.size());
+
+		// the documentation is cached per document format
+		cache.getPropertyDocumentation(params("a", DocumentFormat.PlainText)).get();
+		Assert.assertEquals(2, provider.requests.size());
+
+		cache.evictAll();
+		cache.getPropertyDocumentation(params("a", DocumentFormat.Markdown)).get();
+		Assert.assertEquals(3, provider.requests.size());
+	}
+
+	@Test
+	public void evictLeastRecentlyUsed() throws Exception {
+		CountingProvider provider = new CountingProvider();
+		MicroProfilePropertyDocumentationCache cache = new MicroProfilePropertyDocumentationCache(provider, 2);
+
+		cache.getPropertyDocumentation(params("a", DocumentFormat.Markdown)).get();
+		cache.getPropertyDocumentation(params("b", DocumentFormat.Markdown)).get();
+		// 'a' is used, 'b' is the least recently used
+		cache.getPropertyDocumentation(params("a", DocumentFormat.Markdown)).get();
+		cache.getPropertyDocumentation(params("c", DocumentFormat.Markdown)).get();
+		Assert.assertEquals(2, cache.size());
+		Assert.assertEquals(3, provider.requests.size());
+
+		cache.getPropertyDocumentation(params("a", DocumentFormat.Markdown)).get();
+		Assert.assertEquals(3, provider.requests.size());
+		cache.getPropertyDocumentation(params("b", DocumentFormat.Markdown)).get();
+		Assert.assertEquals(4, provider.requests.size());
+	}
+
+	@Test
+	public void errorIsNotCached() throws Exception {
+		CountingProvider provider = new CountingProvider();
+		provider.fail = true;
+		MicroProfilePropertyDocumentationCache cache = new MicroProfilePropertyDocumentationCache(provider);
+
+		Assert.assertTrue(cache.getPropertyDocumentation(params("a", DocumentFormat.Markdown))
+				.isCompletedExceptionally());
+		Assert.assertEquals(0, cache.size());
+
+		provider.fail = false;
+		Assert.assertEquals("Javadoc of a", cache.getPropertyDocumentation(params("a", DocumentFormat.Markdown)).get());
+	}
+
+	@Test
+	public void resolveCompletionItemDocumentation() throws Exception {
+		ItemMetadata property = new ItemMetadata();
+		property.setName("greeting.message");
+		property.setType("java.lang.String");
+		property.setSourceType("org.acme.GreetingResource");
+		property.setSourceField("message");
+		MicroProfileProjectInfo projectInfo = new MicroProfileProjectInfo();
+		projectInfo.setProperties(new ArrayList<>(Arrays.asList(property)));
+		projectInfo.setHints(new ArrayList<>());
+
+		CompletionItem unresolved = new CompletionItem("greeting.message");
+		unresolved.setData(new CompletionData(URI));
+
+		CountingProvider provider = new CountingProvider();
+		CompletionItem resolved = new PropertiesFileLanguageService()
+				.resolveCompletionItem(unresolved, projectInfo, new MicroProfileCompletionCapabilities(),
+						new MicroProfilePropertyDocumentationCache(provider), () -> {
+						})
+				.get(10, TimeUnit.SECONDS);
+
+		Assert.assertEquals(1, provider.requests.size());
+		Assert.assertEquals("org.acme.GreetingResource", provider.requests.get(0).getSourceType());
+		Assert.assertEquals(URI, provider.requests.get(0).getUri());
+		MarkupContent documentation = resolved.getDocumentation().getRight();
+		Assert.assertTrue(documentation.getValue(), documentation.getValue().contains("Javadoc of message"));
+		// the description is not stored in the project information
+		Assert.assertNull(property.getDescription());
+	}
+
+	private static MicroProfilePropertyDocumentationParams params(String sourceField, DocumentFormat documentFormat) {
+		MicroProfilePropertyDocumentationParams params = new MicroProfilePropertyDocumentationParams();
+		params.setUri(URI);
+		params.setSourceType("org.acme.GreetingResource");
+		params.setSourceField(sourceField);
+		params.setDocumentFormat(documentFormat);
+		return params;
+	}
+}
@@ -0,0 +1,227 @@
+/*******************************************************************************
+* Copyright (c) 2024 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.parser;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.logging.Logger;
+
+import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4j.TextDocumentContentChangeEvent;
+import org.eclipse.lsp4mp.ls.commons.BadLocationException;
+import org.eclipse.lsp4mp.ls.commons.ModelTextDocument;
+import org.eclipse.lsp4mp.model.Node;
+import org.eclipse.lsp4mp.model.Node.NodeType;
+import org.eclipse.lsp4mp.model.PropertiesModel;
+import org.eclipse.lsp4mp.model.Property;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test for the incremental update of {@link PropertiesModel}.
+ *
+ */
+public class PropertiesModelIncrementalTest {
+
+	private static final Logger LOGGER = Logger.getLogger(PropertiesModelIncrementalTest.class.getName());
+
+	private static final String TEXT = "# comment\n" + //
+			"a = b\n" + //
+			"\n" + //
+			"c=${a}\n" + //
+			"d = e \\\n" + //
+			"    f\n" + //
+			"g=h";
+
+	@Test
+	public void updatePropertyValue() throws BadLocationException {
+		assertUpdate(TEXT, TEXT.indexOf("b"), 1, "bbb");
+	}
+
+	@Test
+	public void updateDoesNotModifyPreviousModel() throws BadLocationException {
+		PropertiesTextDocument document = new PropertiesTextDocument(TEXT);
+		PropertiesModel previousModel = document.getModel();
+		String previousTree = toString(previousModel);
+		List<Node> previousChildren = new ArrayList<>(previousModel.getChildren());
+
+		document.replace(TEXT.indexOf("${a}"), 4, "x");
+		PropertiesModel model = document.getModel();
+		assertSameModel(document.getText(), model);
+		Assert.assertEquals(1, document.updates);
+
+		// the previous model (which can be still used by a validation for instance)
+		// keeps its ranges and its tree
+		Assert.assertNotSame(previousModel, model);
+		Assert.assertEquals(previousTree, toString(previousModel));
+		Assert.assertEquals(previousChildren, previousModel.getChildren());
+		for (Node child : previousChildren) {
+			Assert.assertSame(previousModel, child.getParent());
+			Assert.assertSame(previousModel, child.getOwnerModel());
+		}
+		for (Node child : model.getChildren()) {
+			Assert.assertSame(model, child.getParent());
+			Assert.assertFalse(previousChildren.contains(child));
+		}
+	}
+
+	@Test
+	public void addAndRemoveMultiLineContinuation() throws BadLocationException {
+		// "a = b" continues on the next line
+		assertUpdate(TEXT, TEXT.indexOf("b"), 1, "b \\");
+		// "d = e" doesn't continue on the next line
+		assertUpdate(TEXT, TEXT.indexOf("\\"), 1, "");
+		// the continuation line continues on the next line
+		assertUpdate(TEXT, TEXT.indexOf("f"), 1, "ff \\");
+	}
+
+	@Test
+	public void updateComments() throws BadLocationException {
+		assertUpdate(TEXT, TEXT.indexOf("a = b"), 0, "# ");
+		assertUpdate(TEXT, 0, 2, "");
+	}
+
+	@Test
+	public void updateStartAndEnd() throws BadLocationException {
+		assertUpdate(TEXT, 0, 0, "x=y\n");
+		assertUpdate(TEXT, TEXT.length(), 0, "\ni=j");
+		assertUpdate(TEXT, TEXT.length() - 1, 1, "");
+	}
+
+	@Test
+	public void updateWithCRLF() throws BadLocationException {
+		String text = TEXT.replace("\n", "\r\n");
+		assertUpdate(text, text.indexOf("b"), 1, "b\r\nz=w");
+		assertUpdate(text, text.indexOf("\\"), 1, "");
+		assertUpdate(text, text.indexOf("\r\n"), 1, "");
+	}
+
+	@Test
+	public void updateWithSeveralChanges() throws BadLocationException {
+		PropertiesTextDocument document = new PropertiesTextDocument(TEXT);
+		document.getModel();
+		// several changes in one notification, the last change is before the first
+		// one to keep the offsets valid
+		document.update(Arrays.asList(document.createChange(TEXT.indexOf("g"), 0, "k=l\n"),
+				document.createChange(TEXT.indexOf("b"), 1, "x")));
+		assertSameModel(document.getText(), document.getModel());
+
+		// several notifications before getting the model
+		document.replace(0, 0, "m=n\n");
+		document.replace(document.getText().length(), 0, "\no=p");
+		assertSameModel(document.getText(), document.getModel());
+	}
+
+	@Test
+	public void updateWithRandomChanges() throws BadLocationException {
+		String[] fragments = { "a", "=", " ", "\n", "\r\n", "\\", "#", "${", "}", "x.y", ":", "" };
+		Random random = new Random(42);
+		PropertiesTextDocument document = new PropertiesTextDocument(TEXT);
+		for (int i = 0; i < 2000; i++) {
+			document.getModel();
+			String text = document.getText();
+			int offset = random.nextInt(text.length() + 1);
+			int length = random.nextInt(Math.min(5, text.length() - offset) + 1);
+			document.replace(offset, length, fragments[random.nextInt(fragments.length)]);
+			assertSameModel(document.getText(), document.getModel());
+		}
+	}
+
+	@Test
+	public void updateLargeFile() throws BadLocationException {
+		StringBuilder text = new StringBuilder();
+		for (int i = 0; i < 20000; i++) {
+			text.append("# comment ").append(i).append("\n");
+			text.append("quarkus.property").append(i).append(" = ${value").append(i).append("} \\\n");
+			text.append("  continued\n");
+		}
+		PropertiesTextDocument document = new PropertiesTextDocument(text.toString());
+		document.getModel();
+
+		document.replace(text.indexOf("quarkus.property10000"), 0, "%dev.");
+		long start = System.nanoTime();
+		PropertiesModel model = document.getModel();
+		long incremental = System.nanoTime() - start;
+
+		start = System.nanoTime();
+		PropertiesModel.parse(document.getText(), "application.properties");
+		long full = System.nanoTime() - start;
+		LOGGER.info("Incremental update in " + incremental / 1000 + "us, full parse in " + full / 1000 + "us");
+
+		assertSameModel(document.getText(), model);
+		Assert.assertEquals(1, document.updates);
+	}
+
+	private static void assertUpdate(String text, int offset, int length, String newText)
+			throws BadLocationException {
+		PropertiesTextDocument document = new PropertiesTextDocument(text);
+		document.getModel();
+		document.replace(offset, length, newText);
+		assertSameModel(document.getText(), document.getModel());
+		Assert.assertEquals(1, document.updates);
+	}
+
+	private static void assertSameModel(String text, PropertiesModel actual) {
+		PropertiesModel expected = PropertiesModel.parse(text, "application.properties");
+		Assert.assertEquals(text, toString(expected), toString(actual));
+	}
+
+	private static String toString(Node node) {
+		StringBuilder result = new StringBuilder();
+		toString(node, result);
+		return result.toString();
+	}
+
+	private static void toString(Node node, StringBuilder result) {
+		if (node == null) {
+			result.append("null");
+			return;
+		}
+		result.append(node.getNodeType()).append('[').append(node.getStart()).append(',').append(node.getEnd());
+		if (node.getNodeType() == NodeType.PROPERTY) {
+			Property property = (Property) node;
+			toString(property.getKey(), result);
+			toString(property.getDelimiterAssign(), result);
+			toString(property.getValue(), result);
+		}
+		for (Node child : node.getChildren()) {
+			toString(child, result);
+		}
+		result.append(']');
+	}
+
+	private static class PropertiesTextDocument extends ModelTextDocument<PropertiesModel> {
+
+		private int updates;
+
+		public PropertiesTextDocument(String text) {
+			super(text, "application.properties", (document, cancelChecker) -> {
+				return PropertiesModel.parse(document, cancelChecker);
+			}, (previousModel, document, change, cancelChecker) -> {
+				((PropertiesTextDocument) document).updates++;
+				return PropertiesModel.update(previousModel, document, change, cancelChecker);
+			});
+			setIncremental(true);
+		}
+
+		public void replace(int offset, int length, String text) throws BadLocationException {
+			update(Collections.singletonList(createChange(offset, length, text)));
+		}
+
+		public TextDocumentContentChangeEvent createChange(int offset, int length, String text)
+				throws BadLocationException {
+			Range range = new Range(positionAt(offset), positionAt(offset + length));
+			return new TextDocumentContentChangeEvent(range, length, text);
+		}
+	}
+}
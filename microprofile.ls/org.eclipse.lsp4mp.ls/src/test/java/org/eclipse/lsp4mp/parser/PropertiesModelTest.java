@@ -9,6 +9,10 @@
 *******************************************************************************/
 package org.eclipse.lsp4mp.parser;
 
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+
 import org.eclipse.lsp4mp.model.Node;
 import org.eclipse.lsp4mp.model.Node.NodeType;
 import org.eclipse.lsp4mp.model.PropertiesModel;
@@ -458,6 +462,30 @@ public class PropertiesModelTest {
 		Assert.assertTrue("dev".equals(property.getProfile()));
 	}
 
+	@Test
+	public void propertiesIndex() {
+		String text = "a=1\n" + //
+				"%dev.a=2\n" + //
+				"b=\n" + //
+				"a=3\n" + //
+				"b=4";
+		PropertiesModel model = PropertiesModel.parse(text, "application.properties");
+
+		List<Property> properties = model.getProperties("a");
+		Assert.assertEquals(2, properties.size());
+		Assert.assertEquals("1", properties.get(0).getPropertyValue());
+		Assert.assertEquals("3", properties.get(1).getPropertyValue());
+		Assert.assertEquals(1, model.getProperties("%dev.a").size());
+		Assert.assertEquals(3, model.getPropertiesWithoutProfile("a").size());
+		Assert.assertTrue(model.getProperties("c").isEmpty());
+
+		// the first non empty value is used
+		Assert.assertEquals("1", model.getValue("a"));
+		Assert.assertEquals("4", model.getValue("b"));
+		Assert.assertNull(model.getValue("c"));
+		Assert.assertEquals(new HashSet<>(Arrays.asList("a", "%dev.a", "b")), model.keys());
+	}
+
 	private static void assertComments(Node comments, int expectedStart, int expectedEnd, String expectedText) {
 		Assert.assertEquals(comments.getNodeType(), NodeType.COMMENTS);
 		Assert.assertEquals(expectedText, comments.getText());
@@ -0,0 +1,172 @@
+/*******************************************************************************
+* Copyright (c) 2024 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.services.properties;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.logging.Logger;
+
+import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
+import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
+import org.eclipse.lsp4mp.commons.utils.PropertyValueExpander;
+import org.eclipse.lsp4mp.model.PropertiesModel;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test for {@link CachedPropertyValueExpander} : the expanded values must be
+ * the same than {@link PropertyValueExpander} and only the expanded values
+ * which depend on a changed property must be invalidated.
+ *
+ */
+public class CachedPropertyValueExpanderTest {
+
+	private static final Logger LOGGER = Logger.getLogger(CachedPropertyValueExpanderTest.class.getName());
+
+	private static final String URI = "application.properties";
+
+	@Test
+	public void sameValues() {
+		String text = "server.host=localhost\n" + //
+				"server.port=${port:8080}\n" + //
+				"server.url=http://${server.host}:${server.port}/${unknown}\n" + //
+				"%dev.server.host=dev\n" + //
+				"defaulted=${undefined:${server.host}}\n" + //
+				"empty=\n" + //
+				"ref.empty=${empty}";
+		PropertiesModel model = PropertiesModel.parse(text, URI);
+		CachedPropertyValueExpander cachedExpander = new CachedPropertyValueExpander(false);
+		PropertyValueExpander expander = new PropertyValueExpander(model);
+		for (String key : Arrays.asList("server.host", "server.port", "server.url", "%dev.server.host", "defaulted",
+				"empty", "ref.empty", "unknown")) {
+			Assert.assertEquals(key, expander.getValue(key), cachedExpander.getValue(model, null, key));
+		}
+		Assert.assertEquals(new HashSet<>(expander.getIndependentProperties("server.host")),
+				new HashSet<>(cachedExpander.getIndependentProperties(model, null, "server.host")));
+	}
+
+	@Test
+	public void defaultValues() {
+		MicroProfileProjectInfo projectInfo = new MicroProfileProjectInfo();
+		projectInfo.setProperties(new ArrayList<>());
+		ItemMetadata port = new ItemMetadata();
+		port.setName("quarkus.http.port");
+		port.setDefaultValue("8080");
+		projectInfo.getProperties().add(port);
+
+		CachedPropertyValueExpander expander = new CachedPropertyValueExpander(true);
+		PropertiesModel model = PropertiesModel.parse("url=http://localhost:${quarkus.http.port}", URI);
+		Assert.assertEquals("http://localhost:8080", expander.getValue(model, projectInfo, "url"));
+
+		// The property defined in the properties file overrides the default value
+		model = PropertiesModel.parse("url=http://localhost:${quarkus.http.port}\nquarkus.http.port=9090", URI);
+		Assert.assertEquals("http://localhost:9090", expander.getValue(model, projectInfo, "url"));
+	}
+
+	@Test
+	public void invalidateDependents() {
+		CachedPropertyValueExpander expander = new CachedPropertyValueExpander(false);
+		PropertiesModel model = PropertiesModel.parse("a=${b}\n" + //
+				"b=${c}\n" + //
+				"c=c\n" + //
+				"d=${e}\n" + //
+				"e=e", URI);
+		Assert.assertEquals("c", expander.getValue(model, null, "a"));
+		Assert.assertEquals("e", expander.getValue(model, null, "d"));
+		Assert.assertEquals(new HashSet<>(Arrays.asList("a", "b", "c", "d", "e")), expander.getResolvedKeys());
+
+		// Update 'c' : only 'a', 'b', 'c' are invalidated
+		model = PropertiesModel.parse("a=${b}\n" + //
+				"b=${c}\n" + //
+				"c=C\n" + //
+				"d=${e}\n" + //
+				"e=e", URI);
+		Assert.assertEquals("e", expander.getValue(model, null, "d"));
+		Assert.assertEquals(new HashSet<>(Arrays.asList("d", "e")), expander.getResolvedKeys());
+		Assert.assertEquals("C", expander.getValue(model, null, "a"));
+
+		// Define 'f' referenced by 'd'
+		model = PropertiesModel.parse("a=${b}\n" + //
+				"b=${c}\n" + //
+				"c=C\n" + //
+				"d=${f:${e}}\n" + //
+				"e=e", URI);
+		Assert.assertEquals("e", expander.getValue(model, null, "d"));
+		model = PropertiesModel.parse("a=${b}\n" + //
+				"b=${c}\n" + //
+				"c=C\n" + //
+				"d=${f:${e}}\n" + //
+				"e=e\n" + //
+				"f=f", URI);
+		Assert.assertEquals("C", expander.getValue(model, null, "a"));
+		Assert.assertEquals(new HashSet<>(Arrays.asList("a", "b", "c", "e")), expander.getResolvedKeys());
+		Assert.assertEquals("f", expander.getValue(model, null, "d"));
+	}
+
+	@Test
+	public void cycle() {
+		CachedPropertyValueExpander expander = new CachedPropertyValueExpander(false);
+		PropertiesModel model = PropertiesModel.parse("a=${b}\nb=${a}\nc=${d}\nd=d", URI);
+		Assert.assertEquals("${b}", expander.getValue(model, null, "a"));
+		Assert.assertEquals("${d}", expander.getValue(model, null, "c"));
+
+		// Break the cycle
+		model = PropertiesModel.parse("a=${b}\nb=b\nc=${d}\nd=d", URI);
+		Assert.assertEquals("b", expander.getValue(model, null, "a"));
+		Assert.assertEquals("d", expander.getValue(model, null, "c"));
+	}
+
+	@Test
+	public void deepChainBenchmark() {
+		int depth = 300;
+		int independents = 2000;
+		String text = createChainedProperties(depth, independents, "value");
+		String updatedText = createChainedProperties(depth, independents, "updated");
+		String last = "chain" + (depth - 1);
+
+		// Expand the last property of the chain and one independent property, like
+		// an inlay hint and a hover after each change of the properties file.
+		CachedPropertyValueExpander cachedExpander = new CachedPropertyValueExpander(false);
+		PropertiesModel model = PropertiesModel.parse(text, URI);
+		cachedExpander.getValue(model, null, last);
+
+		long start = System.nanoTime();
+		PropertiesModel updatedModel = PropertiesModel.parse(updatedText, URI);
+		String cachedValue = cachedExpander.getValue(updatedModel, null, last);
+		String cachedIndependentValue = cachedExpander.getValue(updatedModel, null, "independent0");
+		long cached = System.nanoTime() - start;
+
+		start = System.nanoTime();
+		updatedModel = PropertiesModel.parse(updatedText, URI);
+		String value = new PropertyValueExpander(updatedModel).getValue(last);
+		String independentValue = new PropertyValueExpander(updatedModel).getValue("independent0");
+		long full = System.nanoTime() - start;
+		LOGGER.info("Expansion of a chain of " + depth + " properties after an update in " + cached / 1000
+				+ "us with the cached expander, in " + full / 1000 + "us with new expanders");
+
+		Assert.assertEquals(value, cachedValue);
+		Assert.assertTrue(cachedValue.startsWith("updated"));
+		Assert.assertEquals(independentValue, cachedIndependentValue);
+	}
+
+	private static String createChainedProperties(int depth, int independents, String firstValue) {
+		StringBuilder text = new StringBuilder();
+		text.append("chain0=").append(firstValue).append('\n');
+		for (int i = 1; i < depth; i++) {
+			text.append("chain").append(i).append("=${chain").append(i - 1).append("}.").append(i).append('\n');
+		}
+		for (int i = 0; i < independents; i++) {
+			text.append("independent").append(i).append("=${constant}/").append(i).append('\n');
+		}
+		text.append("constant=constant");
+		return text.toString();
+	}
+}
@@ -80,6 +80,20 @@ public class PropertiesFileCompletionTest {
 		testCompletionFor(value, true, false, true, 0);
 	}
 
+	@Test
+	public void completionOnKeyFilteredByPrefix() throws BadLocationException {
+		String value = "quarkus.http.co|";
+		testCompletionFor(value, false, 6, c("quarkus.http.cors", "quarkus.http.cors=false", r(0, 0, 15)),
+				c("quarkus.http.cors.methods", "quarkus.http.cors.methods=", r(0, 0, 15)));
+
+		value = "QUARKUS.HTTP.CORS.M|";
+		testCompletionFor(value, false, 1, c("quarkus.http.cors.methods", "quarkus.http.cors.methods=", r(0, 0, 19)));
+
+		value = "quarkus.log.category.\"org.acme\".le|";
+		testCompletionFor(value, false,
+				c("quarkus.log.category.{*}.level", "quarkus.log.category.{*}.level=inherit", r(0, 0, 34)));
+	}
+
 	@Test
 	public void completionOnKeyMap() throws BadLocationException {
 		String value = "quarkus.log.category|";
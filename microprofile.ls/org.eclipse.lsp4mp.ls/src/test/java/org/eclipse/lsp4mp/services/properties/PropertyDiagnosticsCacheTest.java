@@ -0,0 +1,129 @@
+/*******************************************************************************
+* Copyright (c) 2024 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.services.properties;
+
+import static org.eclipse.lsp4mp.services.properties.PropertiesFileAssert.getDefaultMicroProfileProjectInfo;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.lsp4j.Diagnostic;
+import org.eclipse.lsp4j.TextDocumentContentChangeEvent;
+import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
+import org.eclipse.lsp4mp.ls.commons.TextDocument;
+import org.eclipse.lsp4mp.model.PropertiesModel;
+import org.eclipse.lsp4mp.services.properties.extensions.PropertiesFileExtensionRegistry;
+import org.eclipse.lsp4mp.services.properties.extensions.participants.IPropertyValidatorParticipant;
+import org.eclipse.lsp4mp.settings.MicroProfileValidationSettings;
+import org.eclipse.lsp4mp.settings.MicroProfileValidationTypeSettings;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test for {@link PropertyDiagnosticsCache} : the diagnostics of the unchanged
+ * properties are reused and must be the same than a full validation.
+ *
+ */
+public class PropertyDiagnosticsCacheTest {
+
+	private static final String TEXT = "quarkus.datasource.driver=org.postgresql.Driver\n" + //
+			"unknown.property=X\n" + //
+			"quarkus.http.cors\n" + //
+			"quarkus.log.console.async.overflow=BAD_VALUE\n" + //
+			"quarkus.http.port=not_an_int\n" + //
+			"quarkus.http.port=8080\n" + //
+			"quarkus.application.name=${unknown.expression}\n" + //
+			"multiline.property=a,\\\n" + //
+			"  b";
+
+	private static final PropertiesFileExtensionRegistry NO_PARTICIPANT_REGISTRY = new PropertiesFileExtensionRegistry() {
+
+		@Override
+		public Collection<IPropertyValidatorParticipant> getPropertyValidatorParticipants() {
+			return Collections.emptyList();
+		}
+	};
+
+	@Test
+	public void reuseDiagnostics() {
+		MicroProfileProjectInfo projectInfo = getDefaultMicroProfileProjectInfo();
+		MicroProfileValidationSettings validationSettings = new MicroProfileValidationSettings();
+		PropertiesFileDiagnostics diagnostics = new PropertiesFileDiagnostics(NO_PARTICIPANT_REGISTRY);
+		TextDocument document = new TextDocument(TEXT, "application.properties");
+
+		PropertiesModel model = PropertiesModel.parse(document, () -> {
+		});
+		List<Diagnostic> actual = diagnostics.doDiagnostics(model, projectInfo, validationSettings, () -> {
+		});
+		assertDiagnostics(model, projectInfo, validationSettings, actual);
+		PropertyDiagnosticsCache cache = diagnostics.getDiagnosticsCache(model);
+		Assert.assertEquals(0, cache.getHitCount());
+		Assert.assertEquals(7, cache.getMissCount());
+
+		// Insert a new property at the beginning of the document : the diagnostics
+		// of the other properties are reused with the new lines
+		update(document, "new.property=X\n" + TEXT);
+		model = PropertiesModel.parse(document, () -> {
+		});
+		actual = diagnostics.doDiagnostics(model, projectInfo, validationSettings, () -> {
+		});
+		assertDiagnostics(model, projectInfo, validationSettings, actual);
+		Assert.assertEquals(7, cache.getHitCount());
+		Assert.assertEquals(1, cache.getMissCount());
+
+		// Update the value of a property
+		update(document, "new.property=X\n" + TEXT.replace("BAD_VALUE", "DISCARD"));
+		model = PropertiesModel.parse(document, () -> {
+		});
+		actual = diagnostics.doDiagnostics(model, projectInfo, validationSettings, () -> {
+		});
+		assertDiagnostics(model, projectInfo, validationSettings, actual);
+		Assert.assertEquals(7, cache.getHitCount());
+		Assert.assertEquals(1, cache.getMissCount());
+	}
+
+	@Test
+	public void updateValidationSettings() {
+		MicroProfileProjectInfo projectInfo = getDefaultMicroProfileProjectInfo();
+		MicroProfileValidationSettings validationSettings = new MicroProfileValidationSettings();
+		PropertiesFileDiagnostics diagnostics = new PropertiesFileDiagnostics(NO_PARTICIPANT_REGISTRY);
+		TextDocument document = new TextDocument(TEXT, "application.properties");
+		PropertiesModel model = PropertiesModel.parse(document, () -> {
+		});
+		diagnostics.doDiagnostics(model, projectInfo, validationSettings, () -> {
+		});
+
+		MicroProfileValidationTypeSettings unknown = new MicroProfileValidationTypeSettings();
+		unknown.setSeverity("error");
+		validationSettings.setUnknown(unknown);
+		List<Diagnostic> actual = diagnostics.doDiagnostics(model, projectInfo, validationSettings, () -> {
+		});
+		assertDiagnostics(model, projectInfo, validationSettings, actual);
+		PropertyDiagnosticsCache cache = diagnostics.getDiagnosticsCache(model);
+		Assert.assertEquals(0, cache.getHitCount());
+		Assert.assertEquals(7, cache.getMissCount());
+	}
+
+	private static void update(TextDocument document, String text) {
+		document.update(Collections.singletonList(new TextDocumentContentChangeEvent(text)));
+	}
+
+	private static void assertDiagnostics(PropertiesModel model, MicroProfileProjectInfo projectInfo,
+			MicroProfileValidationSettings validationSettings, List<Diagnostic> actual) {
+		List<Diagnostic> expected = new ArrayList<>();
+		new PropertiesFileValidator(projectInfo, expected, validationSettings, NO_PARTICIPANT_REGISTRY)
+				.validate(model, () -> {
+				});
+		Assert.assertFalse(expected.isEmpty());
+		Assert.assertEquals(expected, actual);
+	}
+}
@@ -14,11 +14,14 @@ import static org.eclipse.lsp4mp.settings.capabilities.ServerCapabilitiesConstan
 import static org.eclipse.lsp4mp.settings.capabilities.ServerCapabilitiesConstants.DEFAULT_COMPLETION_OPTIONS;
 import static org.eclipse.lsp4mp.settings.capabilities.ServerCapabilitiesConstants.HOVER_ID;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 
 import org.eclipse.lsp4j.ClientCapabilities;
+import org.eclipse.lsp4j.CodeLensWorkspaceCapabilities;
 import org.eclipse.lsp4j.CompletionCapabilities;
 import org.eclipse.lsp4j.HoverCapabilities;
 import org.eclipse.lsp4j.MessageActionItem;
@@ -110,6 +113,16 @@ public class MicroProfileCapabilitiesTest {
 		assertEquals(null, serverCapabilities.getCompletionProvider());
 	}
 
+	@Test
+	public void testCodeLensRefreshSupport() {
+		setAndInitializeCapabilities();
+		assertFalse(manager.getClientCapabilities().isCodeLensRefreshSupported());
+
+		workspace.setCodeLens(new CodeLensWorkspaceCapabilities(true));
+		setAndInitializeCapabilities();
+		assertTrue(manager.getClientCapabilities().isCodeLensRefreshSupported());
+	}
+
 	private void setAllCapabilities(boolean areAllDynamic) {
 		CompletionCapabilities completion = new CompletionCapabilities();
 		completion.setDynamicRegistration(areAllDynamic);
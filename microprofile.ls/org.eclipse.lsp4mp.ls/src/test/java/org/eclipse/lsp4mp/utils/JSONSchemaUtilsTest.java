@@ -17,6 +17,7 @@ import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
 import org.eclipse.lsp4mp.commons.metadata.ItemHint;
 import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
 import org.eclipse.lsp4mp.commons.metadata.ValueHint;
+import org.eclipse.lsp4mp.extensions.ExtendedMicroProfileProjectInfo;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -99,6 +100,24 @@ public class JSONSchemaUtilsTest {
 				jsonSchema);
 	}
 
+	@Test
+	public void cachedJsonSchema() {
+		MicroProfileProjectInfo info = new MicroProfileProjectInfo();
+		addItem("quarkus.application.name", "java.lang.String", null, info);
+		ExtendedMicroProfileProjectInfo extendedInfo = new ExtendedMicroProfileProjectInfo(info);
+		String jsonSchema = extendedInfo.getJsonSchema();
+		Assert.assertEquals(JSONSchemaUtils.toJSONSchema(extendedInfo, true), jsonSchema);
+		Assert.assertSame(jsonSchema, extendedInfo.getJsonSchema());
+
+		// Update the properties
+		info = new MicroProfileProjectInfo();
+		addItem("quarkus.application.version", "java.lang.String", null, info);
+		extendedInfo.updateSourcesProperties(info.getProperties(), null);
+		Assert.assertNotSame(jsonSchema, extendedInfo.getJsonSchema());
+		Assert.assertEquals(JSONSchemaUtils.toJSONSchema(extendedInfo, true), extendedInfo.getJsonSchema());
+		Assert.assertTrue(extendedInfo.getJsonSchema().contains("\"version\""));
+	}
+
 	private static void addItem(String name, String type, String description, MicroProfileProjectInfo info) {
 		addItem(name, type, description, null, info);
 	}
@@ -0,0 +1,231 @@
+/*******************************************************************************
+* Copyright (c) 2024 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import org.eclipse.lsp4j.jsonrpc.json.adapters.EnumTypeAdapter;
+import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
+import org.eclipse.lsp4mp.commons.metadata.ConverterKind;
+import org.eclipse.lsp4mp.commons.metadata.ItemBase;
+import org.eclipse.lsp4mp.commons.metadata.ItemHint;
+import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
+import org.eclipse.lsp4mp.commons.metadata.ValueHint;
+import org.eclipse.lsp4mp.services.properties.PropertiesFileAssert;
+import org.junit.Test;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+/**
+ * Test for {@link MetadataPool}.
+ *
+ */
+public class MetadataPoolTest {
+
+	private static final Logger LOGGER = Logger.getLogger(MetadataPoolTest.class.getName());
+
+	@Test
+	public void shareBinaryProperties() {
+		MetadataPool pool = new MetadataPool();
+		List<ItemMetadata> project1 = pool.internProperties(Arrays.asList(p("a", null), p("b", Boolean.TRUE)));
+		List<ItemMetadata> project2 = pool.internProperties(Arrays.asList(p("a", null), p("b", Boolean.TRUE)));
+
+		// the binary properties are shared, the source properties are not shared but
+		// their strings are
+		assertEquals(project1, project2);
+		assertSame(project1.get(0), project2.get(0));
+		assertNotSame(project1.get(1), project2.get(1));
+		assertSame(project1.get(1).getSourceType(), project2.get(1).getSourceType());
+		assertEquals(1, pool.getPropertiesSize());
+
+		// a binary property with other converter kinds is not shared
+		ItemMetadata withConverters = p("a", null);
+		withConverters.setConverterKinds(Arrays.asList(ConverterKind.KEBAB_CASE));
+		ItemMetadata other = pool.internProperties(Arrays.asList(withConverters)).get(0);
+		assertNotSame(project1.get(0), other);
+		assertEquals(Arrays.asList(ConverterKind.KEBAB_CASE), other.getConverterKinds());
+	}
+
+	@Test
+	public void shareStrings() {
+		MetadataPool pool = new MetadataPool();
+		List<ItemMetadata> project1 = pool.internProperties(Arrays.asList(p("a", Boolean.TRUE)));
+		List<ItemMetadata> project2 = pool.internProperties(Arrays.asList(p("a", Boolean.TRUE)));
+		assertSame(project1.get(0).getType(), project2.get(0).getType());
+
+		// the converter kinds lists are shared and can't be updated
+		ItemMetadata withConverters1 = p("a", null);
+		withConverters1.setConverterKinds(new ArrayList<>(Arrays.asList(ConverterKind.KEBAB_CASE)));
+		ItemMetadata withConverters2 = p("a", null);
+		withConverters2.setConverterKinds(new ArrayList<>(Arrays.asList(ConverterKind.KEBAB_CASE)));
+		List<ConverterKind> converterKinds1 = pool.internProperties(Arrays.asList(withConverters1)).get(0)
+				.getConverterKinds();
+		List<ConverterKind> converterKinds2 = pool.internProperties(Arrays.asList(withConverters2)).get(0)
+				.getConverterKinds();
+		assertSame(converterKinds1, converterKinds2);
+		assertThrows(UnsupportedOperationException.class, () -> converterKinds1.add(ConverterKind.VERBATIM));
+
+		assertNull(pool.internProperties(null));
+	}
+
+	@Test
+	public void doNotUpdateGivenProperties() {
+		MetadataPool pool = new MetadataPool();
+		pool.internProperties(Arrays.asList(p("a", null)));
+
+		ItemMetadata property = p("a", null);
+		String type = property.getType();
+		List<ConverterKind> converterKinds = new ArrayList<>(Arrays.asList(ConverterKind.KEBAB_CASE));
+		property.setConverterKinds(converterKinds);
+		ItemMetadata copy = pool.internProperties(Arrays.asList(property)).get(0);
+
+		// the given property is not updated
+		assertNotSame(property, copy);
+		assertSame(type, property.getType());
+		assertSame(converterKinds, property.getConverterKinds());
+		assertEquals(property, copy);
+
+		// updating the copy of a source property doesn't impact the other copies
+		ItemMetadata sourceCopy = pool.internProperties(Arrays.asList(p("b", Boolean.TRUE))).get(0);
+		sourceCopy.setDefaultValue("b");
+		assertNull(pool.internProperties(Arrays.asList(p("b", Boolean.TRUE))).get(0).getDefaultValue());
+	}
+
+	@Test
+	public void shareHintStrings() {
+		MetadataPool pool = new MetadataPool();
+		ItemHint given = h("org.acme.Mode", "fast");
+		ItemHint hint1 = pool.internHints(Arrays.asList(given)).get(0);
+		ItemHint hint2 = pool.internHints(Arrays.asList(h("org.acme.Mode", "fast"))).get(0);
+		assertSame(hint1.getName(), hint2.getName());
+		assertSame(hint1.getValues().get(0).getValue(), hint2.getValues().get(0).getValue());
+
+		// the given hint and its values are not updated
+		assertNotSame(given, hint1);
+		assertNotSame(given.getValues(), hint1.getValues());
+		assertNotSame(given.getValues().get(0), hint1.getValues().get(0));
+		assertEquals(given, hint1);
+	}
+
+	@Test
+	public void footprintBenchmark() {
+		// 3 projects which depend on all the Quarkus extensions
+		int projectCount = 3;
+		List<MicroProfileProjectInfo> infos = new ArrayList<>();
+		for (int i = 0; i < projectCount; i++) {
+			infos.add(loadAllQuarkusProperties());
+		}
+		long sizeWithoutPool = estimateSize(infos);
+
+		MetadataPool pool = new MetadataPool();
+		for (MicroProfileProjectInfo info : infos) {
+			info.setProperties(pool.internProperties(info.getProperties()));
+			info.setHints(pool.internHints(info.getHints()));
+		}
+		long sizeWithPool = estimateSize(infos);
+
+		assertEquals(loadAllQuarkusProperties().getProperties(), infos.get(0).getProperties());
+		assertTrue(sizeWithPool * 4 < sizeWithoutPool);
+		LOGGER.info("Metadata of " + projectCount + " projects with " + infos.get(0).getProperties().size()
+				+ " properties : " + sizeWithoutPool / 1024 + "KB without pool, " + sizeWithPool / 1024
+				+ "KB with pool (" + pool.getPropertiesSize() + " shared properties, " + pool.getStringsSize()
+				+ " pooled strings)");
+	}
+
+	private static MicroProfileProjectInfo loadAllQuarkusProperties() {
+		Gson gson = new GsonBuilder().registerTypeAdapterFactory(new EnumTypeAdapter.Factory()).create();
+		return gson.fromJson(new InputStreamReader(
+				PropertiesFileAssert.class.getResourceAsStream("all-quarkus-properties.json")),
+				MicroProfileProjectInfo.class);
+	}
+
+	/**
+	 * Returns the estimated shallow size (with compressed references) of the
+	 * distinct properties, hints, values and strings of the given project
+	 * information.
+	 */
+	private static long estimateSize(List<MicroProfileProjectInfo> infos) {
+		Map<Object, Boolean> visited = new IdentityHashMap<>();
+		long size = 0;
+		for (MicroProfileProjectInfo info : infos) {
+			for (ItemMetadata property : info.getProperties()) {
+				if (visited.put(property, Boolean.TRUE) != null) {
+					continue;
+				}
+				// header + 11 references + phase + required
+				size += 64;
+				size += estimateSize(property, visited);
+				size += estimateSize(property.getType(), visited) + estimateSize(property.getSourceField(), visited)
+						+ estimateSize(property.getSourceMethod(), visited)
+						+ estimateSize(property.getDefaultValue(), visited)
+						+ estimateSize(property.getExtensionName(), visited);
+			}
+			for (ItemHint hint : info.getHints()) {
+				if (visited.put(hint, Boolean.TRUE) != null) {
+					continue;
+				}
+				size += 32 + estimateSize(hint, visited);
+				if (hint.getValues() != null) {
+					for (ValueHint value : hint.getValues()) {
+						size += 24 + estimateSize(value.getValue(), visited)
+								+ estimateSize(value.getDescription(), visited)
+								+ estimateSize(value.getSourceType(), visited);
+					}
+				}
+			}
+		}
+		return size;
+	}
+
+	private static long estimateSize(ItemBase item, Map<Object, Boolean> visited) {
+		return estimateSize(item.getName(), visited) + estimateSize(item.getDescription(), visited)
+				+ estimateSize(item.getSourceType(), visited) + estimateSize(item.getOrigin(), visited);
+	}
+
+	private static long estimateSize(String value, Map<Object, Boolean> visited) {
+		if (value == null || visited.put(value, Boolean.TRUE) != null) {
+			return 0;
+		}
+		// String + byte array of a Latin-1 string
+		return 24 + ((16 + value.length() + 7) / 8) * 8;
+	}
+
+	private static ItemMetadata p(String name, Boolean source) {
+		ItemMetadata property = new ItemMetadata();
+		property.setName(name);
+		property.setType(new String("java.lang.String"));
+		property.setSourceType(new String("org.acme.Config"));
+		property.setSource(source);
+		return property;
+	}
+
+	private static ItemHint h(String name, String value) {
+		ItemHint hint = new ItemHint();
+		hint.setName(new String(name));
+		ValueHint valueHint = new ValueHint();
+		valueHint.setValue(new String(value));
+		hint.setValues(new ArrayList<>(Arrays.asList(valueHint)));
+		return hint;
+	}
+}
@@ -0,0 +1,168 @@
+/*******************************************************************************
+* Copyright (c) 2024 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.utils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
+import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
+import org.eclipse.lsp4mp.extensions.ExtendedMicroProfileProjectInfo;
+import org.eclipse.lsp4mp.utils.PropertiesIndex.PrefixMatch;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests for {@link PropertiesIndex}.
+ *
+ */
+public class PropertiesIndexTest {
+
+	private static final List<String> NAMES = Arrays.asList( //
+			"quarkus.http.port", //
+			"quarkus.log.category.{*}.level", //
+			"quarkus.log.category.{*}.min-level", //
+			"quarkus.log.handler.console.{*}.format", //
+			"quarkus.log.handler.console.\"foo\".format", //
+			"quarkus.datasource.{*}.jdbc.url", //
+			"quarkus.datasource.jdbc.url", //
+			"kafka.bootstrap.servers[*]", //
+			"quarkus.index-dependency.{*}.artifact-id", //
+			"mp.messaging.connector.{*}.{*}.topic", //
+			"quarkus.http.cors.methods[*].name");
+
+	@Test
+	public void sameResultThanLinearScan() {
+		List<ItemMetadata> properties = createProperties(NAMES);
+		PropertiesIndex index = new PropertiesIndex(properties, 0);
+		List<String> propertyNames = Arrays.asList( //
+				"quarkus.http.port", //
+				"quarkus.http.port2", //
+				"quarkus.http", //
+				"quarkus.log.category.org.acme.level", //
+				"quarkus.log.category.\"org.acme\".level", //
+				"quarkus.log.category.\"org.acme\".min-level", //
+				"quarkus.log.category..level", //
+				"quarkus.log.handler.console.\"foo\".format", //
+				"quarkus.log.handler.console.bar.format", //
+				"quarkus.datasource.jdbc.url", //
+				"quarkus.datasource.users.jdbc.url", //
+				"kafka.bootstrap.servers[0]", //
+				"kafka.bootstrap.servers", //
+				"mp.messaging.connector.smallrye-kafka.my-channel.topic", //
+				"quarkus.http.cors.methods[1].name", //
+				"unknown.property");
+		for (String propertyName : propertyNames) {
+			Assert.assertSame(propertyName, linearScan(propertyName, properties), index.getProperty(propertyName));
+		}
+	}
+
+	@Test
+	public void firstMatchingPropertyWins() {
+		List<ItemMetadata> properties = createProperties(Arrays.asList( //
+				"quarkus.log.category.{*}.level", //
+				"quarkus.log.category.\"org.acme\".level"));
+		PropertiesIndex index = new PropertiesIndex(properties, 0);
+		Assert.assertSame(properties.get(0), index.getProperty("quarkus.log.category.\"org.acme\".level"));
+
+		properties = createProperties(Arrays.asList( //
+				"quarkus.log.category.\"org.acme\".level", //
+				"quarkus.log.category.{*}.level"));
+		index = new PropertiesIndex(properties, 0);
+		Assert.assertSame(properties.get(0), index.getProperty("quarkus.log.category.\"org.acme\".level"));
+	}
+
+	@Test
+	public void findPropertiesByPrefix() {
+		List<ItemMetadata> properties = createProperties(NAMES);
+		PropertiesIndex index = new PropertiesIndex(properties, 0);
+
+		PrefixMatch match = index.findProperties("quarkus.datasource.", 10, null);
+		Assert.assertFalse(match.isIncomplete());
+		Assert.assertEquals(Arrays.asList("quarkus.datasource.{*}.jdbc.url", "quarkus.datasource.jdbc.url"),
+				getNames(match));
+
+		// the prefix goes beyond the {*} of the map property
+		match = index.findProperties("quarkus.log.category.\"org.acme\".le", 10, null);
+		Assert.assertEquals(Arrays.asList("quarkus.log.category.{*}.level", "quarkus.log.category.{*}.min-level"),
+				getNames(match));
+
+		match = index.findProperties("QUARKUS.HTTP.", 10, null);
+		Assert.assertEquals(Arrays.asList("quarkus.http.port", "quarkus.http.cors.methods[*].name"), getNames(match));
+
+		match = index.findProperties("unknown", 10, null);
+		Assert.assertTrue(match.getProperties().isEmpty());
+	}
+
+	@Test
+	public void findPropertiesWithLimitAndFilter() {
+		List<ItemMetadata> properties = createProperties(NAMES);
+		PropertiesIndex index = new PropertiesIndex(properties, 0);
+
+		PrefixMatch match = index.findProperties("", 3, null);
+		Assert.assertTrue(match.isIncomplete());
+		Assert.assertEquals(3, match.getProperties().size());
+
+		match = index.findProperties("", NAMES.size(), null);
+		Assert.assertFalse(match.isIncomplete());
+		Assert.assertEquals(NAMES, getNames(match));
+
+		match = index.findProperties("quarkus.http.", 1, p -> !p.getName().equals("quarkus.http.port"));
+		Assert.assertFalse(match.isIncomplete());
+		Assert.assertEquals(Arrays.asList("quarkus.http.cors.methods[*].name"), getNames(match));
+	}
+
+	@Test
+	public void indexInvalidatedOnUpdate() {
+		MicroProfileProjectInfo info = new MicroProfileProjectInfo();
+		info.setProperties(createProperties(Arrays.asList("quarkus.http.port")));
+		info.setHints(new ArrayList<>());
+		ExtendedMicroProfileProjectInfo extendedInfo = new ExtendedMicroProfileProjectInfo(info);
+		Assert.assertNotNull(PropertiesFileUtils.getProperty("quarkus.http.port", extendedInfo));
+		Assert.assertNull(PropertiesFileUtils.getProperty("greeting.message", extendedInfo));
+
+		// Update properties from Java sources
+		extendedInfo.updateSourcesProperties(createProperties(Arrays.asList("greeting.message")), null);
+		Assert.assertNotNull(PropertiesFileUtils.getProperty("greeting.message", extendedInfo));
+
+		extendedInfo.setProperties(createProperties(Arrays.asList("quarkus.log.category.{*}.level")));
+		Assert.assertNull(PropertiesFileUtils.getProperty("quarkus.http.port", extendedInfo));
+		Assert.assertNotNull(PropertiesFileUtils.getProperty("quarkus.log.category.org.level", extendedInfo));
+	}
+
+	private static List<String> getNames(PrefixMatch match) {
+		return match.getProperties().stream().map(ItemMetadata::getName).collect(Collectors.toList());
+	}
+
+	private static ItemMetadata linearScan(String propertyName, List<ItemMetadata> properties) {
+		for (ItemMetadata property : properties) {
+			if (PropertiesFileUtils.match(propertyName, property.getName())) {
+				return property;
+			}
+		}
+		return null;
+	}
+
+	private static List<ItemMetadata> createProperties(List<String> names) {
+		List<ItemMetadata> properties = new ArrayList<>();
+		for (String name : names) {
+			ItemMetadata property = new ItemMetadata();
+			property.setName(name);
+			properties.add(property);
+		}
+		return properties;
+	}
+}